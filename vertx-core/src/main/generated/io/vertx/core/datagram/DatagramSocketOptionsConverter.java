@@ -72,6 +72,26 @@ public class DatagramSocketOptionsConverter {
             obj.setIpV6((Boolean)member.getValue());
           }
           break;
+        case "receiveBatchSize":
+          if (member.getValue() instanceof Number) {
+            obj.setReceiveBatchSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "maxDatagramPayloadSize":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxDatagramPayloadSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "udpGro":
+          if (member.getValue() instanceof Boolean) {
+            obj.setUdpGro((Boolean)member.getValue());
+          }
+          break;
+        case "udpGso":
+          if (member.getValue() instanceof Boolean) {
+            obj.setUdpGso((Boolean)member.getValue());
+          }
+          break;
       }
     }
   }
@@ -97,5 +117,9 @@ public class DatagramSocketOptionsConverter {
       json.put("multicastNetworkInterface", obj.getMulticastNetworkInterface());
     }
     json.put("ipV6", obj.isIpV6());
+    json.put("receiveBatchSize", obj.getReceiveBatchSize());
+    json.put("maxDatagramPayloadSize", obj.getMaxDatagramPayloadSize());
+    json.put("udpGro", obj.isUdpGro());
+    json.put("udpGso", obj.isUdpGso());
   }
 }
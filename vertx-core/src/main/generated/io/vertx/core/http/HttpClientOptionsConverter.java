@@ -57,6 +57,16 @@ public class HttpClientOptionsConverter {
             obj.setPipeliningLimit(((Number)member.getValue()).intValue());
           }
           break;
+        case "adaptivePipelining":
+          if (member.getValue() instanceof Boolean) {
+            obj.setAdaptivePipelining((Boolean)member.getValue());
+          }
+          break;
+        case "pipeliningLatencyThreshold":
+          if (member.getValue() instanceof Number) {
+            obj.setPipeliningLatencyThreshold(((Number)member.getValue()).intValue());
+          }
+          break;
         case "verifyHost":
           if (member.getValue() instanceof Boolean) {
             obj.setVerifyHost((Boolean)member.getValue());
@@ -127,6 +137,11 @@ public class HttpClientOptionsConverter {
             obj.setMaxRedirects(((Number)member.getValue()).intValue());
           }
           break;
+        case "hedgeBudget":
+          if (member.getValue() instanceof Number) {
+            obj.setHedgeBudget(((Number)member.getValue()).doubleValue());
+          }
+          break;
         case "forceSni":
           if (member.getValue() instanceof Boolean) {
             obj.setForceSni((Boolean)member.getValue());
@@ -170,6 +185,8 @@ public class HttpClientOptionsConverter {
     json.put("keepAliveTimeout", obj.getKeepAliveTimeout());
     json.put("pipelining", obj.isPipelining());
     json.put("pipeliningLimit", obj.getPipeliningLimit());
+    json.put("adaptivePipelining", obj.isAdaptivePipelining());
+    json.put("pipeliningLatencyThreshold", obj.getPipeliningLatencyThreshold());
     json.put("verifyHost", obj.isVerifyHost());
     json.put("decompressionSupported", obj.isDecompressionSupported());
     if (obj.getDefaultHost() != null) {
@@ -193,6 +210,7 @@ public class HttpClientOptionsConverter {
     json.put("http2ClearTextUpgrade", obj.isHttp2ClearTextUpgrade());
     json.put("http2ClearTextUpgradeWithPreflightRequest", obj.isHttp2ClearTextUpgradeWithPreflightRequest());
     json.put("maxRedirects", obj.getMaxRedirects());
+    json.put("hedgeBudget", obj.getHedgeBudget());
     json.put("forceSni", obj.isForceSni());
     json.put("decoderInitialBufferSize", obj.getDecoderInitialBufferSize());
     if (obj.getTracingPolicy() != null) {
@@ -127,6 +127,11 @@ public class HttpServerOptionsConverter {
             obj.setDecoderInitialBufferSize(((Number)member.getValue()).intValue());
           }
           break;
+        case "cachedResponseHead":
+          if (member.getValue() instanceof Boolean) {
+            obj.setCachedResponseHead((Boolean)member.getValue());
+          }
+          break;
         case "perFrameWebSocketCompressionSupported":
           if (member.getValue() instanceof Boolean) {
             obj.setPerFrameWebSocketCompressionSupported((Boolean)member.getValue());
@@ -242,6 +247,7 @@ public class HttpServerOptionsConverter {
     json.put("http2ConnectionWindowSize", obj.getHttp2ConnectionWindowSize());
     json.put("decompressionSupported", obj.isDecompressionSupported());
     json.put("decoderInitialBufferSize", obj.getDecoderInitialBufferSize());
+    json.put("cachedResponseHead", obj.isCachedResponseHead());
     json.put("perFrameWebSocketCompressionSupported", obj.getPerFrameWebSocketCompressionSupported());
     json.put("perMessageWebSocketCompressionSupported", obj.getPerMessageWebSocketCompressionSupported());
     json.put("webSocketCompressionLevel", obj.getWebSocketCompressionLevel());
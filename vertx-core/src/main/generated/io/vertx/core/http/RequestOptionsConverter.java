@@ -47,6 +47,11 @@ public class RequestOptionsConverter {
             obj.setRoutingKey((String)member.getValue());
           }
           break;
+        case "hedgeDelay":
+          if (member.getValue() instanceof Number) {
+            obj.setHedgeDelay(((Number)member.getValue()).longValue());
+          }
+          break;
       }
     }
   }
@@ -70,5 +75,6 @@ public class RequestOptionsConverter {
     if (obj.getRoutingKey() != null) {
       json.put("routingKey", obj.getRoutingKey());
     }
+    json.put("hedgeDelay", obj.getHedgeDelay());
   }
 }
@@ -62,6 +62,21 @@ public class NetServerOptionsConverter {
             obj.setRegisterWriteHandler((Boolean)member.getValue());
           }
           break;
+        case "sslHandshakePoolSize":
+          if (member.getValue() instanceof Number) {
+            obj.setSslHandshakePoolSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "maxConcurrentSslHandshakes":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxConcurrentSslHandshakes(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "maxPendingSslHandshakes":
+          if (member.getValue() instanceof Number) {
+            obj.setMaxPendingSslHandshakes(((Number)member.getValue()).intValue());
+          }
+          break;
       }
     }
   }
@@ -89,5 +104,8 @@ public class NetServerOptionsConverter {
       json.put("trafficShapingOptions", obj.getTrafficShapingOptions().toJson());
     }
     json.put("registerWriteHandler", obj.isRegisterWriteHandler());
+    json.put("sslHandshakePoolSize", obj.getSslHandshakePoolSize());
+    json.put("maxConcurrentSslHandshakes", obj.getMaxConcurrentSslHandshakes());
+    json.put("maxPendingSslHandshakes", obj.getMaxPendingSslHandshakes());
   }
 }
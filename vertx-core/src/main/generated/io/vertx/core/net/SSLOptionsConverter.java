@@ -66,6 +66,16 @@ public class SSLOptionsConverter {
             obj.setSslHandshakeTimeoutUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
           }
           break;
+        case "sessionCacheSize":
+          if (member.getValue() instanceof Number) {
+            obj.setSessionCacheSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "sessionTimeout":
+          if (member.getValue() instanceof Number) {
+            obj.setSessionTimeout(java.time.Duration.of(((Number)member.getValue()).longValue(), java.time.temporal.ChronoUnit.MILLIS));
+          }
+          break;
         case "applicationLayerProtocols":
           if (member.getValue() instanceof JsonArray) {
             java.util.ArrayList<java.lang.String> list =  new java.util.ArrayList<>();
@@ -116,5 +126,9 @@ public class SSLOptionsConverter {
       obj.getApplicationLayerProtocols().forEach(item -> array.add(item));
       json.put("applicationLayerProtocols", array);
     }
+    json.put("sessionCacheSize", obj.getSessionCacheSize());
+    if (obj.getSessionTimeout() != null) {
+      json.put("sessionTimeout", obj.getSessionTimeout().toMillis());
+    }
   }
 }
@@ -22,6 +22,26 @@ public class ServerSSLOptionsConverter {
             obj.setSni((Boolean)member.getValue());
           }
           break;
+        case "sessionTicketKeyRotation":
+          if (member.getValue() instanceof Number) {
+            obj.setSessionTicketKeyRotation(java.time.Duration.of(((Number)member.getValue()).longValue(), java.time.temporal.ChronoUnit.MILLIS));
+          }
+          break;
+        case "sniCacheSize":
+          if (member.getValue() instanceof Number) {
+            obj.setSniCacheSize(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "sniPreloadServerNames":
+          if (member.getValue() instanceof JsonArray) {
+            java.util.ArrayList<java.lang.String> list =  new java.util.ArrayList<>();
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof String)
+                list.add((String)item);
+            });
+            obj.setSniPreloadServerNames(list);
+          }
+          break;
       }
     }
   }
@@ -35,5 +55,14 @@ public class ServerSSLOptionsConverter {
       json.put("clientAuth", obj.getClientAuth().name());
     }
     json.put("sni", obj.isSni());
+    if (obj.getSessionTicketKeyRotation() != null) {
+      json.put("sessionTicketKeyRotation", obj.getSessionTicketKeyRotation().toMillis());
+    }
+    json.put("sniCacheSize", obj.getSniCacheSize());
+    if (obj.getSniPreloadServerNames() != null) {
+      JsonArray array = new JsonArray();
+      obj.getSniPreloadServerNames().forEach(item -> array.add(item));
+      json.put("sniPreloadServerNames", array);
+    }
   }
 }
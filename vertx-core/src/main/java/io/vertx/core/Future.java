@@ -14,6 +14,7 @@ package io.vertx.core;
 import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.core.impl.Utils;
 import io.vertx.core.impl.WorkerExecutor;
+import io.vertx.core.impl.future.AllOf;
 import io.vertx.core.impl.future.CompositeFutureImpl;
 import io.vertx.core.impl.future.FailedFuture;
 import io.vertx.core.impl.future.SucceededFuture;
@@ -210,6 +211,36 @@ public interface Future<T> extends AsyncResult<T> {
     return CompositeFutureImpl.join(futures.toArray(new Future[0]));
   }
 
+  /**
+   * Return a future succeeded with the list of results of {@code futures} when all futures are succeeded, failed
+   * as soon as any future is failed.
+   * <p/>
+   * Unlike {@link #all(List)}, the results are collected in a list ordered like {@code futures}, without a
+   * {@link CompositeFuture}, which is cheaper for large collections.
+   * <p/>
+   * When the list is empty, the returned future will be already completed.
+   *
+   * @param futures the futures
+   * @return the future of the results
+   */
+  static <T> Future<List<T>> allOf(List<? extends Future<? extends T>> futures) {
+    return AllOf.create(futures);
+  }
+
+  /**
+   * Like {@link #allOf(List)} but the futures are created by {@code tasks}, with at most {@code maxInFlight}
+   * tasks started and not yet completed at any time.
+   * <p/>
+   * A new task is started each time a started task succeeds, no task is started after a failure.
+   *
+   * @param tasks the tasks creating the futures
+   * @param maxInFlight the maximum number of started tasks that are not yet completed
+   * @return the future of the results
+   */
+  static <T> Future<List<T>> allBounded(List<Supplier<Future<T>>> tasks, int maxInFlight) {
+    return AllOf.create(tasks, maxInFlight);
+  }
+
   /**
    * Create a promise and pass it to the {@code handler}, and then returns this future's promise. The {@code handler}
    * is responsible for completing the promise, if the {@code handler} throws an exception, the promise is attempted
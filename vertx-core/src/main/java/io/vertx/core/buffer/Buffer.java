@@ -103,6 +103,48 @@ public interface Buffer extends ClusterSerializable, Shareable {
     return BufferInternal.buffer(bytes);
   }
 
+  /**
+   * Create a new pooled direct buffer given the initial size hint.
+   * <p>
+   * The buffer memory is borrowed from the Vert.x pooled allocator and is handed to the network without an
+   * intermediate copy when the buffer is written to a {@code NetSocket} or an HTTP/1.x {@code HttpServerResponse},
+   * including when such a stream is the destination of a {@code Pipe}. Other destinations receive a heap copy.
+   * <p>
+   * Unlike other buffers, a pooled buffer is reference counted: it is created with a reference count of {@code 1}
+   * and its memory is returned to the pool when {@link #release()} brings the count to {@code 0}. Writing a pooled
+   * buffer does not transfer ownership, the transport retains the buffer until the bytes are written, so the
+   * caller can release its reference as soon as {@code write} returns. Any access after the final release fails.
+   * <p>
+   * Slices of a pooled buffer share its memory and its reference count, they are written to the network the same way
+   * so the parent buffer can be released as soon as {@code write} returns.
+   * <p>
+   * Since the bytes are not copied, the transport reads the buffer memory when the bytes are actually written: changing
+   * the content of a pooled buffer after {@code write} returns changes the bytes sent, a buffer must not be modified or
+   * reused until the write has completed.
+   *
+   * @param initialSizeHint the hint, in bytes
+   * @return the buffer
+   */
+  static Buffer pooled(int initialSizeHint) {
+    return BufferInternal.pooled(initialSizeHint);
+  }
+
+  /**
+   * Create a new, empty, composite buffer.
+   * <p>
+   * Buffers appended to a composite buffer with {@link #appendBuffer(Buffer)} are not copied, the composite buffer
+   * references their bytes instead, which is useful to assemble a message from a set of cached fragments. Consequently,
+   * changes made to an appended buffer are visible in the composite buffer.
+   * <p>
+   * Reads can span the boundaries of the appended buffers and the composite buffer is written to the network
+   * as a single gathering write.
+   *
+   * @return the buffer
+   */
+  static Buffer composite() {
+    return BufferInternal.composite();
+  }
+
   /**
    * Returns a {@code String} representation of the Buffer with the {@code UTF-8 }encoding
    */
@@ -736,4 +778,31 @@ public interface Buffer extends ClusterSerializable, Shareable {
    */
   Buffer slice(int start, int end);
 
+  /**
+   * @return the reference count of this buffer, buffers that are not {@link #pooled(int) pooled} always return {@code 1}
+   */
+  default int refCnt() {
+    return 1;
+  }
+
+  /**
+   * Increase the reference count of a {@link #pooled(int) pooled} buffer by {@code 1}, this is a no-op for other buffers.
+   *
+   * @return a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  default Buffer retain() {
+    return this;
+  }
+
+  /**
+   * Decrease the reference count of a {@link #pooled(int) pooled} buffer by {@code 1} and return its memory to the
+   * pool when the count reaches {@code 0}, this is a no-op for other buffers.
+   *
+   * @return {@code true} if and only if the reference count became {@code 0} and the buffer has been deallocated
+   */
+  default boolean release() {
+    return false;
+  }
+
 }
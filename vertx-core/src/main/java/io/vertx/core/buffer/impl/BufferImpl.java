@@ -614,7 +614,7 @@ public class BufferImpl implements BufferInternal {
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
-    if (o == null || getClass() != o.getClass()) return false;
+    if (!(o instanceof BufferImpl)) return false;
     BufferImpl buffer1 = (BufferImpl) o;
     return Objects.equals(buffer, buffer1.buffer);
   }
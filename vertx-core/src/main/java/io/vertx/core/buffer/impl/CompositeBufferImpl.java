@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.buffer.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.impl.buffer.VertxByteBufAllocator;
+
+/**
+ * A buffer backed by a {@code CompositeByteBuf}, appended buffers are added as components sharing their memory
+ * instead of being copied.
+ *
+ * Other appends and sets are written in components allocated by the composite as it grows. Pooled buffers
+ * are copied when appended since a component does not carry a reference to its source.
+ */
+public class CompositeBufferImpl extends BufferImpl {
+
+  public CompositeBufferImpl() {
+    super(new CompositeByteBuf(VertxByteBufAllocator.DEFAULT, false, Integer.MAX_VALUE));
+  }
+
+  @Override
+  public CompositeBufferImpl appendBuffer(Buffer buff) {
+    ByteBuf byteBuf = ((BufferImpl) buff).unwrap();
+    return appendComponent(buff, byteBuf.readerIndex(), byteBuf.readableBytes());
+  }
+
+  @Override
+  public CompositeBufferImpl appendBuffer(Buffer buff, int offset, int len) {
+    ByteBuf byteBuf = ((BufferImpl) buff).unwrap();
+    return appendComponent(buff, byteBuf.readerIndex() + offset, len);
+  }
+
+  private CompositeBufferImpl appendComponent(Buffer buff, int index, int len) {
+    CompositeByteBuf composite = (CompositeByteBuf) unwrap();
+    ByteBuf component;
+    if (buff instanceof PooledBufferImpl) {
+      component = VertxByteBufAllocator.DEFAULT.heapBuffer(len, Integer.MAX_VALUE).writeBytes(((PooledBufferImpl) buff).unwrap(), index, len);
+    } else {
+      component = ((BufferImpl) buff).unwrap().slice(index, len);
+    }
+    // Drop the spare capacity a previous write might have left, the component must follow the last written byte
+    if (composite.capacity() > composite.writerIndex()) {
+      composite.capacity(composite.writerIndex());
+    }
+    composite.addComponent(true, component);
+    return this;
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.buffer.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.impl.buffer.VertxByteBufAllocator;
+
+/**
+ * A reference counted buffer backed by a direct {@code ByteBuf} borrowed from {@link VertxByteBufAllocator#POOLED_ALLOCATOR}.
+ *
+ * The buffer memory is returned to the pool when the reference count reaches {@code 0}, slices share the memory
+ * and the reference count of this buffer, so they are written to the transport with a retained slice as well.
+ */
+public class PooledBufferImpl extends BufferImpl {
+
+  public PooledBufferImpl(int initialSizeHint) {
+    super(VertxByteBufAllocator.POOLED_ALLOCATOR.directBuffer(initialSizeHint, Integer.MAX_VALUE));
+  }
+
+  private PooledBufferImpl(ByteBuf slice) {
+    super(slice);
+  }
+
+  @Override
+  public int refCnt() {
+    return unwrap().refCnt();
+  }
+
+  @Override
+  public PooledBufferImpl retain() {
+    unwrap().retain();
+    return this;
+  }
+
+  @Override
+  public boolean release() {
+    return unwrap().release();
+  }
+
+  /**
+   * The returned {@code ByteBuf} is a heap copy so that callers unaware of reference counting, e.g. codecs
+   * or transports that do not retain their input, do not observe the memory being returned to the pool.
+   */
+  @Override
+  public ByteBuf getByteBuf() {
+    ByteBuf buffer = unwrap();
+    return VertxByteBufAllocator.DEFAULT.heapBuffer(buffer.readableBytes(), Integer.MAX_VALUE).writeBytes(buffer, buffer.readerIndex(), buffer.readableBytes());
+  }
+
+  @Override
+  public ByteBuf retainedByteBuf() {
+    return unwrap().retainedSlice();
+  }
+
+  @Override
+  public PooledBufferImpl slice() {
+    return new PooledBufferImpl(unwrap().slice());
+  }
+
+  @Override
+  public PooledBufferImpl slice(int start, int end) {
+    return new PooledBufferImpl(unwrap().slice(start, end - start));
+  }
+
+  /**
+   * Copies are heap buffers, they do not hold pooled memory and need not be released.
+   */
+  @Override
+  public BufferImpl copy() {
+    return new BufferImpl(getBytes());
+  }
+}
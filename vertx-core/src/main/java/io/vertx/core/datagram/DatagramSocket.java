@@ -21,6 +21,8 @@ import io.vertx.core.metrics.Measured;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.streams.WriteStream;
 
+import java.util.List;
+
 /**
  * A datagram socket can be used to send {@link DatagramPacket}'s to remote datagram servers
  * and receive {@link DatagramPacket}s .
@@ -79,6 +81,20 @@ public interface DatagramSocket extends Measured {
    */
   Future<Void> send(String str, String enc, int port, String host);
 
+  /**
+   * Write the given list of {@link io.vertx.core.buffer.Buffer} to the {@link io.vertx.core.net.SocketAddress}, each
+   * buffer being sent as a datagram.
+   * <p/>
+   * The datagrams are flushed at once, which allows native transports to send them with a single system call,
+   * see {@link DatagramSocketOptions#setUdpGso(boolean)}.
+   *
+   * @param packets  the datagrams to write
+   * @param port  the host port of the remote peer
+   * @param host  the host address of the remote peer
+   * @return a future notified once all the writes complete.
+   */
+  Future<Void> send(List<Buffer> packets, int port, String host);
+
   /**
    * Closes the {@link io.vertx.core.datagram.DatagramSocket} implementation asynchronous
    * and notifies the handler once done.
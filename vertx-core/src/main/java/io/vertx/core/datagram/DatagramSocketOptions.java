@@ -57,6 +57,26 @@ public class DatagramSocketOptions extends NetworkOptions {
    */
   public static final boolean DEFAULT_IPV6 = false;
 
+  /**
+   * The default number of datagrams read per event loop iteration = 1
+   */
+  public static final int DEFAULT_RECEIVE_BATCH_SIZE = 1;
+
+  /**
+   * The default max datagram payload size = 0 (disabled)
+   */
+  public static final int DEFAULT_MAX_DATAGRAM_PAYLOAD_SIZE = 0;
+
+  /**
+   * The default value of UDP generic receive offload = false
+   */
+  public static final boolean DEFAULT_UDP_GRO = false;
+
+  /**
+   * The default value of UDP generic segmentation offload = false
+   */
+  public static final boolean DEFAULT_UDP_GSO = false;
+
   private int sendBufferSize;
   private int receiveBufferSize;
   private int trafficClass;
@@ -67,6 +87,10 @@ public class DatagramSocketOptions extends NetworkOptions {
   private int multicastTimeToLive;
   private String multicastNetworkInterface;
   private boolean ipV6;
+  private int receiveBatchSize;
+  private int maxDatagramPayloadSize;
+  private boolean udpGro;
+  private boolean udpGso;
 
   /**
    * Default constructor
@@ -94,6 +118,10 @@ public class DatagramSocketOptions extends NetworkOptions {
     this.multicastTimeToLive = other.getMulticastTimeToLive();
     this.multicastNetworkInterface = other.getMulticastNetworkInterface();
     this.ipV6 = other.isIpV6();
+    this.receiveBatchSize = other.getReceiveBatchSize();
+    this.maxDatagramPayloadSize = other.getMaxDatagramPayloadSize();
+    this.udpGro = other.isUdpGro();
+    this.udpGso = other.isUdpGso();
   }
 
   /**
@@ -118,6 +146,10 @@ public class DatagramSocketOptions extends NetworkOptions {
     multicastTimeToLive = DEFAULT_MULTICAST_TIME_TO_LIVE;
     multicastNetworkInterface = DEFAULT_MULTICAST_NETWORK_INTERFACE;
     ipV6 = DEFAULT_IPV6;
+    receiveBatchSize = DEFAULT_RECEIVE_BATCH_SIZE;
+    maxDatagramPayloadSize = DEFAULT_MAX_DATAGRAM_PAYLOAD_SIZE;
+    udpGro = DEFAULT_UDP_GRO;
+    udpGso = DEFAULT_UDP_GSO;
   }
 
   @Override
@@ -272,6 +304,93 @@ public class DatagramSocketOptions extends NetworkOptions {
     return this;
   }
 
+  /**
+   * @return the max number of datagrams read per event loop iteration
+   */
+  public int getReceiveBatchSize() {
+    return receiveBatchSize;
+  }
+
+  /**
+   * Set the max number of datagrams read per event loop iteration, a larger value amortizes the cost of the event
+   * loop wake-up over several datagrams when the socket receives a high rate of datagrams.
+   * <p/>
+   * When a {@link #setMaxDatagramPayloadSize(int) max datagram payload size} is set, the epoll transport reads the
+   * batch with a single {@code recvmmsg} system call.
+   *
+   * @param receiveBatchSize the batch size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DatagramSocketOptions setReceiveBatchSize(int receiveBatchSize) {
+    Arguments.require(receiveBatchSize > 0, "receiveBatchSize must be > 0");
+    this.receiveBatchSize = receiveBatchSize;
+    return this;
+  }
+
+  /**
+   * @return the max payload size of a received datagram
+   */
+  public int getMaxDatagramPayloadSize() {
+    return maxDatagramPayloadSize;
+  }
+
+  /**
+   * Set the max payload size of a received datagram, larger datagrams are truncated. This is used by the epoll
+   * transport to batch reads with {@code recvmmsg} and is required by {@link #setUdpGro(boolean) UDP GRO}, the value
+   * {@code 0} disables it.
+   *
+   * @param maxDatagramPayloadSize the max payload size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DatagramSocketOptions setMaxDatagramPayloadSize(int maxDatagramPayloadSize) {
+    Arguments.require(maxDatagramPayloadSize >= 0, "maxDatagramPayloadSize must be >= 0");
+    this.maxDatagramPayloadSize = maxDatagramPayloadSize;
+    return this;
+  }
+
+  /**
+   * @return whether UDP generic receive offload is enabled
+   */
+  public boolean isUdpGro() {
+    return udpGro;
+  }
+
+  /**
+   * Enable UDP generic receive offload, the kernel then coalesces the received datagrams of a flow.
+   * <p/>
+   * This is only supported by the epoll transport and requires a {@link #setMaxDatagramPayloadSize(int) max datagram
+   * payload size}.
+   *
+   * @param udpGro {@code true} to enable UDP GRO
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DatagramSocketOptions setUdpGro(boolean udpGro) {
+    this.udpGro = udpGro;
+    return this;
+  }
+
+  /**
+   * @return whether UDP generic segmentation offload is used when sending datagrams in batch
+   */
+  public boolean isUdpGso() {
+    return udpGso;
+  }
+
+  /**
+   * Use UDP generic segmentation offload when {@link DatagramSocket#send(java.util.List, int, String) sending datagrams
+   * in batch}: when the datagrams have the same size (the last one can be smaller), they are handed to the kernel as
+   * a single buffer that is segmented by the kernel or the network interface.
+   * <p/>
+   * This is only supported by the epoll transport, datagrams are sent individually otherwise.
+   *
+   * @param udpGso {@code true} to use UDP GSO
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DatagramSocketOptions setUdpGso(boolean udpGso) {
+    this.udpGso = udpGso;
+    return this;
+  }
+
   @Override
   public DatagramSocketOptions setLogActivity(boolean logEnabled) {
     return (DatagramSocketOptions) super.setLogActivity(logEnabled);
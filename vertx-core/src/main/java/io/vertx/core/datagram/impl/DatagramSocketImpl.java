@@ -12,15 +12,18 @@
 package io.vertx.core.datagram.impl;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPromise;
 import io.netty.channel.MaxMessagesRecvByteBufAllocator;
 import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.DatagramPacket;
 import io.netty.channel.socket.InternetProtocolFamily;
 import io.netty.handler.logging.LoggingHandler;
 import io.netty.util.concurrent.GenericFutureListener;
+import io.netty.util.concurrent.PromiseCombiner;
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
@@ -44,6 +47,7 @@ import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.NetworkInterface;
 import java.net.UnknownHostException;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -58,7 +62,19 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
     return socket;
   }
 
+  /**
+   * The max number of segments of a UDP GSO packet.
+   */
+  private static final int MAX_SEGMENTS = 64;
+
+  /**
+   * The max payload of a UDP GSO packet.
+   */
+  private static final int MAX_SEGMENTED_PAYLOAD = 65507;
+
   private final ContextInternal context;
+  private final Transport transport;
+  private final boolean udpGso;
   private final DatagramSocketMetrics metrics;
   private DatagramChannel channel;
   private Handler<io.vertx.core.datagram.DatagramPacket> packetHandler;
@@ -72,7 +88,7 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
     ContextInternal context = vertx.getOrCreateContext();
     channel.config().setOption(ChannelOption.DATAGRAM_CHANNEL_ACTIVE_ON_REGISTRATION, true);
     MaxMessagesRecvByteBufAllocator bufAllocator = channel.config().getRecvByteBufAllocator();
-    bufAllocator.maxMessagesPerRead(1);
+    bufAllocator.maxMessagesPerRead(options.getReceiveBatchSize());
     context.nettyEventLoop().register(channel);
     if (options.getLogActivity()) {
       channel.pipeline().addLast("logging", new LoggingHandler(options.getActivityLogDataFormat()));
@@ -81,6 +97,8 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
     this.metrics = metrics != null ? metrics.createDatagramSocketMetrics(options) : null;
     this.channel = channel;
     this.context = context;
+    this.transport = transport;
+    this.udpGso = options.isUdpGso();
     this.closeFuture = closeFuture;
   }
 
@@ -269,6 +287,9 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
           f2.addListener(fut -> {
             if (fut.isSuccess()) {
               metrics.bytesWritten(null, SocketAddress.inetSocketAddress(port, host), packet.length());
+              metrics.packetsWritten(1);
+            } else {
+              metrics.packetsDropped(1);
             }
           });
         }
@@ -280,6 +301,88 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
     return promise.future();
   }
 
+  @Override
+  public Future<Void> send(List<Buffer> packets, int port, String host) {
+    Objects.requireNonNull(packets, "no null packets accepted");
+    Objects.requireNonNull(host, "no null host accepted");
+    if (port < 0 || port > 65535) {
+      throw new IllegalArgumentException("port out of range:" + port);
+    }
+    if (packets.isEmpty()) {
+      return context.succeededFuture();
+    }
+    NameResolver resolver = context.owner().nameResolver();
+    PromiseInternal<Void> promise = context.promise();
+    io.netty.util.concurrent.Future<InetSocketAddress> f1 = resolver.resolve(context.nettyEventLoop(), host);
+    f1.addListener((GenericFutureListener<io.netty.util.concurrent.Future<InetSocketAddress>>) res1 -> {
+      if (res1.isSuccess()) {
+        InetSocketAddress recipient = new InetSocketAddress(f1.getNow().getAddress(), port);
+        PromiseCombiner combiner = new PromiseCombiner(channel.eventLoop());
+        DatagramPacket segmented = udpGso ? segmentedPacket(packets, recipient) : null;
+        long bytes = 0;
+        if (segmented != null) {
+          bytes = segmented.content().readableBytes();
+          combiner.add(channel.write(segmented));
+        } else {
+          for (Buffer packet : packets) {
+            bytes += packet.length();
+            combiner.add(channel.write(new DatagramPacket(((BufferInternal)packet).getByteBuf(), recipient)));
+          }
+        }
+        channel.flush();
+        ChannelPromise f2 = channel.newPromise();
+        combiner.finish(f2);
+        if (metrics != null) {
+          long written = bytes;
+          f2.addListener(fut -> {
+            if (fut.isSuccess()) {
+              metrics.bytesWritten(null, SocketAddress.inetSocketAddress(port, host), written);
+              metrics.packetsWritten(packets.size());
+            } else {
+              metrics.packetsDropped(packets.size());
+            }
+          });
+        }
+        f2.addListener(promise);
+      } else {
+        promise.fail(res1.cause());
+      }
+    });
+    return promise.future();
+  }
+
+  /**
+   * @return a packet sent with UDP segmentation offload or {@code null} when the packets cannot be segmented
+   */
+  private DatagramPacket segmentedPacket(List<Buffer> packets, InetSocketAddress recipient) {
+    int count = packets.size();
+    if (count < 2 || count > MAX_SEGMENTS) {
+      return null;
+    }
+    int segmentSize = packets.get(0).length();
+    int size = 0;
+    for (int i = 0;i < count;i++) {
+      int length = packets.get(i).length();
+      // All segments have the same size, except the last one that can be smaller
+      if (length == 0 || length > segmentSize || (length < segmentSize && i < count - 1)) {
+        return null;
+      }
+      size += length;
+      if (size > MAX_SEGMENTED_PAYLOAD) {
+        return null;
+      }
+    }
+    CompositeByteBuf content = channel.alloc().compositeBuffer(count);
+    for (Buffer packet : packets) {
+      content.addComponent(true, ((BufferInternal)packet).getByteBuf());
+    }
+    DatagramPacket segmented = transport.segmentedDatagramPacket(content, segmentSize, recipient);
+    if (segmented == null) {
+      content.release();
+    }
+    return segmented;
+  }
+
   @Override
   public WriteStream<Buffer> sender(int port, String host) {
     Arguments.requireInRange(port, 0, 65535, "port p must be in range 0 <= p <= 65535");
@@ -338,6 +441,8 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
 
   class Connection extends VertxConnection {
 
+    private int packetsRead;
+
     public Connection(ContextInternal context, ChannelHandlerContext channel) {
       super(context, channel);
     }
@@ -381,6 +486,14 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
       }
     }
 
+    @Override
+    protected void handleReadComplete() {
+      if (metrics != null && packetsRead > 0) {
+        metrics.packetsRead(packetsRead);
+      }
+      packetsRead = 0;
+    }
+
     void handlePacket(io.vertx.core.datagram.DatagramPacket packet) {
       Handler<io.vertx.core.datagram.DatagramPacket> handler;
       synchronized (DatagramSocketImpl.this) {
@@ -389,8 +502,11 @@ public class DatagramSocketImpl implements DatagramSocket, MetricsProvider, Clos
         }
         handler = packetHandler;
       }
+      packetsRead++;
       if (handler != null) {
         context.emit(packet, handler);
+      } else if (metrics != null) {
+        metrics.packetsDropped(1);
       }
     }
   }
@@ -75,6 +75,7 @@ public final class ClusteredEventBus extends EventBusImpl {
     this.options = options.getEventBusOptions();
     this.clusterManager = clusterManager;
     this.nodeSelector = nodeSelector;
+    nodeSelector.metrics(metrics);
     this.context = vertx.contextBuilder()
       .withClassLoader(Thread.currentThread().getContextClassLoader())
       .withCloseFuture(new CloseFuture())
@@ -349,9 +350,10 @@ public final class ClusteredEventBus extends EventBusImpl {
   private OutboundConnection getOutboundConnection(String remoteNodeId) {
     OutboundConnection conn = outboundConnections.get(remoteNodeId);
     if (conn == null) {
-      conn = new OutboundConnection(this, remoteNodeId);
+      conn = new OutboundConnection(this, remoteNodeId, nodeSelector.nodeStats(remoteNodeId));
       OutboundConnection prev = outboundConnections.putIfAbsent(remoteNodeId, conn);
       if (prev != null) {
+        nodeSelector.connectionClosed(remoteNodeId, conn.stats());
         conn = prev;
       } else {
         connect(conn);
@@ -376,6 +378,7 @@ public final class ClusteredEventBus extends EventBusImpl {
               }
             }
             conn.handleClose(NetSocketInternal.CLOSED_EXCEPTION);
+            nodeSelector.connectionClosed(conn.remoteNodeId(), conn.stats());
           });
           conn.connected(connection);
         } else {
@@ -384,6 +387,7 @@ public final class ClusteredEventBus extends EventBusImpl {
           }
           outboundConnections.remove(conn.remoteNodeId(), conn);
           conn.handleClose(ar.cause());
+          nodeSelector.connectionClosed(conn.remoteNodeId(), conn.stats());
         }
       });
   }
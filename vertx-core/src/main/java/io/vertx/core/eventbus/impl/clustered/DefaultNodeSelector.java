@@ -16,19 +16,52 @@ import io.vertx.core.eventbus.impl.clustered.selector.*;
 import io.vertx.core.spi.cluster.ClusteredNode;
 import io.vertx.core.spi.cluster.RegistrationInfo;
 import io.vertx.core.spi.cluster.RegistrationUpdateEvent;
+import io.vertx.core.spi.metrics.EventBusMetrics;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Node selector implementation that preserves the ordering of select operations.
+ * <p/>
+ * The registrations of an address are cached until the address has no registration left. The cache is bounded, when
+ * it exceeds its max number of entries the least recently used entries are evicted. Registration updates only rebuild
+ * the selector of an address when the number of accessible registrations per node changed.
  */
 public class DefaultNodeSelector implements NodeSelector {
 
+  /**
+   * The default max number of cached addresses.
+   */
+  public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
   private ClusteredNode clusterManager;
   private final ConcurrentMap<String, Node> entries = new ConcurrentHashMap<>();
+  private final int maxEntries;
+  private final AtomicBoolean evicting = new AtomicBoolean();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private volatile EventBusMetrics<?> metrics;
+
+  public DefaultNodeSelector() {
+    this(DEFAULT_MAX_ENTRIES);
+  }
+
+  /**
+   * @param maxEntries the max number of cached addresses
+   */
+  public DefaultNodeSelector(int maxEntries) {
+    if (maxEntries < 1) {
+      throw new IllegalArgumentException("maxEntries must be > 0");
+    }
+    this.maxEntries = maxEntries;
+  }
 
   private interface Op<T> {
     Op<String> SEND = RoundRobinSelector::selectForSend;
@@ -41,6 +74,9 @@ public class DefaultNodeSelector implements NodeSelector {
     final AtomicInteger wip = new AtomicInteger(1);
     final Queue<Action> queue = PlatformDependent.newMpscQueue();
     Object value;
+    // The weights of the last selector, used to skip updates that do not change them
+    final AtomicReference<Map<String, Weight>> weights = new AtomicReference<>();
+    volatile long lastAccess = System.nanoTime();
 
     private void signal(Object value, int amount) {
       while (amount > 0) {
@@ -103,10 +139,22 @@ public class DefaultNodeSelector implements NodeSelector {
         node = phantom;
       } else {
         // Obtained ownership
+        misses.increment();
+        EventBusMetrics<?> m = metrics;
+        if (m != null) {
+          m.nodeSelectorCacheMiss();
+        }
         initializeNode(node, address);
+        evictIfNeeded();
         return;
       }
     }
+    hits.increment();
+    EventBusMetrics<?> m = metrics;
+    if (m != null) {
+      m.nodeSelectorCacheHit();
+    }
+    node.lastAccess = System.nanoTime();
     if (node.wip.get() == 0) {
       // wip == 0 implies we can safely read a value
       Object v = node.value;
@@ -139,8 +187,11 @@ public class DefaultNodeSelector implements NodeSelector {
 
   private void succeed(Node node, String address, List<RegistrationInfo> registrations) {
     List<String> accessible = computeAccessible(registrations);
-    RoundRobinSelector selector = data(accessible);
+    Map<String, Weight> weights = accessible.isEmpty() ? null : computeWeights(accessible);
+    RoundRobinSelector selector = data(weights);
     if (selector != null) {
+      // Fails when an update event more recent than these registrations has been received
+      node.weights.compareAndSet(null, weights);
       node.signal(selector, node.wip.get());
     } else {
       if (entries.remove(address, node)) {
@@ -159,6 +210,11 @@ public class DefaultNodeSelector implements NodeSelector {
     this.clusterManager = clusterManager;
   }
 
+  @Override
+  public void metrics(EventBusMetrics<?> metrics) {
+    this.metrics = metrics;
+  }
+
   @Override
   public void selectForSend(String address, Completable<String> promise) {
     selectFor(address, Op.SEND, promise);
@@ -174,11 +230,10 @@ public class DefaultNodeSelector implements NodeSelector {
     return entries.containsKey(address);
   }
 
-  private RoundRobinSelector data(List<String> nodeIds) {
-    if (nodeIds == null || nodeIds.isEmpty()) {
+  private RoundRobinSelector data(Map<String, Weight> weights) {
+    if (weights == null) {
       return null;
     } else {
-      Map<String, Weight> weights = computeWeights(nodeIds);
       RoundRobinSelector selector;
       if (isEvenlyDistributed(weights)) {
         selector = new SimpleRoundRobinSelector(new ArrayList<>(weights.keySet()));
@@ -197,6 +252,19 @@ public class DefaultNodeSelector implements NodeSelector {
     return weights;
   }
 
+  private static boolean sameWeights(Map<String, Weight> current, Map<String, Weight> weights) {
+    if (current == null || current.size() != weights.size()) {
+      return false;
+    }
+    for (Map.Entry<String, Weight> entry : weights.entrySet()) {
+      Weight weight = current.get(entry.getKey());
+      if (weight == null || weight.value() != entry.getValue().value()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private boolean isEvenlyDistributed(Map<String, Weight> weights) {
     if (weights.size() > 1) {
       Weight previous = null;
@@ -236,21 +304,92 @@ public class DefaultNodeSelector implements NodeSelector {
   @Override
   public void registrationsUpdated(RegistrationUpdateEvent event) {
     String address = event.address();
+    Node node = entries.get(address);
+    if (node == null) {
+      return;
+    }
     List<String> accessible = computeAccessible(event.registrations());
-    RoundRobinSelector selector = data(accessible);
-    if (selector != null) {
-      Node node = entries.get(address);
-      if (node != null) {
-        node.queue.add(new Update(selector));
-        int amount = node.wip.incrementAndGet();
-        if (amount == 1) {
-          node.signal(selector, amount);
+    if (accessible.isEmpty()) {
+      entries.remove(address);
+      return;
+    }
+    Map<String, Weight> weights = computeWeights(accessible);
+    if (sameWeights(node.weights.get(), weights)) {
+      // The current selector is still valid
+      return;
+    }
+    node.weights.set(weights);
+    RoundRobinSelector selector = data(weights);
+    node.queue.add(new Update(selector));
+    int amount = node.wip.incrementAndGet();
+    if (amount == 1) {
+      node.signal(selector, amount);
+    }
+  }
+
+  private void evictIfNeeded() {
+    if (entries.size() <= maxEntries || !evicting.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      // Evict a tenth of the entries at once to amortize the cost of sorting them
+      int excess = entries.size() - maxEntries + maxEntries / 10;
+      List<Eviction> candidates = new ArrayList<>(entries.size());
+      for (Map.Entry<String, Node> entry : entries.entrySet()) {
+        candidates.add(new Eviction(entry.getKey(), entry.getValue()));
+      }
+      candidates.sort(Comparator.comparingLong(eviction -> eviction.lastAccess));
+      for (int i = 0;i < excess && i < candidates.size();i++) {
+        Eviction eviction = candidates.get(i);
+        if (entries.remove(eviction.address, eviction.node)) {
+          evictions.increment();
+          EventBusMetrics<?> m = metrics;
+          if (m != null) {
+            m.nodeSelectorCacheEviction();
+          }
         }
-      } else {
-        // ????
       }
-    } else {
-      entries.remove(address);
+    } finally {
+      evicting.set(false);
+    }
+  }
+
+  /**
+   * @return the number of selections that found the registrations of the address in the cache
+   */
+  public long cacheHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return the number of selections that fetched the registrations of the address from the cluster manager
+   */
+  public long cacheMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return the number of addresses evicted from the cache
+   */
+  public long cacheEvictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * @return the number of cached addresses
+   */
+  public int cacheSize() {
+    return entries.size();
+  }
+
+  private static class Eviction {
+    final String address;
+    final Node node;
+    final long lastAccess;
+    Eviction(String address, Node node) {
+      this.address = address;
+      this.node = node;
+      this.lastAccess = node.lastAccess;
     }
   }
 }
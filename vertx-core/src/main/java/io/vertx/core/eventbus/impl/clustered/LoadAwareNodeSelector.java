@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.vertx.core.Completable;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.spi.cluster.ClusteredNode;
+import io.vertx.core.spi.cluster.NodeInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Node selector that sends messages to the least loaded nodes.
+ * <p/>
+ * The nodes are selected by the power of two choices: two candidate nodes are drawn at random and one of them is
+ * picked with a probability inversely proportional to its {@link NodeStats#cost() cost}, which accounts for the
+ * messages in flight, the write latency, the ping round trip time and the write failures measured by the connection
+ * to the node.
+ * <p/>
+ * When a zone key is provided, the candidates are restricted to the nodes whose {@link NodeInfo#metadata() metadata}
+ * zone value is the same as the zone of the current node, falling back to all the nodes when none matches. The node
+ * info of a remote node is resolved asynchronously by the cluster manager, a send waits for the resolution of the
+ * candidates it does not know yet, a candidate whose node info cannot be resolved has no zone.
+ * <p/>
+ * The stats of a node are kept while a connection to the node uses them.
+ * <p/>
+ * Messages are published like {@link DefaultNodeSelector}.
+ */
+public class LoadAwareNodeSelector extends DefaultNodeSelector {
+
+  private final String zoneKey;
+  private final ConcurrentMap<String, NodeStats> stats = new ConcurrentHashMap<>();
+  private ClusteredNode clusterManager;
+  private volatile String localZone;
+
+  public LoadAwareNodeSelector() {
+    this(null);
+  }
+
+  /**
+   * @param zoneKey the node metadata key of the zone value or {@code null} to disable zone affinity
+   */
+  public LoadAwareNodeSelector(String zoneKey) {
+    this.zoneKey = zoneKey;
+  }
+
+  @Override
+  public void init(ClusteredNode clusterManager) {
+    super.init(clusterManager);
+    this.clusterManager = clusterManager;
+  }
+
+  @Override
+  public void eventBusStarted() {
+    super.eventBusStarted();
+    if (zoneKey != null) {
+      localZone = zone(clusterManager.getNodeInfo());
+    }
+  }
+
+  @Override
+  public void selectForSend(String address, Completable<String> promise) {
+    selectForPublish(address, (nodeIds, err) -> {
+      if (err != null) {
+        promise.fail(err);
+        return;
+      }
+      List<String> list = toList(nodeIds);
+      List<Future<NodeInfo>> unresolved = null;
+      if (localZone != null && list.size() > 1) {
+        for (String nodeId : list) {
+          Future<NodeInfo> info = stats(nodeId).nodeInfoFuture();
+          if (!info.isComplete()) {
+            if (unresolved == null) {
+              unresolved = new ArrayList<>();
+            }
+            unresolved.add(info);
+          }
+        }
+      }
+      if (unresolved == null) {
+        promise.succeed(select(list));
+      } else {
+        // Zone affinity needs the zone of every candidate
+        Future.join(unresolved).onComplete(ar -> promise.succeed(select(list)));
+      }
+    });
+  }
+
+  @Override
+  public NodeStats nodeStats(String nodeId) {
+    return stats.compute(nodeId, (id, s) -> {
+      if (s == null) {
+        s = createStats(id);
+      }
+      s.connections++;
+      return s;
+    });
+  }
+
+  @Override
+  public void connectionClosed(String nodeId, NodeStats s) {
+    if (s != null) {
+      stats.computeIfPresent(nodeId, (id, current) -> current != s || --current.connections > 0 ? current : null);
+    }
+  }
+
+  /**
+   * @return the stats of the node
+   */
+  public NodeStats stats(String nodeId) {
+    return stats.computeIfAbsent(nodeId, this::createStats);
+  }
+
+  private NodeStats createStats(String nodeId) {
+    NodeStats s = new NodeStats(nodeId);
+    if (nodeId.equals(clusterManager.getNodeId())) {
+      s.nodeInfo(Future.succeededFuture(clusterManager.getNodeInfo()));
+    } else {
+      Promise<NodeInfo> promise = Promise.promise();
+      s.nodeInfo(promise.future());
+      clusterManager.getNodeInfo(nodeId, promise);
+    }
+    return s;
+  }
+
+  private String select(List<String> nodeIds) {
+    List<String> candidates = candidates(nodeIds);
+    int size = candidates.size();
+    if (size == 0) {
+      return null;
+    } else if (size == 1) {
+      return candidates.get(0);
+    }
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int i = random.nextInt(size);
+    int j = random.nextInt(size - 1);
+    if (j >= i) {
+      j++;
+    }
+    NodeStats first = stats(candidates.get(i));
+    NodeStats second = stats(candidates.get(j));
+    double firstCost = first.cost();
+    double secondCost = second.cost();
+    return random.nextDouble() * (firstCost + secondCost) < secondCost ? first.nodeId() : second.nodeId();
+  }
+
+  private static List<String> toList(Iterable<String> nodeIds) {
+    List<String> list;
+    if (nodeIds instanceof List) {
+      list = (List<String>) nodeIds;
+    } else {
+      list = new ArrayList<>();
+      nodeIds.forEach(list::add);
+    }
+    return list;
+  }
+
+  private List<String> candidates(List<String> list) {
+    String zone = localZone;
+    if (zone != null && list.size() > 1) {
+      List<String> sameZone = null;
+      for (String nodeId : list) {
+        NodeInfo info = stats(nodeId).nodeInfo();
+        if (info != null && zone.equals(zone(info))) {
+          if (sameZone == null) {
+            sameZone = new ArrayList<>(list.size());
+          }
+          sameZone.add(nodeId);
+        }
+      }
+      if (sameZone != null) {
+        list = sameZone;
+      }
+    }
+    return list;
+  }
+
+  private String zone(NodeInfo info) {
+    JsonObject metadata = info != null ? info.metadata() : null;
+    return metadata != null ? metadata.getString(zoneKey) : null;
+  }
+}
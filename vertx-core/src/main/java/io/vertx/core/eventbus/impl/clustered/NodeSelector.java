@@ -15,6 +15,7 @@ import io.vertx.core.Completable;
 import io.vertx.core.Promise;
 import io.vertx.core.spi.cluster.ClusteredNode;
 import io.vertx.core.spi.cluster.RegistrationListener;
+import io.vertx.core.spi.metrics.EventBusMetrics;
 
 /**
  * Used by the {@link io.vertx.core.eventbus.EventBus clustered EventBus} to select a node for a given message.
@@ -55,4 +56,33 @@ public interface NodeSelector extends RegistrationListener {
    */
   void selectForPublish(String address, Completable<Iterable<String>> promise);
 
+  /**
+   * Invoked when the clustered {@link io.vertx.core.eventbus.EventBus} opens a connection to a remote node, the
+   * returned stats are updated with the activity of this connection.
+   *
+   * @param nodeId the remote node id
+   * @return the stats to update or {@code null} when the selector does not use them
+   */
+  default NodeStats nodeStats(String nodeId) {
+    return null;
+  }
+
+  /**
+   * Invoked when a connection opened by the clustered {@link io.vertx.core.eventbus.EventBus} is closed or discarded,
+   * the {@code stats} returned by {@link #nodeStats(String)} for this connection are not updated anymore.
+   *
+   * @param nodeId the remote node id
+   * @param stats the stats of the connection or {@code null}
+   */
+  default void connectionClosed(String nodeId, NodeStats stats) {
+  }
+
+  /**
+   * Invoked when the clustered {@link io.vertx.core.eventbus.EventBus} is created, the selector can report its
+   * activity to the {@code metrics}.
+   *
+   * @param metrics the event-bus metrics or {@code null} when metrics are disabled
+   */
+  default void metrics(EventBusMetrics<?> metrics) {
+  }
 }
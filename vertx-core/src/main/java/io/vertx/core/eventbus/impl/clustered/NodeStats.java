@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.eventbus.impl.clustered;
+
+import io.vertx.core.Future;
+import io.vertx.core.spi.cluster.NodeInfo;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The activity of the event-bus connection to a clustered node, as measured by the sending node.
+ * <p/>
+ * This class is thread safe.
+ */
+public final class NodeStats {
+
+  private static final double ALPHA = 0.2;
+
+  private final String nodeId;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private volatile double writeLatency;
+  private volatile long pingRtt = -1L;
+  private volatile Future<NodeInfo> nodeInfo;
+  // Number of connections using these stats, guarded by the selector
+  int connections;
+
+  public NodeStats(String nodeId) {
+    this.nodeId = nodeId;
+  }
+
+  /**
+   * @return the node id
+   */
+  public String nodeId() {
+    return nodeId;
+  }
+
+  /**
+   * @return the node info or {@code null} when not yet known or unavailable
+   */
+  public NodeInfo nodeInfo() {
+    Future<NodeInfo> f = nodeInfo;
+    return f != null && f.succeeded() ? f.result() : null;
+  }
+
+  /**
+   * @return the future of the node info or {@code null} when it is not resolved
+   */
+  Future<NodeInfo> nodeInfoFuture() {
+    return nodeInfo;
+  }
+
+  void nodeInfo(Future<NodeInfo> nodeInfo) {
+    this.nodeInfo = nodeInfo;
+  }
+
+  /**
+   * @return the number of messages sent to the node whose write has not completed
+   */
+  public int inFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * @return the exponentially weighted moving average of the message write latency, in nanoseconds
+   */
+  public long writeLatency() {
+    return (long) writeLatency;
+  }
+
+  /**
+   * @return the last measured ping round trip time in nanoseconds or {@code -1} when unknown
+   */
+  public long pingRtt() {
+    return pingRtt;
+  }
+
+  /**
+   * @return the number of writes that failed since the last successful write
+   */
+  public int consecutiveFailures() {
+    return consecutiveFailures.get();
+  }
+
+  /**
+   * @return the cost of sending a message to the node, the lower the better
+   */
+  public double cost() {
+    double latencyMillis = writeLatency / TimeUnit.MILLISECONDS.toNanos(1);
+    long rtt = pingRtt;
+    if (rtt > 0) {
+      latencyMillis += (double) rtt / TimeUnit.MILLISECONDS.toNanos(1) / 2;
+    }
+    return (inFlight.get() + 1) * (1D + latencyMillis) * (1 + consecutiveFailures.get());
+  }
+
+  /**
+   * Signal the beginning of a message write.
+   *
+   * @return the write start time to pass to {@link #writeEnd}
+   */
+  long writeBegin() {
+    inFlight.incrementAndGet();
+    return System.nanoTime();
+  }
+
+  /**
+   * Signal the end of a message write.
+   *
+   * @param start the value returned by {@link #writeBegin()}
+   * @param succeeded whether the write succeeded
+   */
+  void writeEnd(long start, boolean succeeded) {
+    inFlight.decrementAndGet();
+    if (succeeded) {
+      consecutiveFailures.set(0);
+      long latency = System.nanoTime() - start;
+      synchronized (this) {
+        writeLatency += ALPHA * (latency - writeLatency);
+      }
+    } else {
+      consecutiveFailures.incrementAndGet();
+    }
+  }
+
+  void pingRtt(long rtt) {
+    pingRtt = rtt;
+  }
+}
@@ -44,26 +44,39 @@ final class OutboundConnection implements Handler<Buffer> {
   private final String remoteNodeId;
   private final VertxInternal vertx;
   private final EventBusMetrics<?> metrics;
+  private final NodeStats stats;
 
   private Queue<MessageWrite> pendingWrites;
   private NetSocket socket;
   private boolean connected;
   private long pingReplyTimeoutID = -1;
   private long pingTimeoutID = -1;
+  private volatile long pingTime;
   private boolean closed;
 
-  OutboundConnection(ClusteredEventBus eventBus, String remoteNodeId) {
+  OutboundConnection(ClusteredEventBus eventBus, String remoteNodeId, NodeStats stats) {
     this.eventBus = eventBus;
     this.remoteNodeId = remoteNodeId;
     this.vertx = eventBus.vertx();
     this.metrics = eventBus.getMetrics();
+    this.stats = stats;
   }
 
   String remoteNodeId() {
     return remoteNodeId;
   }
 
-  synchronized void writeMessage(MessageImpl<?, ?> message, Promise<Void> writePromise) {
+  NodeStats stats() {
+    return stats;
+  }
+
+  void writeMessage(MessageImpl<?, ?> message, Promise<Void> writePromise) {
+    // The stats track the write on this connection, the promise might be shared with other connections (publish)
+    long start = stats != null ? stats.writeBegin() : 0L;
+    doWriteMessage(message, writePromise, start);
+  }
+
+  private synchronized void doWriteMessage(MessageImpl<?, ?> message, Promise<Void> writePromise, long start) {
     Throwable failure;
     synchronized (this) {
       if (closed) {
@@ -77,22 +90,42 @@ final class OutboundConnection implements Handler<Buffer> {
           }
           pendingWrites = new ArrayDeque<>();
         }
-        pendingWrites.add(new MessageWrite(message, writePromise));
+        pendingWrites.add(new MessageWrite(message, writePromise, start));
         return;
       }
     }
     if (failure == null) {
-      writeMessage(message)
-        .onComplete(writePromise);
+      writeMessage(message, writePromise, start);
     } else {
+      writeEnd(start, false);
       writePromise.tryFail(failure);
     }
   }
 
+  private void writeMessage(MessageImpl<?, ?> message, Promise<Void> writePromise, long start) {
+    Future<Void> fut = writeMessage(message);
+    if (stats != null) {
+      fut.onComplete(ar -> stats.writeEnd(start, ar.succeeded()));
+    }
+    fut.onComplete(writePromise);
+  }
+
+  private void writeEnd(long start, boolean succeeded) {
+    if (stats != null) {
+      stats.writeEnd(start, succeeded);
+    }
+  }
+
   @Override
   public void handle(Buffer event) {
     // Got a pong back
     vertx.cancelTimer(pingReplyTimeoutID);
+    if (stats != null) {
+      stats.pingRtt(System.nanoTime() - pingTime);
+      if (metrics != null) {
+        metrics.nodeStats(remoteNodeId, stats.inFlight(), stats.writeLatency(), stats.pingRtt(), stats.consecutiveFailures());
+      }
+    }
     schedulePing();
   }
 
@@ -108,6 +141,7 @@ final class OutboundConnection implements Handler<Buffer> {
       MessageWrite msg;
       if (pendingWrites != null) {
         while ((msg = pendingWrites.poll()) != null) {
+          writeEnd(msg.start, false);
           msg.writePromise.tryFail(cause);
         }
       }
@@ -131,6 +165,7 @@ final class OutboundConnection implements Handler<Buffer> {
         new PingMessageCodec(),
         true,
         eventBus);
+      pingTime = System.nanoTime();
       writeMessage(pingMessage);
     });
   }
@@ -145,8 +180,7 @@ final class OutboundConnection implements Handler<Buffer> {
         log.debug("Draining the queue for server " + remoteNodeId);
       }
       for (MessageWrite ctx : pendingWrites) {
-        writeMessage(ctx.message)
-          .onComplete(ctx.writePromise);
+        writeMessage(ctx.message, ctx.writePromise, ctx.start);
       }
     }
     pendingWrites = null;
@@ -163,9 +197,11 @@ final class OutboundConnection implements Handler<Buffer> {
   private static class MessageWrite {
     final MessageImpl<?, ?> message;
     final Promise<Void> writePromise;
-    MessageWrite(MessageImpl<?, ?> message, Promise<Void> writePromise) {
+    final long start;
+    MessageWrite(MessageImpl<?, ?> message, Promise<Void> writePromise, long start) {
       this.message = message;
       this.writePromise = writePromise;
+      this.start = start;
     }
   }
 }
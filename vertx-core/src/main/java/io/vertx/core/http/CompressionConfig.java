@@ -31,16 +31,31 @@ import io.vertx.codegen.annotations.Unstable;
 @Unstable
 public class CompressionConfig {
 
+  /**
+   * Default maximum number of compressed file variants cached by the server = 0 (disabled)
+   */
+  public static final int DEFAULT_FILE_CACHE_MAX_ENTRIES = 0;
+
+  /**
+   * Default maximum size of a file eligible to the compressed file cache = 1MB
+   */
+  public static final long DEFAULT_FILE_CACHE_MAX_FILE_SIZE = 1024 * 1024;
+
   private boolean compressionEnabled;
   private boolean decompressionEnabled;
   private int contentSizeThreshold;
   private List<CompressionOptions> compressors;
+  private int fileCacheMaxEntries;
+  private long fileCacheMaxFileSize;
+  private CompressionPolicy compressionPolicy;
 
   public CompressionConfig() {
     this.compressionEnabled = HttpServerOptions.DEFAULT_COMPRESSION_SUPPORTED;
     this.decompressionEnabled = HttpServerOptions.DEFAULT_DECOMPRESSION_SUPPORTED;
     this.contentSizeThreshold = HttpServerOptions.DEFAULT_COMPRESSION_CONTENT_SIZE_THRESHOLD;
     this.compressors = null;
+    this.fileCacheMaxEntries = DEFAULT_FILE_CACHE_MAX_ENTRIES;
+    this.fileCacheMaxFileSize = DEFAULT_FILE_CACHE_MAX_FILE_SIZE;
   }
 
   public CompressionConfig(CompressionConfig other) {
@@ -48,6 +63,9 @@ public class CompressionConfig {
     this.decompressionEnabled = other.decompressionEnabled;
     this.contentSizeThreshold = other.contentSizeThreshold;
     this.compressors = other.compressors != null ? new ArrayList<>(other.compressors) : null;
+    this.fileCacheMaxEntries = other.fileCacheMaxEntries;
+    this.fileCacheMaxFileSize = other.fileCacheMaxFileSize;
+    this.compressionPolicy = other.compressionPolicy;
   }
 
   /**
@@ -107,6 +125,70 @@ public class CompressionConfig {
     return this;
   }
 
+  /**
+   * @return the maximum number of compressed file variants cached by the server
+   */
+  public int getFileCacheMaxEntries() {
+    return fileCacheMaxEntries;
+  }
+
+  /**
+   * Set the maximum number of compressed file variants cached by the server, {@code 0} disables the cache.
+   * <p/>
+   * When enabled, files sent with {@link HttpServerResponse#sendFile(String)} over HTTP/1.x are compressed once per
+   * encoding on a background thread and then served from memory with the {@code content-encoding} and {@code vary}
+   * headers set, until the file last modification time or size changes.
+   *
+   * @param fileCacheMaxEntries the maximum number of entries
+   * @return a reference to this, so the API can be used fluently
+   */
+  public CompressionConfig setFileCacheMaxEntries(int fileCacheMaxEntries) {
+    Arguments.require(fileCacheMaxEntries >= 0, "fileCacheMaxEntries must be >= 0");
+    this.fileCacheMaxEntries = fileCacheMaxEntries;
+    return this;
+  }
+
+  /**
+   * @return the maximum size of a file eligible to the compressed file cache
+   */
+  public long getFileCacheMaxFileSize() {
+    return fileCacheMaxFileSize;
+  }
+
+  /**
+   * Set the maximum size in bytes of a file eligible to the compressed file cache, larger files are compressed
+   * on the fly.
+   *
+   * @param fileCacheMaxFileSize the maximum file size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public CompressionConfig setFileCacheMaxFileSize(long fileCacheMaxFileSize) {
+    Arguments.require(fileCacheMaxFileSize > 0, "fileCacheMaxFileSize must be > 0");
+    this.fileCacheMaxFileSize = fileCacheMaxFileSize;
+    return this;
+  }
+
+  /**
+   * @return the policy selecting the compression level of responses
+   */
+  @GenIgnore
+  public CompressionPolicy getCompressionPolicy() {
+    return compressionPolicy;
+  }
+
+  /**
+   * Set a policy selecting the compression level of each HTTP/1.x response, or skipping its compression, instead
+   * of the level configured by the compressors. This is only applicable for HTTP/1.x response bodies.
+   *
+   * @param compressionPolicy the policy or {@code null} to use the compressors level
+   * @return a reference to this, so the API can be used fluently
+   */
+  @GenIgnore
+  public CompressionConfig setCompressionPolicy(CompressionPolicy compressionPolicy) {
+    this.compressionPolicy = compressionPolicy;
+    return this;
+  }
+
   /**
    * @return the list of compressor to use
    */
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.Unstable;
+
+/**
+ * Select the compression level of an HTTP/1.x response when it is about to be compressed, allowing to trade
+ * CPU for bandwidth depending on the server load.
+ * <p/>
+ * The policy is called on the event loop of the connection for each response eligible to compression, it must
+ * be fast and must not block.
+ */
+@Unstable
+@FunctionalInterface
+public interface CompressionPolicy {
+
+  /**
+   * Level value signaling that the response shall be sent uncompressed.
+   */
+  int SKIP = -1;
+
+  /**
+   * Select the compression level of a response.
+   * <p/>
+   * The level applies to the {@code gzip}, {@code deflate} and {@code zstd} encodings, for other encodings any
+   * non-negative value uses the level configured by the compressor. The valid levels are {@code [0, 9]} for
+   * {@code gzip} and {@code deflate} and {@code [0, 22]} for {@code zstd}, a greater level is lowered to the maximum
+   * level of the encoding.
+   *
+   * @param encoding the encoding negotiated with the client
+   * @param contentType the response content type or {@code null}
+   * @param contentLength the response content length or {@code -1} when unknown
+   * @param pendingTasks the number of tasks pending on the connection event loop, a measure of its utilisation
+   * @return the compression level or {@link #SKIP} to send the response uncompressed
+   */
+  int compressionLevel(String encoding, String contentType, long contentLength, int pendingTasks);
+
+}
@@ -29,6 +29,8 @@ public class Http1ClientConfig {
   private Duration keepAliveTimeout;
   private int pipeliningLimit;
   private boolean pipelining;
+  private boolean adaptivePipelining;
+  private Duration pipeliningLatencyThreshold;
   private int maxChunkSize;
   private int maxInitialLineLength;
   private int maxHeaderSize;
@@ -39,6 +41,8 @@ public class Http1ClientConfig {
     keepAliveTimeout = Duration.ofSeconds(HttpClientOptions.DEFAULT_KEEP_ALIVE_TIMEOUT);
     pipelining = HttpClientOptions.DEFAULT_PIPELINING;
     pipeliningLimit = HttpClientOptions.DEFAULT_PIPELINING_LIMIT;
+    adaptivePipelining = HttpClientOptions.DEFAULT_ADAPTIVE_PIPELINING;
+    pipeliningLatencyThreshold = Duration.ofMillis(HttpClientOptions.DEFAULT_PIPELINING_LATENCY_THRESHOLD);
     maxChunkSize = HttpClientOptions.DEFAULT_MAX_CHUNK_SIZE;
     maxInitialLineLength = HttpClientOptions.DEFAULT_MAX_INITIAL_LINE_LENGTH;
     maxHeaderSize = HttpClientOptions.DEFAULT_MAX_HEADER_SIZE;
@@ -50,6 +54,8 @@ public class Http1ClientConfig {
     this.keepAliveTimeout = other.getKeepAliveTimeout();
     this.pipelining = other.isPipelining();
     this.pipeliningLimit = other.getPipeliningLimit();
+    this.adaptivePipelining = other.isAdaptivePipelining();
+    this.pipeliningLatencyThreshold = other.getPipeliningLatencyThreshold();
     this.maxChunkSize = other.maxChunkSize;
     this.maxInitialLineLength = other.getMaxInitialLineLength();
     this.maxHeaderSize = other.getMaxHeaderSize();
@@ -140,6 +146,52 @@ public class Http1ClientConfig {
     return this;
   }
 
+  /**
+   * @return whether the pipe-lining depth of a connection adapts to the observed response times
+   */
+  public boolean isAdaptivePipelining() {
+    return adaptivePipelining;
+  }
+
+  /**
+   * Set whether the pipe-lining depth of a connection adapts to the observed response times, this is only used when
+   * pipe-lining is enabled.
+   * <p/>
+   * A connection starts with a depth of {@code 1}, the depth grows by one each time a full depth of responses is
+   * received within the {@link #setPipeliningLatencyThreshold(Duration) latency threshold} up to the
+   * {@link #setPipeliningLimit(int) pipe-lining limit}, the depth is halved when a response exceeds the threshold. The
+   * connection pool is notified of the depth changes and spreads the requests to the other connections of the pool.
+   *
+   * @param adaptivePipelining {@code true} if enabled
+   * @return a reference to this, so the API can be used fluently
+   */
+  public Http1ClientConfig setAdaptivePipelining(boolean adaptivePipelining) {
+    this.adaptivePipelining = adaptivePipelining;
+    return this;
+  }
+
+  /**
+   * @return the response time above which an adaptive pipe-lined connection reduces its depth
+   */
+  public Duration getPipeliningLatencyThreshold() {
+    return pipeliningLatencyThreshold;
+  }
+
+  /**
+   * Set the response time above which an adaptive pipe-lined connection reduces its depth, the response time is
+   * measured from the request being sent to the response being fully received.
+   *
+   * @param pipeliningLatencyThreshold the threshold
+   * @return a reference to this, so the API can be used fluently
+   */
+  public Http1ClientConfig setPipeliningLatencyThreshold(Duration pipeliningLatencyThreshold) {
+    if (pipeliningLatencyThreshold == null || pipeliningLatencyThreshold.isNegative() || pipeliningLatencyThreshold.isZero()) {
+      throw new IllegalArgumentException("pipeliningLatencyThreshold must be > 0");
+    }
+    this.pipeliningLatencyThreshold = pipeliningLatencyThreshold;
+    return this;
+  }
+
   /**
    * Set the maximum HTTP chunk size
    * @param maxChunkSize the maximum chunk size
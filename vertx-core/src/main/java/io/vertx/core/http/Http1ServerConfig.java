@@ -30,12 +30,14 @@ public class Http1ServerConfig {
   private int maxInitialLineLength;
   private int maxHeaderSize;
   private int decoderInitialBufferSize;
+  private boolean cachedResponseHead;
 
   public Http1ServerConfig() {
     maxChunkSize = DEFAULT_MAX_CHUNK_SIZE;
     maxInitialLineLength = DEFAULT_MAX_INITIAL_LINE_LENGTH;
     maxHeaderSize = DEFAULT_MAX_HEADER_SIZE;
     decoderInitialBufferSize = DEFAULT_DECODER_INITIAL_BUFFER_SIZE;
+    cachedResponseHead = DEFAULT_CACHED_RESPONSE_HEAD;
   }
 
   public Http1ServerConfig(Http1ServerConfig other) {
@@ -43,6 +45,7 @@ public class Http1ServerConfig {
     this.maxInitialLineLength = other.getMaxInitialLineLength();
     this.maxHeaderSize = other.getMaxHeaderSize();
     this.decoderInitialBufferSize = other.getDecoderInitialBufferSize();
+    this.cachedResponseHead = other.isCachedResponseHead();
   }
 
   /**
@@ -115,4 +118,25 @@ public class Http1ServerConfig {
     this.decoderInitialBufferSize = decoderInitialBufferSize;
     return this;
   }
+
+  /**
+   * @return whether the responses use pre-encoded status lines and a cached {@code date} header
+   */
+  public boolean isCachedResponseHead() {
+    return cachedResponseHead;
+  }
+
+  /**
+   * Set whether the responses use pre-encoded status lines and a cached {@code date} header.
+   * <p>
+   * When enabled, a {@code date} header is added to the responses that do not set one, its value is computed
+   * once per second on each event loop.
+   *
+   * @param cachedResponseHead {@code true} to enable
+   * @return a reference to this, so the API can be used fluently
+   */
+  public Http1ServerConfig setCachedResponseHead(boolean cachedResponseHead) {
+    this.cachedResponseHead = cachedResponseHead;
+    return this;
+  }
 }
@@ -26,6 +26,8 @@ public class Http2ClientConfig {
 
   private int multiplexingLimit;
   private int connectionWindowSize;
+  private boolean windowAutoTuning;
+  private int maxWindowSize;
   private Duration keepAliveTimeout;
   private int upgradeMaxContentLength;
   private boolean multiplexImplementation;
@@ -36,6 +38,8 @@ public class Http2ClientConfig {
   public Http2ClientConfig() {
     multiplexingLimit = HttpClientOptions.DEFAULT_HTTP2_MULTIPLEXING_LIMIT;
     connectionWindowSize = HttpClientOptions.DEFAULT_HTTP2_CONNECTION_WINDOW_SIZE;
+    windowAutoTuning = HttpClientOptions.DEFAULT_HTTP2_WINDOW_AUTO_TUNING;
+    maxWindowSize = HttpClientOptions.DEFAULT_HTTP2_MAX_WINDOW_SIZE;
     keepAliveTimeout = Duration.ofSeconds(HttpClientOptions.DEFAULT_HTTP2_KEEP_ALIVE_TIMEOUT);
     upgradeMaxContentLength = HttpClientOptions.DEFAULT_HTTP2_UPGRADE_MAX_CONTENT_LENGTH;
     multiplexImplementation = HttpClientOptions.DEFAULT_HTTP_2_MULTIPLEX_IMPLEMENTATION;
@@ -47,6 +51,8 @@ public class Http2ClientConfig {
   public Http2ClientConfig(Http2ClientConfig other) {
     this.multiplexingLimit = other.multiplexingLimit;
     this.connectionWindowSize = other.connectionWindowSize;
+    this.windowAutoTuning = other.windowAutoTuning;
+    this.maxWindowSize = other.maxWindowSize;
     this.keepAliveTimeout = other.getKeepAliveTimeout();
     this.upgradeMaxContentLength = other.getUpgradeMaxContentLength();
     this.multiplexImplementation = other.getMultiplexImplementation();
@@ -147,6 +153,49 @@ public class Http2ClientConfig {
     return this;
   }
 
+  /**
+   * @return whether the HTTP/2 receive windows are tuned automatically
+   */
+  public boolean getWindowAutoTuning() {
+    return windowAutoTuning;
+  }
+
+  /**
+   * Set whether the HTTP/2 connection and stream receive windows are tuned automatically.
+   * <p/>
+   * When enabled, the bandwidth-delay product of each connection is measured with PING frames while data is received
+   * and the windows grow to twice its value, up to {@link #getMaxWindowSize()}. This lets large transfers use the
+   * bandwidth of high latency links without configuring large windows for every stream.
+   *
+   * @param windowAutoTuning {@code true} to enable auto tuning
+   * @return a reference to this, so the API can be used fluently
+   */
+  public Http2ClientConfig setWindowAutoTuning(boolean windowAutoTuning) {
+    this.windowAutoTuning = windowAutoTuning;
+    return this;
+  }
+
+  /**
+   * @return the maximum size the HTTP/2 receive windows can reach with auto tuning
+   */
+  public int getMaxWindowSize() {
+    return maxWindowSize;
+  }
+
+  /**
+   * Set the maximum size the HTTP/2 connection and stream receive windows can reach with auto tuning.
+   *
+   * @param maxWindowSize the maximum window size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public Http2ClientConfig setMaxWindowSize(int maxWindowSize) {
+    if (maxWindowSize < 1) {
+      throw new IllegalArgumentException("maxWindowSize must be > 0");
+    }
+    this.maxWindowSize = maxWindowSize;
+    return this;
+  }
+
   /**
    * @return whether to use the HTTP/2 implementation based on multiplexed channel
    */
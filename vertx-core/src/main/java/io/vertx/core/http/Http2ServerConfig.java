@@ -13,6 +13,9 @@ package io.vertx.core.http;
 import io.vertx.codegen.annotations.DataObject;
 
 import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
 
 import static io.vertx.core.http.HttpServerOptions.*;
 import io.vertx.codegen.annotations.Unstable;
@@ -28,27 +31,36 @@ public class Http2ServerConfig {
 
   private Http2Settings initialSettings;
   private int connectionWindowSize;
+  private boolean windowAutoTuning;
+  private int maxWindowSize;
   private boolean multiplexImplementation;
   private int rstFloodMaxRstFramePerWindow;
   private int maxSmallContinuationFrames;
   private Duration rstFloodWindowDuration;
+  private Set<String> neverIndexedHeaders;
 
   public Http2ServerConfig() {
     initialSettings = new Http2Settings().setMaxConcurrentStreams(DEFAULT_INITIAL_SETTINGS_MAX_CONCURRENT_STREAMS);
     connectionWindowSize = DEFAULT_HTTP2_CONNECTION_WINDOW_SIZE;
+    windowAutoTuning = DEFAULT_HTTP2_WINDOW_AUTO_TUNING;
+    maxWindowSize = DEFAULT_HTTP2_MAX_WINDOW_SIZE;
     rstFloodMaxRstFramePerWindow = DEFAULT_HTTP2_RST_FLOOD_MAX_RST_FRAME_PER_WINDOW;
     rstFloodWindowDuration = Duration.of(DEFAULT_HTTP2_RST_FLOOD_WINDOW_DURATION, DEFAULT_HTTP2_RST_FLOOD_WINDOW_DURATION_TIME_UNIT.toChronoUnit());
     maxSmallContinuationFrames = DEFAULT_HTTP2_MAX_SMALL_CONTINUATION_FRAMES;
     multiplexImplementation = DEFAULT_HTTP_2_MULTIPLEX_IMPLEMENTATION;
+    neverIndexedHeaders = new LinkedHashSet<>();
   }
 
   public Http2ServerConfig(Http2ServerConfig other) {
     this.initialSettings = other.initialSettings != null ? new Http2Settings(other.initialSettings) : null;
     this.connectionWindowSize = other.connectionWindowSize;
+    this.windowAutoTuning = other.windowAutoTuning;
+    this.maxWindowSize = other.maxWindowSize;
     this.rstFloodMaxRstFramePerWindow = other.rstFloodMaxRstFramePerWindow;
     this.rstFloodWindowDuration = other.rstFloodWindowDuration;
     this.maxSmallContinuationFrames = other.maxSmallContinuationFrames;
     this.multiplexImplementation = other.multiplexImplementation;
+    this.neverIndexedHeaders = new LinkedHashSet<>(other.neverIndexedHeaders);
   }
 
   /**
@@ -134,6 +146,49 @@ public class Http2ServerConfig {
     return this;
   }
 
+  /**
+   * @return whether the HTTP/2 receive windows are tuned automatically
+   */
+  public boolean getWindowAutoTuning() {
+    return windowAutoTuning;
+  }
+
+  /**
+   * Set whether the HTTP/2 connection and stream receive windows are tuned automatically.
+   * <p/>
+   * When enabled, the bandwidth-delay product of each connection is measured with PING frames while data is received
+   * and the windows grow to twice its value, up to {@link #getMaxWindowSize()}. This lets large transfers use the
+   * bandwidth of high latency links without configuring large windows for every stream.
+   *
+   * @param windowAutoTuning {@code true} to enable auto tuning
+   * @return a reference to this, so the API can be used fluently
+   */
+  public Http2ServerConfig setWindowAutoTuning(boolean windowAutoTuning) {
+    this.windowAutoTuning = windowAutoTuning;
+    return this;
+  }
+
+  /**
+   * @return the maximum size the HTTP/2 receive windows can reach with auto tuning
+   */
+  public int getMaxWindowSize() {
+    return maxWindowSize;
+  }
+
+  /**
+   * Set the maximum size the HTTP/2 connection and stream receive windows can reach with auto tuning.
+   *
+   * @param maxWindowSize the maximum window size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public Http2ServerConfig setMaxWindowSize(int maxWindowSize) {
+    if (maxWindowSize < 1) {
+      throw new IllegalArgumentException("maxWindowSize must be > 0");
+    }
+    this.maxWindowSize = maxWindowSize;
+    return this;
+  }
+
   /**
    * @return whether to use the HTTP/2 implementation based on multiplexed channel
    */
@@ -169,4 +224,41 @@ public class Http2ServerConfig {
     this.initialSettings = settings;
     return this;
   }
+
+  /**
+   * @return the names of the response headers that are never indexed by the HPACK encoder
+   */
+  public Set<String> getNeverIndexedHeaders() {
+    return neverIndexedHeaders;
+  }
+
+  /**
+   * Set the names of the response headers that are never indexed by the HPACK encoder.
+   * <p/>
+   * Such headers are sent as <i>never indexed</i> literals: they are not added to the dynamic table of the
+   * connection and intermediaries must forward them the same way, this protects secret values like cookies or
+   * tokens from compression based attacks. Names are case-insensitive.
+   *
+   * @param neverIndexedHeaders the header names
+   * @return a reference to this, so the API can be used fluently
+   */
+  public Http2ServerConfig setNeverIndexedHeaders(Set<String> neverIndexedHeaders) {
+    this.neverIndexedHeaders = new LinkedHashSet<>();
+    for (String name : neverIndexedHeaders) {
+      addNeverIndexedHeader(name);
+    }
+    return this;
+  }
+
+  /**
+   * Add a header name to the list of response headers that are never indexed by the HPACK encoder.
+   *
+   * @param name the header name
+   * @return a reference to this, so the API can be used fluently
+   * @see #setNeverIndexedHeaders(Set)
+   */
+  public Http2ServerConfig addNeverIndexedHeader(String name) {
+    this.neverIndexedHeaders.add(name.toLowerCase(Locale.ROOT));
+    return this;
+  }
 }
@@ -82,4 +82,18 @@ public interface HttpClientAgent extends HttpClient, Measured {
    */
   Future<HttpClientConnection> connect(HttpConnectOptions options);
 
+  /**
+   * Send a request without a body to the server and return the response.
+   * <p>
+   * When the {@link RequestOptions#getHedgeDelay() hedge delay} of the request is set, the request is hedged: after
+   * the delay a second request is sent to another server of the endpoint, the first response is returned and the
+   * other request is reset.
+   *
+   * @param options the request options
+   * @return a future notified with the response
+   */
+  default Future<HttpClientResponse> send(RequestOptions options) {
+    return request(options).compose(HttpClientRequest::send);
+  }
+
 }
@@ -34,6 +34,11 @@ public class HttpClientConfig {
    */
   public static final boolean DEFAULT_FOLLOW_ALTERNATIVE_SERVICES = false;
 
+  /**
+   * The default hedge budget = {@code 0.1}, one hedged request for ten requests
+   */
+  public static final double DEFAULT_HEDGE_BUDGET = 0.1;
+
   private static List<HttpVersion> toSupportedVersion(HttpVersion version) {
     switch (version) {
       case HTTP_1_0:
@@ -83,6 +88,7 @@ public class HttpClientConfig {
   private boolean shared;
   private String name;
   private boolean followAlternativeServices;
+  private double hedgeBudget;
 
   public HttpClientConfig() {
     this.tcpConfig = new TcpClientConfig();
@@ -101,6 +107,7 @@ public class HttpClientConfig {
     this.shared = HttpClientOptions.DEFAULT_SHARED;
     this.name = HttpClientOptions.DEFAULT_NAME;
     this.followAlternativeServices = DEFAULT_FOLLOW_ALTERNATIVE_SERVICES;
+    this.hedgeBudget = DEFAULT_HEDGE_BUDGET;
   }
 
   public HttpClientConfig(HttpClientConfig other) {
@@ -120,6 +127,7 @@ public class HttpClientConfig {
     this.shared = other.shared;
     this.name = other.name;
     this.followAlternativeServices = other.followAlternativeServices;
+    this.hedgeBudget = other.hedgeBudget;
   }
 
   public HttpClientConfig(HttpClientOptions options) {
@@ -147,6 +155,7 @@ public class HttpClientConfig {
     this.shared = options.isShared();
     this.name = options.getName();
     this.followAlternativeServices = false;
+    this.hedgeBudget = options.getHedgeBudget();
   }
 
   /**
@@ -530,4 +539,29 @@ public class HttpClientConfig {
     this.followAlternativeServices = followAlternativeServices;
     return this;
   }
+
+  /**
+   * @return the ratio of hedged requests to hedgeable requests
+   */
+  public double getHedgeBudget() {
+    return hedgeBudget;
+  }
+
+  /**
+   * Set the budget of hedged requests of the client, as the ratio of the number of hedged requests to the number of
+   * requests eligible to hedging, see {@link RequestOptions#setHedgeDelay(long)}.
+   * <p>
+   * The budget prevents hedging from amplifying the load of servers that are slow to respond, setting it to {@code 0}
+   * disables hedging.
+   *
+   * @param hedgeBudget the ratio, between {@code 0} and {@code 1}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientConfig setHedgeBudget(double hedgeBudget) {
+    if (hedgeBudget < 0D || hedgeBudget > 1D) {
+      throw new IllegalArgumentException("hedgeBudget must be between 0 and 1");
+    }
+    this.hedgeBudget = hedgeBudget;
+    return this;
+  }
 }
@@ -43,6 +43,16 @@ public class HttpClientOptions extends ClientOptionsBase {
    */
   public static final int DEFAULT_HTTP2_CONNECTION_WINDOW_SIZE = -1;
 
+  /**
+   * The default HTTP/2 window auto tuning = {@code false}
+   */
+  public static final boolean DEFAULT_HTTP2_WINDOW_AUTO_TUNING = false;
+
+  /**
+   * The default maximum HTTP/2 window size reached by auto tuning = 8MB
+   */
+  public static final int DEFAULT_HTTP2_MAX_WINDOW_SIZE = 8 * 1024 * 1024;
+
   /**
    * The default keep alive timeout for HTTP/2 connection can send = 60 seconds
    */
@@ -63,6 +73,16 @@ public class HttpClientOptions extends ClientOptionsBase {
    */
   public static final int DEFAULT_PIPELINING_LIMIT = 10;
 
+  /**
+   * Default value of whether the pipe-lining depth adapts to the response times = {@code false}
+   */
+  public static final boolean DEFAULT_ADAPTIVE_PIPELINING = false;
+
+  /**
+   * The default response time above which an adaptive pipe-lined connection reduces its depth = 100 ms
+   */
+  public static final int DEFAULT_PIPELINING_LATENCY_THRESHOLD = 100;
+
   /**
    * The default keep alive timeout for HTTP/1.1 connection can send = 60 seconds
    */
@@ -171,6 +191,7 @@ public class HttpClientOptions extends ClientOptionsBase {
   private int defaultPort;
   private HttpVersion protocolVersion;
   private int maxRedirects;
+  private double hedgeBudget;
   private boolean forceSni;
 
   private TracingPolicy tracingPolicy;
@@ -211,6 +232,7 @@ public class HttpClientOptions extends ClientOptionsBase {
     this.defaultPort = other.defaultPort;
     this.protocolVersion = other.protocolVersion;
     this.maxRedirects = other.maxRedirects;
+    this.hedgeBudget = other.hedgeBudget;
     this.forceSni = other.forceSni;
     this.tracingPolicy = other.tracingPolicy;
     this.shared = other.shared;
@@ -248,6 +270,7 @@ public class HttpClientOptions extends ClientOptionsBase {
     defaultPort = DEFAULT_DEFAULT_PORT;
     protocolVersion = DEFAULT_PROTOCOL_VERSION;
     maxRedirects = DEFAULT_MAX_REDIRECTS;
+    hedgeBudget = HttpClientConfig.DEFAULT_HEDGE_BUDGET;
     forceSni = DEFAULT_FORCE_SNI;
     tracingPolicy = DEFAULT_TRACING_POLICY;
     shared = DEFAULT_SHARED;
@@ -627,6 +650,46 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  /**
+   * @return whether the pipe-lining depth of a connection adapts to the observed response times
+   */
+  public boolean isAdaptivePipelining() {
+    return http1Config.isAdaptivePipelining();
+  }
+
+  /**
+   * Set whether the pipe-lining depth of a connection adapts to the observed response times, see
+   * {@link Http1ClientConfig#setAdaptivePipelining(boolean)}.
+   *
+   * @param adaptivePipelining {@code true} if enabled
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setAdaptivePipelining(boolean adaptivePipelining) {
+    http1Config.setAdaptivePipelining(adaptivePipelining);
+    return this;
+  }
+
+  /**
+   * @return the response time in milliseconds above which an adaptive pipe-lined connection reduces its depth
+   */
+  public int getPipeliningLatencyThreshold() {
+    return (int)http1Config.getPipeliningLatencyThreshold().toMillis();
+  }
+
+  /**
+   * Set the response time above which an adaptive pipe-lined connection reduces its depth, in milliseconds.
+   *
+   * @param pipeliningLatencyThreshold the threshold in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setPipeliningLatencyThreshold(int pipeliningLatencyThreshold) {
+    if (pipeliningLatencyThreshold < 1) {
+      throw new IllegalArgumentException("pipeliningLatencyThreshold must be > 0");
+    }
+    http1Config.setPipeliningLatencyThreshold(Duration.ofMillis(pipeliningLatencyThreshold));
+    return this;
+  }
+
   /**
    * Is hostname verification (for SSL/TLS) enabled?
    *
@@ -896,6 +959,27 @@ public class HttpClientOptions extends ClientOptionsBase {
     return this;
   }
 
+  /**
+   * @return the ratio of hedged requests to hedgeable requests
+   */
+  public double getHedgeBudget() {
+    return hedgeBudget;
+  }
+
+  /**
+   * Set the budget of hedged requests of the client, see {@link HttpClientConfig#setHedgeBudget(double)}.
+   *
+   * @param hedgeBudget the ratio, between {@code 0} and {@code 1}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpClientOptions setHedgeBudget(double hedgeBudget) {
+    if (hedgeBudget < 0D || hedgeBudget > 1D) {
+      throw new IllegalArgumentException("hedgeBudget must be between 0 and 1");
+    }
+    this.hedgeBudget = hedgeBudget;
+    return this;
+  }
+
   /**
    * @return whether the client should always use SNI on TLS/SSL connections
    */
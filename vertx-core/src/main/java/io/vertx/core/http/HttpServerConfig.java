@@ -71,6 +71,7 @@ public class HttpServerConfig {
   private Http3ServerConfig http3Config;
   private WebSocketServerConfig webSocketConfig;
   private CompressionConfig compressionConfig;
+  private OpenFileCacheConfig openFileCacheConfig;
   private final TcpServerConfig tcpConfig;
   private final QuicServerConfig quicConfig;
 
@@ -94,6 +95,9 @@ public class HttpServerConfig {
       compression.setCompressionEnabled(options.isCompressionSupported());
       compression.setDecompressionEnabled(options.isDecompressionSupported());
       compression.setContentSizeThreshold(options.getCompressionContentSizeThreshold());
+      compression.setFileCacheMaxEntries(options.getCompression().getFileCacheMaxEntries());
+      compression.setFileCacheMaxFileSize(options.getCompression().getFileCacheMaxFileSize());
+      compression.setCompressionPolicy(options.getCompression().getCompressionPolicy());
     } else {
       compression = null;
     }
@@ -141,6 +145,7 @@ public class HttpServerConfig {
     this.http2Config = new Http2ServerConfig(options.getHttp2Config());
     this.webSocketConfig = new WebSocketServerConfig(options.getWebSocketConfig());
     this.compressionConfig = compression;
+    this.openFileCacheConfig = null;
     this.tcpConfig = new TcpServerConfig(options);
     this.quicConfig = defaultQuicConfig();
   }
@@ -160,6 +165,7 @@ public class HttpServerConfig {
     this.http3Config = null;
     this.webSocketConfig = null;
     this.compressionConfig = null;
+    this.openFileCacheConfig = null;
     this.tcpConfig = defaultTcpServerConfig();
     this.quicConfig = defaultQuicConfig();
   }
@@ -181,6 +187,7 @@ public class HttpServerConfig {
     this.http3Config = other.http3Config != null ? new Http3ServerConfig(other.http3Config) : null;
     this.webSocketConfig = other.webSocketConfig != null ? new WebSocketServerConfig(other.webSocketConfig) : new WebSocketServerConfig();
     this.compressionConfig = other.compressionConfig != null ? new CompressionConfig(other.compressionConfig) : new CompressionConfig();
+    this.openFileCacheConfig = other.openFileCacheConfig != null ? new OpenFileCacheConfig(other.openFileCacheConfig) : null;
     this.tcpConfig = other.tcpConfig != null ? new TcpServerConfig(other.tcpConfig) : defaultTcpServerConfig();
     this.quicConfig = other.quicConfig != null ? new QuicServerConfig(other.quicConfig) : defaultQuicConfig();
   }
@@ -548,6 +555,26 @@ public class HttpServerConfig {
     return this;
   }
 
+  /**
+   * @return the configuration of the cache of files opened by {@link HttpServerResponse#sendFile}, {@code null} when
+   * files are opened for each response
+   */
+  public OpenFileCacheConfig getOpenFileCacheConfig() {
+    return openFileCacheConfig;
+  }
+
+  /**
+   * Configure the cache of files opened by {@link HttpServerResponse#sendFile}, this cache is used by HTTP/1.x
+   * connections.
+   *
+   * @param openFileCacheConfig the configuration or {@code null} to disable the cache
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerConfig setOpenFileCacheConfig(OpenFileCacheConfig openFileCacheConfig) {
+    this.openFileCacheConfig = openFileCacheConfig;
+    return this;
+  }
+
   /**
    * @return the TCP transport config
    */
@@ -126,6 +126,16 @@ public class HttpServerOptions extends NetServerOptions {
    */
   public static final int DEFAULT_HTTP2_CONNECTION_WINDOW_SIZE = -1;
 
+  /**
+   * The default HTTP/2 window auto tuning = {@code false}
+   */
+  public static final boolean DEFAULT_HTTP2_WINDOW_AUTO_TUNING = false;
+
+  /**
+   * The default maximum HTTP/2 window size reached by auto tuning = 8MB
+   */
+  public static final int DEFAULT_HTTP2_MAX_WINDOW_SIZE = 8 * 1024 * 1024;
+
   /**
    * Default value of whether decompression is supported = {@code false}
    */
@@ -141,6 +151,11 @@ public class HttpServerOptions extends NetServerOptions {
    */
   public static final int DEFAULT_DECODER_INITIAL_BUFFER_SIZE = 128;
 
+  /**
+   * Default cached response head = {@code false}
+   */
+  public static final boolean DEFAULT_CACHED_RESPONSE_HEAD = false;
+
   /**
    * Default support for WebSockets per-frame deflate compression extension = {@code true}
    */
@@ -1000,6 +1015,21 @@ public class HttpServerOptions extends NetServerOptions {
     return (HttpServerOptions) super.setProxyProtocolTimeoutUnit(proxyProtocolTimeoutUnit);
   }
 
+  @Override
+  public HttpServerOptions setSslHandshakePoolSize(int sslHandshakePoolSize) {
+    return (HttpServerOptions) super.setSslHandshakePoolSize(sslHandshakePoolSize);
+  }
+
+  @Override
+  public HttpServerOptions setMaxConcurrentSslHandshakes(int maxConcurrentSslHandshakes) {
+    return (HttpServerOptions) super.setMaxConcurrentSslHandshakes(maxConcurrentSslHandshakes);
+  }
+
+  @Override
+  public HttpServerOptions setMaxPendingSslHandshakes(int maxPendingSslHandshakes) {
+    return (HttpServerOptions) super.setMaxPendingSslHandshakes(maxPendingSslHandshakes);
+  }
+
   /**
    * @return {@code true} if the server supports decompression
    */
@@ -1033,6 +1063,27 @@ public class HttpServerOptions extends NetServerOptions {
     return this;
   }
 
+  /**
+   * @return whether the HTTP/1.x responses use pre-encoded status lines and a cached {@code date} header
+   */
+  public boolean isCachedResponseHead() {
+    return http1Config.isCachedResponseHead();
+  }
+
+  /**
+   * Set whether the HTTP/1.x responses use pre-encoded status lines and a cached {@code date} header.
+   * <p>
+   * When enabled, a {@code date} header is added to the responses that do not set one, its value is computed
+   * once per second on each event loop.
+   *
+   * @param cachedResponseHead {@code true} to enable
+   * @return a reference to this, so the API can be used fluently
+   */
+  public HttpServerOptions setCachedResponseHead(boolean cachedResponseHead) {
+    http1Config.setCachedResponseHead(cachedResponseHead);
+    return this;
+  }
+
   /**
    * Enable or disable support for the WebSocket per-frame deflate compression extension.
    *
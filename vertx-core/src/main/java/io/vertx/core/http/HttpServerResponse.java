@@ -154,6 +154,24 @@ public interface HttpServerResponse extends WriteStream<Buffer> {
   @Fluent
   HttpServerResponse putHeader(CharSequence name, Iterable<CharSequence> values);
 
+  /**
+   * Add a block of precomputed headers to the response.
+   * <p>
+   * The headers of the block are sent after the response {@link #headers()}, they are not visible in this map and
+   * are discarded when the map is cleared. The block cannot contain a header already set on the response or put by
+   * another block, so the same block cannot be put twice. A header of the block set afterwards on the response is
+   * sent in addition to the block header.
+   *
+   * @param headers the block of headers
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalArgumentException when the response already has a header of the block
+   */
+  @Fluent
+  default HttpServerResponse putHeaders(PrecomputedHeaders headers) {
+    headers().addAll(headers.headers());
+    return this;
+  }
+
   /**
    * @return The HTTP trailers
    */
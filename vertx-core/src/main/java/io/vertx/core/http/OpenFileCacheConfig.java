@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.Unstable;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configuration of the cache of open files served by {@link HttpServerResponse#sendFile}.
+ * <p>
+ * The cache keeps the files open along with their size and last modification time, so serving a hot file does not
+ * open, stat and close it for each response.
+ */
+@DataObject
+@Unstable
+public class OpenFileCacheConfig {
+
+  /**
+   * The default max number of open files : {@code 1000}
+   */
+  public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+  /**
+   * The default duration after which a file that has not been served is closed : {@code 60} seconds
+   */
+  public static final Duration DEFAULT_INACTIVE_TIMEOUT = Duration.ofSeconds(60);
+
+  /**
+   * The default duration after which the size and last modification time of a file are checked again : {@code 1} second
+   */
+  public static final Duration DEFAULT_VALIDITY = Duration.ofSeconds(1);
+
+  private int maxEntries;
+  private Duration inactiveTimeout;
+  private Duration validity;
+
+  public OpenFileCacheConfig() {
+    this.maxEntries = DEFAULT_MAX_ENTRIES;
+    this.inactiveTimeout = DEFAULT_INACTIVE_TIMEOUT;
+    this.validity = DEFAULT_VALIDITY;
+  }
+
+  public OpenFileCacheConfig(OpenFileCacheConfig other) {
+    this.maxEntries = other.maxEntries;
+    this.inactiveTimeout = other.inactiveTimeout;
+    this.validity = other.validity;
+  }
+
+  /**
+   * @return the maximum number of open files
+   */
+  public int getMaxEntries() {
+    return maxEntries;
+  }
+
+  /**
+   * Set the maximum number of open files, the least recently served file is closed when the cache is full.
+   *
+   * @param maxEntries the max number of entries
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OpenFileCacheConfig setMaxEntries(int maxEntries) {
+    if (maxEntries < 1) {
+      throw new IllegalArgumentException("maxEntries must be > 0");
+    }
+    this.maxEntries = maxEntries;
+    return this;
+  }
+
+  /**
+   * @return the duration after which a file that has not been served is closed
+   */
+  public Duration getInactiveTimeout() {
+    return inactiveTimeout;
+  }
+
+  /**
+   * Set the duration after which a file that has not been served is closed.
+   *
+   * @param inactiveTimeout the timeout
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OpenFileCacheConfig setInactiveTimeout(Duration inactiveTimeout) {
+    if (inactiveTimeout.isNegative() || inactiveTimeout.isZero()) {
+      throw new IllegalArgumentException("inactiveTimeout must be > 0");
+    }
+    this.inactiveTimeout = inactiveTimeout;
+    return this;
+  }
+
+  /**
+   * @return the duration after which the size and last modification time of a file are checked again
+   */
+  public Duration getValidity() {
+    return validity;
+  }
+
+  /**
+   * Set the duration after which the size and last modification time of a file are checked again, a file modified
+   * or replaced is reopened. Within this duration, a modified file can be served with its previous content.
+   *
+   * @param validity the validity
+   * @return a reference to this, so the API can be used fluently
+   */
+  public OpenFileCacheConfig setValidity(Duration validity) {
+    if (Objects.requireNonNull(validity).isNegative()) {
+      throw new IllegalArgumentException("validity must be >= 0");
+    }
+    this.validity = validity;
+    return this;
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http;
+
+import io.vertx.codegen.annotations.CacheReturn;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.impl.headers.PrecomputedHeadersImpl;
+
+/**
+ * An immutable block of response headers validated and encoded once, meant to be shared by many responses, e.g. the
+ * {@code server}, CORS or security headers a server sends on every response.
+ * <p>
+ * The block is added to a response with {@link HttpServerResponse#putHeaders(PrecomputedHeaders)}, HTTP/1.x copies
+ * the encoded bytes verbatim and HTTP/2 or HTTP/3 reuse the lower-cased names and their hashes.
+ * <p>
+ * The headers the server computes for a response cannot be part of a block: {@code content-length},
+ * {@code content-type}, {@code content-encoding}, {@code date}, {@code transfer-encoding}, {@code connection},
+ * {@code keep-alive}, {@code proxy-connection}, {@code upgrade}, {@code te} and {@code trailer}.
+ */
+@VertxGen
+public interface PrecomputedHeaders {
+
+  /**
+   * Create a block of headers.
+   *
+   * @param headers the headers to copy
+   * @return the block
+   * @throws IllegalArgumentException when a header is invalid or cannot be part of a block
+   */
+  static PrecomputedHeaders create(MultiMap headers) {
+    return new PrecomputedHeadersImpl(headers);
+  }
+
+  /**
+   * @return a read-only view of the headers of this block
+   */
+  @CacheReturn
+  MultiMap headers();
+
+}
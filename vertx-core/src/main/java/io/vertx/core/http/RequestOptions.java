@@ -86,6 +86,11 @@ public class RequestOptions extends HttpConnectOptions {
    */
   public static final long DEFAULT_IDLE_TIMEOUT = -1L;
 
+  /**
+   * The default hedge delay = {@code -1L} (disabled)
+   */
+  public static final long DEFAULT_HEDGE_DELAY = -1L;
+
   private HttpMethod method;
   private String uri;
   private MultiMap headers;
@@ -94,6 +99,7 @@ public class RequestOptions extends HttpConnectOptions {
   private long idleTimeout;
   private String traceOperation;
   private String routingKey;
+  private long hedgeDelay;
 
   /**
    * Default constructor
@@ -119,6 +125,7 @@ public class RequestOptions extends HttpConnectOptions {
     }
     setTraceOperation(other.traceOperation);
     setRoutingKey(other.routingKey);
+    setHedgeDelay(other.hedgeDelay);
   }
 
   /**
@@ -159,6 +166,7 @@ public class RequestOptions extends HttpConnectOptions {
     timeout = DEFAULT_TIMEOUT;
     idleTimeout = DEFAULT_IDLE_TIMEOUT;
     traceOperation = null;
+    hedgeDelay = DEFAULT_HEDGE_DELAY;
   }
 
   @Override
@@ -527,6 +535,34 @@ public class RequestOptions extends HttpConnectOptions {
     return this;
   }
 
+  /**
+   * @return the hedge delay in milliseconds
+   */
+  public long getHedgeDelay() {
+    return hedgeDelay;
+  }
+
+  /**
+   * Set the delay after which a request sent with {@link HttpClientAgent#send(RequestOptions)} is hedged: a second
+   * request is sent to another server of the endpoint, the first response wins and the other request is reset.
+   * <p>
+   * Only requests with a safe method ({@code GET}, {@code HEAD} or {@code OPTIONS}) are hedged and the client limits
+   * the number of hedged requests with {@link HttpClientConfig#setHedgeBudget(double)}.
+   * <p>
+   * A positive value is a fixed delay, {@code 0} uses the 95th percentile of the latency of the hedged requests of
+   * the client and {@code -1} disables hedging.
+   *
+   * @param hedgeDelay the hedge delay in milliseconds
+   * @return  a reference to this, so the API can be used fluently
+   */
+  public RequestOptions setHedgeDelay(long hedgeDelay) {
+    if (hedgeDelay < -1L) {
+      throw new IllegalArgumentException("hedgeDelay must be >= -1");
+    }
+    this.hedgeDelay = hedgeDelay;
+    return this;
+  }
+
   public JsonObject toJson() {
     JsonObject json = super.toJson();
     RequestOptionsConverter.toJson(this, json);
@@ -44,6 +44,11 @@ public class CleanableHttpClient extends CleanableObject<HttpClientInternal> imp
     return getOrDie().request(options);
   }
 
+  @Override
+  public Future<HttpClientResponse> send(RequestOptions options) {
+    return getOrDie().send(options);
+  }
+
   @Override
   public Future<Boolean> updateSSLOptions(ClientSSLOptions options, boolean force) {
     return getOrDie().updateSSLOptions(options, force);
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.impl.utils.LruCache;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A bounded cache of compressed file variants, shared by the connections of an HTTP server.
+ * <p/>
+ * Entries are indexed by file path and encoding, and carry the file last modification time and size they have been
+ * computed from: an entry whose stamp does not match the file anymore is a miss. A miss never blocks the caller, the
+ * file is compressed on the internal worker pool and the entry becomes available for subsequent lookups.
+ */
+public class CompressedFileCache {
+
+  private static final Logger log = LoggerFactory.getLogger(CompressedFileCache.class);
+
+  private final CompressionManager compressionManager;
+  private final Map<String, CompressionOptions> compressors;
+  private final int contentSizeThreshold;
+  private final long maxFileSize;
+  private final LruCache<String, Entry> entries;
+  private final Set<String> pending;
+
+  public CompressedFileCache(CompressionOptions[] options, int contentSizeThreshold, int maxEntries, long maxFileSize) {
+    Map<String, CompressionOptions> compressors = new HashMap<>();
+    for (CompressionOptions option : options) {
+      String encoding = CompressionManager.encoding(option);
+      if (encoding != null) {
+        compressors.put(encoding, option);
+      }
+    }
+    this.compressionManager = new CompressionManager(contentSizeThreshold, options);
+    this.compressors = compressors;
+    this.contentSizeThreshold = contentSizeThreshold;
+    this.maxFileSize = maxFileSize;
+    this.entries = new LruCache<>(maxEntries);
+    this.pending = new HashSet<>();
+  }
+
+  /**
+   * Determine the encoding to serve a file with.
+   *
+   * @param acceptEncoding the request accept-encoding header value
+   * @param size the file size
+   * @return the encoding or {@code null} when the file should not be served from this cache
+   */
+  public String determineEncoding(String acceptEncoding, long size) {
+    if (size <= contentSizeThreshold || size > maxFileSize) {
+      return null;
+    }
+    String encoding = compressionManager.determineEncoding(acceptEncoding);
+    return encoding != null && compressors.containsKey(encoding) ? encoding : null;
+  }
+
+  /**
+   * Lookup the {@code encoding} variant of {@code file}, when the variant is missing or stale it is compressed in the
+   * background.
+   *
+   * @param context the context used to schedule the compression
+   * @param file the file
+   * @param lastModified the file last modification time
+   * @param size the file size
+   * @param encoding the encoding returned by {@link #determineEncoding}
+   * @return the compressed content or {@code null} on a miss
+   */
+  public Buffer get(ContextInternal context, File file, long lastModified, long size, String encoding) {
+    String key = file.getPath() + '\u0000' + encoding;
+    synchronized (this) {
+      Entry entry = entries.get(key);
+      if (entry != null && entry.lastModified == lastModified && entry.size == size) {
+        return entry.content;
+      }
+      if (!pending.add(key)) {
+        return null;
+      }
+    }
+    CompressionOptions options = compressors.get(encoding);
+    context.executeBlockingInternal(() -> compress(file, options)).onComplete((content, err) -> {
+      synchronized (CompressedFileCache.this) {
+        pending.remove(key);
+        // Only cache when the file did not change while compressing it
+        if (err == null && file.lastModified() == lastModified && file.length() == size) {
+          entries.put(key, new Entry(lastModified, size, content));
+        }
+      }
+      if (err != null) {
+        log.debug("Could not compress " + file, err);
+      }
+    });
+    return null;
+  }
+
+  /**
+   * @return the number of cached variants
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private static Buffer compress(File file, CompressionOptions options) throws Exception {
+    byte[] bytes = Files.readAllBytes(file.toPath());
+    EmbeddedChannel channel = new EmbeddedChannel(CompressionManager.createEncoder(options));
+    channel.writeOutbound(Unpooled.wrappedBuffer(bytes));
+    channel.finish();
+    BufferInternal content = BufferInternal.buffer();
+    ByteBuf chunk;
+    while ((chunk = channel.readOutbound()) != null) {
+      try {
+        content.appendBuffer(BufferInternal.buffer(chunk));
+      } finally {
+        chunk.release();
+      }
+    }
+    return content;
+  }
+
+  private static class Entry {
+
+    private final long lastModified;
+    private final long size;
+    private final Buffer content;
+
+    private Entry(long lastModified, long size, Buffer content) {
+      this.lastModified = lastModified;
+      this.size = size;
+      this.content = content;
+    }
+  }
+}
@@ -10,8 +10,21 @@
  */
 package io.vertx.core.http.impl;
 
+import io.netty.channel.ChannelHandler;
 import io.netty.handler.codec.Headers;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.BrotliEncoder;
+import io.netty.handler.codec.compression.BrotliOptions;
 import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.DeflateOptions;
+import io.netty.handler.codec.compression.GzipOptions;
+import io.netty.handler.codec.compression.SnappyFrameEncoder;
+import io.netty.handler.codec.compression.SnappyOptions;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.compression.Zstd;
+import io.netty.handler.codec.compression.ZstdEncoder;
+import io.netty.handler.codec.compression.ZstdOptions;
 import io.netty.handler.codec.http.HttpContentCompressor;
 import io.netty.handler.codec.http.HttpHeaderNames;
 
@@ -23,6 +36,9 @@ import static io.vertx.core.http.HttpHeaders.IDENTITY;
  */
 public class CompressionManager {
 
+  private static final int MAX_ZLIB_LEVEL = 9;
+  private static final int MAX_ZSTD_LEVEL = 22;
+
   private final EncodingDetector encodingDetector;
   private final CompressionOptions[] options;
 
@@ -71,6 +87,82 @@ public class CompressionManager {
     return null;
   }
 
+  /**
+   * @return the content encoding of the {@code options} compressor or {@code null} when it is not available
+   */
+  public static String encoding(CompressionOptions options) {
+    if (options instanceof GzipOptions) {
+      return "gzip";
+    } else if (options instanceof DeflateOptions) {
+      return "deflate";
+    } else if (options instanceof BrotliOptions && Brotli.isAvailable()) {
+      return "br";
+    } else if (options instanceof ZstdOptions && Zstd.isAvailable()) {
+      return "zstd";
+    } else if (options instanceof SnappyOptions) {
+      return "snappy";
+    }
+    return null;
+  }
+
+  /**
+   * Create an encoder for the {@code options} compressor.
+   */
+  public static ChannelHandler createEncoder(CompressionOptions options) {
+    int level;
+    if (options instanceof GzipOptions) {
+      level = ((GzipOptions) options).compressionLevel();
+    } else if (options instanceof DeflateOptions) {
+      level = ((DeflateOptions) options).compressionLevel();
+    } else if (options instanceof ZstdOptions) {
+      level = ((ZstdOptions) options).compressionLevel();
+    } else {
+      level = 0;
+    }
+    return createEncoder(options, level);
+  }
+
+  /**
+   * Clamp a compression level selected by a {@link io.vertx.core.http.CompressionPolicy} to the range supported by
+   * the {@code options} compressor: {@code [0, 9]} for gzip and deflate, {@code [0, 22]} for zstd, the level is
+   * returned unchanged for the other compressors since they ignore it.
+   *
+   * @param options the compressor
+   * @param level the non-negative level
+   * @return the clamped level
+   */
+  public static int clampLevel(CompressionOptions options, int level) {
+    if (options instanceof GzipOptions || options instanceof DeflateOptions) {
+      return Math.min(level, MAX_ZLIB_LEVEL);
+    } else if (options instanceof ZstdOptions) {
+      return Math.min(level, MAX_ZSTD_LEVEL);
+    } else {
+      return level;
+    }
+  }
+
+  /**
+   * Create an encoder for the {@code options} compressor overriding its compression level, the level is ignored
+   * by the brotli and snappy compressors.
+   */
+  public static ChannelHandler createEncoder(CompressionOptions options, int level) {
+    if (options instanceof GzipOptions) {
+      GzipOptions gzip = (GzipOptions) options;
+      return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.GZIP, level, gzip.windowBits(), gzip.memLevel());
+    } else if (options instanceof DeflateOptions) {
+      DeflateOptions deflate = (DeflateOptions) options;
+      return ZlibCodecFactory.newZlibEncoder(ZlibWrapper.ZLIB, level, deflate.windowBits(), deflate.memLevel());
+    } else if (options instanceof BrotliOptions) {
+      return new BrotliEncoder(((BrotliOptions) options).parameters());
+    } else if (options instanceof ZstdOptions) {
+      ZstdOptions zstd = (ZstdOptions) options;
+      return new ZstdEncoder(level, zstd.blockSize(), zstd.maxEncodeSize());
+    } else if (options instanceof SnappyOptions) {
+      return new SnappyFrameEncoder();
+    }
+    throw new IllegalArgumentException("Unsupported compressor " + options);
+  }
+
   private static class EncodingDetector extends HttpContentCompressor {
 
     private EncodingDetector(int contentSizeThreshold, CompressionOptions[] compressionOptions) {
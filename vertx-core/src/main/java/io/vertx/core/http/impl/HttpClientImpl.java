@@ -69,6 +69,7 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
   private final String defaultHost;
   private final int defaultPort;
   private final int maxRedirects;
+  private final RequestHedging hedging;
   private final List<HttpVersion> versions;
   private final Handler<HttpConnection> connectHandler;
   private volatile Handler<Throwable> exceptionHandler;
@@ -89,6 +90,7 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
                  String defaultHost,
                  int defaultPort,
                  int maxRedirects,
+                 double hedgeBudget,
                  List<HttpVersion> versions,
                  ClientSSLOptions sslOptions,
                  Handler<HttpConnection> connectHandler,
@@ -117,6 +119,7 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
     this.defaultHost = defaultHost;
     this.defaultPort = defaultPort;
     this.maxRedirects = maxRedirects;
+    this.hedging = new RequestHedging(hedgeBudget);
     this.versions = versions;
     this.sslOptions = sslOptions;
     this.connectHandler = connectHandler;
@@ -369,8 +372,28 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
       .map(conn -> new UnpooledHttpClientConnection(conn).init());
   }
 
+  @Override
+  public Future<HttpClientResponse> send(RequestOptions options) {
+    if (!RequestHedging.isHedgeable(options)) {
+      return HttpClientInternal.super.send(options);
+    }
+    long delay = hedging.delay(options.getHedgeDelay());
+    return hedging.send(this, vertx.getOrCreateContext(), options, delay);
+  }
+
+  /**
+   * @return the number of requests hedged by the client
+   */
+  public long hedgedRequests() {
+    return hedging.hedges();
+  }
+
   @Override
   public Future<HttpClientRequest> request(RequestOptions request) {
+    return request(request, null);
+  }
+
+  Future<HttpClientRequest> request(RequestOptions request, RequestHedging.Attempt attempt) {
     HttpVersion version = request.getProtocolVersion();
     HttpClientTransport transport;
     if (version == null) {
@@ -422,10 +445,10 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
         host = socketAddr.host();
       }
     }
-    return doRequest(transport, addr, port, host, request);
+    return doRequest(transport, addr, port, host, request, attempt);
   }
 
-  private Future<HttpClientRequest> doRequest(HttpClientTransport transport, Address server, Integer port, String host, RequestOptions request) {
+  private Future<HttpClientRequest> doRequest(HttpClientTransport transport, Address server, Integer port, String host, RequestOptions request, RequestHedging.Attempt attempt) {
     if (server == null) {
       throw new NullPointerException();
     }
@@ -500,7 +523,7 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
           throw new AssertionError();
       }
     }
-    return doRequest(transport, protocol, method, authority, server, useSSL, requestURI, headers, request.getTraceOperation(), request.getRoutingKey(), connectTimeout, idleTimeout, followRedirects, sslOptions);
+    return doRequest(transport, protocol, method, authority, server, useSSL, requestURI, headers, request.getTraceOperation(), request.getRoutingKey(), connectTimeout, idleTimeout, followRedirects, sslOptions, attempt);
   }
 
   private Future<HttpClientRequest> doRequestDirectly(
@@ -545,7 +568,8 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
     long connectTimeout,
     long idleTimeout,
     Boolean followRedirects,
-    ClientSSLOptions sslOptions) {
+    ClientSSLOptions sslOptions,
+    RequestHedging.Attempt attempt) {
     if (server instanceof SocketAddress && (resolver == null || !resolver.resolves(server))) {
       SocketAddress serverSocketAddress = (SocketAddress) server;
       return doRequest(
@@ -563,7 +587,8 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
         connectTimeout,
         idleTimeout,
         followRedirects,
-        sslOptions
+        sslOptions,
+        attempt
       );
     } else {
       return doRequest(
@@ -581,7 +606,8 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
         connectTimeout,
         idleTimeout,
         followRedirects,
-        sslOptions
+        sslOptions,
+        attempt
       );
     }
   }
@@ -601,7 +627,8 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
     long connectTimeout,
     long idleTimeout,
     Boolean followRedirects,
-    ClientSSLOptions sslOptions) {
+    ClientSSLOptions sslOptions,
+    RequestHedging.Attempt attempt) {
     ContextInternal streamCtx = vertx.getOrCreateContext();
     Future<ConnectionObtainedResult> future;
     PromiseInternal<Endpoint> promise = vertx.promise();
@@ -660,7 +687,7 @@ public class HttpClientImpl extends HttpClientBase implements HttpClientInternal
           }
         } else {
           protocol = protocol_;
-          lookup = endpoint.selectServer(routingKey);
+          lookup = attempt != null ? attempt.select(endpoint, routingKey) : endpoint.selectServer(routingKey);
           altUsed = null;
         }
         ServerEndpoint lookup2 = lookup;
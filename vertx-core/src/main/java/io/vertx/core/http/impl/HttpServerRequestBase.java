@@ -51,7 +51,7 @@ public abstract class HttpServerRequestBase extends HttpServerRequestInternal {
       params = null;
     }
     if (params == null) {
-      params = queryParamDecoder.decode(uri());
+      params = queryParamDecoder.decodeLazily(uri());
     }
     return params;
   }
@@ -32,6 +32,7 @@ import io.vertx.core.internal.http.QueryParamDecoder;
 import io.vertx.core.net.HostAndPort;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.SocketAddress;
+import io.vertx.core.net.impl.AuthorityCache;
 
 import java.util.Set;
 
@@ -65,6 +66,7 @@ public class HttpServerRequestImpl extends HttpServerRequestBase {
   private Handler<HttpServerFileUpload> uploadHandler;
   private boolean expectMultipart;
   private HttpPostRequestDecoder postRequestDecoder;
+  private MultipartFormDecoder multipartDecoder;
 
   public HttpServerRequestImpl(Handler<HttpServerRequest> handler,
                                HttpServerStream stream,
@@ -116,7 +118,7 @@ public class HttpServerRequestImpl extends HttpServerRequestBase {
       String hostHeader = headers.headers.get(HttpHeaders.HOST);
       if (hostHeader != null) {
         headers.headers.remove(HttpHeaders.HOST);
-        authority = HostAndPort.parseAuthority(hostHeader, -1);
+        authority = AuthorityCache.parseAuthority(hostHeader);
       }
     }
 
@@ -156,6 +158,8 @@ public class HttpServerRequestImpl extends HttpServerRequestBase {
     synchronized (connection) {
       if (postRequestDecoder != null) {
         upload = postRequestDecoder.currentPartialHttpData();
+      } else if (multipartDecoder != null) {
+        upload = multipartDecoder.currentUpload();
       }
       handler = eventHandler;
     }
@@ -178,6 +182,16 @@ public class HttpServerRequestImpl extends HttpServerRequestBase {
         postRequestDecoder = null;
         handleException(e);
       }
+    } else if (multipartDecoder != null) {
+      try {
+        multipartDecoder.offer(((BufferInternal)data).getByteBuf());
+      } catch (HttpPostRequestDecoder.ErrorDataDecoderException |
+               HttpPostRequestDecoder.TooLongFormFieldException |
+               HttpPostRequestDecoder.TooManyFormFieldsException e) {
+        handleException(e);
+        multipartDecoder.destroy();
+        multipartDecoder = null;
+      }
     }
     HttpEventHandler handler = eventHandler;
     if (handler != null) {
@@ -214,6 +228,15 @@ public class HttpServerRequestImpl extends HttpServerRequestBase {
           postRequestDecoder.destroy();
           postRequestDecoder = null;
         }
+      } else if (multipartDecoder != null) {
+        try {
+          multipartDecoder.end();
+        } catch (Exception e) {
+          handleException(e);
+        } finally {
+          multipartDecoder.destroy();
+          multipartDecoder = null;
+        }
       }
       handler = eventHandler;
     }
@@ -403,7 +426,7 @@ public class HttpServerRequestImpl extends HttpServerRequestBase {
       checkEnded();
       expectMultipart = expect;
       if (expect) {
-        if (postRequestDecoder == null) {
+        if (postRequestDecoder == null && multipartDecoder == null) {
           String contentType = headersMap.get(HttpHeaderNames.CONTENT_TYPE);
           if (contentType == null) {
             throw new IllegalStateException("Request must have a content-type header to decode a multipart request");
@@ -414,17 +437,24 @@ public class HttpServerRequestImpl extends HttpServerRequestBase {
           if (!HttpUtils.isValidMultipartMethod(method.toNetty())) {
             throw new IllegalStateException("Request method must be one of POST, PUT, PATCH or DELETE to decode a multipart request");
           }
+          NettyFileUploadDataFactory factory = new NettyFileUploadDataFactory(context, this, () -> uploadHandler);
+          factory.setMaxLimit(maxFormAttributeSize);
+          String boundary = MultipartFormDecoder.boundary(contentType);
+          if (boundary != null) {
+            multipartDecoder = new MultipartFormDecoder(factory, (name, value) -> formAttributes().add(name, value), boundary,
+              MultipartFormDecoder.charset(contentType, HttpConstants.DEFAULT_CHARSET), maxFormAttributeSize, maxFormFields, maxFormBufferedBytes);
+            return this;
+          }
           HttpRequest req = new DefaultHttpRequest(
             io.netty.handler.codec.http.HttpVersion.HTTP_1_1,
             method.toNetty(),
             uri);
           req.headers().add(HttpHeaderNames.CONTENT_TYPE, contentType);
-          NettyFileUploadDataFactory factory = new NettyFileUploadDataFactory(context, this, () -> uploadHandler);
-          factory.setMaxLimit(maxFormAttributeSize);
           postRequestDecoder = new HttpPostRequestDecoder(factory, req, HttpConstants.DEFAULT_CHARSET, maxFormFields, maxFormBufferedBytes);
         }
       } else {
         postRequestDecoder = null;
+        multipartDecoder = null;
       }
     }
     return this;
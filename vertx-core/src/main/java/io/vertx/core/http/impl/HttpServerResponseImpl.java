@@ -26,6 +26,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.*;
 import io.vertx.core.http.impl.headers.HttpResponseHeaders;
 import io.vertx.core.http.impl.headers.HttpHeaders;
+import io.vertx.core.http.impl.headers.PrecomputedHeadersImpl;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.net.HostAndPort;
 import io.vertx.core.net.NetSocket;
@@ -209,6 +210,15 @@ public class HttpServerResponseImpl implements HttpServerResponse {
     }
   }
 
+  @Override
+  public HttpServerResponse putHeaders(PrecomputedHeaders headers) {
+    synchronized (conn) {
+      checkHeadWritten();
+      ((PrecomputedHeadersImpl) headers).appendTo(headersMap);
+      return this;
+    }
+  }
+
   @Override
   public HttpServerResponse putHeader(String name, Iterable<String> values) {
     synchronized (conn) {
@@ -0,0 +1,562 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+
+import static io.netty.handler.codec.http.HttpHeaderValues.MULTIPART_FORM_DATA;
+
+/**
+ * An incremental {@code multipart/form-data} decoder.
+ * <p/>
+ * The decoder scans each received chunk once, in place whether it is a heap or a direct buffer, for the part delimiter
+ * with a Boyer-Moore-Horspool search, the content of a file part is handed to its {@link NettyFileUpload} as slices of
+ * the received chunks, only the few bytes of a delimiter spanning two chunks and the part headers are buffered. Nested
+ * {@code multipart/mixed} parts are decoded as file uploads named after the enclosing part.
+ * <p/>
+ * Errors are reported with the {@link HttpPostRequestDecoder} exceptions.
+ * <p/>
+ * This object is not thread safe.
+ */
+public final class MultipartFormDecoder {
+
+  private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+  private static final String DEFAULT_TRANSFER_ENCODING = "7bit";
+
+  private enum State {
+    PREAMBLE, DELIMITER_LINE, HEADERS, BODY, EPILOGUE
+  }
+
+  private final NettyFileUploadDataFactory factory;
+  private final BiConsumer<String, String> attributeHandler;
+  private final Charset charset;
+  private final int maxAttributeSize;
+  private final int maxFields;
+  private final int maxBufferedBytes;
+  private final Delimiter outer;
+  private Delimiter delimiter;
+  private State state = State.PREAMBLE;
+  private int matched;
+  private long received;
+  private int fields;
+  private ByteBuf line;
+
+  // Headers of the current part
+  private String contentDisposition;
+  private String contentType;
+  private String contentTransferEncoding;
+  private String contentLength;
+
+  // Name of the enclosing part of a multipart/mixed part
+  private String mixedName;
+
+  // Content of the current part
+  private NettyFileUpload upload;
+  private String attributeName;
+  private Charset attributeCharset;
+  private ByteBuf attribute;
+
+  /**
+   * @param factory the factory creating the file uploads
+   * @param attributeHandler the handler receiving the decoded attributes
+   * @param boundary the boundary of the form, see {@link #boundary(String)}
+   * @param charset the default charset of the form
+   * @param maxAttributeSize the max size of an attribute, {@code -1} means unlimited
+   * @param maxFields the max number of fields, {@code -1} means unlimited
+   * @param maxBufferedBytes the max size of a part header line, {@code -1} means unlimited
+   */
+  public MultipartFormDecoder(NettyFileUploadDataFactory factory,
+                              BiConsumer<String, String> attributeHandler,
+                              String boundary,
+                              Charset charset,
+                              int maxAttributeSize,
+                              int maxFields,
+                              int maxBufferedBytes) {
+    this.factory = factory;
+    this.attributeHandler = attributeHandler;
+    this.charset = charset;
+    this.maxAttributeSize = maxAttributeSize;
+    this.maxFields = maxFields;
+    this.maxBufferedBytes = maxBufferedBytes;
+    this.outer = new Delimiter(boundary);
+    this.delimiter = outer;
+    // The first delimiter is not preceded by CRLF
+    this.matched = 2;
+  }
+
+  /**
+   * @return the boundary of a {@code multipart/form-data} content type or {@code null} when {@code contentType} is not
+   *         such content type or has no boundary
+   */
+  public static String boundary(String contentType) {
+    if (contentType == null || !MULTIPART_FORM_DATA.regionMatches(true, 0, contentType, 0, MULTIPART_FORM_DATA.length())) {
+      return null;
+    }
+    String boundary = parameter(contentType, "boundary");
+    return boundary == null || boundary.isEmpty() ? null : boundary;
+  }
+
+  /**
+   * @return the charset of a content type or {@code defaultCharset} when it has none
+   */
+  public static Charset charset(String contentType, Charset defaultCharset) {
+    String charset = contentType != null ? parameter(contentType, "charset") : null;
+    if (charset == null) {
+      return defaultCharset;
+    }
+    try {
+      return Charset.forName(charset);
+    } catch (IllegalArgumentException e) {
+      throw new HttpPostRequestDecoder.ErrorDataDecoderException(e);
+    }
+  }
+
+  /**
+   * @return the file upload being decoded or {@code null}
+   */
+  public NettyFileUpload currentUpload() {
+    return upload;
+  }
+
+  /**
+   * Decode a chunk of the form.
+   */
+  public void offer(ByteBuf chunk) {
+    int idx = chunk.readerIndex();
+    int end = chunk.writerIndex();
+    received += end - idx;
+    while (idx < end) {
+      switch (state) {
+        case PREAMBLE:
+        case BODY:
+          idx = scanBody(chunk, idx, end);
+          break;
+        case DELIMITER_LINE:
+        case HEADERS:
+          idx = scanLine(chunk, idx, end);
+          break;
+        case EPILOGUE:
+          return;
+      }
+    }
+  }
+
+  /**
+   * Signal the end of the form.
+   */
+  public void end() {
+    switch (state) {
+      case EPILOGUE:
+        return;
+      case PREAMBLE:
+        if (received == 0L) {
+          return;
+        }
+        break;
+      case DELIMITER_LINE:
+        // The close delimiter is not followed by CRLF
+        if (mixedName == null && line != null && line.readableBytes() >= 2 && line.getByte(line.readerIndex()) == '-' && line.getByte(line.readerIndex() + 1) == '-') {
+          state = State.EPILOGUE;
+          return;
+        }
+        break;
+    }
+    throw new HttpPostRequestDecoder.ErrorDataDecoderException("Incomplete multipart form");
+  }
+
+  /**
+   * Release the resources held by the decoder.
+   */
+  public void destroy() {
+    line = null;
+    attribute = null;
+    upload = null;
+    state = State.EPILOGUE;
+  }
+
+  private int scanBody(ByteBuf chunk, int idx, int end) {
+    byte[] d = delimiter.bytes;
+    int m = d.length;
+    if (matched > 0) {
+      // Continue the delimiter matched at the end of the previous chunk
+      int n = Math.min(m - matched, end - idx);
+      if (regionMatches(chunk, idx, d, matched, n)) {
+        if (matched + n == m) {
+          matched = 0;
+          handleDelimiter();
+          return idx + n;
+        }
+        matched += n;
+        return end;
+      }
+      // Not a delimiter, a delimiter cannot start within the matched bytes since it starts with the only CR
+      handleContent(Unpooled.copiedBuffer(d, 0, matched));
+      matched = 0;
+    }
+    int pos = delimiter.indexOf(chunk, idx, end);
+    if (pos >= 0) {
+      handleContent(chunk.slice(idx, pos - idx));
+      handleDelimiter();
+      return pos + m;
+    }
+    int tail = delimiter.partialMatch(chunk, idx, end);
+    handleContent(chunk.slice(idx, tail - idx));
+    matched = end - tail;
+    return end;
+  }
+
+  private int scanLine(ByteBuf chunk, int idx, int end) {
+    int lf = chunk.indexOf(idx, end, (byte) '\n');
+    int stop = lf == -1 ? end : lf + 1;
+    int buffered = line != null ? line.readableBytes() : 0;
+    if (maxBufferedBytes >= 0 && buffered + stop - idx > maxBufferedBytes) {
+      throw new HttpPostRequestDecoder.TooLongFormFieldException();
+    }
+    if (lf == -1) {
+      if (line == null) {
+        line = Unpooled.buffer();
+      }
+      line.writeBytes(chunk, idx, end - idx);
+      return end;
+    }
+    String s;
+    if (buffered == 0) {
+      s = chunk.toString(idx, stop - idx, StandardCharsets.UTF_8);
+    } else {
+      line.writeBytes(chunk, idx, stop - idx);
+      s = line.toString(StandardCharsets.UTF_8);
+      line.clear();
+    }
+    int len = s.length() - 1;
+    if (len > 0 && s.charAt(len - 1) == '\r') {
+      len--;
+    }
+    s = s.substring(0, len);
+    if (state == State.DELIMITER_LINE) {
+      handleDelimiterLine(s);
+    } else {
+      handleHeaderLine(s);
+    }
+    return stop;
+  }
+
+  private void handleContent(ByteBuf content) {
+    if (state != State.BODY || !content.isReadable()) {
+      return;
+    }
+    if (upload != null) {
+      try {
+        upload.addContent(content, false);
+      } catch (IOException e) {
+        throw new HttpPostRequestDecoder.ErrorDataDecoderException(e);
+      }
+    } else {
+      if (maxAttributeSize >= 0 && attribute.readableBytes() + content.readableBytes() > maxAttributeSize) {
+        throw new HttpPostRequestDecoder.ErrorDataDecoderException(new IOException("Size exceed allowed maximum capacity"));
+      }
+      attribute.writeBytes(content);
+    }
+  }
+
+  private void handleDelimiter() {
+    if (state == State.BODY) {
+      if (upload != null) {
+        NettyFileUpload completed = upload;
+        upload = null;
+        try {
+          completed.addContent(Unpooled.EMPTY_BUFFER, true);
+        } catch (IOException e) {
+          throw new HttpPostRequestDecoder.ErrorDataDecoderException(e);
+        }
+      } else {
+        String name = attributeName;
+        String value = attribute.toString(attributeCharset);
+        attributeName = null;
+        attribute = null;
+        attributeHandler.accept(name, value);
+      }
+    }
+    state = State.DELIMITER_LINE;
+  }
+
+  private void handleDelimiterLine(String s) {
+    if (s.startsWith("--")) {
+      if (mixedName != null) {
+        // End of a multipart/mixed part, the next outer delimiter is not preceded by CRLF
+        mixedName = null;
+        delimiter = outer;
+        matched = 2;
+        state = State.PREAMBLE;
+      } else {
+        state = State.EPILOGUE;
+      }
+    } else {
+      // Transport padding is ignored
+      contentDisposition = null;
+      contentType = null;
+      contentTransferEncoding = null;
+      contentLength = null;
+      state = State.HEADERS;
+    }
+  }
+
+  private void handleHeaderLine(String s) {
+    if (s.isEmpty()) {
+      beginPart();
+      return;
+    }
+    int idx = s.indexOf(':');
+    if (idx == -1) {
+      throw new HttpPostRequestDecoder.ErrorDataDecoderException("Invalid multipart header " + s);
+    }
+    String name = s.substring(0, idx).trim();
+    String value = s.substring(idx + 1).trim();
+    if (name.equalsIgnoreCase("content-disposition")) {
+      contentDisposition = value;
+    } else if (name.equalsIgnoreCase("content-type")) {
+      contentType = value;
+    } else if (name.equalsIgnoreCase("content-transfer-encoding")) {
+      contentTransferEncoding = value;
+    } else if (name.equalsIgnoreCase("content-length")) {
+      contentLength = value;
+    }
+  }
+
+  private void beginPart() {
+    if (contentDisposition == null) {
+      throw new HttpPostRequestDecoder.ErrorDataDecoderException("Missing Content-Disposition header");
+    }
+    String name;
+    if (mixedName != null) {
+      name = mixedName;
+    } else {
+      name = parameter(contentDisposition, "name");
+      if (name == null) {
+        throw new HttpPostRequestDecoder.ErrorDataDecoderException("Missing name in Content-Disposition header");
+      }
+      String mixedBoundary = contentType != null && contentType.regionMatches(true, 0, "multipart/mixed", 0, 15) ? parameter(contentType, "boundary") : null;
+      if (mixedBoundary != null) {
+        mixedName = name;
+        delimiter = new Delimiter(mixedBoundary);
+        matched = 2;
+        state = State.PREAMBLE;
+        return;
+      }
+    }
+    if (maxFields >= 0 && ++fields > maxFields) {
+      throw new HttpPostRequestDecoder.TooManyFormFieldsException();
+    }
+    String transferEncoding = DEFAULT_TRANSFER_ENCODING;
+    Charset partCharset = charset;
+    if (contentTransferEncoding != null) {
+      transferEncoding = contentTransferEncoding.toLowerCase(Locale.ROOT);
+      switch (transferEncoding) {
+        case "7bit":
+          partCharset = StandardCharsets.US_ASCII;
+          break;
+        case "8bit":
+          partCharset = StandardCharsets.ISO_8859_1;
+          break;
+        case "binary":
+          break;
+        default:
+          throw new HttpPostRequestDecoder.ErrorDataDecoderException("TransferEncoding Unknown: " + transferEncoding);
+      }
+    }
+    partCharset = charset(contentType, partCharset);
+    String filename = filename(contentDisposition);
+    if (filename != null) {
+      long size = 0L;
+      if (contentLength != null) {
+        try {
+          size = Long.parseLong(contentLength);
+        } catch (NumberFormatException e) {
+          throw new HttpPostRequestDecoder.ErrorDataDecoderException(e);
+        }
+      }
+      String mediaType = contentType != null ? mediaType(contentType) : DEFAULT_CONTENT_TYPE;
+      upload = (NettyFileUpload) factory.createFileUpload(null, name, filename, mediaType, transferEncoding, partCharset, size);
+    } else {
+      attributeName = name;
+      attributeCharset = partCharset;
+      attribute = Unpooled.buffer();
+    }
+    state = State.BODY;
+  }
+
+  private static String mediaType(String contentType) {
+    int idx = contentType.indexOf(';');
+    return (idx == -1 ? contentType : contentType.substring(0, idx)).trim();
+  }
+
+  /**
+   * @return the filename of a content disposition, the extended {@code filename*} parameter is decoded
+   */
+  private static String filename(String contentDisposition) {
+    String filename = null;
+    for (String param : split(contentDisposition)) {
+      int idx = param.indexOf('=');
+      if (idx == -1) {
+        continue;
+      }
+      String key = param.substring(0, idx).trim();
+      if (key.equalsIgnoreCase("filename")) {
+        filename = unquote(param.substring(idx + 1));
+      } else if (key.equalsIgnoreCase("filename*")) {
+        String value = unquote(param.substring(idx + 1));
+        String[] split = value.split("'", 3);
+        if (split.length != 3) {
+          throw new HttpPostRequestDecoder.ErrorDataDecoderException("Invalid extended filename " + value);
+        }
+        try {
+          filename = QueryStringDecoder.decodeComponent(split[2], Charset.forName(split[0]));
+        } catch (IllegalArgumentException e) {
+          throw new HttpPostRequestDecoder.ErrorDataDecoderException(e);
+        }
+      }
+    }
+    return filename;
+  }
+
+  /**
+   * @return the unquoted value of a header parameter or {@code null}
+   */
+  static String parameter(String header, String name) {
+    for (String param : split(header)) {
+      int idx = param.indexOf('=');
+      if (idx != -1 && param.substring(0, idx).trim().equalsIgnoreCase(name)) {
+        return unquote(param.substring(idx + 1));
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Split a header value on the {@code ;} separators that are not quoted, the first element is omitted.
+   */
+  private static List<String> split(String header) {
+    List<String> params = new ArrayList<>(4);
+    boolean quoted = false;
+    int start = -1;
+    for (int i = 0;i < header.length();i++) {
+      char c = header.charAt(i);
+      if (quoted) {
+        if (c == '\\') {
+          i++;
+        } else if (c == '"') {
+          quoted = false;
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ';') {
+        if (start != -1) {
+          params.add(header.substring(start, i));
+        }
+        start = i + 1;
+      }
+    }
+    if (start != -1) {
+      params.add(header.substring(start));
+    }
+    return params;
+  }
+
+  private static String unquote(String value) {
+    value = value.trim();
+    if (value.isEmpty() || value.charAt(0) != '"') {
+      return value;
+    }
+    StringBuilder sb = new StringBuilder(value.length());
+    for (int i = 1;i < value.length();i++) {
+      char c = value.charAt(i);
+      if (c == '\\' && i + 1 < value.length()) {
+        sb.append(value.charAt(++i));
+      } else if (c == '"') {
+        break;
+      } else {
+        sb.append(c);
+      }
+    }
+    return sb.toString();
+  }
+
+  private static boolean regionMatches(ByteBuf a, int aIndex, byte[] b, int bOffset, int len) {
+    for (int i = 0;i < len;i++) {
+      if (a.getByte(aIndex + i) != b[bOffset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * A {@code CRLF--boundary} delimiter with its Horspool skip table.
+   */
+  private static class Delimiter {
+
+    private final byte[] bytes;
+    private final int[] skip = new int[256];
+
+    Delimiter(String boundary) {
+      bytes = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+      int m = bytes.length;
+      Arrays.fill(skip, m);
+      for (int i = 0;i < m - 1;i++) {
+        skip[bytes[i] & 0xFF] = m - 1 - i;
+      }
+    }
+
+    /**
+     * @return the index of the first delimiter in the chunk between {@code from} and {@code to} or {@code -1}
+     */
+    int indexOf(ByteBuf chunk, int from, int to) {
+      byte[] d = bytes;
+      int m = d.length;
+      int i = from;
+      int limit = to - m;
+      while (i <= limit) {
+        int j = m - 1;
+        while (chunk.getByte(i + j) == d[j]) {
+          if (j == 0) {
+            return i;
+          }
+          j--;
+        }
+        i += skip[chunk.getByte(i + m - 1) & 0xFF];
+      }
+      return -1;
+    }
+
+    /**
+     * @return the index of the longest delimiter prefix ending the chunk or {@code to} when there is none
+     */
+    int partialMatch(ByteBuf chunk, int from, int to) {
+      for (int i = Math.max(from, to - bytes.length + 1);i < to;i++) {
+        if (chunk.getByte(i) == '\r' && regionMatches(chunk, i, bytes, 0, to - i)) {
+          return i;
+        }
+      }
+      return to;
+    }
+  }
+}
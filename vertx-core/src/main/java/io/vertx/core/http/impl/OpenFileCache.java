@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.vertx.core.spi.metrics.HttpServerMetrics;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * A bounded cache of open files, shared by the connections of an HTTP server.
+ * <p/>
+ * Entries are indexed by file path and keep the file open along with its size and last modification time. An entry
+ * is reference counted: the cache holds a reference and each {@link #acquire} returns a new reference that must be
+ * {@link OpenFile#close() closed} once the file has been sent, the file is closed when the last reference is released.
+ * Files are read with positional reads, so the same file can be sent by several responses concurrently.
+ * <p/>
+ * An entry is trusted during the validity period, after which the file size and last modification time are checked
+ * again and the file is reopened when they changed. Entries that have not been acquired during the inactive timeout
+ * are closed on the next {@link #acquire}, the least recently acquired entry is closed when the cache is full.
+ */
+public class OpenFileCache {
+
+  private final int maxEntries;
+  private final long inactiveTimeout;
+  private final long validity;
+  private final HttpServerMetrics<?, ?> metrics;
+  private final LinkedHashMap<String, OpenFile> entries;
+  private long hits;
+  private long misses;
+  private long revalidations;
+  private boolean closed;
+
+  /**
+   * @param maxEntries the max number of open files
+   * @param inactiveTimeout the inactive timeout in nanoseconds
+   * @param validity the validity period in nanoseconds
+   * @param metrics the server metrics, can be {@code null}
+   */
+  public OpenFileCache(int maxEntries, long inactiveTimeout, long validity, HttpServerMetrics<?, ?> metrics) {
+    this.maxEntries = maxEntries;
+    this.inactiveTimeout = inactiveTimeout;
+    this.validity = validity;
+    this.metrics = metrics;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true);
+  }
+
+  /**
+   * Acquire a reference to the open {@code file}, opening the file when it is not cached or has changed.
+   *
+   * @param file the file
+   * @return the open file to close after use
+   * @throws IOException when the file cannot be opened
+   */
+  public OpenFile acquire(File file) throws IOException {
+    String key = file.getPath();
+    long now = System.nanoTime();
+    OpenFile entry;
+    boolean hit;
+    List<OpenFile> released;
+    synchronized (this) {
+      released = purge(now);
+      entry = entries.get(key);
+      hit = entry != null && now - entry.validatedAt < validity;
+      if (hit) {
+        hits++;
+        entry.lastAccess = now;
+        entry.refs++;
+      }
+    }
+    close(released);
+    if (hit) {
+      if (metrics != null) {
+        metrics.openFileCacheHit();
+      }
+      return entry;
+    }
+    if (entry != null) {
+      // Revalidate without holding the lock
+      boolean changed = file.lastModified() != entry.lastModified || file.length() != entry.size;
+      if (metrics != null) {
+        metrics.openFileCacheRevalidated(changed);
+      }
+      if (!changed) {
+        synchronized (this) {
+          revalidations++;
+          if (entries.get(key) == entry) {
+            hits++;
+            entry.validatedAt = now;
+            entry.lastAccess = now;
+            entry.refs++;
+            return entry;
+          }
+        }
+      } else {
+        synchronized (this) {
+          revalidations++;
+        }
+      }
+    } else if (metrics != null) {
+      metrics.openFileCacheMiss();
+    }
+    return open(key, file, now);
+  }
+
+  private OpenFile open(String key, File file, long now) throws IOException {
+    OpenFile opened;
+    RandomAccessFile raf;
+    try {
+      raf = new RandomAccessFile(file, "r");
+    } catch (IOException e) {
+      OpenFile removed;
+      synchronized (this) {
+        misses++;
+        removed = entries.remove(key);
+      }
+      if (removed != null) {
+        removed.close();
+      }
+      throw e;
+    }
+    try {
+      opened = new OpenFile(this, raf, raf.length(), file.lastModified(), now);
+    } catch (IOException e) {
+      raf.close();
+      throw e;
+    }
+    OpenFile previous = null;
+    List<OpenFile> released = null;
+    synchronized (this) {
+      misses++;
+      if (!closed) {
+        opened.refs++;
+        previous = entries.put(key, opened);
+        if (entries.size() > maxEntries) {
+          released = new ArrayList<>();
+          Iterator<OpenFile> it = entries.values().iterator();
+          while (entries.size() > maxEntries) {
+            released.add(it.next());
+            it.remove();
+          }
+        }
+      }
+    }
+    if (previous != null) {
+      previous.close();
+    }
+    close(released);
+    return opened;
+  }
+
+  /**
+   * Remove the entries that have not been acquired during the inactive timeout, the least recently acquired entries
+   * are at the head of the map.
+   */
+  private List<OpenFile> purge(long now) {
+    List<OpenFile> released = null;
+    Iterator<OpenFile> it = entries.values().iterator();
+    while (it.hasNext()) {
+      OpenFile entry = it.next();
+      if (now - entry.lastAccess < inactiveTimeout) {
+        break;
+      }
+      if (released == null) {
+        released = new ArrayList<>();
+      }
+      released.add(entry);
+      it.remove();
+    }
+    return released;
+  }
+
+  private static void close(List<OpenFile> released) {
+    if (released != null) {
+      for (OpenFile entry : released) {
+        entry.close();
+      }
+    }
+  }
+
+  /**
+   * @return the number of open files
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * @return the number of files acquired without opening them
+   */
+  public synchronized long hits() {
+    return hits;
+  }
+
+  /**
+   * @return the number of files not found in the cache or reopened
+   */
+  public synchronized long misses() {
+    return misses;
+  }
+
+  /**
+   * @return the number of times the size and last modification time of a file have been checked again
+   */
+  public synchronized long revalidations() {
+    return revalidations;
+  }
+
+  /**
+   * Close the cache, the files are closed when the references that have been acquired are released.
+   */
+  public void close() {
+    List<OpenFile> released;
+    synchronized (this) {
+      closed = true;
+      released = new ArrayList<>(entries.values());
+      entries.clear();
+    }
+    close(released);
+  }
+
+  /**
+   * A reference counted open file.
+   */
+  public static class OpenFile implements Closeable {
+
+    private final OpenFileCache cache;
+    private final RandomAccessFile file;
+    private final long size;
+    private final long lastModified;
+    // Guarded by the cache
+    private long validatedAt;
+    private long lastAccess;
+    private int refs;
+
+    private OpenFile(OpenFileCache cache, RandomAccessFile file, long size, long lastModified, long now) {
+      this.cache = cache;
+      this.file = file;
+      this.size = size;
+      this.lastModified = lastModified;
+      this.validatedAt = now;
+      this.lastAccess = now;
+      this.refs = 1;
+    }
+
+    /**
+     * @return the channel of the file, it must not be closed
+     */
+    public FileChannel channel() {
+      return file.getChannel();
+    }
+
+    /**
+     * @return the size of the file when it was opened
+     */
+    public long size() {
+      return size;
+    }
+
+    /**
+     * Release the reference, the file is closed when no reference remains.
+     */
+    @Override
+    public void close() {
+      boolean last;
+      synchronized (cache) {
+        last = --refs == 0;
+      }
+      if (last) {
+        try {
+          file.close();
+        } catch (IOException ignore) {
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.PromiseInternal;
+import io.vertx.core.net.endpoint.Endpoint;
+import io.vertx.core.net.endpoint.ServerEndpoint;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The hedging state of a client: the budget of hedged requests and the latency of the hedged exchanges.
+ * <p/>
+ * The budget is a token bucket, each hedgeable request deposits a fraction of a token and each hedged request
+ * withdraws a token. The latency of the primary attempts is sampled in a ring buffer to compute the adaptive hedge
+ * delay, the percentile is recomputed every {@link #RECOMPUTE_INTERVAL} samples.
+ * <p/>
+ * When the hedge wins, the latency of the cancelled primary attempt is unknown but greater than the exchange latency,
+ * such sample is recorded as censored: it ranks above every measured latency and the percentile falls back to the
+ * largest measured latency when it lands on a censored sample. Recording the exchange latency instead would bias the
+ * percentile low and make hedging more aggressive.
+ */
+class RequestHedging {
+
+  private static final double MAX_BALANCE = 10D;
+  private static final int SAMPLES = 128;
+  private static final int MIN_SAMPLES = 16;
+  private static final int RECOMPUTE_INTERVAL = 16;
+  private static final double PERCENTILE = 0.95;
+  private static final long CENSORED = Long.MAX_VALUE;
+
+  private final double budget;
+  private final long[] samples = new long[SAMPLES];
+  private long sampleCount;
+  private long percentileSampleCount;
+  private long percentile = -1L;
+  private double balance;
+  private long hedges;
+
+  RequestHedging(double budget) {
+    this.budget = budget;
+  }
+
+  /**
+   * @return whether the request can be hedged
+   */
+  static boolean isHedgeable(RequestOptions options) {
+    HttpMethod method = options.getMethod();
+    return options.getHedgeDelay() >= 0L && (method == HttpMethod.GET || method == HttpMethod.HEAD || method == HttpMethod.OPTIONS);
+  }
+
+  /**
+   * @return the number of hedged requests
+   */
+  synchronized long hedges() {
+    return hedges;
+  }
+
+  /**
+   * Compute the hedge delay of a request.
+   *
+   * @param hedgeDelay the configured delay, {@code 0} for the adaptive delay
+   * @return the delay in milliseconds or {@code -1} when the request shall not be hedged
+   */
+  synchronized long delay(long hedgeDelay) {
+    if (budget == 0D) {
+      return -1L;
+    }
+    balance = Math.min(MAX_BALANCE, balance + budget);
+    if (hedgeDelay > 0L) {
+      return hedgeDelay;
+    }
+    if (sampleCount >= MIN_SAMPLES && (percentile < 0L || sampleCount - percentileSampleCount >= RECOMPUTE_INTERVAL)) {
+      percentileSampleCount = sampleCount;
+      percentile = computePercentile();
+    }
+    return percentile;
+  }
+
+  private long computePercentile() {
+    long[] copy = Arrays.copyOf(samples, (int) Math.min(sampleCount, SAMPLES));
+    Arrays.sort(copy);
+    int idx = (int) (PERCENTILE * (copy.length - 1));
+    while (idx >= 0 && copy[idx] == CENSORED) {
+      // Only a lower bound is known, use the largest measured latency
+      idx--;
+    }
+    if (idx < 0) {
+      return percentile;
+    }
+    return Math.max(1L, TimeUnit.NANOSECONDS.toMillis(copy[idx]));
+  }
+
+  /**
+   * Withdraw a token from the budget.
+   *
+   * @return whether the request can be hedged
+   */
+  synchronized boolean tryHedge() {
+    if (balance < 1D) {
+      return false;
+    }
+    balance -= 1D;
+    hedges++;
+    return true;
+  }
+
+  /**
+   * Report the latency of a primary attempt.
+   *
+   * @param latency the latency in nanoseconds or {@code -1} when the primary attempt was cancelled because the hedge won
+   */
+  synchronized void reportLatency(long latency) {
+    samples[(int) (sampleCount++ % SAMPLES)] = latency < 0L ? CENSORED : latency;
+  }
+
+  /**
+   * Send a hedged request.
+   */
+  Future<HttpClientResponse> send(HttpClientImpl client, ContextInternal context, RequestOptions options, long delay) {
+    Exchange exchange = new Exchange(client, context, options);
+    exchange.send(delay);
+    return exchange.promise.future();
+  }
+
+  /**
+   * An attempt of an exchange, selecting the server of the request.
+   */
+  static class Attempt {
+
+    private final ServerEndpoint excluded;
+    private volatile ServerEndpoint selected;
+    private HttpClientRequest request;
+    private boolean cancelled;
+
+    Attempt(ServerEndpoint excluded) {
+      this.excluded = excluded;
+    }
+
+    /**
+     * Select the server of the attempt, avoiding the server of the previous attempt when the endpoint has others.
+     * <p/>
+     * The load balancer is asked again with the routing key, when it keeps selecting the excluded server, e.g. a
+     * sticky load balancer, the server following the excluded server in the list of servers is selected.
+     */
+    ServerEndpoint select(Endpoint endpoint, String routingKey) {
+      ServerEndpoint server = endpoint.selectServer(routingKey);
+      if (excluded != null && server == excluded) {
+        List<ServerEndpoint> servers = endpoint.servers();
+        for (int i = 1;i < servers.size() && server == excluded;i++) {
+          server = endpoint.selectServer(routingKey);
+        }
+        if (server == excluded) {
+          int idx = servers.indexOf(excluded);
+          if (idx >= 0 && servers.size() > 1) {
+            server = servers.get((idx + 1) % servers.size());
+          }
+        }
+      }
+      selected = server;
+      return server;
+    }
+
+    private boolean init(HttpClientRequest request) {
+      synchronized (this) {
+        if (!cancelled) {
+          this.request = request;
+          return true;
+        }
+      }
+      request.reset();
+      return false;
+    }
+
+    private void cancel() {
+      HttpClientRequest req;
+      synchronized (this) {
+        cancelled = true;
+        req = request;
+      }
+      if (req != null) {
+        req.reset();
+      }
+    }
+  }
+
+  private class Exchange {
+
+    private final HttpClientImpl client;
+    private final ContextInternal context;
+    private final RequestOptions options;
+    private final PromiseInternal<HttpClientResponse> promise;
+    private final long start;
+    private Attempt primary;
+    private Attempt hedge;
+    private long timerId = -1L;
+    private int pending;
+    private boolean completed;
+
+    Exchange(HttpClientImpl client, ContextInternal context, RequestOptions options) {
+      this.client = client;
+      this.context = context;
+      this.options = options;
+      this.promise = context.promise();
+      this.start = System.nanoTime();
+    }
+
+    void send(long delay) {
+      Attempt attempt = new Attempt(null);
+      synchronized (this) {
+        primary = attempt;
+        pending++;
+        if (delay >= 0L) {
+          timerId = context.setTimer(Math.max(1L, delay), id -> hedge());
+        }
+      }
+      launch(attempt);
+    }
+
+    private void hedge() {
+      Attempt attempt;
+      synchronized (this) {
+        timerId = -1L;
+        if (completed || !tryHedge()) {
+          return;
+        }
+        attempt = hedge = new Attempt(primary.selected);
+        pending++;
+      }
+      launch(attempt);
+    }
+
+    private void launch(Attempt attempt) {
+      client
+        .request(options, attempt)
+        .compose(request -> attempt.init(request) ? request.send() : context.failedFuture("Request cancelled"))
+        .onComplete(ar -> handle(attempt, ar));
+    }
+
+    private void handle(Attempt attempt, AsyncResult<HttpClientResponse> ar) {
+      Attempt other;
+      long timer;
+      synchronized (this) {
+        if (completed) {
+          if (ar.succeeded()) {
+            // Lost the race
+            ar.result().request().reset();
+          }
+          return;
+        }
+        if (ar.failed() && --pending > 0) {
+          // Wait for the other attempt
+          return;
+        }
+        completed = true;
+        other = attempt == primary ? hedge : primary;
+        timer = timerId;
+        timerId = -1L;
+      }
+      if (timer >= 0L) {
+        client.vertx().cancelTimer(timer);
+      }
+      if (other != null) {
+        other.cancel();
+      }
+      if (ar.succeeded()) {
+        reportLatency(attempt == primary ? System.nanoTime() - start : -1L);
+        promise.complete(ar.result());
+      } else {
+        promise.fail(ar.cause());
+      }
+    }
+  }
+}
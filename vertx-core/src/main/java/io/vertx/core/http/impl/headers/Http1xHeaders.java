@@ -76,6 +76,7 @@ public final class Http1xHeaders extends HttpHeaders implements MultiMap {
   private Http1xHeaders.MapEntry tail;
   private int modCount = 0;
   private Reference<byte[]> renderedBytesRef;
+  private List<PrecomputedHeadersImpl> precomputed;
 
   private Http1xHeaders(boolean readOnly, BiConsumer<CharSequence, CharSequence> validator) {
     this.head = null;
@@ -451,6 +452,7 @@ public final class Http1xHeaders extends HttpHeaders implements MultiMap {
   @Override
   public Http1xHeaders clear() {
     clear0();
+    precomputed = null;
     modCount++;
     return this;
   }
@@ -602,6 +604,32 @@ public final class Http1xHeaders extends HttpHeaders implements MultiMap {
         encode0(buf);
       }
     }
+    List<PrecomputedHeadersImpl> p = precomputed;
+    if (p != null) {
+      for (PrecomputedHeadersImpl block : p) {
+        buf.writeBytes(block.http1x());
+      }
+    }
+  }
+
+  /**
+   * Append a block of precomputed headers whose encoded lines are written verbatim after the entries of this map by
+   * {@link #encode(ByteBuf, boolean)}, these lines are not entries of this map and are discarded by {@link #clear()}.
+   *
+   * @param block the block of headers
+   */
+  void appendPrecomputed(PrecomputedHeadersImpl block) {
+    if (precomputed == null) {
+      precomputed = new ArrayList<>(2);
+    }
+    precomputed.add(block);
+  }
+
+  /**
+   * @return the blocks appended to this map, or {@code null}
+   */
+  List<PrecomputedHeadersImpl> precomputed() {
+    return precomputed;
   }
 
   private void encode0(ByteBuf buf) {
@@ -14,6 +14,7 @@ import io.netty.handler.codec.Headers;
 import io.netty.handler.codec.http2.DefaultHttp2Headers;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.net.HostAndPort;
+import io.vertx.core.net.impl.AuthorityCache;
 import io.vertx.core.spi.tracing.TagExtractor;
 
 /**
@@ -184,7 +185,7 @@ public class HttpRequestHeaders extends HttpHeaders {
     CharSequence authorityHeader = headers.get(io.vertx.core.http.HttpHeaders.PSEUDO_AUTHORITY);
     if (authorityHeader != null) {
       String authorityHeaderAsString = authorityHeader.toString();
-      authority = HostAndPort.parseAuthority(authorityHeaderAsString, -1);
+      authority = AuthorityCache.parseAuthority(authorityHeaderAsString);
     } else {
       authority = null;
     }
@@ -192,7 +193,7 @@ public class HttpRequestHeaders extends HttpHeaders {
     HostAndPort authorityPresence;
     CharSequence hostHeader = headers.get(io.vertx.core.http.HttpHeaders.HOST);
     if (authority == null && hostHeader != null) {
-      authorityPresence = HostAndPort.parseAuthority(hostHeader.toString(), -1);
+      authorityPresence = AuthorityCache.parseAuthority(hostHeader.toString());
     } else {
       authorityPresence = authority;
     }
@@ -214,7 +215,7 @@ public class HttpRequestHeaders extends HttpHeaders {
         return false;
       }
       if (hostHeader != null) {
-        HostAndPort host = HostAndPort.parseAuthority(hostHeader.toString(), -1);
+        HostAndPort host = authority == null ? authorityPresence : AuthorityCache.parseAuthority(hostHeader.toString());
         if (host == null || (!authorityPresence.host().equals(host.host()) || authorityPresence.port() != host.port())) {
           return false;
         }
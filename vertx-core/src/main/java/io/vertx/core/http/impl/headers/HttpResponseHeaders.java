@@ -14,6 +14,9 @@ import io.netty.handler.codec.Headers;
 import io.netty.handler.codec.http2.DefaultHttp2Headers;
 import io.vertx.core.spi.tracing.TagExtractor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author <a href="mailto:nmaurer@redhat.com">Norman Maurer</a>
  */
@@ -43,6 +46,7 @@ public class HttpResponseHeaders extends HttpHeaders {
   };
 
   private Integer status;
+  private List<PrecomputedHeadersImpl> precomputed;
 
   public HttpResponseHeaders(Headers<CharSequence, CharSequence, ?> headers) {
     this(true, headers);
@@ -94,6 +98,40 @@ public class HttpResponseHeaders extends HttpHeaders {
     if (status != null) {
       headers.set(io.vertx.core.http.HttpHeaders.PSEUDO_STATUS, status.toString());
     }
+    List<PrecomputedHeadersImpl> p = precomputed;
+    if (p != null) {
+      precomputed = null;
+      for (PrecomputedHeadersImpl block : p) {
+        block.addTo(headers);
+      }
+    }
+  }
+
+  /**
+   * Append a block of precomputed headers added to the headers by {@link #prepare()}, until then the block is not
+   * visible in this map and is discarded by {@link #clear()}.
+   *
+   * @param block the block of headers
+   */
+  void appendPrecomputed(PrecomputedHeadersImpl block) {
+    if (precomputed == null) {
+      precomputed = new ArrayList<>(2);
+    }
+    precomputed.add(block);
+  }
+
+  /**
+   * @return the blocks appended to this map, or {@code null}
+   */
+  List<PrecomputedHeadersImpl> precomputed() {
+    return precomputed;
+  }
+
+  @Override
+  public HttpHeaders clear() {
+    super.clear();
+    precomputed = null;
+    return this;
   }
 
   @Override
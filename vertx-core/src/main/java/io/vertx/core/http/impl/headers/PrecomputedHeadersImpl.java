@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl.headers;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.Headers;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.util.AsciiString;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.PrecomputedHeaders;
+import io.vertx.core.http.impl.HttpUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the headers in the forms needed by the HTTP/1.x and HTTP/2/3 encoders.
+ */
+public class PrecomputedHeadersImpl implements PrecomputedHeaders {
+
+  private static final Set<AsciiString> RESERVED = Set.of(
+    HttpHeaderNames.CONTENT_LENGTH,
+    HttpHeaderNames.CONTENT_TYPE,
+    HttpHeaderNames.CONTENT_ENCODING,
+    HttpHeaderNames.DATE,
+    HttpHeaderNames.TRANSFER_ENCODING,
+    HttpHeaderNames.CONNECTION,
+    AsciiString.cached("keep-alive"),
+    AsciiString.cached("proxy-connection"),
+    HttpHeaderNames.UPGRADE,
+    HttpHeaderNames.TE,
+    HttpHeaderNames.TRAILER);
+
+  private final Http1xHeaders headers;
+  private final byte[] http1x;
+  private final AsciiString[] names;
+  private final AsciiString[] values;
+
+  public PrecomputedHeadersImpl(MultiMap headers) {
+    List<Map.Entry<String, String>> entries = headers.entries();
+    Http1xHeaders copy = Http1xHeaders.caseInsensitive();
+    AsciiString[] names = new AsciiString[entries.size()];
+    AsciiString[] values = new AsciiString[entries.size()];
+    for (int i = 0;i < names.length;i++) {
+      Map.Entry<String, String> entry = entries.get(i);
+      String name = entry.getKey();
+      String value = entry.getValue();
+      HttpUtils.validateHeader(name, value);
+      AsciiString lowerCaseName = AsciiString.of(name).toLowerCase();
+      if (RESERVED.contains(lowerCaseName)) {
+        throw new IllegalArgumentException("Header " + name + " cannot be precomputed");
+      }
+      names[i] = lowerCaseName;
+      values[i] = AsciiString.of(value);
+      copy.add(names[i], values[i]);
+    }
+    ByteBuf buf = Unpooled.buffer();
+    copy.encode(buf, false);
+    byte[] bytes = new byte[buf.readableBytes()];
+    buf.readBytes(bytes);
+    this.headers = copy.copy(false);
+    this.http1x = bytes;
+    this.names = names;
+    this.values = values;
+  }
+
+  @Override
+  public MultiMap headers() {
+    return headers;
+  }
+
+  /**
+   * @return the encoded HTTP/1.x header lines
+   */
+  byte[] http1x() {
+    return http1x;
+  }
+
+  private void checkAbsent(MultiMap headers, List<PrecomputedHeadersImpl> blocks) {
+    for (AsciiString name : names) {
+      if (headers.contains(name)) {
+        throw new IllegalArgumentException("Response already has a " + name + " header");
+      }
+      if (blocks != null) {
+        for (PrecomputedHeadersImpl block : blocks) {
+          if (block.headers.contains(name)) {
+            throw new IllegalArgumentException("Response already has a " + name + " header");
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Append this block to HTTP/1.x {@code headers}, the encoded lines are written after the entries of the map.
+   *
+   * @throws IllegalArgumentException when {@code headers} or a block already appended contains a header of this block
+   */
+  public void appendTo(Http1xHeaders headers) {
+    checkAbsent(headers, headers.precomputed());
+    headers.appendPrecomputed(this);
+  }
+
+  /**
+   * Append this block to HTTP/2 or HTTP/3 {@code headers}, the headers are added to the map when the head is written.
+   *
+   * @throws IllegalArgumentException when {@code headers} or a block already appended contains a header of this block
+   */
+  public void appendTo(HttpResponseHeaders headers) {
+    checkAbsent(headers, headers.precomputed());
+    headers.appendPrecomputed(this);
+  }
+
+  /**
+   * Add the headers to {@code headers}, this bypasses the validation and the lower-casing.
+   */
+  void addTo(Headers<CharSequence, CharSequence, ?> headers) {
+    for (int i = 0;i < names.length;i++) {
+      headers.add(names[i], values[i]);
+    }
+  }
+}
@@ -99,6 +99,7 @@ public class Http1ClientConnection extends Http1Connection implements io.vertx.c
   private Handler<Void> evictionHandler = DEFAULT_EVICTION_HANDLER;
   private Handler<Object> invalidMessageHandler = INVALID_MSG_HANDLER;
   private Handler<AltSvcEvent> alternativeServicesHandler;
+  private Handler<Long> concurrencyChangeHandler;
   private boolean wantClose;
   private boolean isConnect;
   private int keepAliveTimeout;
@@ -109,6 +110,13 @@ public class Http1ClientConnection extends Http1Connection implements io.vertx.c
   private long creationTimestamp;
   private long lastResponseReceivedTimestamp;
 
+  // Adaptive pipe-lining
+  private final boolean adaptivePipelining;
+  private final long pipeliningLatencyThreshold;
+  private volatile int pipeliningDepth;
+  private int fastResponses;
+  private int recoverySeq;
+
   public Http1ClientConnection(HttpVersion version,
                                WebSocketMetrics<?> httpMetrics,
                                TransportMetrics<?> transportMetrics,
@@ -137,6 +145,9 @@ public class Http1ClientConnection extends Http1Connection implements io.vertx.c
     this.pending = new ArrayDeque<>();
     this.inflight = new ArrayDeque<>();
     this.creationTimestamp = System.currentTimeMillis();
+    this.adaptivePipelining = config.isPipelining() && config.isAdaptivePipelining();
+    this.pipeliningLatencyThreshold = config.getPipeliningLatencyThreshold().toNanos();
+    this.pipeliningDepth = adaptivePipelining ? 1 : (int)pipeliningLimit();
   }
 
   @Override
@@ -169,15 +180,46 @@ public class Http1ClientConnection extends Http1Connection implements io.vertx.c
 
   @Override
   public io.vertx.core.http.impl.HttpClientConnection concurrencyChangeHandler(Handler<Long> handler) {
-    // Never changes
+    // Only changes with adaptive pipe-lining
+    concurrencyChangeHandler = handler;
     return this;
   }
 
   @Override
   public long concurrency() {
+    return pipeliningDepth;
+  }
+
+  private long pipeliningLimit() {
     return config.isPipelining() ? config.getPipeliningLimit() : 1;
   }
 
+  /**
+   * Adapt the pipe-lining depth to the response time of {@code stream}, AIMD style: the depth is increased by one after
+   * a full depth of responses under the latency threshold and halved when a response exceeds the threshold. Responses
+   * of requests sent before the last decrease do not decrease the depth again since they were queued behind the slow
+   * response.
+   *
+   * @return the new depth or {@code -1} when it is unchanged
+   */
+  private int adaptPipeliningDepth(Stream stream) {
+    long responseTime = System.nanoTime() - stream.requestBeginTimestamp;
+    int depth = pipeliningDepth;
+    if (responseTime > pipeliningLatencyThreshold) {
+      fastResponses = 0;
+      if (depth > 1 && stream.id >= recoverySeq) {
+        recoverySeq = seq;
+        pipeliningDepth = depth / 2;
+        return depth / 2;
+      }
+    } else if (depth < pipeliningLimit() && ++fastResponses >= depth) {
+      fastResponses = 0;
+      pipeliningDepth = depth + 1;
+      return depth + 1;
+    }
+    return -1;
+  }
+
   @Override
   public synchronized long activeStreams() {
     return (pending.isEmpty() && current == null && inflight.isEmpty()) ? 0 : 1;
@@ -277,6 +319,9 @@ public class Http1ClientConnection extends Http1Connection implements io.vertx.c
       assert stream == removed;
       current = removed;
       inflight.addLast(stream);
+      if (adaptivePipelining) {
+        stream.requestBeginTimestamp = System.nanoTime();
+      }
       this.isConnect = connect;
       if (clientMetrics != null) {
         ObservableRequest observable = new ObservableRequest(request);
@@ -422,6 +467,7 @@ public class Http1ClientConnection extends Http1Connection implements io.vertx.c
     private io.vertx.core.http.impl.HttpResponseHead response;
     private boolean requestEnded;
     private boolean responseEnded;
+    private long requestBeginTimestamp;
     private long bytesRead;
     private long bytesWritten;
     private boolean reset;
@@ -964,6 +1010,7 @@ public class Http1ClientConnection extends Http1Connection implements io.vertx.c
     boolean check;
     io.vertx.core.http.impl.HttpResponseHead response;
     HttpVersion version;
+    int depth = -1;
     synchronized (this) {
       response = stream.response;
       version = stream.version;
@@ -997,6 +1044,15 @@ public class Http1ClientConnection extends Http1Connection implements io.vertx.c
         }
       }
       stream.responseEnded = true;
+      if (adaptivePipelining) {
+        depth = adaptPipeliningDepth(stream);
+      }
+    }
+    if (depth != -1) {
+      Handler<Long> handler = concurrencyChangeHandler;
+      if (handler != null) {
+        handler.handle((long)depth);
+      }
     }
     VertxTracer tracer = stream.context.tracer();
     if (tracer != null) {
@@ -1329,14 +1385,15 @@ public class Http1ClientConnection extends Http1Connection implements io.vertx.c
       Object result;
       synchronized (this) {
         if (!closed) {
-          if (pending.size() < concurrency()) {
+          // The pool may lease the connection before observing a depth decrease
+          if (pending.size() < pipeliningLimit()) {
             Object metric;
             if (clientMetrics != null) {
               metric = clientMetrics.init();
             } else {
               metric = null;
             }
-            if (pending.size() >= concurrency()) {
+            if (pending.size() >= pipeliningLimit()) {
               return;
             }
             Stream stream = new StreamImpl(context, this, seq++, metric);
@@ -36,8 +36,10 @@ import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.PromiseInternal;
 import io.vertx.core.internal.http.QueryParamDecoder;
+import io.vertx.core.net.HostAndPort;
 import io.vertx.core.net.NetSocket;
 import io.vertx.core.net.ServerSSLOptions;
+import io.vertx.core.net.impl.AuthorityCache;
 import io.vertx.core.net.impl.MessageWrite;
 import io.vertx.core.net.impl.tcp.NetSocketImpl;
 import io.vertx.core.internal.tls.SslContextManager;
@@ -91,9 +93,12 @@ public class Http1ServerConnection extends Http1Connection implements HttpServer
   private boolean wantClose;
   private Handler<HttpServerRequest> requestHandler;
   private Handler<HttpServerRequest> invalidRequestHandler;
+  private CompressedFileCache compressedFileCache;
+  private OpenFileCache openFileCache;
 
   public final HttpServerMetrics httpMetrics;
   private final TransportMetrics<?> transportMetrics;
+  private final AuthorityCache authorityCache = new AuthorityCache();
   final boolean handle100ContinueAutomatically;
   final SslContextManager sslContextManager;
   final boolean strictThreadMode;
@@ -154,6 +159,10 @@ public class Http1ServerConnection extends Http1Connection implements HttpServer
     return queryParamDecoder;
   }
 
+  HostAndPort parseAuthority(String s) {
+    return authorityCache.parse(s);
+  }
+
   @Override
   protected void handleShutdown(Duration timeout, ChannelPromise promise) {
     super.handleShutdown(timeout, promise);
@@ -532,6 +541,28 @@ public class Http1ServerConnection extends Http1Connection implements HttpServer
     return ret;
   }
 
+  /**
+   * Set the cache of compressed files used when sending files.
+   */
+  public void compressedFileCache(CompressedFileCache compressedFileCache) {
+    this.compressedFileCache = compressedFileCache;
+  }
+
+  CompressedFileCache compressedFileCache() {
+    return compressedFileCache;
+  }
+
+  /**
+   * Set the cache of open files used when sending files.
+   */
+  public void openFileCache(OpenFileCache openFileCache) {
+    this.openFileCache = openFileCache;
+  }
+
+  OpenFileCache openFileCache() {
+    return openFileCache;
+  }
+
   @Override
   protected boolean supportsFileRegion() {
     return super.supportsFileRegion() && chctx.pipeline().get(HttpChunkContentCompressor.class) == null;
@@ -78,6 +78,7 @@ public class Http1ServerRequest extends HttpServerRequestBase implements io.vert
   private MultiMap attributes;
   private boolean expectMultipart;
   private HttpPostRequestDecoder decoder;
+  private MultipartFormDecoder multipartDecoder;
   private boolean ended;
   private long bytesRead;
   private volatile InboundMessageQueue<Object> queue;
@@ -271,7 +272,7 @@ public class Http1ServerRequest extends HttpServerRequestBase implements io.vert
       }
       // it's fine to have a benign race here as long as HostAndPort is immutable
       // to ensure safe publication
-      authority = HostAndPort.parseAuthority(host, -1);
+      authority = conn.parseAuthority(host);
       this.authority = authority;
     }
     return authority;
@@ -465,7 +466,7 @@ public class Http1ServerRequest extends HttpServerRequestBase implements io.vert
       checkEnded();
       expectMultipart = expect;
       if (expect) {
-        if (decoder == null) {
+        if (decoder == null && multipartDecoder == null) {
           String contentType = request.headers().get(HttpHeaderNames.CONTENT_TYPE);
           if (contentType == null) {
             throw new IllegalStateException("Request must have a content-type header to decode a multipart request");
@@ -480,10 +481,17 @@ public class Http1ServerRequest extends HttpServerRequestBase implements io.vert
           factory.setMaxLimit(conn.maxFormAttributeSize());
           int maxFields = conn.maxFormFields();
           int maxBufferedBytes = conn.maxFormBufferedBytes();
-          decoder = new HttpPostRequestDecoder(factory, request, HttpConstants.DEFAULT_CHARSET, maxFields, maxBufferedBytes);
+          String boundary = MultipartFormDecoder.boundary(contentType);
+          if (boundary != null) {
+            multipartDecoder = new MultipartFormDecoder(factory, (name, value) -> attributes().add(name, value), boundary,
+              MultipartFormDecoder.charset(contentType, HttpConstants.DEFAULT_CHARSET), conn.maxFormAttributeSize(), maxFields, maxBufferedBytes);
+          } else {
+            decoder = new HttpPostRequestDecoder(factory, request, HttpConstants.DEFAULT_CHARSET, maxFields, maxBufferedBytes);
+          }
         }
       } else {
         decoder = null;
+        multipartDecoder = null;
       }
       return this;
     }
@@ -537,6 +545,16 @@ public class Http1ServerRequest extends HttpServerRequestBase implements io.vert
           decoder = null;
           handleException(e);
         }
+      } else if (multipartDecoder != null) {
+        try {
+          multipartDecoder.offer(((BufferInternal)data).getByteBuf());
+        } catch (HttpPostRequestDecoder.ErrorDataDecoderException |
+                 HttpPostRequestDecoder.TooLongFormFieldException |
+                 HttpPostRequestDecoder.TooManyFormFieldsException e) {
+          handleException(e);
+          multipartDecoder.destroy();
+          multipartDecoder = null;
+        }
       }
       handler = eventHandler;
     }
@@ -553,6 +571,8 @@ public class Http1ServerRequest extends HttpServerRequestBase implements io.vert
     synchronized (conn) {
       if (decoder != null) {
         endDecode();
+      } else if (multipartDecoder != null) {
+        endMultipartDecode();
       }
       ended = true;
       handler = eventHandler;
@@ -611,6 +631,17 @@ public class Http1ServerRequest extends HttpServerRequestBase implements io.vert
     }
   }
 
+  private void endMultipartDecode() {
+    try {
+      multipartDecoder.end();
+    } catch (HttpPostRequestDecoder.ErrorDataDecoderException e) {
+      handleException(e);
+    } finally {
+      multipartDecoder.destroy();
+      multipartDecoder = null;
+    }
+  }
+
   void handleException(Throwable t) {
     HttpEventHandler handler = null;
     Http1ServerResponse resp = null;
@@ -620,6 +651,8 @@ public class Http1ServerRequest extends HttpServerRequestBase implements io.vert
         handler = eventHandler;
         if (decoder != null) {
           upload = decoder.currentPartialHttpData();
+        } else if (multipartDecoder != null) {
+          upload = multipartDecoder.currentUpload();
         }
       }
       if (!response.ended()) {
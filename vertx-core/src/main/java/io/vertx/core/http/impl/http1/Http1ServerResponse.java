@@ -28,11 +28,14 @@ import io.vertx.core.http.*;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.impl.CompressedFileCache;
 import io.vertx.core.http.impl.CookieJar;
 import io.vertx.core.http.impl.HttpUtils;
+import io.vertx.core.http.impl.OpenFileCache;
 import io.vertx.core.http.impl.ServerCookie;
 import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.core.http.impl.headers.Http1xHeaders;
+import io.vertx.core.http.impl.headers.PrecomputedHeadersImpl;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.internal.PromiseInternal;
@@ -41,6 +44,7 @@ import io.vertx.core.net.NetSocket;
 import io.vertx.core.spi.metrics.Metrics;
 import io.vertx.core.spi.observability.HttpResponse;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
@@ -221,6 +225,15 @@ public class Http1ServerResponse implements HttpServerResponse, HttpResponse {
     }
   }
 
+  @Override
+  public HttpServerResponse putHeaders(PrecomputedHeaders headers) {
+    synchronized (conn) {
+      checkHeadWritten();
+      ((PrecomputedHeadersImpl) headers).appendTo(this.headers);
+      return this;
+    }
+  }
+
   @Override
   public HttpServerResponse putHeader(CharSequence name, Iterable<CharSequence> values) {
     synchronized (conn) {
@@ -331,7 +344,7 @@ public class Http1ServerResponse implements HttpServerResponse, HttpResponse {
   @Override
   public Future<Void> write(Buffer chunk) {
     PromiseInternal<Void> promise = context.promise();
-    write(((BufferInternal)chunk).getByteBuf(), promise);
+    write(((BufferInternal)chunk).retainedByteBuf(), promise);
     return promise.future();
   }
 
@@ -399,7 +412,7 @@ public class Http1ServerResponse implements HttpServerResponse, HttpResponse {
         throw new IllegalStateException(RESPONSE_WRITTEN);
       }
       written = true;
-      ByteBuf data = ((BufferInternal)chunk).getByteBuf();
+      ByteBuf data = ((BufferInternal)chunk).retainedByteBuf();
       bytesWritten += data.readableBytes();
       VertxHttpObject msg;
       if (!headWritten) {
@@ -443,13 +456,28 @@ public class Http1ServerResponse implements HttpServerResponse, HttpResponse {
   @Override
   public Future<Void> sendFile(String filename, long offset, long length) {
     File file = vertx.fileResolver().resolve(filename);
-    RandomAccessFile raf;
-    long size;
-    try {
-      raf = new RandomAccessFile(file, "r");
-      size = raf.length();
-    } catch (Exception e) {
-      return context.failedFuture(e);
+    Buffer compressed = compressedFile(file, offset, length);
+    FileChannel channel = null;
+    Closeable resource = null;
+    long size = 0L;
+    if (compressed == null) {
+      OpenFileCache cache = conn.openFileCache();
+      try {
+        if (cache != null) {
+          OpenFileCache.OpenFile openFile = cache.acquire(file);
+          resource = openFile;
+          channel = openFile.channel();
+          size = openFile.size();
+        } else {
+          RandomAccessFile raf = new RandomAccessFile(file, "r");
+          resource = raf;
+          channel = raf.getChannel();
+          size = raf.length();
+        }
+      } catch (Exception e) {
+        closeQuietly(resource);
+        return context.failedFuture(e);
+      }
     }
     if (!headers.contains(HttpHeaders.CONTENT_TYPE)) {
       CharSequence mimeType = MimeMapping.mimeTypeForFilename(filename);
@@ -458,7 +486,47 @@ public class Http1ServerResponse implements HttpServerResponse, HttpResponse {
       }
       headers.set(CONTENT_TYPE, mimeType);
     }
-    return sendFileInternal(offset, length, size, raf, null, true);
+    if (compressed != null) {
+      return end(compressed);
+    }
+    return sendFileInternal(offset, length, size, channel, resource);
+  }
+
+  /**
+   * Lookup the compressed variant of the whole {@code file} negotiated with the request accept-encoding header,
+   * when found the content-encoding and vary response headers are set.
+   *
+   * @return the compressed content or {@code null} when the file shall be sent as is
+   */
+  private Buffer compressedFile(File file, long offset, long length) {
+    CompressedFileCache cache = conn.compressedFileCache();
+    if (cache == null || offset != 0L || head || headers.contains(CONTENT_ENCODING)) {
+      return null;
+    }
+    String acceptEncoding = request.headers().get(ACCEPT_ENCODING);
+    if (acceptEncoding == null) {
+      return null;
+    }
+    long size = file.length();
+    String encoding = length >= size ? cache.determineEncoding(acceptEncoding, size) : null;
+    if (encoding == null) {
+      return null;
+    }
+    Buffer compressed = cache.get(context, file, file.lastModified(), size, encoding);
+    if (conn.httpMetrics != null) {
+      if (compressed != null) {
+        conn.httpMetrics.compressedFileCacheHit(encoding);
+      } else {
+        conn.httpMetrics.compressedFileCacheMiss(encoding);
+      }
+    }
+    if (compressed != null) {
+      headers.set(CONTENT_ENCODING, encoding);
+      if (!headers.contains(VARY, ACCEPT_ENCODING, true)) {
+        headers.add(VARY, ACCEPT_ENCODING);
+      }
+    }
+    return compressed;
   }
 
   @Override
@@ -472,7 +540,7 @@ public class Http1ServerResponse implements HttpServerResponse, HttpResponse {
     } catch (IOException e) {
       return context.failedFuture(e);
     }
-    return sendFileInternal(offset, length, size, file, null, false);
+    return sendFileInternal(offset, length, size, file.getChannel(), null);
   }
 
   @Override
@@ -486,10 +554,13 @@ public class Http1ServerResponse implements HttpServerResponse, HttpResponse {
     } catch (IOException e) {
       return context.failedFuture(e);
     }
-    return sendFileInternal(offset, length, size, null, channel, false);
+    return sendFileInternal(offset, length, size, channel, null);
   }
 
-  private Future<Void> sendFileInternal(long offset, long length, long size, RandomAccessFile file, FileChannel fileChannel, boolean close) {
+  /**
+   * Send the file channel, the {@code resource} when not {@code null} is closed after the file has been sent.
+   */
+  private Future<Void> sendFileInternal(long offset, long length, long size, FileChannel fileChannel, Closeable resource) {
     Future<Void> ret = null;
     try {
       ContextInternal ctx = vertx.getOrCreateContext();
@@ -515,11 +586,13 @@ public class Http1ServerResponse implements HttpServerResponse, HttpResponse {
         bytesWritten = actualLength;
         written = true;
         conn.write(new VertxAssembledHttpResponse(head, version, status, headers), null);
-        FileChannel toSend = fileChannel == null ? file.getChannel() : fileChannel;
-        ChannelFuture channelFuture = conn.sendFile(toSend, actualOffset, actualLength);
+        ChannelFuture channelFuture = conn.sendFile(fileChannel, actualOffset, actualLength);
         PromiseInternal<Void> promise = context.promise();
         ret = promise.future();
         channelFuture.addListener(future -> {
+          // Release the file before signaling, the open file cache closes it once the last reference is released
+          closeQuietly(resource);
+
           if (future.isSuccess()) {
 
             // signal body end handler
@@ -545,31 +618,21 @@ public class Http1ServerResponse implements HttpServerResponse, HttpResponse {
           } else {
             promise.fail(future.cause());
           }
-
-          //
-          if (close) {
-            try {
-              if (file != null) {
-                file.close();
-              } else {
-                fileChannel.close();
-              }
-            } catch (IOException ignore) {
-            }
-          }
         });
       }
       return ret;
     } finally {
-      if (ret == null && close) {
-        try {
-          if (file != null) {
-            file.close();
-          } else {
-            fileChannel.close();
-          }
-        } catch (IOException ignore) {
-        }
+      if (ret == null) {
+        closeQuietly(resource);
+      }
+    }
+  }
+
+  private static void closeQuietly(Closeable resource) {
+    if (resource != null) {
+      try {
+        resource.close();
+      } catch (IOException ignore) {
       }
     }
   }
@@ -719,9 +782,15 @@ public class Http1ServerResponse implements HttpServerResponse, HttpResponse {
   }
 
   private Http1ServerResponse write(ByteBuf chunk, PromiseInternal<Void> promise) {
-    checkThread();
+    try {
+      checkThread();
+    } catch (IllegalStateException e) {
+      chunk.release();
+      throw e;
+    }
     synchronized (conn) {
       if (written) {
+        chunk.release();
         throw new IllegalStateException("Response has already been written");
       } else if (!headWritten && !headers.contains(HttpHeaders.TRANSFER_ENCODING) && !headers.contains(HttpHeaders.CONTENT_LENGTH)) {
         if (version != HttpVersion.HTTP_1_0) {
@@ -14,19 +14,57 @@ package io.vertx.core.http.impl.http1;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.compression.CompressionOptions;
 import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpContentCompressor;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import io.vertx.core.http.CompressionPolicy;
+import io.vertx.core.http.impl.CompressionManager;
+import io.vertx.core.spi.metrics.HttpServerMetrics;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * @author <a href="mailto:nmaurer@redhat.com">Norman Maurer</a>
  */
 public final class HttpChunkContentCompressor extends HttpContentCompressor {
 
+  private final int contentSizeThreshold;
+  private final CompressionPolicy policy;
+  private final HttpServerMetrics<?, ?> metrics;
+  private final Map<String, CompressionOptions> compressors;
+  private ChannelHandlerContext ctx;
+
   public HttpChunkContentCompressor(int contentSizeThreshold, CompressionOptions... compressionOptions) {
+    this(contentSizeThreshold, null, null, compressionOptions);
+  }
+
+  public HttpChunkContentCompressor(int contentSizeThreshold, CompressionPolicy policy, HttpServerMetrics<?, ?> metrics, CompressionOptions... compressionOptions) {
     super(contentSizeThreshold, compressionOptions);
+    Map<String, CompressionOptions> compressors = new HashMap<>();
+    for (CompressionOptions options : compressionOptions) {
+      String encoding = CompressionManager.encoding(options);
+      if (encoding != null) {
+        compressors.put(encoding, options);
+      }
+    }
+    this.contentSizeThreshold = contentSizeThreshold;
+    this.policy = policy;
+    this.metrics = metrics;
+    this.compressors = compressors;
+  }
+
+  @Override
+  public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+    this.ctx = ctx;
+    super.handlerAdded(ctx);
   }
 
   @Override
@@ -47,10 +85,45 @@ public final class HttpChunkContentCompressor extends HttpContentCompressor {
 
   @Override
   protected Result beginEncode(HttpResponse httpResponse, String acceptEncoding) throws Exception {
-    Result result = super.beginEncode(httpResponse, acceptEncoding);
+    Result result = policy != null ? beginEncodeWithPolicy(httpResponse, acceptEncoding) : super.beginEncode(httpResponse, acceptEncoding);
     if (result == null && httpResponse.headers().contains(HttpHeaderNames.CONTENT_ENCODING, "identity", true)) {
       httpResponse.headers().remove(HttpHeaderNames.CONTENT_ENCODING);
     }
     return result;
   }
+
+  /**
+   * Same as {@link HttpContentCompressor#beginEncode} with a compression level selected by the policy.
+   */
+  private Result beginEncodeWithPolicy(HttpResponse httpResponse, String acceptEncoding) {
+    if (contentSizeThreshold > 0 && httpResponse instanceof HttpContent && ((HttpContent) httpResponse).content().readableBytes() < contentSizeThreshold) {
+      return null;
+    }
+    if (httpResponse.headers().contains(HttpHeaderNames.CONTENT_ENCODING)) {
+      return null;
+    }
+    String encoding = determineEncoding(acceptEncoding);
+    CompressionOptions options = encoding != null ? compressors.get(encoding) : null;
+    if (options == null) {
+      return null;
+    }
+    String contentType = httpResponse.headers().get(HttpHeaderNames.CONTENT_TYPE);
+    long contentLength = HttpUtil.getContentLength(httpResponse, -1L);
+    int level = policy.compressionLevel(encoding, contentType, contentLength, pendingTasks(ctx.executor()));
+    if (level >= 0) {
+      level = CompressionManager.clampLevel(options, level);
+    }
+    if (metrics != null) {
+      metrics.compressionLevelSelected(encoding, level);
+    }
+    if (level < 0) {
+      return null;
+    }
+    return new Result(encoding, new EmbeddedChannel(ctx.channel().id(), ctx.channel().metadata().hasDisconnect(),
+      ctx.channel().config(), CompressionManager.createEncoder(options, level)));
+  }
+
+  private static int pendingTasks(EventExecutor executor) {
+    return executor instanceof SingleThreadEventExecutor ? ((SingleThreadEventExecutor) executor).pendingTasks() : 0;
+  }
 }
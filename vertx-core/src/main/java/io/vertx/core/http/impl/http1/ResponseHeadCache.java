@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl.http1;
+
+import io.netty.handler.codec.DateFormatter;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.concurrent.FastThreadLocal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * Pre-encoded parts of an HTTP/1.x response head: the status lines of the standard statuses and the {@code date}
+ * header line of the current second.
+ */
+final class ResponseHeadCache {
+
+  private static final int MAX_CODE = 600;
+  private static final HttpResponseStatus[] STATUSES = new HttpResponseStatus[MAX_CODE];
+  private static final byte[][] HTTP_1_0_STATUS_LINES = new byte[MAX_CODE][];
+  private static final byte[][] HTTP_1_1_STATUS_LINES = new byte[MAX_CODE][];
+
+  static {
+    for (int code = 100;code < MAX_CODE;code++) {
+      HttpResponseStatus status = HttpResponseStatus.valueOf(code);
+      // Only standard statuses are constants, the others are created on each call
+      if (status == HttpResponseStatus.valueOf(code)) {
+        STATUSES[code] = status;
+        HTTP_1_0_STATUS_LINES[code] = statusLine(HttpVersion.HTTP_1_0, status);
+        HTTP_1_1_STATUS_LINES[code] = statusLine(HttpVersion.HTTP_1_1, status);
+      }
+    }
+  }
+
+  private static byte[] statusLine(HttpVersion version, HttpResponseStatus status) {
+    return (version.text() + " " + status.codeAsText() + " " + status.reasonPhrase() + "\r\n").getBytes(StandardCharsets.US_ASCII);
+  }
+
+  private static final FastThreadLocal<DateLine> DATE_LINE = new FastThreadLocal<>() {
+    @Override
+    protected DateLine initialValue() {
+      return new DateLine();
+    }
+  };
+
+  /**
+   * @return the encoded status line terminated by {@code CRLF} or {@code null} when the status line is not cached
+   */
+  static byte[] statusLine(HttpResponse response) {
+    HttpResponseStatus status = response.status();
+    int code = status.code();
+    if (code < 100 || code >= MAX_CODE) {
+      return null;
+    }
+    HttpResponseStatus standard = STATUSES[code];
+    if (standard == null || (standard != status && !standard.reasonPhrase().equals(status.reasonPhrase()))) {
+      return null;
+    }
+    HttpVersion version = response.protocolVersion();
+    if (version == HttpVersion.HTTP_1_1) {
+      return HTTP_1_1_STATUS_LINES[code];
+    } else if (version == HttpVersion.HTTP_1_0) {
+      return HTTP_1_0_STATUS_LINES[code];
+    } else {
+      return null;
+    }
+  }
+
+  /**
+   * @return the encoded {@code date} header line of the current second terminated by {@code CRLF}, the line is
+   *         cached per thread
+   */
+  static byte[] dateLine() {
+    return DATE_LINE.get().get(System.currentTimeMillis());
+  }
+
+  private static class DateLine {
+
+    private long second = -1L;
+    private byte[] bytes;
+
+    byte[] get(long now) {
+      long s = now / 1000;
+      if (s != second) {
+        second = s;
+        bytes = ("date: " + DateFormatter.format(new Date(s * 1000)) + "\r\n").getBytes(StandardCharsets.US_ASCII);
+      }
+      return bytes;
+    }
+  }
+}
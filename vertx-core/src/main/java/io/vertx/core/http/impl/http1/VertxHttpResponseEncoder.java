@@ -17,6 +17,7 @@ import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseEncoder;
@@ -33,6 +34,35 @@ import io.vertx.core.net.impl.UncloseableFileRegion;
 public final class VertxHttpResponseEncoder extends HttpResponseEncoder {
 
   private final boolean cacheImmutableResponseHeaders = SysProps.CACHE_IMMUTABLE_HTTP_RESPONSE_HEADERS.getBoolean();
+  private final boolean cachedResponseHead;
+
+  public VertxHttpResponseEncoder() {
+    this(false);
+  }
+
+  /**
+   * @param cachedResponseHead whether to write the pre-encoded status lines and the cached {@code date} header
+   */
+  public VertxHttpResponseEncoder(boolean cachedResponseHead) {
+    this.cachedResponseHead = cachedResponseHead;
+  }
+
+  @Override
+  protected void encodeInitialLine(ByteBuf buf, HttpResponse response) throws Exception {
+    if (cachedResponseHead) {
+      byte[] statusLine = ResponseHeadCache.statusLine(response);
+      if (statusLine != null) {
+        buf.writeBytes(statusLine);
+      } else {
+        super.encodeInitialLine(buf, response);
+      }
+      if (response.status().code() >= 200 && !response.headers().contains(HttpHeaderNames.DATE)) {
+        buf.writeBytes(ResponseHeadCache.dateLine());
+      }
+    } else {
+      super.encodeInitialLine(buf, response);
+    }
+  }
 
   @Override
   protected void encodeHeaders(HttpHeaders headers, ByteBuf buf) {
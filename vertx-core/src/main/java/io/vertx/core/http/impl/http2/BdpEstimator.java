@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl.http2;
+
+/**
+ * Estimates the bandwidth-delay product of an HTTP/2 connection to grow its receive windows, this follows the
+ * gRPC flow control auto-tuning algorithm.
+ * <p/>
+ * When data is received and no measurement is in progress, a PING frame is sent and the bytes received until its
+ * acknowledgement are counted: they approximate the BDP. When twice this amount exceeds the current window and the
+ * measured bandwidth increased, the window is grown to it, up to the configured maximum.
+ * <p/>
+ * The measures stop once the window has reached the maximum. When a measure does not grow the window, the next
+ * measure is delayed by an exponentially increasing number of round trips, so an idle window does not cost a PING
+ * frame per round trip.
+ * <p/>
+ * This class is not thread safe, it must be used from the connection event loop.
+ */
+public final class BdpEstimator {
+
+  /**
+   * The content of the PING frames sent to measure the round trip time.
+   */
+  public static final long PING_DATA = 0x4244505F50494E47L; // BDP_PING
+
+  /**
+   * The max number of round trips between two measures.
+   */
+  private static final int MAX_BACKOFF = 16;
+
+  private final int maxWindowSize;
+  private boolean done;
+  private boolean pinging;
+  private int backoff;
+  private long nextPingTime;
+  private long pingTime;
+  private long dataSincePing;
+  private long lastBandwidth;
+
+  public BdpEstimator(int maxWindowSize) {
+    this.maxWindowSize = maxWindowSize;
+  }
+
+  /**
+   * Record {@code bytes} of received data.
+   *
+   * @return whether a PING frame carrying {@link #PING_DATA} must be sent
+   */
+  public boolean onData(int bytes) {
+    if (pinging) {
+      dataSincePing += bytes;
+      return false;
+    }
+    if (done) {
+      return false;
+    }
+    long now = System.nanoTime();
+    if (backoff > 0 && now - nextPingTime < 0) {
+      return false;
+    }
+    pinging = true;
+    pingTime = now;
+    dataSincePing = bytes;
+    return true;
+  }
+
+  /**
+   * Signal the acknowledgement of the PING frame.
+   *
+   * @param currentWindowSize the current stream initial window size
+   * @return the new window size or {@code -1} when the window shall not grow
+   */
+  public int onPingAck(int currentWindowSize) {
+    if (!pinging) {
+      return -1;
+    }
+    pinging = false;
+    long now = System.nanoTime();
+    long elapsed = Math.max(1L, now - pingTime);
+    if (currentWindowSize >= maxWindowSize) {
+      done = true;
+      return -1;
+    }
+    long bandwidth = dataSincePing * 1_000_000_000L / elapsed;
+    int target = (int) Math.min(dataSincePing * 2, maxWindowSize);
+    if (target > currentWindowSize && bandwidth > lastBandwidth) {
+      lastBandwidth = bandwidth;
+      backoff = 0;
+      done = target >= maxWindowSize;
+      return target;
+    }
+    backoff = backoff == 0 ? 1 : Math.min(backoff * 2, MAX_BACKOFF);
+    nextPingTime = now + elapsed * backoff;
+    return -1;
+  }
+}
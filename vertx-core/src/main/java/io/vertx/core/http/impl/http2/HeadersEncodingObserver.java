@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.http.impl.http2;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http2.Http2HeadersEncoder;
+import io.netty.util.AsciiString;
+import io.vertx.core.spi.metrics.HttpServerMetrics;
+
+import java.util.Collection;
+
+/**
+ * Observes the HPACK encoding of the header blocks sent by an HTTP/2 server connection.
+ * <p/>
+ * As a {@link Http2HeadersEncoder.SensitivityDetector}, it tells the encoder which headers must never be indexed
+ * and accumulates the raw size of the encoded headers. As an outbound handler placed between the HTTP/2 codec and
+ * the transport, it reads the frame headers of the connection to measure the size of the encoded header blocks
+ * (HEADERS, PUSH_PROMISE and CONTINUATION frames) and reports both sizes to the metrics at the end of each block.
+ * <p/>
+ * An instance belongs to a single connection and is used from its event loop.
+ */
+public final class HeadersEncodingObserver extends ChannelOutboundHandlerAdapter implements Http2HeadersEncoder.SensitivityDetector {
+
+  private static final int FRAME_HEADER_LENGTH = 9;
+  private static final byte HEADERS = 0x1;
+  private static final byte PUSH_PROMISE = 0x5;
+  private static final byte CONTINUATION = 0x9;
+  private static final byte END_HEADERS = 0x4;
+
+  private final AsciiString[] neverIndexedHeaders;
+  private final HttpServerMetrics<?, ?> metrics;
+  private final byte[] frameHeader = new byte[FRAME_HEADER_LENGTH];
+  private int frameHeaderIndex;
+  private int remainingPayload;
+  private long rawBytes;
+  private long encodedBytes;
+  private boolean desynchronized;
+
+  /**
+   * @param neverIndexedHeaders the names of the headers that must never be indexed
+   * @param metrics the metrics to report to, can be {@code null}
+   */
+  public HeadersEncodingObserver(Collection<String> neverIndexedHeaders, HttpServerMetrics<?, ?> metrics) {
+    AsciiString[] names = new AsciiString[neverIndexedHeaders.size()];
+    int idx = 0;
+    for (String name : neverIndexedHeaders) {
+      names[idx++] = AsciiString.of(name).toLowerCase();
+    }
+    this.neverIndexedHeaders = names;
+    this.metrics = metrics;
+  }
+
+  /**
+   * @return whether the observer reports metrics and must be added to the pipeline
+   */
+  public boolean reportsMetrics() {
+    return metrics != null;
+  }
+
+  @Override
+  public boolean isSensitive(CharSequence name, CharSequence value) {
+    if (metrics != null) {
+      rawBytes += name.length() + value.length();
+    }
+    for (AsciiString neverIndexedHeader : neverIndexedHeaders) {
+      if (AsciiString.contentEqualsIgnoreCase(neverIndexedHeader, name)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+    if (!desynchronized) {
+      if (msg instanceof ByteBuf) {
+        scan((ByteBuf) msg);
+      } else {
+        // Cannot follow the frame boundaries anymore
+        desynchronized = true;
+      }
+    }
+    super.write(ctx, msg, promise);
+  }
+
+  private void scan(ByteBuf buf) {
+    int idx = buf.readerIndex();
+    int end = buf.writerIndex();
+    while (idx < end) {
+      if (remainingPayload > 0) {
+        int len = Math.min(remainingPayload, end - idx);
+        idx += len;
+        remainingPayload -= len;
+        continue;
+      }
+      frameHeader[frameHeaderIndex++] = buf.getByte(idx++);
+      if (frameHeaderIndex == FRAME_HEADER_LENGTH) {
+        frameHeaderIndex = 0;
+        int length = (frameHeader[0] & 0xFF) << 16 | (frameHeader[1] & 0xFF) << 8 | (frameHeader[2] & 0xFF);
+        byte type = frameHeader[3];
+        byte flags = frameHeader[4];
+        remainingPayload = length;
+        if (type == HEADERS || type == PUSH_PROMISE || type == CONTINUATION) {
+          encodedBytes += length;
+          if ((flags & END_HEADERS) != 0) {
+            metrics.headersEncoded(rawBytes, encodedBytes);
+            rawBytes = 0;
+            encodedBytes = 0;
+          }
+        }
+      }
+    }
+  }
+}
@@ -45,4 +45,9 @@ public interface Http2Connection {
 
   void consumeCredits(int streamId, int amountOfBytes);
 
+  /**
+   * Grow the connection and stream receive windows from the measured bandwidth-delay product, up to {@code maxWindowSize}.
+   */
+  void windowAutoTuning(int maxWindowSize);
+
 }
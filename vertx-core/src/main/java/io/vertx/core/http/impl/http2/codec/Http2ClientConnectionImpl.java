@@ -305,6 +305,7 @@ public class Http2ClientConnectionImpl extends Http2ConnectionImpl implements Ht
     boolean logActivity,
     long multiplexingLimit,
     Duration keepAliveTimeout,
+    int maxWindowSize,
     TransportMetrics<?> transportMetrics,
     ClientMetrics<?, ?, ?> clientMetrics,
     ContextInternal context,
@@ -322,6 +323,9 @@ public class Http2ClientConnectionImpl extends Http2ConnectionImpl implements Ht
           Object m = socketMetric;
           conn.metric(m);
         }
+        if (maxWindowSize > 0) {
+          conn.windowAutoTuning(maxWindowSize);
+        }
         return conn;
       })
       .logEnabled(logActivity)
@@ -47,9 +47,11 @@ public class Http2CodecClientChannelInitializer implements Http2ClientChannelIni
   private final int multiplexingLimit;
   private final Duration keepAliveTimeout;
   private final int upgradeMaxContentLength;
+  private final int maxWindowSize;
 
   public Http2CodecClientChannelInitializer(Http2Settings initialSettings, TracingPolicy tracingPolicy, boolean useDecompression,
-                                            boolean logActivity, int multiplexingLimit, Duration keepAliveTimeout, int maxUpgradeContentLength) {
+                                            boolean logActivity, int multiplexingLimit, Duration keepAliveTimeout, int maxUpgradeContentLength,
+                                            int maxWindowSize) {
     this.tracingPolicy = tracingPolicy;
     this.useDecompression = useDecompression;
     this.logActivity = logActivity;
@@ -57,6 +59,7 @@ public class Http2CodecClientChannelInitializer implements Http2ClientChannelIni
     this.multiplexingLimit = multiplexingLimit;
     this.keepAliveTimeout = keepAliveTimeout;
     this.upgradeMaxContentLength = maxUpgradeContentLength;
+    this.maxWindowSize = maxWindowSize;
   }
 
   @Override
@@ -70,7 +73,7 @@ public class Http2CodecClientChannelInitializer implements Http2ClientChannelIni
     VertxHttp2ConnectionHandler<Http2ClientConnectionImpl> clientHandler;
     try {
       clientHandler = Http2ClientConnectionImpl.createHttp2ConnectionHandler(initialSettings, tracingPolicy,
-        useDecompression, logActivity, multiplexingLimit, keepAliveTimeout, transportMetrics,
+        useDecompression, logActivity, multiplexingLimit, keepAliveTimeout, maxWindowSize, transportMetrics,
         clientMetrics, context, metric, authority);
       ch.pipeline().addLast("handler", clientHandler);
       ch.flush();
@@ -176,6 +179,7 @@ public class Http2CodecClientChannelInitializer implements Http2ClientChannelIni
             logActivity,
             multiplexingLimit,
             keepAliveTimeout,
+            maxWindowSize,
             CodecChannelUpgrade.this.transportMetrics,
             CodecChannelUpgrade.this.clientMetrics,
             upgradingStream.context(),
@@ -11,11 +11,13 @@
 package io.vertx.core.http.impl.http2.codec;
 
 import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.http2.Http2HeadersEncoder;
 import io.vertx.core.Handler;
 import io.vertx.core.http.Http2ServerConfig;
 import io.vertx.core.http.impl.CompressionManager;
 import io.vertx.core.http.impl.HttpServerConnection;
 import io.vertx.core.http.impl.tcp.HttpServerConnectionInitializer;
+import io.vertx.core.http.impl.http2.HeadersEncodingObserver;
 import io.vertx.core.http.impl.http2.Http2ServerChannelInitializer;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.net.SslChannelProvider;
@@ -25,6 +27,7 @@ import io.vertx.core.spi.metrics.HttpServerMetrics;
 import io.vertx.core.spi.metrics.TransportMetrics;
 import io.vertx.core.tracing.TracingPolicy;
 
+import java.util.Set;
 import java.util.function.Supplier;
 
 public class Http2CodecServerChannelInitializer implements Http2ServerChannelInitializer {
@@ -70,7 +73,12 @@ public class Http2CodecServerChannelInitializer implements Http2ServerChannelIni
 
   @Override
   public void configureHttp2(ContextInternal context, ChannelPipeline pipeline, boolean ssl) {
-    VertxHttp2ConnectionHandler<Http2ServerConnectionImpl> handler = buildHttp2ConnectionHandler(context);
+    HeadersEncodingObserver observer = headersEncodingObserver(httpMetrics);
+    VertxHttp2ConnectionHandler<Http2ServerConnectionImpl> handler = buildHttp2ConnectionHandler(context, observer);
+    if (observer != null && observer.reportsMetrics()) {
+      // Must observe the bytes written by the handler when it is added
+      pipeline.addBefore("handler", "headersEncodingObserver", observer);
+    }
     pipeline.replace(VertxHandler.class, "handler", handler);
   }
 
@@ -80,6 +88,18 @@ public class Http2CodecServerChannelInitializer implements Http2ServerChannelIni
   }
 
   public VertxHttp2ConnectionHandler<Http2ServerConnectionImpl> buildHttp2ConnectionHandler(ContextInternal ctx) {
+    return buildHttp2ConnectionHandler(ctx, headersEncodingObserver(null));
+  }
+
+  private HeadersEncodingObserver headersEncodingObserver(HttpServerMetrics<?, ?> metrics) {
+    Set<String> neverIndexedHeaders = config.getNeverIndexedHeaders();
+    if (metrics == null && neverIndexedHeaders.isEmpty()) {
+      return null;
+    }
+    return new HeadersEncodingObserver(neverIndexedHeaders, metrics);
+  }
+
+  private VertxHttp2ConnectionHandler<Http2ServerConnectionImpl> buildHttp2ConnectionHandler(ContextInternal ctx, HeadersEncodingObserver observer) {
     int maxRstFramesPerWindow = config.getRstFloodMaxRstFramePerWindow();
     int secondsPerWindow = (int)config.getRstFloodWindowDuration().toSeconds();
     int maxSmallContinuationFrames = config.getMaxSmallContinuationFrames();
@@ -92,6 +112,7 @@ public class Http2CodecServerChannelInitializer implements Http2ServerChannelIni
       .encoderEnforceMaxRstFramesPerWindow(maxRstFramesPerWindow, secondsPerWindow)
       .useDecompression(useDecompression)
       .initialSettings(config.getInitialSettings())
+      .headerSensitivityDetector(observer != null ? observer : Http2HeadersEncoder.NEVER_SENSITIVE)
       .connectionFactory(connHandler -> {
         Http2ServerConnectionImpl conn = new Http2ServerConnectionImpl(ctx, streamContextSupplier, connHandler,
           compressionManager != null ? compressionManager::determineEncoding : null, tracingPolicy, httpMetrics,
@@ -30,6 +30,7 @@ import io.vertx.core.VertxException;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.*;
 import io.vertx.core.http.impl.HttpUtils;
+import io.vertx.core.http.impl.http2.BdpEstimator;
 import io.vertx.core.http.impl.http2.Http2Connection;
 import io.vertx.core.http.impl.http2.Http2Stream;
 import io.vertx.core.internal.buffer.BufferInternal;
@@ -74,6 +75,7 @@ abstract class Http2ConnectionImpl extends ConnectionBase implements Http2FrameL
   private GoAway goAwayStatus;
   private int windowSize;
   private long maxConcurrentStreams;
+  private BdpEstimator bdpEstimator;
 
   public Http2ConnectionImpl(ContextInternal context, VertxHttp2ConnectionHandler handler) {
     super(context, handler.context());
@@ -258,6 +260,14 @@ abstract class Http2ConnectionImpl extends ConnectionBase implements Http2FrameL
 
   @Override
   public void onPingAckRead(ChannelHandlerContext ctx, long data) {
+    BdpEstimator estimator = bdpEstimator;
+    if (estimator != null && data == BdpEstimator.PING_DATA) {
+      int windowSize = estimator.onPingAck(handler.decoder().flowController().initialWindowSize());
+      if (windowSize > 0) {
+        growWindowSize(windowSize);
+      }
+      return;
+    }
     Promise<Buffer> handler = pongHandlers.poll();
     if (handler != null) {
       Buffer buff = Buffer.buffer().appendLong(data);
@@ -298,6 +308,10 @@ abstract class Http2ConnectionImpl extends ConnectionBase implements Http2FrameL
 
   @Override
   public int onDataRead(ChannelHandlerContext ctx, int streamId, ByteBuf data, int padding, boolean endOfStream) {
+    BdpEstimator estimator = bdpEstimator;
+    if (estimator != null && estimator.onData(data.readableBytes() + padding)) {
+      handler.writePing(BdpEstimator.PING_DATA);
+    }
     Http2Stream stream = stream(streamId);
     if (stream != null) {
       data = safeBuffer(data);
@@ -331,6 +345,18 @@ abstract class Http2ConnectionImpl extends ConnectionBase implements Http2FrameL
     }
   }
 
+  @Override
+  public void windowAutoTuning(int maxWindowSize) {
+    bdpEstimator = new BdpEstimator(maxWindowSize);
+  }
+
+  private void growWindowSize(int windowSize) {
+    if (windowSize > this.windowSize) {
+      setWindowSize(windowSize);
+    }
+    updateSettings(new Http2Settings().initialWindowSize(windowSize));
+  }
+
   @Override
   public HttpVersion protocolVersion() {
     return HttpVersion.HTTP_2;
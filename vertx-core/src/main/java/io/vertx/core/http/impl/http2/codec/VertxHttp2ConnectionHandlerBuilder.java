@@ -48,6 +48,11 @@ public class VertxHttp2ConnectionHandlerBuilder<C extends Http2ConnectionImpl> e
     return this;
   }
 
+  @Override
+  public VertxHttp2ConnectionHandlerBuilder<C> headerSensitivityDetector(Http2HeadersEncoder.SensitivityDetector headerSensitivityDetector) {
+    return super.headerSensitivityDetector(headerSensitivityDetector);
+  }
+
   public VertxHttp2ConnectionHandlerBuilder<C> useCompression(CompressionOptions[] compressionOptions) {
     this.compressionOptions = compressionOptions;
     return this;
@@ -11,6 +11,7 @@ import io.netty.handler.codec.http2.Http2FrameCodec;
 import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
 import io.netty.handler.codec.http2.Http2FrameListener;
 import io.netty.handler.codec.http2.Http2FrameLogger;
+import io.netty.handler.codec.http2.Http2HeadersEncoder;
 import io.netty.handler.codec.http2.Http2Settings;
 import io.netty.handler.codec.http2.StreamByteDistributor;
 import io.netty.handler.codec.http2.UniformStreamByteDistributor;
@@ -55,6 +56,11 @@ class Http2CustomFrameCodecBuilder extends Http2FrameCodecBuilder {
     return (Http2CustomFrameCodecBuilder) super.decoderEnforceMaxSmallContinuationFrames(maxConsecutiveContinuationsFrames);
   }
 
+  @Override
+  public Http2CustomFrameCodecBuilder headerSensitivityDetector(Http2HeadersEncoder.SensitivityDetector headerSensitivityDetector) {
+    return (Http2CustomFrameCodecBuilder) super.headerSensitivityDetector(headerSensitivityDetector);
+  }
+
   @Override
   public Http2CustomFrameCodecBuilder server(boolean isServer) {
     this.server = isServer;
@@ -40,17 +40,20 @@ public class Http2MultiplexClientChannelInitializer implements Http2ClientChanne
   private final Http2Settings initialSettings;
   private final long keepAliveTimeoutMillis;
   private final int multiplexingLimit;
+  private final int maxWindowSize;
   private final boolean decompressionSupported;
   private final boolean logEnabled;
 
   public Http2MultiplexClientChannelInitializer(Http2Settings initialSettings,
                                                 long keepAliveTimeoutMillis,
                                                 int multiplexingLimit,
+                                                int maxWindowSize,
                                                 boolean decompressionSupported,
                                                 boolean logEnabled) {
     this.initialSettings = initialSettings;
     this.keepAliveTimeoutMillis = keepAliveTimeoutMillis;
     this.multiplexingLimit = multiplexingLimit;
+    this.maxWindowSize = maxWindowSize;
     this.decompressionSupported = decompressionSupported;
     this.logEnabled = logEnabled;
   }
@@ -87,6 +90,9 @@ public class Http2MultiplexClientChannelInitializer implements Http2ClientChanne
         clientMetrics, transportMetrics, authority, multiplexingLimit, keepAliveTimeoutMillis,
         decompressionSupported, promise);
       connection.metric(connectionMetric);
+      if (maxWindowSize > 0) {
+        connection.windowAutoTuning(maxWindowSize);
+      }
       return connection;
     };
   }
@@ -42,6 +42,7 @@ import io.vertx.core.http.*;
 import io.vertx.core.http.impl.AltSvcEvent;
 import io.vertx.core.http.impl.HttpUtils;
 import io.vertx.core.http.impl.Origin;
+import io.vertx.core.http.impl.http2.BdpEstimator;
 import io.vertx.core.http.impl.http2.Http2Stream;
 import io.vertx.core.impl.buffer.VertxByteBufAllocator;
 import io.vertx.core.internal.ContextInternal;
@@ -69,6 +70,7 @@ public abstract class Http2MultiplexConnection<S extends Http2Stream> extends Co
   private Handler<Void> shutdownHandler;
   private Handler<GoAway> goAwayHandler;
   private Handler<Buffer> pingHandler;
+  private BdpEstimator bdpEstimator;
 
   public Http2MultiplexConnection(Http2MultiplexHandler handler, TransportMetrics<?> transportMetrics, ChannelHandlerContext chctx, ContextInternal context) {
     super(context, chctx);
@@ -104,6 +106,10 @@ public abstract class Http2MultiplexConnection<S extends Http2Stream> extends Co
   abstract void receiveHeaders(ChannelHandlerContext chctx, Http2FrameStream frameStream, Http2Headers headers, boolean ended);
 
   void receiveData(ChannelHandlerContext chctx, int streamId, ByteBuf content, boolean ended, int initialWindowSize) {
+    BdpEstimator estimator = bdpEstimator;
+    if (estimator != null && estimator.onData(content.readableBytes())) {
+      writeStreamFrame(new DefaultHttp2PingFrame(BdpEstimator.PING_DATA, false), null);
+    }
     StreamChannel channel = channels.get(streamId);
     ByteBuf buffer = VertxByteBufAllocator.DEFAULT.heapBuffer(content.readableBytes());
     buffer.writeBytes(content, content.readerIndex(), content.readableBytes());
@@ -306,6 +312,17 @@ public abstract class Http2MultiplexConnection<S extends Http2Stream> extends Co
     }
   }
 
+  public void windowAutoTuning(int maxWindowSize) {
+    bdpEstimator = new BdpEstimator(maxWindowSize);
+  }
+
+  private void growWindowSize(int windowSize) {
+    if (windowSize > this.windowSize) {
+      setWindowSize(windowSize);
+    }
+    handler.writeSettings(new io.netty.handler.codec.http2.Http2Settings().initialWindowSize(windowSize), context.promise());
+  }
+
   @Override
   public Future<Void> updateSettings(HttpSettings settings) {
     PromiseInternal<Void> promise = context.promise();
@@ -372,6 +389,14 @@ public abstract class Http2MultiplexConnection<S extends Http2Stream> extends Co
   }
 
   void receivePingAck(long content, boolean ack) {
+    BdpEstimator estimator = bdpEstimator;
+    if (ack && estimator != null && content == BdpEstimator.PING_DATA) {
+      int windowSize = estimator.onPingAck(handler.initialWindowSize());
+      if (windowSize > 0) {
+        growWindowSize(windowSize);
+      }
+      return;
+    }
     Buffer msg = Buffer.buffer().appendLong(content);
     if (ack) {
       Promise<Buffer> pendingPongHandler = pendingPingAcks.poll();
@@ -113,6 +113,11 @@ public final class Http2MultiplexHandler extends ChannelDuplexHandler implements
     return connection.local().flowController().windowSize(stream);
   }
 
+  int initialWindowSize() {
+    Http2ConnectionHandler codec = chctx.pipeline().get(Http2FrameCodec.class);
+    return codec.decoder().flowController().initialWindowSize();
+  }
+
   void incrementWindowsSize(int windowSizeIncrement) throws Http2Exception {
     Http2ConnectionHandler codec = chctx.pipeline().get(Http2FrameCodec.class);
     Http2Connection connection = codec.connection();
@@ -14,12 +14,14 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.http.HttpServerUpgradeHandler;
 import io.netty.handler.codec.http2.Http2CodecUtil;
 import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2HeadersEncoder;
 import io.netty.handler.codec.http2.Http2ServerUpgradeCodec;
 import io.netty.handler.codec.http2.Http2Settings;
 import io.netty.util.AsciiString;
 import io.vertx.core.Handler;
 import io.vertx.core.http.impl.CompressionManager;
 import io.vertx.core.http.impl.HttpServerConnection;
+import io.vertx.core.http.impl.http2.HeadersEncodingObserver;
 import io.vertx.core.http.impl.http2.Http2ServerChannelInitializer;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.net.SslChannelProvider;
@@ -27,6 +29,7 @@ import io.vertx.core.internal.tls.SslContextManager;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
 import io.vertx.core.spi.metrics.TransportMetrics;
 
+import java.util.Set;
 import java.util.function.Supplier;
 
 public class Http2MultiplexServerChannelInitializer implements Http2ServerChannelInitializer {
@@ -38,6 +41,8 @@ public class Http2MultiplexServerChannelInitializer implements Http2ServerChanne
   private final int rstFloodMaxRstFramePerWindow;
   private final int rstFloodWindowDuration;
   private final int maxSmallContinuationFrames;
+  private final Set<String> neverIndexedHeaders;
+  private final HttpServerMetrics<?, ?> httpMetrics;
   private final boolean logEnabled;
 
   public Http2MultiplexServerChannelInitializer(ContextInternal context,
@@ -52,6 +57,7 @@ public class Http2MultiplexServerChannelInitializer implements Http2ServerChanne
                                                 int rstFloodMaxRstFramePerWindow,
                                                 int rstFloodWindowDuration,
                                                 int maxSmallContinuationFrames,
+                                                Set<String> neverIndexedHeaders,
                                                 boolean logEnabled) {
     Http2MultiplexConnectionFactory connectionFactory = (handler, chctx) -> {
       Http2MultiplexServerConnection connection = new Http2MultiplexServerConnection(
@@ -73,6 +79,8 @@ public class Http2MultiplexServerChannelInitializer implements Http2ServerChanne
     this.rstFloodMaxRstFramePerWindow = rstFloodMaxRstFramePerWindow;
     this.rstFloodWindowDuration = rstFloodWindowDuration;
     this.maxSmallContinuationFrames = maxSmallContinuationFrames;
+    this.neverIndexedHeaders = neverIndexedHeaders;
+    this.httpMetrics = httpMetrics;
     this.logEnabled = logEnabled;
   }
 
@@ -84,12 +92,14 @@ public class Http2MultiplexServerChannelInitializer implements Http2ServerChanne
       connectionFactory,
       initialSettings);
 
+    HeadersEncodingObserver observer = headersEncodingObserver(httpMetrics);
     Http2FrameCodec frameCodec = new Http2CustomFrameCodecBuilder(compressionManager, decompressionSupported)
       .server(true)
       .decoderEnforceMaxSmallContinuationFrames(rstFloodWindowDuration)
       .decoderEnforceMaxRstFramesPerWindow(rstFloodMaxRstFramePerWindow, rstFloodWindowDuration)
       .encoderEnforceMaxRstFramesPerWindow(rstFloodMaxRstFramePerWindow, rstFloodWindowDuration)
       .initialSettings(initialSettings)
+      .headerSensitivityDetector(observer != null ? observer : Http2HeadersEncoder.NEVER_SENSITIVE)
       .logEnabled(logEnabled)
       .build();
     frameCodec.connection().addListener(handler);
@@ -98,10 +108,21 @@ public class Http2MultiplexServerChannelInitializer implements Http2ServerChanne
       pipeline.remove("chunkedWriter");
     }
     pipeline.remove("handler");
+    if (observer != null && observer.reportsMetrics()) {
+      pipeline.addLast("headersEncodingObserver", observer);
+    }
     pipeline.addLast("codec", frameCodec);
     pipeline.addLast("multiplex", new io.netty.handler.codec.http2.Http2MultiplexHandler(handler));
     pipeline.addLast("handler", handler);
   }
+
+  private HeadersEncodingObserver headersEncodingObserver(HttpServerMetrics<?, ?> metrics) {
+    if (metrics == null && neverIndexedHeaders.isEmpty()) {
+      return null;
+    }
+    return new HeadersEncodingObserver(neverIndexedHeaders, metrics);
+  }
+
   @Override
   public void configureHttp1OrH2CUpgradeHandler(ContextInternal context, ChannelPipeline pipeline, SslChannelProvider sslChannelProvider, SslContextManager sslContextManager) {
     HttpServerUpgradeHandler.UpgradeCodecFactory upgradeCodecFactory = protocol -> {
@@ -111,9 +132,11 @@ public class Http2MultiplexServerChannelInitializer implements Http2ServerChanne
           context,
           connectionFactory,
           initialSettings);
+        HeadersEncodingObserver observer = headersEncodingObserver(null);
         Http2FrameCodec frameCodec = new Http2CustomFrameCodecBuilder(compressionManager, decompressionSupported)
           .server(true)
           .initialSettings(initialSettings)
+          .headerSensitivityDetector(observer != null ? observer : Http2HeadersEncoder.NEVER_SENSITIVE)
           .logEnabled(logEnabled)
           .build();
         frameCodec.connection().addListener(handler);
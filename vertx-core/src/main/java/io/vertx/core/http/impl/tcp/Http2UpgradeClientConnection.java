@@ -734,6 +734,11 @@ public class Http2UpgradeClientConnection implements io.vertx.core.http.impl.Htt
     return current.context();
   }
 
+  @Override
+  public int getWindowSize() {
+    return current.getWindowSize();
+  }
+
   @Override
   public HttpConnection remoteSettingsHandler(Handler<HttpSettings> handler) {
     if (current instanceof Http1ClientConnection) {
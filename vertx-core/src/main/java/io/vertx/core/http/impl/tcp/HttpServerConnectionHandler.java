@@ -45,6 +45,7 @@ public class HttpServerConnectionHandler implements Handler<HttpServerConnection
   public final Handler<HttpConnection> connectionHandler;
   public final Handler<Throwable> exceptionHandler;
   public final int connectionWindowSize;
+  private final int maxWindowSize;
   private final QueryParamDecoder queryParamDecoder;
 
   public HttpServerConnectionHandler(
@@ -66,6 +67,8 @@ public class HttpServerConnectionHandler implements Handler<HttpServerConnection
     this.connectionHandler = connectionHandler;
     this.exceptionHandler = exceptionHandler;
     this.connectionWindowSize = connectionWindowSize;
+    Http2ServerConfig http2Config = server.config.getHttp2Config();
+    this.maxWindowSize = http2Config != null && http2Config.getWindowAutoTuning() ? http2Config.getMaxWindowSize() : 0;
     this.queryParamDecoder = new QueryParamDecoder(server.config.getQueryParamConfig() != null ? server.config.getQueryParamConfig() : new QueryParamDecoderConfig());
   }
 
@@ -100,6 +103,9 @@ public class HttpServerConnectionHandler implements Handler<HttpServerConnection
       http1Conn.invalidRequestHandler(invalidRequestHandler);
     } else {
       Http2ServerConnection http2Conn = (Http2ServerConnection) conn;
+      if (maxWindowSize > 0) {
+        http2Conn.windowAutoTuning(maxWindowSize);
+      }
       http2Conn.streamHandler(stream -> {
         HttpServerConfig config = server.config;
         FormDecoderConfig formDecoderConfig = config.getFormDecoderConfig();
@@ -20,6 +20,8 @@ import io.netty.handler.timeout.IdleStateHandler;
 import io.vertx.core.Handler;
 import io.vertx.core.ThreadingModel;
 import io.vertx.core.http.*;
+import io.vertx.core.http.impl.CompressedFileCache;
+import io.vertx.core.http.impl.OpenFileCache;
 import io.vertx.core.http.impl.CompressionManager;
 import io.vertx.core.http.impl.HttpServerConnection;
 import io.vertx.core.http.impl.HttpUtils;
@@ -75,6 +77,9 @@ public class HttpServerConnectionInitializer {
   private final CompressionManager compressionManager;
   private final ServerSSLOptions sslOptions;
   private final int compressionContentSizeThreshold;
+  private final CompressedFileCache compressedFileCache;
+  private final OpenFileCache openFileCache;
+  private final CompressionPolicy compressionPolicy;
   private final Http2ServerChannelInitializer http2ChannelInitializer;
   private final TracingPolicy tracingPolicy;
 
@@ -89,6 +94,9 @@ public class HttpServerConnectionInitializer {
                                   boolean logEnabled,
                                   CompressionOptions[] compressionOptions,
                                   int compressionContentSizeThreshold,
+                                  CompressedFileCache compressedFileCache,
+                                  OpenFileCache openFileCache,
+                                  CompressionPolicy compressionPolicy,
                                   boolean handle100ContinueAutomatically,
                                   int maxFormAttributeSize,
                                   int maxFormFields,
@@ -129,6 +137,7 @@ public class HttpServerConnectionInitializer {
           http2Config.getRstFloodMaxRstFramePerWindow(),
           (int)http2Config.getRstFloodWindowDuration().toSeconds(),
           http2Config.getMaxSmallContinuationFrames(),
+          http2Config.getNeverIndexedHeaders(),
           logEnabled);
       } else {
         http2ChannelInitializer = new Http2CodecServerChannelInitializer(
@@ -174,6 +183,9 @@ public class HttpServerConnectionInitializer {
     this.webSocketConfig = webSocketConfig;
     this.tracingPolicy = tracingPolicy;
     this.compressionContentSizeThreshold = compressionContentSizeThreshold;
+    this.compressedFileCache = compressedFileCache;
+    this.openFileCache = openFileCache;
+    this.compressionPolicy = compressionPolicy;
     this.httpMetrics = httpMetrics;
     this.transportMetrics = transportMetrics;
     this.http2ChannelInitializer = http2ChannelInitializer;
@@ -285,12 +297,12 @@ public class HttpServerConnectionInitializer {
   private void configureHttp1Pipeline(ChannelPipeline pipeline) {
     String name = computeChannelName(pipeline);
     pipeline.addBefore(name, "httpDecoder", new VertxHttpRequestDecoder(http1Config));
-    pipeline.addBefore(name, "httpEncoder", new VertxHttpResponseEncoder());
+    pipeline.addBefore(name, "httpEncoder", new VertxHttpResponseEncoder(http1Config.isCachedResponseHead()));
     if (useDecompression) {
       pipeline.addBefore(name, "inflater", new HttpContentDecompressor(false));
     }
     if (useCompression) {
-      pipeline.addBefore(name, "deflater", new HttpChunkContentCompressor(compressionContentSizeThreshold, compressionManager.options()));
+      pipeline.addBefore(name, "deflater", new HttpChunkContentCompressor(compressionContentSizeThreshold, compressionPolicy, httpMetrics, compressionManager.options()));
     }
   }
 
@@ -321,6 +333,8 @@ public class HttpServerConnectionInitializer {
         httpMetrics,
         transportMetrics);
       conn.metric(metric);
+      conn.compressedFileCache(compressedFileCache);
+      conn.openFileCache(openFileCache);
       return conn;
     });
     pipeline.replace(VertxHandler.class, "handler", handler);
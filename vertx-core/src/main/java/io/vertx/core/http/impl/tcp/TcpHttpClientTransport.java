@@ -130,16 +130,18 @@ public class TcpHttpClientTransport implements HttpClientTransport {
   }
 
   private Http2ClientChannelInitializer http2Initializer() {
+    int maxWindowSize = http2Config.getWindowAutoTuning() ? http2Config.getMaxWindowSize() : 0;
     if (http2Config.getMultiplexImplementation()) {
       return new Http2MultiplexClientChannelInitializer(
         HttpUtils.fromVertxSettings(http2Config.getInitialSettings()),
         http2Config.getKeepAliveTimeout() == null ? 0 : http2Config.getKeepAliveTimeout().toMillis(),
         http2Config.getMultiplexingLimit(),
+        maxWindowSize,
         useDecompression,
         logActivity);
     } else {
       return new Http2CodecClientChannelInitializer(http2Config.getInitialSettings(), tracingPolicy, useDecompression, logActivity,
-        http2Config.getMultiplexingLimit(), http2Config.getKeepAliveTimeout(), http2Config.getUpgradeMaxContentLength());
+        http2Config.getMultiplexingLimit(), http2Config.getKeepAliveTimeout(), http2Config.getUpgradeMaxContentLength(), maxWindowSize);
     }
   }
 
@@ -14,6 +14,8 @@ package io.vertx.core.http.impl.tcp;
 import io.netty.handler.codec.compression.CompressionOptions;
 import io.vertx.core.*;
 import io.vertx.core.http.*;
+import io.vertx.core.http.impl.CompressedFileCache;
+import io.vertx.core.http.impl.OpenFileCache;
 import io.vertx.core.http.impl.HttpUtils;
 import io.vertx.core.internal.CloseSequence;
 import io.vertx.core.internal.ContextInternal;
@@ -62,6 +64,7 @@ public class TcpHttpServer implements HttpServerInternal {
   private Duration closeTimeout = Duration.ZERO;
   private CloseSequence closeSequence;
   private HttpServerMetrics<?, ?> httpMetrics;
+  private OpenFileCache openFileCache;
 
   public TcpHttpServer(VertxInternal vertx, HttpServerConfig config, ServerSSLOptions sslOptions,
                        SSLEngineOptions engineOptions, HttpServerMetrics<?, ?> httpMetrics, boolean registerWebSocketWriteHandlers) {
@@ -223,6 +226,16 @@ public class TcpHttpServer implements HttpServerInternal {
     QueryParamDecoderConfig queryParamDecoderConfig = config.getQueryParamConfig() != null ? config.getQueryParamConfig() : new QueryParamDecoderConfig();
     Http1ServerConfig http1Config = config.getVersions().contains(HttpVersion.HTTP_1_0) || config.getVersions().contains(HttpVersion.HTTP_1_1) ? config.getHttp1Config() != null ? config.getHttp1Config() : new Http1ServerConfig() : null;
     Http2ServerConfig http2Config = config.getVersions().contains(HttpVersion.HTTP_2) ? config.getHttp2Config() != null ? config.getHttp2Config() : new Http2ServerConfig() : null;
+    CompressedFileCache compressedFileCache;
+    if (compression != null && compression.isCompressionEnabled() && compression.getCompressors() != null && compression.getFileCacheMaxEntries() > 0) {
+      compressedFileCache = new CompressedFileCache(
+        compression.getCompressors().toArray(new CompressionOptions[0]),
+        compression.getContentSizeThreshold(),
+        compression.getFileCacheMaxEntries(),
+        compression.getFileCacheMaxFileSize());
+    } else {
+      compressedFileCache = null;
+    }
     server.connectHandler(so -> {
       NetSocketImpl soi = (NetSocketImpl) so;
       Supplier<ContextInternal> streamContextSupplier = context::duplicate;
@@ -257,6 +270,9 @@ public class TcpHttpServer implements HttpServerInternal {
         tcpConfig.getLogConfig() != null,
         compressors != null ? compressors.toArray(new CompressionOptions[0]) : null,
         compression != null ? compression.getContentSizeThreshold() : 0,
+        compressedFileCache,
+        openFileCache,
+        compression != null ? compression.getCompressionPolicy() : null,
         config.isHandle100ContinueAutomatically(),
         formDecoderConfig.getMaxAttributeSize(),
         formDecoderConfig.getMaxFields(),
@@ -279,6 +295,14 @@ public class TcpHttpServer implements HttpServerInternal {
     if (manageMetrics) {
       httpMetrics = vertx.metrics() != null ? vertx.metrics().createHttpServerMetrics(config, address, null) : null;
     }
+    OpenFileCacheConfig openFileCacheConfig = config.getOpenFileCacheConfig();
+    if (openFileCacheConfig != null && http1Config != null) {
+      openFileCache = new OpenFileCache(
+        openFileCacheConfig.getMaxEntries(),
+        openFileCacheConfig.getInactiveTimeout().toNanos(),
+        openFileCacheConfig.getValidity().toNanos(),
+        httpMetrics);
+    }
     closeSequence = new CloseSequence(p -> doClose(server, p), p -> doShutdown(server, p ));
     Promise<HttpServer> result = context.promise();
     tcpServer.listen(listenContext, address).onComplete(ar -> {
@@ -318,6 +342,9 @@ public class TcpHttpServer implements HttpServerInternal {
   }
 
   private void doClose(NetServer netServer, Completable<Void> p) {
+    if (openFileCache != null) {
+      openFileCache.close();
+    }
     if (requestHandler instanceof Closeable) {
       Closeable closeable = (Closeable) requestHandler;
       closeable.close((res, err) -> {
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.core.impl.future;
+
+import io.vertx.core.Completable;
+import io.vertx.core.Future;
+import io.vertx.core.impl.Arguments;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Aggregates the results of a collection of futures in a list, this future is registered as the listener of each
+ * future and counts completions with a single atomic counter, the results are gathered in a pre-sized array once all
+ * futures are succeeded. The first failure fails this future.
+ * <p>
+ * When created from tasks, at most {@code maxInFlight} tasks are started at a time, a task is started each time
+ * a started task succeeds.
+ */
+public final class AllOf<T> extends FutureImpl<List<T>> implements Completable<Object> {
+
+  public static <T> Future<List<T>> create(List<? extends Future<? extends T>> futures) {
+    int len = futures.size();
+    AllOf<T> all = new AllOf<>(futures.toArray(new Future[len]), null, len);
+    all.init();
+    return all;
+  }
+
+  public static <T> Future<List<T>> create(List<Supplier<Future<T>>> tasks, int maxInFlight) {
+    Arguments.require(maxInFlight > 0, "maxInFlight must be > 0");
+    int len = tasks.size();
+    AllOf<T> all = new AllOf<>(new Future[len], tasks.toArray(new Supplier[len]), maxInFlight);
+    all.init();
+    return all;
+  }
+
+  private final Future<?>[] futures;
+  private final Supplier<Future<?>>[] tasks;
+  private final AtomicInteger completions = new AtomicInteger();
+  // Task scheduling state, next is only accessed by the thread that has acquired wip
+  private final AtomicInteger permits;
+  private final AtomicInteger wip = new AtomicInteger();
+  private int next;
+
+  private AllOf(Future<?>[] futures, Supplier<Future<?>>[] tasks, int maxInFlight) {
+    this.futures = futures;
+    this.tasks = tasks;
+    this.permits = new AtomicInteger(maxInFlight);
+  }
+
+  private void init() {
+    if (futures.length == 0) {
+      tryComplete(Collections.emptyList());
+    } else if (tasks == null) {
+      for (Future<?> future : futures) {
+        listen(future);
+      }
+    } else {
+      drain();
+    }
+  }
+
+  private void listen(Future<?> future) {
+    if (future instanceof FutureBase) {
+      ((FutureBase<Object>) future).addListener(this);
+    } else {
+      ((Future<Object>) future).onComplete(this);
+    }
+  }
+
+  /**
+   * Start tasks while permits are available, the loop is not re-entered when a task completes synchronously,
+   * instead the current drainer picks up the new permit.
+   */
+  private void drain() {
+    if (wip.getAndIncrement() != 0) {
+      return;
+    }
+    int missed = 1;
+    do {
+      while (next < tasks.length && permits.get() > 0 && !isComplete()) {
+        permits.decrementAndGet();
+        int idx = next++;
+        Future<?> future;
+        try {
+          future = tasks[idx].get();
+        } catch (Throwable t) {
+          future = Future.failedFuture(t);
+        }
+        futures[idx] = future;
+        tasks[idx] = null;
+        listen(future);
+      }
+      missed = wip.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  @Override
+  public void complete(Object result, Throwable failure) {
+    if (failure != null) {
+      if (tryFail(failure)) {
+        // Release the pending futures from this future
+        for (Future<?> future : futures) {
+          if (future instanceof FutureBase) {
+            ((FutureBase<Object>) future).removeListener(this);
+          }
+        }
+      }
+      return;
+    }
+    if (completions.incrementAndGet() == futures.length) {
+      Object[] results = new Object[futures.length];
+      for (int i = 0;i < results.length;i++) {
+        results[i] = futures[i].result();
+      }
+      tryComplete(Arrays.asList((T[]) results));
+    } else if (tasks != null) {
+      permits.incrementAndGet();
+      drain();
+    }
+  }
+}
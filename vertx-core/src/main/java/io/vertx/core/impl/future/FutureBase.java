@@ -82,20 +82,18 @@ public abstract class FutureBase<T> implements FutureInternal<T> {
     if (context != null && !context.isRunningOnContext()) {
       context.execute(new EmitResultTask<>(context, result, cause, listener));
     } else if (context != null) {
-      emitResult(context, result, cause, listener);
+      // The current thread is already dispatching this context, the listener can run inline without a new dispatch
+      signalComplete(context, result, cause, listener);
     } else {
       signalComplete(result, cause, listener);
     }
   }
 
-  private static <T> void emitResult(ContextInternal context, T result, Throwable cause, Completable<? super T> listener) {
-    ContextInternal prev = context.beginDispatch();
+  private static <T> void signalComplete(ContextInternal context, T result, Throwable cause, Completable<? super T> listener) {
     try {
       listener.complete(result, cause);
     } catch (Throwable t) {
       context.reportException(t);
-    } finally {
-      context.endDispatch(prev);
     }
   }
 
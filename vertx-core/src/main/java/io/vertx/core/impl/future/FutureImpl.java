@@ -27,7 +27,9 @@ public class FutureImpl<T> extends FutureBase<T> {
   private static final Object NULL_VALUE = new Object();
 
   private Object value;
+  // Up to two listeners are held inline, more listeners are held by a ListenerArray stored in listener
   private Completable<? super T> listener;
+  private Completable<? super T> listener2;
 
   /**
    * Create a future that hasn't completed yet
@@ -84,18 +86,20 @@ public class FutureImpl<T> extends FutureBase<T> {
     synchronized (this) {
       v = value;
       if (v == null) {
-        if (this.listener == null) {
+        Completable<? super T> l1 = this.listener;
+        if (l1 == null) {
           this.listener = listener;
+        } else if (l1 instanceof FutureImpl.ListenerArray) {
+          ((ListenerArray<T>) l1).add(listener);
+        } else if (listener2 == null) {
+          listener2 = listener;
         } else {
-          ListenerArray<T> listeners;
-          if (this.listener instanceof FutureImpl.ListenerArray) {
-            listeners = (ListenerArray<T>) this.listener;
-          } else {
-            listeners = new ListenerArray<>(context);
-            listeners.add(this.listener);
-            this.listener = listeners;
-          }
+          ListenerArray<T> listeners = new ListenerArray<>(context);
+          listeners.add(l1);
+          listeners.add(listener2);
           listeners.add(listener);
+          this.listener = listeners;
+          this.listener2 = null;
         }
         return;
       }
@@ -115,7 +119,10 @@ public class FutureImpl<T> extends FutureBase<T> {
     synchronized (this) {
       Object listener = this.listener;
       if (listener == l) {
-        this.listener = null;
+        this.listener = listener2;
+        this.listener2 = null;
+      } else if (listener2 == l) {
+        this.listener2 = null;
       } else if (listener instanceof ListenerArray<?>) {
         ListenerArray<?> listeners = (ListenerArray<?>) listener;
         listeners.remove(l);
@@ -124,17 +131,23 @@ public class FutureImpl<T> extends FutureBase<T> {
   }
 
   final boolean completeInternal(T result, Throwable err) {
-    Completable<? super T> l;
+    Completable<? super T> l1;
+    Completable<? super T> l2;
     synchronized (this) {
       if (value != null) {
         return false;
       }
       value = err != null ? new CauseHolder(err) : (result == null ? NULL_VALUE : result);
-      l = listener;
+      l1 = listener;
+      l2 = listener2;
       listener = null;
+      listener2 = null;
     }
-    if (l != null) {
-      emitResult(result, err, l);
+    if (l1 != null) {
+      emitResult(result, err, l1);
+      if (l2 != null) {
+        emitResult(result, err, l2);
+      }
     }
     return true;
   }
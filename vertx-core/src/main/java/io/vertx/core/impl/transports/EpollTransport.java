@@ -13,9 +13,11 @@ package io.vertx.core.impl.transports;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.*;
 import io.netty.channel.epoll.*;
 import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.DatagramPacket;
 import io.netty.channel.socket.InternetProtocolFamily;
 import io.netty.channel.unix.DomainSocketAddress;
 import io.netty.channel.unix.UnixChannelOption;
@@ -25,6 +27,7 @@ import io.vertx.core.net.TcpOption;
 import io.vertx.core.net.impl.SocketAddressImpl;
 import io.vertx.core.spi.transport.Transport;
 
+import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 
 import static io.vertx.core.impl.transports.NioTransport.configChildOption;
@@ -128,6 +131,21 @@ public class EpollTransport implements Transport {
   public void configure(DatagramChannel channel, DatagramSocketOptions options) {
     channel.config().setOption(EpollChannelOption.SO_REUSEPORT, options.isReusePort());
     Transport.super.configure(channel, options);
+    int maxDatagramPayloadSize = options.getMaxDatagramPayloadSize();
+    if (maxDatagramPayloadSize > 0) {
+      // Let recvmmsg read a batch of datagrams in a single buffer
+      channel.config().setOption(EpollChannelOption.MAX_DATAGRAM_PAYLOAD_SIZE, maxDatagramPayloadSize);
+      channel.config().setOption(EpollChannelOption.UDP_GRO, options.isUdpGro());
+      channel.config().setRecvByteBufAllocator(new FixedRecvByteBufAllocator(maxDatagramPayloadSize * options.getReceiveBatchSize()));
+    }
+  }
+
+  @Override
+  public DatagramPacket segmentedDatagramPacket(ByteBuf content, int segmentSize, InetSocketAddress recipient) {
+    if (!SegmentedDatagramPacket.isSupported()) {
+      return null;
+    }
+    return new SegmentedDatagramPacket(content, segmentSize, recipient);
   }
 
   @Override
@@ -3,6 +3,8 @@ package io.vertx.core.internal.buffer;
 import io.netty.buffer.ByteBuf;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferImpl;
+import io.vertx.core.buffer.impl.CompositeBufferImpl;
+import io.vertx.core.buffer.impl.PooledBufferImpl;
 import io.vertx.core.net.impl.VertxHandler;
 
 import java.nio.ByteBuffer;
@@ -47,6 +49,14 @@ public interface BufferInternal extends Buffer {
     return new BufferImpl(initialSizeHint);
   }
 
+  static BufferInternal pooled(int initialSizeHint) {
+    return new PooledBufferImpl(initialSizeHint);
+  }
+
+  static BufferInternal composite() {
+    return new CompositeBufferImpl();
+  }
+
   static BufferInternal buffer() {
     return new BufferImpl();
   }
@@ -226,6 +236,16 @@ public interface BufferInternal extends Buffer {
    */
   ByteBuf getByteBuf();
 
+  /**
+   * Returns the Buffer as a Netty {@code ByteBuf} to be written to a channel, the channel releases it once written.
+   *
+   * <p> Pooled buffers return a retained slice sharing the buffer memory, so the transport holds its own reference
+   * while the caller remains responsible for its own reference, other buffers return {@link #getByteBuf()}.
+   */
+  default ByteBuf retainedByteBuf() {
+    return getByteBuf();
+  }
+
   /**
    * @return the raw byte buff
    */
@@ -0,0 +1,409 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.internal.http;
+
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.vertx.core.MultiMap;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A view of the query parameters of a URI decoding the parameters on demand.
+ * <p/>
+ * Lookups scan the raw query string and only percent-decode the values of the requested parameter, the results are
+ * cached. Any other operation decodes the whole query in a {@link MultiMap} which then backs this view, the
+ * observable content and ordering are the same as {@link QueryParamDecoder#decode(String)}.
+ * <p/>
+ * This object is not thread safe.
+ */
+class LazyQueryParams implements MultiMap {
+
+  private final QueryParamDecoder decoder;
+  private final String uri;
+  private final int queryStart;
+  private Map<String, List<String>> cache;
+  private MultiMap params;
+
+  LazyQueryParams(QueryParamDecoder decoder, String uri) {
+    this.decoder = decoder;
+    this.uri = uri;
+    this.queryStart = queryStart(uri);
+  }
+
+  /**
+   * Same as {@link QueryStringDecoder}, the query starts after the first {@code ?} and ends at the first {@code #}.
+   */
+  private static int queryStart(String uri) {
+    int len = uri.length();
+    for (int i = 0;i < len;i++) {
+      char c = uri.charAt(i);
+      if (c == '?') {
+        return i + 1;
+      } else if (c == '#') {
+        break;
+      }
+    }
+    return len;
+  }
+
+  /**
+   * @return the decoded parameters, this view delegates to the returned map from now on
+   */
+  private MultiMap params() {
+    if (params == null) {
+      params = decoder.decode(uri);
+      cache = null;
+    }
+    return params;
+  }
+
+  private List<String> lookup(String name) {
+    if (cache == null) {
+      cache = new HashMap<>();
+    } else {
+      List<String> values = cache.get(name);
+      if (values != null) {
+        return values;
+      }
+    }
+    List<String> values = scan(name);
+    cache.put(name, values);
+    return values;
+  }
+
+  /**
+   * Scan the query with the same rules than {@link QueryStringDecoder}.
+   */
+  private List<String> scan(String name) {
+    Charset charset = decoder.charset();
+    boolean semicolonIsNormalChar = !decoder.isUseSemiColonAsDelimiter();
+    int remaining = decoder.maxParams();
+    String s = uri;
+    int len = s.length();
+    int nameStart = queryStart;
+    int valueStart = -1;
+    Match match = null;
+    for (int i = queryStart;i <= len;i++) {
+      char c = i < len ? s.charAt(i) : '#';
+      switch (c) {
+        case '=':
+          if (nameStart == i) {
+            nameStart = i + 1;
+          } else if (valueStart < nameStart) {
+            valueStart = i + 1;
+          }
+          break;
+        case ';':
+          if (semicolonIsNormalChar) {
+            break;
+          }
+        case '&':
+        case '#':
+          if (nameStart < i) {
+            int nameEnd = valueStart > nameStart ? valueStart - 1 : i;
+            String decodedName = matches(s, nameStart, nameEnd, name, charset);
+            if (decodedName != null) {
+              String value = valueStart > nameStart ? decode(s, valueStart, i, charset) : "";
+              match = new Match(decodedName, value, match);
+            }
+            if (--remaining == 0) {
+              return values(match);
+            }
+          }
+          if (c == '#') {
+            return values(match);
+          }
+          nameStart = i + 1;
+          break;
+      }
+    }
+    return values(match);
+  }
+
+  /**
+   * Order the values as a multimap built from the {@link QueryStringDecoder} parameters would do: the values are
+   * grouped by exact name in order of appearance.
+   */
+  private static List<String> values(Match last) {
+    if (last == null) {
+      return Collections.emptyList();
+    }
+    if (last.prev == null) {
+      return Collections.singletonList(last.value);
+    }
+    List<Match> matches = new ArrayList<>();
+    for (Match m = last;m != null;m = m.prev) {
+      matches.add(m);
+    }
+    Collections.reverse(matches);
+    String first = matches.get(0).name;
+    boolean grouped = true;
+    for (Match m : matches) {
+      if (!first.equals(m.name)) {
+        grouped = false;
+        break;
+      }
+    }
+    List<String> values = new ArrayList<>(matches.size());
+    if (grouped) {
+      for (Match m : matches) {
+        values.add(m.value);
+      }
+    } else {
+      Map<String, List<String>> groups = new LinkedHashMap<>();
+      for (Match m : matches) {
+        groups.computeIfAbsent(m.name, k -> new ArrayList<>()).add(m.value);
+      }
+      for (List<String> group : groups.values()) {
+        values.addAll(group);
+      }
+    }
+    return values;
+  }
+
+  /**
+   * @return the decoded name when the raw name between {@code from} and {@code to} matches {@code name} ignoring the
+   *         ASCII case, otherwise {@code null}
+   */
+  private static String matches(String s, int from, int to, String name, Charset charset) {
+    if (needsDecoding(s, from, to)) {
+      String decoded = QueryStringDecoder.decodeComponent(s.substring(from, to), charset);
+      return equalsIgnoreCase(decoded, 0, decoded.length(), name) ? decoded : null;
+    }
+    return equalsIgnoreCase(s, from, to, name) ? s.substring(from, to) : null;
+  }
+
+  private static String decode(String s, int from, int to, Charset charset) {
+    if (from == to) {
+      return "";
+    }
+    String value = s.substring(from, to);
+    return needsDecoding(s, from, to) ? QueryStringDecoder.decodeComponent(value, charset) : value;
+  }
+
+  private static boolean needsDecoding(String s, int from, int to) {
+    for (int i = from;i < to;i++) {
+      char c = s.charAt(i);
+      if (c == '%' || c == '+') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean equalsIgnoreCase(String s, int from, int to, String name) {
+    if (to - from != name.length()) {
+      return false;
+    }
+    for (int i = 0;i < name.length();i++) {
+      char a = s.charAt(from + i);
+      char b = name.charAt(i);
+      if (a != b && toLowerCase(a) != toLowerCase(b)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static char toLowerCase(char c) {
+    return c >= 'A' && c <= 'Z' ? (char)(c + 32) : c;
+  }
+
+  @Override
+  public String get(CharSequence name) {
+    return get(name.toString());
+  }
+
+  @Override
+  public String get(String name) {
+    if (params != null) {
+      return params.get(name);
+    }
+    List<String> values = lookup(name);
+    return values.isEmpty() ? null : values.get(0);
+  }
+
+  @Override
+  public List<String> getAll(String name) {
+    if (params != null) {
+      return params.getAll(name);
+    }
+    // The list is owned by the caller, like the lists of a decoded multimap
+    return new ArrayList<>(lookup(name));
+  }
+
+  @Override
+  public List<String> getAll(CharSequence name) {
+    return getAll(name.toString());
+  }
+
+  @Override
+  public boolean contains(String name) {
+    if (params != null) {
+      return params.contains(name);
+    }
+    return !lookup(name).isEmpty();
+  }
+
+  @Override
+  public boolean contains(CharSequence name) {
+    return contains(name.toString());
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return params().isEmpty();
+  }
+
+  @Override
+  public Set<String> names() {
+    return params().names();
+  }
+
+  @Override
+  public MultiMap add(String name, String value) {
+    params().add(name, value);
+    return this;
+  }
+
+  @Override
+  public MultiMap add(CharSequence name, CharSequence value) {
+    params().add(name, value);
+    return this;
+  }
+
+  @Override
+  public MultiMap add(String name, Iterable<String> values) {
+    params().add(name, values);
+    return this;
+  }
+
+  @Override
+  public MultiMap add(CharSequence name, Iterable<CharSequence> values) {
+    params().add(name, values);
+    return this;
+  }
+
+  @Override
+  public MultiMap addAll(MultiMap map) {
+    params().addAll(map);
+    return this;
+  }
+
+  @Override
+  public MultiMap addAll(Map<String, String> headers) {
+    params().addAll(headers);
+    return this;
+  }
+
+  @Override
+  public MultiMap set(String name, String value) {
+    params().set(name, value);
+    return this;
+  }
+
+  @Override
+  public MultiMap set(CharSequence name, CharSequence value) {
+    params().set(name, value);
+    return this;
+  }
+
+  @Override
+  public MultiMap set(String name, Iterable<String> values) {
+    params().set(name, values);
+    return this;
+  }
+
+  @Override
+  public MultiMap set(CharSequence name, Iterable<CharSequence> values) {
+    params().set(name, values);
+    return this;
+  }
+
+  @Override
+  public MultiMap setAll(MultiMap map) {
+    params().setAll(map);
+    return this;
+  }
+
+  @Override
+  public MultiMap setAll(Map<String, String> headers) {
+    params().setAll(headers);
+    return this;
+  }
+
+  @Override
+  public MultiMap remove(String name) {
+    params().remove(name);
+    return this;
+  }
+
+  @Override
+  public MultiMap remove(CharSequence name) {
+    params().remove(name);
+    return this;
+  }
+
+  @Override
+  public MultiMap clear() {
+    params().clear();
+    return this;
+  }
+
+  @Override
+  public int size() {
+    return params().size();
+  }
+
+  @Override
+  public boolean isMutable() {
+    return true;
+  }
+
+  @Override
+  public MultiMap copy(boolean mutable) {
+    return params().copy(mutable);
+  }
+
+  @Override
+  public Iterator<Map.Entry<String, String>> iterator() {
+    return params().iterator();
+  }
+
+  @Override
+  public List<Map.Entry<String, String>> entries() {
+    return params().entries();
+  }
+
+  @Override
+  public String toString() {
+    return params().toString();
+  }
+
+  private static class Match {
+    private final String name;
+    private final String value;
+    private final Match prev;
+    Match(String name, String value, Match prev) {
+      this.name = name;
+      this.value = value;
+      this.prev = prev;
+    }
+  }
+}
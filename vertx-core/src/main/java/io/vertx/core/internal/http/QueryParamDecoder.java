@@ -62,6 +62,17 @@ public class QueryParamDecoder {
     return params;
   }
 
+  /**
+   * Returns a view of the query parameters of {@code uri} that decodes the parameters on demand, looking up
+   * a parameter only decodes the values of this parameter. The view is not thread safe.
+   *
+   * @param uri the uri
+   * @return the parameters
+   */
+  public MultiMap decodeLazily(String uri) {
+    return new LazyQueryParams(this, uri);
+  }
+
   public void appendTo(String uri, MultiMap params) {
     QueryStringDecoder queryStringDecoder = new QueryStringDecoder(uri, charset, true, maxSize, !useSemiColonAsDelimiter);
     Map<String, List<String>> parameters = queryStringDecoder.parameters();
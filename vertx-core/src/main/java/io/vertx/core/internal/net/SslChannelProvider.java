@@ -26,6 +26,7 @@ import io.vertx.core.internal.tls.ServerSslContextProvider;
 import io.vertx.core.internal.tls.SslContextProvider;
 import io.vertx.core.net.HostAndPort;
 
+import javax.net.ssl.SSLEngine;
 import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
@@ -43,6 +44,7 @@ public class SslChannelProvider {
   private final boolean sni;
   private final boolean useHybridKeyExchangeProtocol;
   private final SslContextProvider sslContextProvider;
+  private Executor handshakeExecutor;
 
   public SslChannelProvider(VertxInternal vertx,
                             SslContextProvider sslContextProvider,
@@ -64,6 +66,25 @@ public class SslChannelProvider {
     return sslContextProvider;
   }
 
+  /**
+   * Set the executor running the delegated tasks of the TLS handshakes, such as the key exchange, instead of
+   * the event loop.
+   *
+   * @param executor the executor or {@code null} to use the default executor
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SslChannelProvider handshakeExecutor(Executor executor) {
+    this.handshakeExecutor = executor;
+    return this;
+  }
+
+  private Executor delegatedTaskExecutor() {
+    if (handshakeExecutor != null) {
+      return handshakeExecutor;
+    }
+    return sslContextProvider.useWorkerPool() ? workerPool : ImmediateExecutor.INSTANCE;
+  }
+
   public SslHandler createClientSslHandler(HostAndPort peer,
                                            String serverName,
                                            List<String> applicationProtocols,
@@ -71,7 +92,7 @@ public class SslChannelProvider {
                                            TimeUnit sslHandshakeTimeoutUnit) {
     SslContext sslContext = ((ClientSslContextProvider)sslContextProvider).sslClientContext(serverName, applicationProtocols);
     SslHandler sslHandler;
-    Executor delegatedTaskExec = sslContextProvider.useWorkerPool() ? workerPool : ImmediateExecutor.INSTANCE;
+    Executor delegatedTaskExec = delegatedTaskExecutor();
     if (peer != null) {
       sslHandler = sslContext.newHandler(ByteBufAllocator.DEFAULT, peer.host(), peer.port(), delegatedTaskExec);
     } else {
@@ -94,7 +115,7 @@ public class SslChannelProvider {
 
   private SslHandler createServerSslHandler(List<String> applicationProtocols, long sslHandshakeTimeout, TimeUnit sslHandshakeTimeoutUnit, HostAndPort remoteAddress) {
     SslContext sslContext = ((ServerSslContextProvider)sslContextProvider).sslServerContext(applicationProtocols);
-    Executor delegatedTaskExec = sslContextProvider.useWorkerPool() ? workerPool : ImmediateExecutor.INSTANCE;
+    Executor delegatedTaskExec = delegatedTaskExecutor();
     SslHandler sslHandler;
     if (remoteAddress != null) {
       sslHandler = sslContext.newHandler(ByteBufAllocator.DEFAULT, remoteAddress.host(), remoteAddress.port(), delegatedTaskExec);
@@ -109,11 +130,25 @@ public class SslChannelProvider {
   }
 
   private SniHandler createSniHandler(List<String> applicationProtocols, long sslHandshakeTimeout, TimeUnit sslHandshakeTimeoutUnit, HostAndPort remoteAddress) {
-    Executor delegatedTaskExec = sslContextProvider.useWorkerPool() ? workerPool : ImmediateExecutor.INSTANCE;
+    Executor delegatedTaskExec = delegatedTaskExecutor();
     return new VertxSniHandler(((ServerSslContextProvider)sslContextProvider).serverNameAsyncMapping(delegatedTaskExec, applicationProtocols), sslHandshakeTimeoutUnit.toMillis(sslHandshakeTimeout), delegatedTaskExec,
       useHybridKeyExchangeProtocol, remoteAddress);
   }
 
+  /**
+   * Determine whether the handshake of an {@link SslHandler} has resumed a previous session.
+   *
+   * @param sslHandler the handler which handshake has completed
+   * @return whether the session was resumed or {@code null} when the engine does not tell, e.g. the JDK engine
+   */
+  public static Boolean isSessionResumed(SslHandler sslHandler) {
+    SSLEngine engine = sslHandler.engine();
+    if (engine instanceof ReferenceCountedOpenSslEngine) {
+      return ((ReferenceCountedOpenSslEngine) engine).isSessionReused();
+    }
+    return null;
+  }
+
   static void applyHybridCurves(SslHandler sslHandler) {
     try {
       long sslPtr = ((ReferenceCountedOpenSslEngine) sslHandler.engine()).sslPointer();
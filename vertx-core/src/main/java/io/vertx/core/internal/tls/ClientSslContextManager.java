@@ -48,7 +48,9 @@ public class ClientSslContextManager extends SslContextManager<ClientSslContextP
           config.trustManagerFactory,
           config.trustManagerMapper,
           config.crls,
-          supplier);
+          supplier,
+          options.getSessionCacheSize(),
+          options.getSessionTimeout() != null ? options.getSessionTimeout().getSeconds() : -1L);
       }
     };
     return resolveSslContextProvider(options, factory, false, ctx);
@@ -31,8 +31,8 @@ public class ClientSslContextProvider extends SslContextProvider {
 
   private final String endpointIdentificationAlgorithm;
 
-  public ClientSslContextProvider(boolean useWorkerPool, String endpointIdentificationAlgorithm, Set<String> enabledCipherSuites, Set<String> enabledProtocols, KeyManagerFactory keyManagerFactory, Function<String, KeyManagerFactory> keyManagerFactoryMapper, TrustManagerFactory trustManagerFactory, Function<String, TrustManager[]> trustManagerMapper, List<CRL> crls, Supplier<SslContextFactory> provider) {
-    super(useWorkerPool, enabledCipherSuites, enabledProtocols, keyManagerFactory, keyManagerFactoryMapper, trustManagerFactory, trustManagerMapper, crls, provider);
+  public ClientSslContextProvider(boolean useWorkerPool, String endpointIdentificationAlgorithm, Set<String> enabledCipherSuites, Set<String> enabledProtocols, KeyManagerFactory keyManagerFactory, Function<String, KeyManagerFactory> keyManagerFactoryMapper, TrustManagerFactory trustManagerFactory, Function<String, TrustManager[]> trustManagerMapper, List<CRL> crls, Supplier<SslContextFactory> provider, int sessionCacheSize, long sessionTimeout) {
+    super(useWorkerPool, enabledCipherSuites, enabledProtocols, keyManagerFactory, keyManagerFactoryMapper, trustManagerFactory, trustManagerMapper, crls, provider, sessionCacheSize, sessionTimeout, DEFAULT_SNI_CACHE_SIZE);
 
     this.endpointIdentificationAlgorithm = endpointIdentificationAlgorithm;
   }
@@ -72,6 +72,7 @@ public class ClientSslContextProvider extends SslContextProvider {
         .enabledCipherSuites(enabledCipherSuites)
         .useAlpn(applicationProtocols != null)
         .applicationProtocols(applicationProtocols);
+      configureSessionCache(factory);
       if (keyManagerFactory != null) {
         factory.keyMananagerFactory(keyManagerFactory);
       }
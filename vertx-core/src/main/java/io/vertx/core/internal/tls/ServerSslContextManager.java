@@ -16,6 +16,7 @@ import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.net.SSLEngineOptions;
 import io.vertx.core.net.ServerSSLOptions;
 
+import java.time.Duration;
 import java.util.function.Function;
 
 /**
@@ -23,6 +24,8 @@ import java.util.function.Function;
  */
 public class ServerSslContextManager extends SslContextManager<ServerSslContextProvider> {
 
+  private SessionTicketKeys ticketKeys;
+
   public ServerSslContextManager(SSLEngineOptions sslEngineOptions, int cacheMaxSize) {
     super(sslEngineOptions, cacheMaxSize);
   }
@@ -41,6 +44,7 @@ public class ServerSslContextManager extends SslContextManager<ServerSslContextP
       clientAuth = ClientAuth.NONE;
     }
     ClientAuth c = clientAuth;
+    SessionTicketKeys keys = ticketKeys(options.getSessionTicketKeyRotation());
     Function<Config, ServerSslContextProvider> factory = new Function<Config, ServerSslContextProvider>() {
       @Override
       public ServerSslContextProvider apply(Config config) {
@@ -54,10 +58,27 @@ public class ServerSslContextManager extends SslContextManager<ServerSslContextP
           config.trustManagerFactory,
           config.trustManagerMapper,
           config.crls,
-          supplier);
+          supplier,
+          options.getSessionCacheSize(),
+          options.getSessionTimeout() != null ? options.getSessionTimeout().getSeconds() : -1L,
+          keys,
+          options.getSniCacheSize());
       }
     };
     return resolveSslContextProvider(options, factory, force, ctx);
   }
 
+  /**
+   * The ticket keys are retained across updates of the options, so sessions can be resumed after a certificate update.
+   */
+  private synchronized SessionTicketKeys ticketKeys(Duration rotation) {
+    if (rotation == null) {
+      return null;
+    }
+    if (ticketKeys == null || ticketKeys.rotationPeriod() != rotation.toNanos()) {
+      ticketKeys = new SessionTicketKeys(rotation.toNanos());
+    }
+    return ticketKeys;
+  }
+
 }
@@ -34,14 +34,19 @@ import java.util.function.Supplier;
 public class ServerSslContextProvider extends SslContextProvider {
 
   private final ClientAuth clientAuth;
+  private final SessionTicketKeys ticketKeys;
 
-  public ServerSslContextProvider(boolean useWorkerPool, ClientAuth clientAuth, Set<String> enabledCipherSuites, Set<String> enabledProtocols, KeyManagerFactory keyManagerFactory, Function<String, KeyManagerFactory> keyManagerFactoryMapper, TrustManagerFactory trustManagerFactory, Function<String, TrustManager[]> trustManagerMapper, List<CRL> crls, Supplier<SslContextFactory> provider) {
-    super(useWorkerPool, enabledCipherSuites, enabledProtocols, keyManagerFactory, keyManagerFactoryMapper, trustManagerFactory, trustManagerMapper, crls, provider);
+  public ServerSslContextProvider(boolean useWorkerPool, ClientAuth clientAuth, Set<String> enabledCipherSuites, Set<String> enabledProtocols, KeyManagerFactory keyManagerFactory, Function<String, KeyManagerFactory> keyManagerFactoryMapper, TrustManagerFactory trustManagerFactory, Function<String, TrustManager[]> trustManagerMapper, List<CRL> crls, Supplier<SslContextFactory> provider, int sessionCacheSize, long sessionTimeout, SessionTicketKeys ticketKeys, int sniCacheSize) {
+    super(useWorkerPool, enabledCipherSuites, enabledProtocols, keyManagerFactory, keyManagerFactoryMapper, trustManagerFactory, trustManagerMapper, crls, provider, sessionCacheSize, sessionTimeout, sniCacheSize);
 
     this.clientAuth = clientAuth;
+    this.ticketKeys = ticketKeys;
   }
 
   private SslContext sslServerContext(String serverName, List<String> applicationProtocols) throws Exception {
+    if (ticketKeys != null) {
+      ticketKeys.rotateIfNeeded();
+    }
     return sslContext(serverName, applicationProtocols, true);
   }
 
@@ -110,6 +115,7 @@ public class ServerSslContextProvider extends SslContextProvider {
         .enabledCipherSuites(enabledCipherSuites)
         .useAlpn(applicationProtocols != null)
         .applicationProtocols(applicationProtocols);
+      configureSessionCache(factory);
       if (keyManagerFactory != null) {
         factory.keyMananagerFactory(keyManagerFactory);
       }
@@ -117,7 +123,11 @@ public class ServerSslContextProvider extends SslContextProvider {
         TrustManagerFactory tmf = buildVertxTrustManagerFactory(trustManagers);
         factory.trustManagerFactory(tmf);
       }
-      return factory.create();
+      SslContext sslContext = factory.create();
+      if (ticketKeys != null) {
+        ticketKeys.register(sslContext);
+      }
+      return sslContext;
     } catch (Exception e) {
       throw new VertxException(e);
     }
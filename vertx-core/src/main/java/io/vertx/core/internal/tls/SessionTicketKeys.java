@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.internal.tls;
+
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
+import io.netty.handler.ssl.SslContext;
+
+import javax.net.ssl.SSLSessionContext;
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * The session ticket keys of a server, shared by the SSL contexts of the server.
+ * <p/>
+ * The current key encrypts the tickets, the previous key decrypts the tickets encrypted before the last rotation. Keys
+ * are rotated lazily when a context is obtained from the server, a key is not retained longer than two periods.
+ */
+public class SessionTicketKeys {
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  private final long rotationPeriod;
+  private final Set<OpenSslSessionContext> contexts = Collections.newSetFromMap(new WeakHashMap<>());
+  private volatile long nextRotation;
+  private OpenSslSessionTicketKey current;
+  private OpenSslSessionTicketKey previous;
+
+  /**
+   * @param rotationPeriod the rotation period in nanoseconds
+   */
+  public SessionTicketKeys(long rotationPeriod) {
+    this.rotationPeriod = rotationPeriod;
+    this.current = generateKey();
+    this.nextRotation = System.nanoTime() + rotationPeriod;
+  }
+
+  public long rotationPeriod() {
+    return rotationPeriod;
+  }
+
+  /**
+   * Configure the {@code sslContext} with the keys, contexts that do not support session tickets keys are ignored.
+   */
+  public void register(SslContext sslContext) {
+    SSLSessionContext sessionContext = sslContext.sessionContext();
+    if (sessionContext instanceof OpenSslSessionContext) {
+      OpenSslSessionContext ctx = (OpenSslSessionContext) sessionContext;
+      synchronized (this) {
+        ctx.setTicketKeys(keys());
+        contexts.add(ctx);
+      }
+    }
+  }
+
+  /**
+   * Rotate the keys when the rotation period has elapsed.
+   */
+  public void rotateIfNeeded() {
+    long now = System.nanoTime();
+    if (now - nextRotation < 0L) {
+      return;
+    }
+    synchronized (this) {
+      if (now - nextRotation < 0L) {
+        return;
+      }
+      // The previous key has expired as well when more than one period has elapsed since the rotation was due
+      previous = now - nextRotation < rotationPeriod ? current : null;
+      current = generateKey();
+      nextRotation = now + rotationPeriod;
+      OpenSslSessionTicketKey[] keys = keys();
+      for (OpenSslSessionContext ctx : contexts) {
+        ctx.setTicketKeys(keys);
+      }
+    }
+  }
+
+  /**
+   * @return the keys, the current key first followed by the previous key when it is retained
+   */
+  public synchronized OpenSslSessionTicketKey[] keys() {
+    return previous != null ? new OpenSslSessionTicketKey[] { current, previous } : new OpenSslSessionTicketKey[] { current };
+  }
+
+  private static OpenSslSessionTicketKey generateKey() {
+    byte[] name = new byte[OpenSslSessionTicketKey.NAME_SIZE];
+    byte[] hmacKey = new byte[OpenSslSessionTicketKey.HMAC_KEY_SIZE];
+    byte[] aesKey = new byte[OpenSslSessionTicketKey.AES_KEY_SIZE];
+    RANDOM.nextBytes(name);
+    RANDOM.nextBytes(hmacKey);
+    RANDOM.nextBytes(aesKey);
+    return new OpenSslSessionTicketKey(name, hmacKey, aesKey);
+  }
+}
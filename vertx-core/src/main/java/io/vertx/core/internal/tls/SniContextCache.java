@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.internal.tls;
+
+import io.netty.handler.ssl.SslContext;
+import io.vertx.core.spi.metrics.TransportMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded concurrent cache of {@link SslContext} indexed by server name.
+ * <p/>
+ * Lookups do not lock, the eviction follows the clock algorithm: a lookup marks the entry as referenced, when the cache
+ * is full the entries are scanned in insertion order, a referenced entry is given a second chance while the first
+ * entry that is not referenced is evicted.
+ */
+public class SniContextCache {
+
+  private final int maxSize;
+  private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+  private final ConcurrentLinkedQueue<Entry> clock = new ConcurrentLinkedQueue<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private volatile TransportMetrics<?> metrics;
+
+  public SniContextCache(int maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("maxSize must be > 0");
+    }
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Set the metrics reporting the cache hits and misses.
+   */
+  public void metrics(TransportMetrics<?> metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * @return the metrics reporting the cache hits and misses
+   */
+  public TransportMetrics<?> metrics() {
+    return metrics;
+  }
+
+  /**
+   * Lookup the context of {@code serverName}.
+   *
+   * @return the context or {@code null} when the context is not cached
+   */
+  public SslContext get(String serverName) {
+    Entry entry = entries.get(serverName);
+    if (entry == null) {
+      return null;
+    }
+    if (!entry.referenced) {
+      entry.referenced = true;
+    }
+    hits.increment();
+    TransportMetrics<?> m = metrics;
+    if (m != null) {
+      m.sniContextCacheHit();
+    }
+    return entry.context;
+  }
+
+  /**
+   * Cache the context of {@code serverName} built after a lookup miss.
+   *
+   * @param buildTime the time spent building the context in nanoseconds
+   * @return the cached context, that is another context when a concurrent miss cached it first
+   */
+  public SslContext put(String serverName, SslContext context, long buildTime) {
+    misses.increment();
+    TransportMetrics<?> m = metrics;
+    if (m != null) {
+      m.sniContextCacheMiss(buildTime);
+    }
+    return add(serverName, context);
+  }
+
+  /**
+   * Cache the context of {@code serverName} built ahead of time.
+   *
+   * @return the cached context, that is another context when a concurrent lookup miss cached it first
+   */
+  public SslContext add(String serverName, SslContext context) {
+    Entry entry = new Entry(serverName, context);
+    Entry prev = entries.putIfAbsent(serverName, entry);
+    if (prev != null) {
+      return prev.context;
+    }
+    clock.add(entry);
+    evict();
+    return context;
+  }
+
+  private void evict() {
+    // Each scanned entry loses its second chance, so two rounds are enough
+    int budget = 2 * (maxSize + 1);
+    while (entries.size() > maxSize && budget-- > 0) {
+      Entry head = clock.poll();
+      if (head == null) {
+        break;
+      }
+      if (head.referenced) {
+        head.referenced = false;
+        clock.add(head);
+      } else {
+        entries.remove(head.serverName, head);
+      }
+    }
+  }
+
+  /**
+   * @return whether the context of {@code serverName} is cached, this is not considered as a lookup
+   */
+  public boolean contains(String serverName) {
+    return entries.containsKey(serverName);
+  }
+
+  /**
+   * @return the server names of the cached contexts
+   */
+  public List<String> serverNames() {
+    return new ArrayList<>(entries.keySet());
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public int maxSize() {
+    return maxSize;
+  }
+
+  public long hits() {
+    return hits.sum();
+  }
+
+  public long misses() {
+    return misses.sum();
+  }
+
+  private static class Entry {
+    private final String serverName;
+    private final SslContext context;
+    private volatile boolean referenced;
+    Entry(String serverName, SslContext context) {
+      this.serverName = serverName;
+      this.context = context;
+    }
+  }
+}
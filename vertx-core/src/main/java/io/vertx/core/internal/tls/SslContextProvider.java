@@ -11,7 +11,9 @@
 package io.vertx.core.internal.tls;
 
 import io.netty.handler.ssl.SslContext;
-import io.vertx.core.impl.utils.LruCache;
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.core.spi.metrics.TransportMetrics;
 import io.vertx.core.spi.tls.SslContextFactory;
 
 import javax.net.ssl.*;
@@ -30,6 +32,8 @@ import java.util.function.Supplier;
  */
 public abstract class SslContextProvider {
 
+  private static final Logger log = LoggerFactory.getLogger(SslContextProvider.class);
+
   public static final int DEFAULT_SNI_CACHE_SIZE = 16;
   private static final List<String> VALID_PROTOCOLS = List.of("TLSv1.3", "TLSv1.2", "TLSv1.1", "TLSv1", "SSLv3", "SSLv2Hello", "DTLSv1.2", "DTLSv1.0");
 
@@ -42,9 +46,11 @@ public abstract class SslContextProvider {
   protected final Supplier<SslContextFactory> provider;
   protected final Set<String> enabledProtocols;
   protected final Set<String> enabledCipherSuites;
+  private final int sessionCacheSize;
+  private final long sessionTimeout;
 
   private final Map<String, SslContext> sslContexts = new ConcurrentHashMap<>();
-  private final Map<String, SslContext> sslContextMaps = new LruCache<>(DEFAULT_SNI_CACHE_SIZE);
+  private final SniContextCache sniContexts;
 
   public SslContextProvider(boolean useWorkerPool,
                             Set<String> enabledCipherSuites,
@@ -54,7 +60,10 @@ public abstract class SslContextProvider {
                             TrustManagerFactory trustManagerFactory,
                             Function<String, TrustManager[]> trustManagerMapper,
                             List<CRL> crls,
-                            Supplier<SslContextFactory> provider) {
+                            Supplier<SslContextFactory> provider,
+                            int sessionCacheSize,
+                            long sessionTimeout,
+                            int sniCacheSize) {
 
     // Filter the list of enabled protocols
     enabledProtocols = new HashSet<>(enabledProtocols);
@@ -69,6 +78,9 @@ public abstract class SslContextProvider {
     this.keyManagerFactoryMapper = keyManagerFactoryMapper;
     this.trustManagerMapper = trustManagerMapper;
     this.crls = crls;
+    this.sessionCacheSize = sessionCacheSize;
+    this.sessionTimeout = sessionTimeout;
+    this.sniContexts = new SniContextCache(sniCacheSize);
   }
 
   public boolean useWorkerPool() {
@@ -76,23 +88,83 @@ public abstract class SslContextProvider {
   }
 
   public int sniEntrySize() {
-    synchronized (sslContextMaps) {
-      return sslContextMaps.size();
+    return sniContexts.size();
+  }
+
+  /**
+   * @return the cache of the contexts of the server names
+   */
+  public SniContextCache sniContexts() {
+    return sniContexts;
+  }
+
+  /**
+   * Set the metrics reporting the usage of the server name contexts.
+   */
+  public void metrics(TransportMetrics<?> metrics) {
+    sniContexts.metrics(metrics);
+  }
+
+  /**
+   * Build and cache the contexts of the {@code serverNames}, server names without specific key or trust managers are
+   * ignored as well as server names which context cannot be built. The preloading stops when the cache is full, the
+   * remaining server names are skipped with a warning.
+   * <br/>
+   * This can block and should be executed on the appropriate thread.
+   *
+   * @param serverNames the server names
+   * @param applicationProtocols the application protocols
+   * @param server whether the contexts are server contexts
+   * @return the number of contexts built
+   */
+  public int preload(Collection<String> serverNames, List<String> applicationProtocols, boolean server) {
+    long start = System.nanoTime();
+    int count = 0;
+    int skipped = 0;
+    for (String serverName : serverNames) {
+      if (sniContexts.contains(serverName)) {
+        continue;
+      }
+      if (sniContexts.size() >= sniContexts.maxSize()) {
+        // Any other context would evict a preloaded one
+        skipped++;
+        continue;
+      }
+      try {
+        KeyManagerFactory kmf = resolveKeyManagerFactory(serverName);
+        TrustManager[] trustManagers = resolveTrustManagers(serverName);
+        if (kmf != null || trustManagers != null || !server) {
+          sniContexts.add(serverName, createContext(kmf, trustManagers, serverName, applicationProtocols));
+          count++;
+        }
+      } catch (Exception e) {
+        log.warn("Could not build the SSL context of " + serverName, e);
+      }
     }
+    if (skipped > 0) {
+      log.warn("Did not preload the SSL context of " + skipped + " server names, the SNI cache size is " + sniContexts.maxSize());
+    }
+    TransportMetrics<?> metrics = sniContexts.metrics();
+    if (metrics != null && count > 0) {
+      metrics.sniContextsRebuilt(count, System.nanoTime() - start);
+    }
+    return count;
   }
 
   protected abstract SslContext createContext(KeyManagerFactory keyManagerFactory,  TrustManager[] trustManagers, String serverName, List<String> applicationProtocols);
 
   protected SslContext sslContext(String serverName, List<String> applicationProtocols, boolean server) throws Exception {
     if (serverName != null) {
+      SslContext cached = sniContexts.get(serverName);
+      if (cached != null) {
+        return cached;
+      }
       KeyManagerFactory kmf = resolveKeyManagerFactory(serverName);
       TrustManager[] trustManagers = resolveTrustManagers(serverName);
       if (kmf != null || trustManagers != null || !server) {
-        synchronized (sslContextMaps) {
-          return sslContextMaps.computeIfAbsent(serverName, s -> {
-            return createContext(kmf, trustManagers, s, applicationProtocols);
-          });
-        }
+        long start = System.nanoTime();
+        SslContext context = createContext(kmf, trustManagers, serverName, applicationProtocols);
+        return sniContexts.put(serverName, context, System.nanoTime() - start);
       }
     }
     String alpnKey;
@@ -162,6 +234,22 @@ public abstract class SslContextProvider {
     return null;
   }
 
+  /**
+   * Configure the SSL session cache of the {@code factory}.
+   *
+   * @param factory the factory
+   * @return the factory
+   */
+  protected final SslContextFactory configureSessionCache(SslContextFactory factory) {
+    if (sessionCacheSize >= 0) {
+      factory.sessionCacheSize(sessionCacheSize);
+    }
+    if (sessionTimeout >= 0L) {
+      factory.sessionTimeout(sessionTimeout);
+    }
+    return factory;
+  }
+
   protected final VertxTrustManagerFactory buildVertxTrustManagerFactory(TrustManager[] mgrs) {
     if (crls != null && crls.size() > 0) {
       mgrs = createUntrustRevokedCertTrustManager(mgrs, crls);
@@ -15,6 +15,7 @@ import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -155,6 +156,16 @@ public class ClientSSLOptions extends SSLOptions {
     return (ClientSSLOptions) super.setApplicationLayerProtocols(protocols);
   }
 
+  @Override
+  public ClientSSLOptions setSessionCacheSize(int sessionCacheSize) {
+    return (ClientSSLOptions) super.setSessionCacheSize(sessionCacheSize);
+  }
+
+  @Override
+  public ClientSSLOptions setSessionTimeout(Duration sessionTimeout) {
+    return (ClientSSLOptions) super.setSessionTimeout(sessionTimeout);
+  }
+
   @Override
   public ClientSSLOptions addCrlPath(String crlPath) throws NullPointerException {
     return (ClientSSLOptions) super.addCrlPath(crlPath);
@@ -68,6 +68,21 @@ public class NetServerOptions extends TCPSSLOptions {
    */
   public static final boolean DEFAULT_REGISTER_WRITE_HANDLER = false;
 
+  /**
+   * The default size of the pool running the TLS handshake tasks = 0 (meaning the tasks run on the event loop)
+   */
+  public static final int DEFAULT_SSL_HANDSHAKE_POOL_SIZE = 0;
+
+  /**
+   * The default max number of concurrent TLS handshakes per event loop = 0 (meaning unbounded)
+   */
+  public static final int DEFAULT_MAX_CONCURRENT_SSL_HANDSHAKES = 0;
+
+  /**
+   * The default max number of connections waiting for their TLS handshake per event loop = 1024
+   */
+  public static final int DEFAULT_MAX_PENDING_SSL_HANDSHAKES = 1024;
+
   private int port;
   private String host;
   private int acceptBacklog;
@@ -76,6 +91,9 @@ public class NetServerOptions extends TCPSSLOptions {
   private TimeUnit proxyProtocolTimeoutUnit;
   private boolean registerWriteHandler;
   private TrafficShapingOptions trafficShapingOptions;
+  private int sslHandshakePoolSize;
+  private int maxConcurrentSslHandshakes;
+  private int maxPendingSslHandshakes;
 
   /**
    * Default constructor
@@ -102,6 +120,9 @@ public class NetServerOptions extends TCPSSLOptions {
       DEFAULT_PROXY_PROTOCOL_TIMEOUT_TIME_UNIT;
     this.registerWriteHandler = other.registerWriteHandler;
     this.trafficShapingOptions = other.getTrafficShapingOptions();
+    this.sslHandshakePoolSize = other.sslHandshakePoolSize;
+    this.maxConcurrentSslHandshakes = other.maxConcurrentSslHandshakes;
+    this.maxPendingSslHandshakes = other.maxPendingSslHandshakes;
   }
 
   /**
@@ -497,6 +518,75 @@ public class NetServerOptions extends TCPSSLOptions {
     return this;
   }
 
+  /**
+   * @return the size of the pool running the TLS handshake tasks
+   */
+  public int getSslHandshakePoolSize() {
+    return sslHandshakePoolSize;
+  }
+
+  /**
+   * Set the size of a pool dedicated to the TLS handshake tasks of the server, such as the key exchange and
+   * the certificate verification, so they do not block the event loops. When set to {@code 0}, the tasks
+   * run on the event loop.
+   *
+   * @param sslHandshakePoolSize the pool size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public NetServerOptions setSslHandshakePoolSize(int sslHandshakePoolSize) {
+    if (sslHandshakePoolSize < 0) {
+      throw new IllegalArgumentException("sslHandshakePoolSize must be >= 0");
+    }
+    this.sslHandshakePoolSize = sslHandshakePoolSize;
+    return this;
+  }
+
+  /**
+   * @return the max number of concurrent TLS handshakes per event loop
+   */
+  public int getMaxConcurrentSslHandshakes() {
+    return maxConcurrentSslHandshakes;
+  }
+
+  /**
+   * Set the max number of concurrent TLS handshakes per event loop, the connections exceeding this number are
+   * not read until a handshake completes. When set to {@code 0}, the number of handshakes is not limited.
+   *
+   * @param maxConcurrentSslHandshakes the max number of concurrent handshakes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public NetServerOptions setMaxConcurrentSslHandshakes(int maxConcurrentSslHandshakes) {
+    if (maxConcurrentSslHandshakes < 0) {
+      throw new IllegalArgumentException("maxConcurrentSslHandshakes must be >= 0");
+    }
+    this.maxConcurrentSslHandshakes = maxConcurrentSslHandshakes;
+    return this;
+  }
+
+  /**
+   * @return the max number of connections waiting for their TLS handshake per event loop
+   */
+  public int getMaxPendingSslHandshakes() {
+    return maxPendingSslHandshakes;
+  }
+
+  /**
+   * Set the max number of connections waiting for their TLS handshake per event loop when
+   * {@link #setMaxConcurrentSslHandshakes(int)} is reached, the server stops accepting connections until
+   * the waiting connections drain below this number, the connections accepted meanwhile are closed. When set to
+   * {@code 0}, the server always accepts connections.
+   *
+   * @param maxPendingSslHandshakes the max number of waiting connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public NetServerOptions setMaxPendingSslHandshakes(int maxPendingSslHandshakes) {
+    if (maxPendingSslHandshakes < 0) {
+      throw new IllegalArgumentException("maxPendingSslHandshakes must be >= 0");
+    }
+    this.maxPendingSslHandshakes = maxPendingSslHandshakes;
+    return this;
+  }
+
   private void init() {
     this.port = DEFAULT_PORT;
     this.host = DEFAULT_HOST;
@@ -505,6 +595,9 @@ public class NetServerOptions extends TCPSSLOptions {
     this.proxyProtocolTimeout = DEFAULT_PROXY_PROTOCOL_TIMEOUT;
     this.proxyProtocolTimeoutUnit = DEFAULT_PROXY_PROTOCOL_TIMEOUT_TIME_UNIT;
     this.registerWriteHandler = DEFAULT_REGISTER_WRITE_HANDLER;
+    this.sslHandshakePoolSize = DEFAULT_SSL_HANDSHAKE_POOL_SIZE;
+    this.maxConcurrentSslHandshakes = DEFAULT_MAX_CONCURRENT_SSL_HANDSHAKES;
+    this.maxPendingSslHandshakes = DEFAULT_MAX_PENDING_SSL_HANDSHAKES;
   }
 
   /**
@@ -16,6 +16,7 @@ import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -54,6 +55,16 @@ public class SSLOptions {
    */
   public static final TimeUnit DEFAULT_SSL_HANDSHAKE_TIMEOUT_TIME_UNIT = TimeUnit.SECONDS;
 
+  /**
+   * Default SSL session cache size = -1, the SSL engine default is used
+   */
+  public static final int DEFAULT_SESSION_CACHE_SIZE = -1;
+
+  /**
+   * Default SSL session timeout = {@code null}, the SSL engine default is used
+   */
+  public static final Duration DEFAULT_SESSION_TIMEOUT = null;
+
   /**
    * The default ENABLED_SECURE_TRANSPORT_PROTOCOLS value = { "TLSv1", "TLSv1.1", "TLSv1.2", "TLSv1.3" }
    * <p/>
@@ -74,6 +85,8 @@ public class SSLOptions {
   private boolean useHybridKeyExchangeProtocol;
   private Set<String> enabledSecureTransportProtocols;
   private List<String> applicationLayerProtocols;
+  private int sessionCacheSize;
+  private Duration sessionTimeout;
 
   /**
    * Default constructor
@@ -99,6 +112,8 @@ public class SSLOptions {
     this.useHybridKeyExchangeProtocol = other.useHybridKeyExchangeProtocol;
     this.enabledSecureTransportProtocols = other.getEnabledSecureTransportProtocols() == null ? new LinkedHashSet<>() : new LinkedHashSet<>(other.getEnabledSecureTransportProtocols());
     this.applicationLayerProtocols = other.getApplicationLayerProtocols() != null ? new ArrayList<>(other.getApplicationLayerProtocols()) : null;
+    this.sessionCacheSize = other.sessionCacheSize;
+    this.sessionTimeout = other.sessionTimeout;
   }
 
   /**
@@ -122,6 +137,8 @@ public class SSLOptions {
     useHybridKeyExchangeProtocol = DEFAULT_USE_HYBRID;
     enabledSecureTransportProtocols = new LinkedHashSet<>(DEFAULT_ENABLED_SECURE_TRANSPORT_PROTOCOLS);
     applicationLayerProtocols = null;
+    sessionCacheSize = DEFAULT_SESSION_CACHE_SIZE;
+    sessionTimeout = DEFAULT_SESSION_TIMEOUT;
   }
 
   public SSLOptions copy() {
@@ -389,6 +406,52 @@ public class SSLOptions {
     return this;
   }
 
+  /**
+   * @return the maximum number of SSL sessions cached for resumption, {@code -1} when the SSL engine default is used
+   */
+  public int getSessionCacheSize() {
+    return sessionCacheSize;
+  }
+
+  /**
+   * Set the maximum number of SSL sessions cached for resumption, a resumed session avoids the cost of a full
+   * handshake. A client caches the sessions of the servers it connects to, keyed by the server host and port.
+   * <p/>
+   * {@code 0} means no limit and {@code -1} uses the SSL engine default.
+   *
+   * @param sessionCacheSize the cache size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SSLOptions setSessionCacheSize(int sessionCacheSize) {
+    if (sessionCacheSize < -1) {
+      throw new IllegalArgumentException("sessionCacheSize must be >= -1");
+    }
+    this.sessionCacheSize = sessionCacheSize;
+    return this;
+  }
+
+  /**
+   * @return the duration after which a cached SSL session expires, {@code null} when the SSL engine default is used
+   */
+  public Duration getSessionTimeout() {
+    return sessionTimeout;
+  }
+
+  /**
+   * Set the duration after which a cached SSL session expires and cannot be resumed anymore, the duration is rounded
+   * to the second.
+   *
+   * @param sessionTimeout the timeout or {@code null} to use the SSL engine default
+   * @return a reference to this, so the API can be used fluently
+   */
+  public SSLOptions setSessionTimeout(Duration sessionTimeout) {
+    if (sessionTimeout != null && sessionTimeout.isNegative()) {
+      throw new IllegalArgumentException("sessionTimeout must be >= 0");
+    }
+    this.sessionTimeout = sessionTimeout;
+    return this;
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (obj == this) {
@@ -404,14 +467,16 @@ public class SSLOptions {
          Objects.equals(crlValues, that.crlValues) &&
          useAlpn == that.useAlpn &&
          useHybridKeyExchangeProtocol == that.useHybridKeyExchangeProtocol &&
-         Objects.equals(enabledSecureTransportProtocols, that.enabledSecureTransportProtocols);
+         Objects.equals(enabledSecureTransportProtocols, that.enabledSecureTransportProtocols) &&
+         sessionCacheSize == that.sessionCacheSize &&
+         Objects.equals(sessionTimeout, that.sessionTimeout);
     }
     return false;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(sslHandshakeTimeoutUnit.toNanos(sslHandshakeTimeout), keyCertOptions, trustOptions, enabledCipherSuites, crlPaths, crlValues, useAlpn, useHybridKeyExchangeProtocol, enabledSecureTransportProtocols);
+    return Objects.hash(sslHandshakeTimeoutUnit.toNanos(sslHandshakeTimeout), keyCertOptions, trustOptions, enabledCipherSuites, crlPaths, crlValues, useAlpn, useHybridKeyExchangeProtocol, enabledSecureTransportProtocols, sessionCacheSize, sessionTimeout);
   }
 
   /**
@@ -16,6 +16,8 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.ClientAuth;
 import io.vertx.core.json.JsonObject;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -37,8 +39,21 @@ public class ServerSSLOptions extends SSLOptions {
    */
   public static final boolean DEFAULT_SNI = false;
 
+  /**
+   * Default session ticket key rotation = {@code null}, the SSL engine manages the session ticket keys
+   */
+  public static final Duration DEFAULT_SESSION_TICKET_KEY_ROTATION = null;
+
+  /**
+   * Default max number of SSL contexts of server names cached by the server = 16
+   */
+  public static final int DEFAULT_SNI_CACHE_SIZE = 16;
+
   private ClientAuth clientAuth;
   private boolean sni;
+  private Duration sessionTicketKeyRotation;
+  private int sniCacheSize;
+  private List<String> sniPreloadServerNames;
 
   /**
    * Default constructor
@@ -56,6 +71,9 @@ public class ServerSSLOptions extends SSLOptions {
     super(other);
     clientAuth = other.clientAuth;
     sni = other.sni;
+    sessionTicketKeyRotation = other.sessionTicketKeyRotation;
+    sniCacheSize = other.sniCacheSize;
+    sniPreloadServerNames = other.sniPreloadServerNames != null ? new ArrayList<>(other.sniPreloadServerNames) : null;
   }
 
   /**
@@ -73,6 +91,9 @@ public class ServerSSLOptions extends SSLOptions {
     super.init();
     this.clientAuth = DEFAULT_CLIENT_AUTH;
     this.sni = DEFAULT_SNI;
+    this.sessionTicketKeyRotation = DEFAULT_SESSION_TICKET_KEY_ROTATION;
+    this.sniCacheSize = DEFAULT_SNI_CACHE_SIZE;
+    this.sniPreloadServerNames = null;
   }
 
   public ServerSSLOptions copy() {
@@ -113,6 +134,94 @@ public class ServerSSLOptions extends SSLOptions {
     return this;
   }
 
+  /**
+   * @return the period after which the session ticket encryption key is rotated, {@code null} when the SSL engine
+   * manages the session ticket keys
+   */
+  public Duration getSessionTicketKeyRotation() {
+    return sessionTicketKeyRotation;
+  }
+
+  /**
+   * Set the period after which the session ticket encryption key is rotated.
+   * <p/>
+   * When set, the server generates the keys encrypting the session tickets sent to clients and shares them with all
+   * the SSL contexts of the server, so a client can resume a session with any instance of a server bound to the same
+   * address. Upon rotation, the previous key still decrypts tickets during a rotation period.
+   * <p/>
+   * This is only supported by the OpenSSL engine, the JDK engine manages its own keys.
+   *
+   * @param sessionTicketKeyRotation the rotation period or {@code null} to let the SSL engine manage the keys
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ServerSSLOptions setSessionTicketKeyRotation(Duration sessionTicketKeyRotation) {
+    if (sessionTicketKeyRotation != null && (sessionTicketKeyRotation.isNegative() || sessionTicketKeyRotation.isZero())) {
+      throw new IllegalArgumentException("sessionTicketKeyRotation must be > 0");
+    }
+    this.sessionTicketKeyRotation = sessionTicketKeyRotation;
+    return this;
+  }
+
+  /**
+   * @return the max number of SSL contexts of server names cached by the server
+   */
+  public int getSniCacheSize() {
+    return sniCacheSize;
+  }
+
+  /**
+   * Set the max number of SSL contexts of server names cached by the server when {@link #setSni(boolean) SNI} is
+   * enabled, a server terminating TLS for many server names should cache the contexts of all its server names, so
+   * they are not built again during the handshakes.
+   *
+   * @param sniCacheSize the max number of contexts
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ServerSSLOptions setSniCacheSize(int sniCacheSize) {
+    if (sniCacheSize < 1) {
+      throw new IllegalArgumentException("sniCacheSize must be > 0");
+    }
+    this.sniCacheSize = sniCacheSize;
+    return this;
+  }
+
+  /**
+   * @return the server names which SSL contexts are built before they are used
+   */
+  public List<String> getSniPreloadServerNames() {
+    return sniPreloadServerNames;
+  }
+
+  /**
+   * Set the server names which SSL contexts are built in the background before they are used by a handshake, when
+   * the server starts or when its SSL options are updated.
+   * <p/>
+   * When the SSL options of a server are updated, the contexts of the server names cached by the server are also
+   * built again in the background before the update is applied.
+   *
+   * @param sniPreloadServerNames the server names
+   * @return a reference to this, so the API can be used fluently
+   */
+  public ServerSSLOptions setSniPreloadServerNames(List<String> sniPreloadServerNames) {
+    this.sniPreloadServerNames = sniPreloadServerNames;
+    return this;
+  }
+
+  /**
+   * Add a server name which SSL context is built before it is used.
+   *
+   * @param serverName the server name
+   * @return a reference to this, so the API can be used fluently
+   * @see #setSniPreloadServerNames(List)
+   */
+  public ServerSSLOptions addSniPreloadServerName(String serverName) {
+    if (sniPreloadServerNames == null) {
+      sniPreloadServerNames = new ArrayList<>();
+    }
+    sniPreloadServerNames.add(serverName);
+    return this;
+  }
+
   @Override
   public ServerSSLOptions setKeyCertOptions(KeyCertOptions options) {
     return (ServerSSLOptions) super.setKeyCertOptions(options);
@@ -153,6 +262,16 @@ public class ServerSSLOptions extends SSLOptions {
     return (ServerSSLOptions) super.setApplicationLayerProtocols(protocols);
   }
 
+  @Override
+  public ServerSSLOptions setSessionCacheSize(int sessionCacheSize) {
+    return (ServerSSLOptions) super.setSessionCacheSize(sessionCacheSize);
+  }
+
+  @Override
+  public ServerSSLOptions setSessionTimeout(Duration sessionTimeout) {
+    return (ServerSSLOptions) super.setSessionTimeout(sessionTimeout);
+  }
+
   @Override
   public ServerSSLOptions addEnabledCipherSuite(String suite) {
     return (ServerSSLOptions) super.addEnabledCipherSuite(suite);
@@ -32,6 +32,9 @@ public class TcpServerConfig extends TcpEndpointConfig {
   private boolean useProxyProtocol;
   private Duration proxyProtocolTimeout;
   private TrafficShapingOptions trafficShapingOptions;
+  private int sslHandshakePoolSize;
+  private int maxConcurrentSslHandshakes;
+  private int maxPendingSslHandshakes;
 
   public TcpServerConfig() {
     init();
@@ -46,6 +49,9 @@ public class TcpServerConfig extends TcpEndpointConfig {
     this.useProxyProtocol = other.isUseProxyProtocol();
     this.proxyProtocolTimeout = other.proxyProtocolTimeout;
     this.trafficShapingOptions = other.getTrafficShapingOptions() != null ? new TrafficShapingOptions(other.getTrafficShapingOptions()) : null;
+    this.sslHandshakePoolSize = other.sslHandshakePoolSize;
+    this.maxConcurrentSslHandshakes = other.maxConcurrentSslHandshakes;
+    this.maxPendingSslHandshakes = other.maxPendingSslHandshakes;
   }
 
   public TcpServerConfig(NetServerOptions options) {
@@ -57,6 +63,9 @@ public class TcpServerConfig extends TcpEndpointConfig {
     this.useProxyProtocol = options.isUseProxyProtocol();
     this.proxyProtocolTimeout = Duration.of(options.getProxyProtocolTimeout(), options.getProxyProtocolTimeoutUnit().toChronoUnit());
     this.trafficShapingOptions = options.getTrafficShapingOptions() != null ? new TrafficShapingOptions(options.getTrafficShapingOptions()) : null;
+    this.sslHandshakePoolSize = options.getSslHandshakePoolSize();
+    this.maxConcurrentSslHandshakes = options.getMaxConcurrentSslHandshakes();
+    this.maxPendingSslHandshakes = options.getMaxPendingSslHandshakes();
   }
 
 
@@ -67,6 +76,9 @@ public class TcpServerConfig extends TcpEndpointConfig {
     this.useProxyProtocol = DEFAULT_USE_PROXY_PROTOCOL;
     this.proxyProtocolTimeout = Duration.of(DEFAULT_PROXY_PROTOCOL_TIMEOUT, DEFAULT_PROXY_PROTOCOL_TIMEOUT_TIME_UNIT.toChronoUnit());
     this.trafficShapingOptions = null;
+    this.sslHandshakePoolSize = DEFAULT_SSL_HANDSHAKE_POOL_SIZE;
+    this.maxConcurrentSslHandshakes = DEFAULT_MAX_CONCURRENT_SSL_HANDSHAKES;
+    this.maxPendingSslHandshakes = DEFAULT_MAX_PENDING_SSL_HANDSHAKES;
   }
 
   public TcpServerConfig setIdleTimeout(Duration idleTimeout) {
@@ -201,4 +213,71 @@ public class TcpServerConfig extends TcpEndpointConfig {
     this.trafficShapingOptions = trafficShapingOptions;
     return this;
   }
+
+  /**
+   * @return the size of the pool running the TLS handshake tasks
+   */
+  public int getSslHandshakePoolSize() {
+    return sslHandshakePoolSize;
+  }
+
+  /**
+   * Set the size of a pool dedicated to the TLS handshake tasks of the server, when set to {@code 0}, the tasks
+   * run on the event loop.
+   *
+   * @param sslHandshakePoolSize the pool size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public TcpServerConfig setSslHandshakePoolSize(int sslHandshakePoolSize) {
+    if (sslHandshakePoolSize < 0) {
+      throw new IllegalArgumentException("sslHandshakePoolSize must be >= 0");
+    }
+    this.sslHandshakePoolSize = sslHandshakePoolSize;
+    return this;
+  }
+
+  /**
+   * @return the max number of concurrent TLS handshakes per event loop
+   */
+  public int getMaxConcurrentSslHandshakes() {
+    return maxConcurrentSslHandshakes;
+  }
+
+  /**
+   * Set the max number of concurrent TLS handshakes per event loop, when set to {@code 0}, the number of
+   * handshakes is not limited.
+   *
+   * @param maxConcurrentSslHandshakes the max number of concurrent handshakes
+   * @return a reference to this, so the API can be used fluently
+   */
+  public TcpServerConfig setMaxConcurrentSslHandshakes(int maxConcurrentSslHandshakes) {
+    if (maxConcurrentSslHandshakes < 0) {
+      throw new IllegalArgumentException("maxConcurrentSslHandshakes must be >= 0");
+    }
+    this.maxConcurrentSslHandshakes = maxConcurrentSslHandshakes;
+    return this;
+  }
+
+  /**
+   * @return the max number of connections waiting for their TLS handshake per event loop
+   */
+  public int getMaxPendingSslHandshakes() {
+    return maxPendingSslHandshakes;
+  }
+
+  /**
+   * Set the max number of connections waiting for their TLS handshake per event loop, the server stops accepting
+   * connections until the waiting connections drain below this number, the connections accepted meanwhile are closed.
+   * When set to {@code 0}, the server always accepts connections.
+   *
+   * @param maxPendingSslHandshakes the max number of waiting connections
+   * @return a reference to this, so the API can be used fluently
+   */
+  public TcpServerConfig setMaxPendingSslHandshakes(int maxPendingSslHandshakes) {
+    if (maxPendingSslHandshakes < 0) {
+      throw new IllegalArgumentException("maxPendingSslHandshakes must be >= 0");
+    }
+    this.maxPendingSslHandshakes = maxPendingSslHandshakes;
+    return this;
+  }
 }
@@ -13,6 +13,7 @@ package io.vertx.core.net.endpoint;
 import io.vertx.codegen.annotations.Unstable;
 import io.vertx.core.net.endpoint.impl.ConsistentHashingSelector;
 import io.vertx.core.net.endpoint.impl.NoMetricsLoadBalancer;
+import io.vertx.core.net.endpoint.impl.PeakEwmaLoadBalancer;
 
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -101,6 +102,23 @@ public interface LoadBalancer {
     return i2;
   };
 
+  /**
+   * Peak EWMA load balancer with a 10 seconds decay time, see {@link #peakEwma(long)}.
+   */
+  LoadBalancer PEAK_EWMA = peakEwma(10_000);
+
+  /**
+   * Latency aware load balancer that scores each server by the peak exponentially weighted moving average of its
+   * response time multiplied by its number of inflight requests, and picks the best scored server among two servers
+   * drawn at random.
+   *
+   * @param decayMillis the time in milliseconds after which the latency average has mostly forgotten a sample
+   * @return the load balancer
+   */
+  static LoadBalancer peakEwma(long decayMillis) {
+    return new PeakEwmaLoadBalancer(decayMillis);
+  }
+
   /**
    * Consistent hashing load balancer with 4 virtual servers, falling back to a random load balancer.
    */
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.net.endpoint.impl;
+
+import io.vertx.core.net.endpoint.InteractionMetrics;
+import io.vertx.core.net.endpoint.LoadBalancer;
+import io.vertx.core.net.endpoint.ServerEndpoint;
+import io.vertx.core.net.endpoint.ServerSelector;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Peak exponentially weighted moving average load balancer.
+ * <p>
+ * Each server is scored by its decayed latency multiplied by its number of inflight requests plus one, the selector
+ * picks the server with the lowest score among two servers drawn at random. The latency average jumps to a sample
+ * greater than the average and decays toward zero while the server is idle, so a slow server is avoided quickly and
+ * probed again after a while. The latency does not decay while requests are outstanding and is at least the average
+ * age of these requests, so a server that stops responding becomes more expensive over time instead of cheaper.
+ * <p>
+ * A server without latency sample is scored with the latency of the other candidate, new servers compete on their
+ * number of inflight requests until they are measured and the random draw bounds the share of requests they receive.
+ */
+public class PeakEwmaLoadBalancer implements LoadBalancer {
+
+  private final long decayNanos;
+
+  /**
+   * @param decayMillis the decay time of the latency average in milliseconds
+   */
+  public PeakEwmaLoadBalancer(long decayMillis) {
+    if (decayMillis <= 0L) {
+      throw new IllegalArgumentException("Invalid decay time " + decayMillis);
+    }
+    this.decayNanos = TimeUnit.MILLISECONDS.toNanos(decayMillis);
+  }
+
+  @Override
+  public InteractionMetrics<?> newMetrics() {
+    return new Metrics(decayNanos);
+  }
+
+  @Override
+  public ServerSelector selector(List<? extends ServerEndpoint> servers) {
+    return () -> {
+      int size = servers.size();
+      if (size == 0) {
+        return -1;
+      } else if (size == 1) {
+        return 0;
+      }
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      int i1 = random.nextInt(size);
+      int i2 = random.nextInt(size - 1);
+      if (i2 >= i1) {
+        i2++;
+      }
+      Metrics m1 = (Metrics) servers.get(i1).metrics();
+      Metrics m2 = (Metrics) servers.get(i2).metrics();
+      long now = System.nanoTime();
+      double l1 = m1.latency(now);
+      double l2 = m2.latency(now);
+      if (l1 < 0D) {
+        l1 = Math.max(l2, 1D);
+      }
+      if (l2 < 0D) {
+        l2 = l1;
+      }
+      double c1 = l1 * (m1.inflight() + 1);
+      double c2 = l2 * (m2.inflight() + 1);
+      if (c1 == c2) {
+        return random.nextBoolean() ? i1 : i2;
+      }
+      return c1 < c2 ? i1 : i2;
+    };
+  }
+
+  /**
+   * The metric of a request.
+   */
+  public static class Metric {
+    private final long start = System.nanoTime();
+    private boolean done;
+  }
+
+  /**
+   * The latency and inflight requests of a server.
+   */
+  public static class Metrics implements InteractionMetrics<Metric> {
+
+    private final long decayNanos;
+    private final long origin = System.nanoTime();
+    private int inflight;
+    // Sum of the inflight request start times relative to origin
+    private long startSum;
+    // -1 until the first sample
+    private double latency = -1D;
+    private long timestamp;
+
+    Metrics(long decayNanos) {
+      this.decayNanos = decayNanos;
+    }
+
+    @Override
+    public synchronized Metric initiateRequest() {
+      Metric metric = new Metric();
+      inflight++;
+      startSum += metric.start - origin;
+      return metric;
+    }
+
+    @Override
+    public void reportFailure(Metric metric, Throwable failure) {
+      long now = System.nanoTime();
+      synchronized (this) {
+        if (metric.done) {
+          return;
+        }
+        metric.done = true;
+        inflight--;
+        startSum -= metric.start - origin;
+        // Penalize the server, otherwise a server failing fast would attract the requests
+        double current = latency(now);
+        observe(now, Math.max(now - metric.start, 2 * current));
+      }
+    }
+
+    @Override
+    public void reportResponseEnd(Metric metric) {
+      long now = System.nanoTime();
+      synchronized (this) {
+        if (metric.done) {
+          return;
+        }
+        metric.done = true;
+        inflight--;
+        startSum -= metric.start - origin;
+        observe(now, now - metric.start);
+      }
+    }
+
+    private void observe(long now, double rtt) {
+      if (latency < 0D || rtt > latency) {
+        latency = rtt;
+      } else {
+        double w = Math.exp(-(now - timestamp) / (double) decayNanos);
+        latency = latency * w + rtt * (1D - w);
+      }
+      timestamp = now;
+    }
+
+    /**
+     * @return the number of inflight requests
+     */
+    public synchronized int inflight() {
+      return inflight;
+    }
+
+    /**
+     * @param now the current time in nanoseconds
+     * @return the latency of the server in nanoseconds or {@code -1} when the server has not been measured
+     */
+    public synchronized double latency(long now) {
+      if (latency < 0D) {
+        return -1D;
+      }
+      if (inflight > 0) {
+        double age = now - origin - startSum / (double) inflight;
+        return Math.max(latency, age);
+      }
+      return latency * Math.exp(-Math.max(0L, now - timestamp) / (double) decayNanos);
+    }
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.net.impl;
+
+import io.netty.util.concurrent.FastThreadLocal;
+
+import java.util.HashMap;
+
+/**
+ * Memoize the parsing of authority HTTP headers, a connection almost always sends the same authority.
+ * <p/>
+ * An instance remembers the last authority it parsed, it is meant to be owned by a connection. The valid
+ * authorities are also interned in a small cache per thread (that is per event loop) shared by all the connections,
+ * the cache is cleared when it is full.
+ * <p/>
+ * {@link HostAndPortImpl} is immutable so the cached values can be safely shared.
+ */
+public final class AuthorityCache {
+
+  private static final int MAX_SIZE = 64;
+
+  private static final FastThreadLocal<HashMap<String, HostAndPortImpl>> CACHE = new FastThreadLocal<>() {
+    @Override
+    protected HashMap<String, HostAndPortImpl> initialValue() {
+      return new HashMap<>();
+    }
+  };
+
+  /**
+   * Like {@link HostAndPortImpl#parseAuthority(String, int)} with a {@code -1} scheme port, using the cache of the
+   * current thread.
+   *
+   * @param s the string to parse
+   * @return the parsed value or {@code null} when the string cannot be parsed
+   */
+  public static HostAndPortImpl parseAuthority(String s) {
+    HashMap<String, HostAndPortImpl> cache = CACHE.get();
+    HostAndPortImpl authority = cache.get(s);
+    if (authority == null) {
+      authority = HostAndPortImpl.parseAuthority(s, -1);
+      if (authority != null) {
+        if (cache.size() >= MAX_SIZE) {
+          cache.clear();
+        }
+        cache.put(s, authority);
+      }
+    }
+    return authority;
+  }
+
+  private Memo last;
+
+  /**
+   * Parse {@code s}, the last parsed authority is returned when {@code s} is the same string.
+   *
+   * @param s the string to parse
+   * @return the parsed value or {@code null} when the string cannot be parsed
+   */
+  public HostAndPortImpl parse(String s) {
+    Memo memo = last;
+    if (memo != null && memo.authority.equals(s)) {
+      return memo.value;
+    }
+    HostAndPortImpl value = parseAuthority(s);
+    if (value != null) {
+      // Publish both fields at once, a request might be parsed from another thread
+      last = new Memo(s, value);
+    }
+    return value;
+  }
+
+  private static class Memo {
+    private final String authority;
+    private final HostAndPortImpl value;
+    Memo(String authority, HostAndPortImpl value) {
+      this.authority = authority;
+      this.value = value;
+    }
+  }
+}
@@ -16,10 +16,18 @@ import io.vertx.core.internal.tls.ServerSslContextManager;
 import io.vertx.core.internal.tls.ServerSslContextProvider;
 import io.vertx.core.internal.tls.SslContextProvider;
 import io.vertx.core.net.ServerSSLOptions;
+import io.vertx.core.spi.metrics.TransportMetrics;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Takes care of handling SSL options updates validating the options before
  * applying the update.
+ * <p/>
+ * When SNI is enabled, the contexts of the preloaded server names and of the server names cached by the current
+ * provider are built in the background before the update is applied, so handshakes do not build them.
  *
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
  */
@@ -28,6 +36,7 @@ public class SslContextProviderReference {
   private final ServerSslContextManager sslContextManager;
   private volatile ServerSslContextProvider sslContextProvider;
   private Future<ServerSslContextProvider> updateInProgress;
+  private volatile TransportMetrics<?> metrics;
 
   public SslContextProviderReference(ServerSslContextManager sslContextManager) {
     this.sslContextManager = sslContextManager;
@@ -40,6 +49,17 @@ public class SslContextProviderReference {
     return sslContextProvider;
   }
 
+  /**
+   * Set the metrics reporting the usage of the server name contexts of the current and next providers.
+   */
+  public void metrics(TransportMetrics<?> metrics) {
+    this.metrics = metrics;
+    ServerSslContextProvider provider = sslContextProvider;
+    if (provider != null) {
+      provider.metrics(metrics);
+    }
+  }
+
   /**
    * Like {@link #computeUpdate(ServerSSLOptions, ContextInternal, boolean)} with {@code force = false}.
    */
@@ -74,7 +94,8 @@ public class SslContextProviderReference {
       sslOptions,
       force,
       ctx);
-    return res.map(update -> {
+    return res.compose(update -> preload(update, sslOptions, ctx)).map(update -> {
+      update.metrics(metrics);
       boolean updated;
       synchronized (SslContextProviderReference.this) {
         updated = sslContextProvider != update;
@@ -83,4 +104,27 @@ public class SslContextProviderReference {
       return updated ? update : null;
     });
   }
+
+  private Future<ServerSslContextProvider> preload(ServerSslContextProvider update, ServerSSLOptions options, ContextInternal ctx) {
+    ServerSslContextProvider current = sslContextProvider;
+    if (!options.isSni() || update == current) {
+      return ctx.succeededFuture(update);
+    }
+    Set<String> serverNames = new LinkedHashSet<>();
+    if (options.getSniPreloadServerNames() != null) {
+      serverNames.addAll(options.getSniPreloadServerNames());
+    }
+    if (current != null) {
+      serverNames.addAll(current.sniContexts().serverNames());
+    }
+    if (serverNames.isEmpty()) {
+      return ctx.succeededFuture(update);
+    }
+    List<String> applicationProtocols = options.isUseAlpn() ? options.getApplicationLayerProtocols() : null;
+    update.metrics(metrics);
+    return ctx.executeBlockingInternal(() -> {
+      update.preload(serverNames, applicationProtocols, true);
+      return update;
+    });
+  }
 }
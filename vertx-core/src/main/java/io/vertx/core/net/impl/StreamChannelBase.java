@@ -97,7 +97,7 @@ public abstract class StreamChannelBase<S extends StreamChannelBase<S>> extends
 
   @Override
   public Future<Void> write(Buffer data) {
-    return writeMessage(((BufferInternal)data).getByteBuf());
+    return writeMessage(((BufferInternal)data).retainedByteBuf());
   }
 
   @Override
@@ -335,8 +335,10 @@ public abstract class StreamChannelBase<S extends StreamChannelBase<S>> extends
     @Override
     public void handle(Object msg) {
       Handler<Buffer> handler = handler();
+      // Messages queued while a message handler was set are not transformed yet
+      Buffer buffer = msg instanceof ByteBuf ? BufferInternal.safeBuffer((ByteBuf) msg) : (Buffer) msg;
       if (handler != null) {
-        context.dispatch((Buffer)msg, handler);
+        context.dispatch(buffer, handler);
       }
     }
   }
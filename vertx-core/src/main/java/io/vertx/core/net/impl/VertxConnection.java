@@ -472,6 +472,8 @@ public class VertxConnection extends ConnectionBase {
 
       @Override
       public void cancel(Throwable cause) {
+        // The message is not handed to the channel, release it as the channel would have done
+        ReferenceCountUtil.release(msg);
         promise.setFailure(cause);
       }
     });
@@ -40,6 +40,7 @@ import io.vertx.core.net.HostAndPort;
 import io.vertx.core.net.ProxyOptions;
 import io.vertx.core.net.ProxyType;
 import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.TransportMetrics;
 
 import javax.net.ssl.SSLHandshakeException;
 import java.net.InetAddress;
@@ -60,6 +61,7 @@ public final class ChannelProvider {
   private final SslContextProvider sslContextProvider;
   private final ContextInternal context;
   private ProxyOptions proxyOptions;
+  private TransportMetrics<?> metrics;
   private String applicationProtocol;
 
   public ChannelProvider(Bootstrap bootstrap,
@@ -81,6 +83,17 @@ public final class ChannelProvider {
     return this;
   }
 
+  /**
+   * Set the metrics reporting the TLS handshakes.
+   *
+   * @param metrics the metrics
+   * @return fluently this
+   */
+  public ChannelProvider metrics(TransportMetrics<?> metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
   /**
    * @return the application protocol resulting from the ALPN negotiation
    */
@@ -130,6 +143,9 @@ public final class ChannelProvider {
             if (completion.isSuccess()) {
               // Remove from the pipeline after handshake result
               ctx.pipeline().remove(this);
+              if (metrics != null) {
+                metrics.tlsHandshakeCompleted(SslChannelProvider.isSessionResumed(sslHandler));
+              }
               applicationProtocol = sslHandler.applicationProtocol();
               channelHandler.setSuccess(ctx.channel());
             } else {
@@ -355,7 +355,8 @@ public class NetClientImpl implements NetClientInternal, CleanableResource<NetCl
       }
 
       ChannelProvider channelProvider = new ChannelProvider(bootstrap, sslContextProvider, context)
-        .proxyOptions(proxyOptions);
+        .proxyOptions(proxyOptions)
+        .metrics(metrics);
 
       SocketAddress captured = remoteAddress;
 
@@ -22,6 +22,7 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.FixedRecvByteBufAllocator;
 import io.netty.handler.codec.haproxy.HAProxyMessageDecoder;
 import io.netty.handler.logging.LoggingHandler;
+import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.handler.traffic.GlobalTrafficShapingHandler;
@@ -32,6 +33,7 @@ import io.vertx.core.impl.buffer.VertxByteBufAllocator;
 import io.vertx.core.internal.ContextInternal;
 import io.vertx.core.internal.PromiseInternal;
 import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.internal.WorkerPool;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.core.internal.net.NetServerInternal;
@@ -53,6 +55,8 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -91,6 +95,10 @@ public class NetServerImpl implements NetServerInternal {
   private Future<Channel> bindFuture;
   private TransportMetrics<?> metrics;
   private volatile int actualPort;
+  private volatile Channel serverChannel;
+  private volatile WorkerPool sslHandshakePool;
+  private final ConcurrentMap<EventLoop, SslHandshakeLimiter> sslHandshakeLimiters = new ConcurrentHashMap<>();
+  private int saturatedEventLoops;
 
   public NetServerImpl(VertxInternal vertx,
                        TcpServerConfig config,
@@ -230,24 +238,12 @@ public class NetServerImpl implements NetServerInternal {
 
     private void configurePipeline(Channel ch, SslContextProvider sslContextProvider, SslContextManager sslContextManager, ServerSSLOptions sslOptions) {
       if (config.isSsl()) {
-        List<String> applicationProtocols;
-        if (sslOptions.isUseAlpn()) {
-          applicationProtocols = sslOptions.getApplicationLayerProtocols();
+        SslHandshakeLimiter limiter = actualServer.sslHandshakeLimiter(ch.eventLoop());
+        if (limiter != null) {
+          limiter.acquire(ch, release -> handshake(ch, sslContextProvider, sslContextManager, sslOptions, release));
         } else {
-          applicationProtocols = null;
+          handshake(ch, sslContextProvider, sslContextManager, sslOptions, null);
         }
-        SslChannelProvider sslChannelProvider = new SslChannelProvider(vertx, sslContextProvider, sslOptions.isSni(), sslOptions.isUseHybridKeyExchangeProtocol());
-        ch.pipeline().addLast("ssl", sslChannelProvider.createServerHandler(applicationProtocols, sslOptions.getSslHandshakeTimeout(),
-          sslOptions.getSslHandshakeTimeoutUnit(), HttpUtils.socketAddressToHostAndPort(ch.remoteAddress())));
-        ChannelPromise p = ch.newPromise();
-        ch.pipeline().addLast("handshaker", new SslHandshakeCompletionHandler(p));
-        p.addListener(future -> {
-          if (future.isSuccess()) {
-            connected(ch, sslContextManager, sslOptions);
-          } else {
-            handleException(future.cause());
-          }
-        });
       } else {
         connected(ch, sslContextManager, sslOptions);
       }
@@ -256,6 +252,40 @@ public class NetServerImpl implements NetServerInternal {
       }
     }
 
+    private void handshake(Channel ch, SslContextProvider sslContextProvider, SslContextManager sslContextManager, ServerSSLOptions sslOptions, Runnable release) {
+      List<String> applicationProtocols;
+      if (sslOptions.isUseAlpn()) {
+        applicationProtocols = sslOptions.getApplicationLayerProtocols();
+      } else {
+        applicationProtocols = null;
+      }
+      WorkerPool handshakePool = actualServer.sslHandshakePool;
+      SslChannelProvider sslChannelProvider = new SslChannelProvider(vertx, sslContextProvider, sslOptions.isSni(), sslOptions.isUseHybridKeyExchangeProtocol())
+        .handshakeExecutor(handshakePool != null ? handshakePool.executor() : null);
+      ch.pipeline().addLast("ssl", sslChannelProvider.createServerHandler(applicationProtocols, sslOptions.getSslHandshakeTimeout(),
+        sslOptions.getSslHandshakeTimeoutUnit(), HttpUtils.socketAddressToHostAndPort(ch.remoteAddress())));
+      ChannelPromise p = ch.newPromise();
+      ch.pipeline().addLast("handshaker", new SslHandshakeCompletionHandler(p));
+      if (release != null) {
+        ch.closeFuture().addListener(future -> release.run());
+      }
+      p.addListener(future -> {
+        if (release != null) {
+          release.run();
+        }
+        if (future.isSuccess()) {
+          TransportMetrics<?> metrics = getMetrics();
+          SslHandler sslHandler = ch.pipeline().get(SslHandler.class);
+          if (metrics != null && sslHandler != null) {
+            metrics.tlsHandshakeCompleted(SslChannelProvider.isSessionResumed(sslHandler));
+          }
+          connected(ch, sslContextManager, sslOptions);
+        } else {
+          handleException(future.cause());
+        }
+      });
+    }
+
     private void handleException(Throwable cause) {
       if (exceptionHandler != null) {
         context.emit(v -> exceptionHandler.handle(cause));
@@ -278,6 +308,30 @@ public class NetServerImpl implements NetServerInternal {
     }
   }
 
+  /**
+   * @return the TLS handshake limiter of the {@code eventLoop} or {@code null} when handshakes are not limited
+   */
+  private SslHandshakeLimiter sslHandshakeLimiter(EventLoop eventLoop) {
+    if (config.getMaxConcurrentSslHandshakes() == 0) {
+      return null;
+    }
+    return sslHandshakeLimiters.computeIfAbsent(eventLoop, el -> new SslHandshakeLimiter(
+      config.getMaxConcurrentSslHandshakes(),
+      config.getMaxPendingSslHandshakes(),
+      this::sslHandshakeSaturation));
+  }
+
+  /**
+   * Stop accepting connections while an event loop has too many connections waiting for their TLS handshake.
+   */
+  private synchronized void sslHandshakeSaturation(boolean saturated) {
+    saturatedEventLoops += saturated ? 1 : -1;
+    Channel ch = serverChannel;
+    if (ch != null) {
+      ch.config().setAutoRead(saturatedEventLoops == 0);
+    }
+  }
+
   protected void initChannel(ChannelPipeline pipeline, boolean ssl) {
     LogConfig logConfig = config.getLogConfig();
     if (logConfig != null && logConfig.isEnabled()) {
@@ -454,6 +508,11 @@ public class NetServerImpl implements NetServerInternal {
           return context.failedFuture("Key/certificate is mandatory for SSL");
         }
 
+        if (config.isSsl() && config.getSslHandshakePoolSize() > 0) {
+          sslHandshakePool = vertx.createSharedWorkerPool("vert.x-ssl-handshake-" + System.identityHashCode(this), config.getSslHandshakePoolSize(),
+            VertxOptions.DEFAULT_MAX_WORKER_EXECUTE_TIME, VertxOptions.DEFAULT_MAX_WORKER_EXECUTE_TIME_UNIT);
+        }
+
         // Register the server in the shared server list
         if (shared) {
           sharedNetServers.put(id, this);
@@ -480,6 +539,7 @@ public class NetServerImpl implements NetServerInternal {
               sharedNetServers.remove(id);
             }
           }
+          closeSslHandshakePool();
           listening = false;
         });
 
@@ -536,6 +596,10 @@ public class NetServerImpl implements NetServerInternal {
           actualPort = ((InetSocketAddress)ch.localAddress()).getPort();
         }
         metrics = createMetrics(vertx.metrics(), localAddress);
+        if (metrics != null) {
+          sslContextProviderRef.metrics(metrics);
+        }
+        serverChannel = ch;
         promise.complete(ch);
       } else {
         promise.fail(res.cause());
@@ -635,6 +699,7 @@ public class NetServerImpl implements NetServerInternal {
         if (metrics != null) {
           a.addListener(cg -> metrics.close());
         }
+        a.addListener(cg -> closeSslHandshakePool());
         a.addListener((PromiseInternal<Void>)done);
       } else {
         done.complete();
@@ -642,6 +707,14 @@ public class NetServerImpl implements NetServerInternal {
     });
   }
 
+  private synchronized void closeSslHandshakePool() {
+    WorkerPool pool = sslHandshakePool;
+    if (pool != null) {
+      sslHandshakePool = null;
+      pool.close();
+    }
+  }
+
   public static io.netty.util.concurrent.Future<Channel> resolveAndBind(ContextInternal context,
                                                                         SocketAddress socketAddress,
                                                                         ServerBootstrap bootstrap) {
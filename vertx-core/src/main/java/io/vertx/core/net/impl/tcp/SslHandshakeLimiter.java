@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.core.net.impl.tcp;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+
+/**
+ * Admission control of the TLS handshakes of an event loop, all the methods must be called from the event loop.
+ * <p/>
+ * At most {@code maxConcurrent} handshakes are performed concurrently, the other channels are queued with auto-read
+ * disabled until a handshake completes. The {@code saturation} callback is notified when the queue reaches
+ * {@code maxPending} channels and when it drains below, so the server can stop and resume accepting connections, the
+ * channels accepted while the queue is full are closed.
+ */
+public class SslHandshakeLimiter {
+
+  private final int maxConcurrent;
+  private final int maxPending;
+  private final Consumer<Boolean> saturation;
+  private final ArrayDeque<Pending> pending = new ArrayDeque<>();
+  private int inflight;
+  private boolean saturated;
+
+  /**
+   * @param maxConcurrent the max number of concurrent handshakes, {@code 0} means unbounded
+   * @param maxPending the max number of queued channels, {@code 0} means unbounded
+   * @param saturation the callback notified when the queue becomes full or is not full anymore
+   */
+  public SslHandshakeLimiter(int maxConcurrent, int maxPending, Consumer<Boolean> saturation) {
+    this.maxConcurrent = maxConcurrent;
+    this.maxPending = maxPending;
+    this.saturation = saturation;
+  }
+
+  /**
+   * Start the handshake of {@code ch} with {@code handshake} when a slot is available, otherwise queue it. The
+   * {@code handshake} task is given a callback to call once the handshake has completed or failed. The channel is
+   * closed when the queue is full.
+   *
+   * @param ch the channel
+   * @param handshake the task starting the handshake
+   */
+  public void acquire(Channel ch, Consumer<Runnable> handshake) {
+    if (maxConcurrent == 0 || inflight < maxConcurrent) {
+      start(handshake);
+      return;
+    }
+    if (saturated) {
+      // Accepted before the server stopped accepting connections
+      ch.close();
+      return;
+    }
+    ch.config().setAutoRead(false);
+    Pending entry = new Pending(ch, handshake);
+    pending.add(entry);
+    ch.closeFuture().addListener((ChannelFutureListener) future -> {
+      if (pending.remove(entry)) {
+        checkSaturation();
+      }
+    });
+    checkSaturation();
+  }
+
+  private void start(Consumer<Runnable> handshake) {
+    inflight++;
+    boolean[] released = new boolean[1];
+    handshake.accept(() -> {
+      if (!released[0]) {
+        released[0] = true;
+        release();
+      }
+    });
+  }
+
+  private void release() {
+    inflight--;
+    while (inflight < maxConcurrent && !pending.isEmpty()) {
+      Pending next = pending.poll();
+      if (next.ch.isActive()) {
+        start(next.handshake);
+        next.ch.config().setAutoRead(true);
+      }
+    }
+    checkSaturation();
+  }
+
+  private void checkSaturation() {
+    boolean full = maxPending > 0 && pending.size() >= maxPending;
+    if (full != saturated) {
+      saturated = full;
+      saturation.accept(full);
+    }
+  }
+
+  /**
+   * @return the number of handshakes in progress
+   */
+  public int inflight() {
+    return inflight;
+  }
+
+  /**
+   * @return the number of channels waiting for their handshake
+   */
+  public int pending() {
+    return pending.size();
+  }
+
+  private static class Pending {
+    private final Channel ch;
+    private final Consumer<Runnable> handshake;
+    Pending(Channel ch, Consumer<Runnable> handshake) {
+      this.ch = ch;
+      this.handshake = handshake;
+    }
+  }
+}
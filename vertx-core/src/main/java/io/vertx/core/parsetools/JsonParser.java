@@ -82,6 +82,23 @@ public interface JsonParser extends Handler<Buffer>, ReadStream<JsonEvent> {
   @Fluent
   JsonParser objectValueMode();
 
+  /**
+   * Flip the parser to emit a single value event for each new json object, the value is bound to an instance
+   * of {@code type} directly from the parsed tokens, without building an intermediate {@code Map}.
+   * </p>
+   * This is well suited for large json arrays streams, since only the tokens of a single element are retained
+   * at a time, the bound value is returned by {@link JsonEvent#value()} and {@link JsonEvent#mapTo(Class)}.
+   * </p>
+   * Binding to a type other than {@link io.vertx.core.json.JsonObject} requires Jackson Databind.
+   * </p>
+   * Json object currently streamed won't be affected.
+   *
+   * @param type the type to bind json objects to
+   * @return  a reference to this, so the API can be used fluently
+   */
+  @Fluent
+  <T> JsonParser objectValueMode(Class<T> type);
+
   /**
    * Flip the parser to emit a stream of events for each new json array.
    *
@@ -93,6 +93,10 @@ public class JsonEventImpl implements JsonEvent {
 
   @Override
   public <T> T mapTo(Class<T> type) {
+    if (type.isInstance(value)) {
+      // Already bound by the parser
+      return type.cast(value);
+    }
     try {
       return JacksonFactory.CODEC.fromValue(value, type);
     } catch (Exception e) {
@@ -25,6 +25,7 @@ import io.vertx.core.impl.Arguments;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.jackson.DatabindCodec;
 import io.vertx.core.json.jackson.JacksonCodec;
 import io.vertx.core.parsetools.JsonEvent;
 import io.vertx.core.parsetools.JsonEventType;
@@ -43,6 +44,7 @@ public class JsonParserImpl implements JsonParser {
   private Handler<JsonEventImpl> tokenHandler = this::handleEvent;
   private Handler<JsonEvent> eventHandler;
   private boolean objectValueMode;
+  private Class<?> objectValueType;
   private boolean arrayValueMode;
   private Handler<Throwable> exceptionHandler;
   private String currentField;
@@ -117,10 +119,11 @@ public class JsonParserImpl implements JsonParser {
 
   private void handleEvent(JsonEventImpl event) {
     if (event.type() == JsonEventType.START_OBJECT && objectValueMode) {
+      Class<?> type = objectValueType;
       BufferingHandler handler = new BufferingHandler();
       handler.handler = buffer -> {
         tokenHandler = this::handleEvent;
-        handleEvent(new JsonEventImpl(null, JsonEventType.VALUE, event.fieldName(), new JsonObject(handler.convert(Map.class))));
+        handleEvent(new JsonEventImpl(null, JsonEventType.VALUE, event.fieldName(), handler.bind(type)));
       };
       tokenHandler = handler;
       handler.handle(new JsonEventImpl(JsonToken.START_OBJECT, JsonEventType.START_OBJECT, null, null));
@@ -341,12 +344,19 @@ public class JsonParserImpl implements JsonParser {
   @Override
   public JsonParser objectEventMode() {
     objectValueMode = false;
+    objectValueType = null;
     return this;
   }
 
   @Override
   public JsonParser objectValueMode() {
+    return objectValueMode(JsonObject.class);
+  }
+
+  @Override
+  public <T> JsonParser objectValueMode(Class<T> type) {
     objectValueMode = true;
+    objectValueType = Objects.requireNonNull(type);
     return this;
   }
 
@@ -369,6 +379,7 @@ public class JsonParserImpl implements JsonParser {
 
     private ArrayDeque<Object> tokens = new ArrayDeque<>();
     private String text;
+    private ObjectCodec codec;
 
     private TokenParser(IOContext ctxt, int features) {
       super(ctxt, features);
@@ -407,29 +418,34 @@ public class JsonParserImpl implements JsonParser {
       return text;
     }
 
+    @Override
+    public boolean hasTextCharacters() {
+      return false;
+    }
+
     @Override
     public char[] getTextCharacters() {
-      throw new UnsupportedOperationException();
+      return text != null ? text.toCharArray() : null;
     }
 
     @Override
     public int getTextLength() {
-      throw new UnsupportedOperationException();
+      return text != null ? text.length() : 0;
     }
 
     @Override
     public int getTextOffset() {
-      throw new UnsupportedOperationException();
+      return 0;
     }
 
     @Override
     public ObjectCodec getCodec() {
-      throw new UnsupportedOperationException();
+      return codec;
     }
 
     @Override
     public void setCodec(ObjectCodec c) {
-      throw new UnsupportedOperationException();
+      codec = c;
     }
 
     @Override
@@ -488,6 +504,17 @@ public class JsonParserImpl implements JsonParser {
     <T> T convert(Class<T> type) {
       return JacksonCodec.fromParser(buffer, type);
     }
+
+    /**
+     * Bind the buffered tokens to {@code type}, json objects are built from a map, other types are bound
+     * by Jackson Databind straight from the tokens.
+     */
+    Object bind(Class<?> type) {
+      if (type == JsonObject.class) {
+        return new JsonObject(convert(Map.class));
+      }
+      return DatabindCodec.fromParser(buffer, type);
+    }
   }
 
   @Override
@@ -44,4 +44,28 @@ public interface DatagramSocketMetrics extends NetworkMetrics<Void> {
   default void listening(String localName, SocketAddress localAddress) {
   }
 
+  /**
+   * Called after the socket has read a batch of datagrams.
+   *
+   * @param count the number of datagrams read
+   */
+  default void packetsRead(int count) {
+  }
+
+  /**
+   * Called after the socket has written a batch of datagrams.
+   *
+   * @param count the number of datagrams written
+   */
+  default void packetsWritten(int count) {
+  }
+
+  /**
+   * Called when datagrams are dropped, i.e. received while the socket has no handler or failed to be written.
+   *
+   * @param count the number of dropped datagrams
+   */
+  default void packetsDropped(int count) {
+  }
+
 }
@@ -132,4 +132,43 @@ public interface EventBusMetrics<H> extends Metrics {
    */
   default void replyFailure(String address, ReplyFailure failure) {
   }
+
+  /**
+   * Called periodically with the statistics of the connection to a remote node, when the cluster node selector
+   * collects them.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   *
+   * @param nodeId the remote node id
+   * @param inFlight the number of messages whose write has not completed
+   * @param writeLatency the moving average of the message write latency, in nanoseconds
+   * @param pingRtt the last ping round trip time, in nanoseconds
+   * @param consecutiveFailures the number of writes that failed since the last successful write
+   */
+  default void nodeStats(String nodeId, int inFlight, long writeLatency, long pingRtt, int consecutiveFailures) {
+  }
+
+  /**
+   * Called when the cluster node selector finds the registrations of an address in its cache.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   */
+  default void nodeSelectorCacheHit() {
+  }
+
+  /**
+   * Called when the cluster node selector fetches the registrations of an address from the cluster manager.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   */
+  default void nodeSelectorCacheMiss() {
+  }
+
+  /**
+   * Called when the cluster node selector evicts an address from its cache.<p/>
+   *
+   * No specific thread and context can be expected when this method is called.
+   */
+  default void nodeSelectorCacheEviction() {
+  }
 }
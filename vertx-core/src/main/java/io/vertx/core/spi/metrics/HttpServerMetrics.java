@@ -129,4 +129,60 @@ public interface HttpServerMetrics<R, W> extends WebSocketMetrics<W> {
    */
   default void requestRouted(R requestMetric, String route) {
   }
+
+  /**
+   * Called when a file is served from the compressed file cache.
+   *
+   * @param encoding the content encoding of the cached variant
+   */
+  default void compressedFileCacheHit(String encoding) {
+  }
+
+  /**
+   * Called when a file eligible to the compressed file cache is not found in the cache, the file is then
+   * compressed on the fly and its compressed variant computed in the background.
+   *
+   * @param encoding the content encoding of the missing variant
+   */
+  default void compressedFileCacheMiss(String encoding) {
+  }
+
+  /**
+   * Called when a file is served from the open file cache, without opening it.
+   */
+  default void openFileCacheHit() {
+  }
+
+  /**
+   * Called when a file is opened because it is not found in the open file cache.
+   */
+  default void openFileCacheMiss() {
+  }
+
+  /**
+   * Called when the size and last modification time of a file of the open file cache have been checked again.
+   *
+   * @param changed whether the file has changed and has been reopened
+   */
+  default void openFileCacheRevalidated(boolean changed) {
+  }
+
+  /**
+   * Called when the {@link io.vertx.core.http.CompressionPolicy} has selected the compression level of a response.
+   *
+   * @param encoding the content encoding negotiated with the client
+   * @param level the selected level, a negative value when the response is sent uncompressed
+   */
+  default void compressionLevelSelected(String encoding, int level) {
+  }
+
+  /**
+   * Called when an HTTP/2 header block has been sent by a connection, this can be used to observe the efficiency
+   * of the HPACK compression.
+   *
+   * @param rawBytes the sum of the header names and values lengths
+   * @param encodedBytes the size of the HPACK encoded header block
+   */
+  default void headersEncoded(long rawBytes, long encodedBytes) {
+  }
 }
@@ -59,4 +59,38 @@ public interface TransportMetrics<C> extends NetworkMetrics<C> {
    */
   default void streamClosed(C connectionMetric) {
   }
+
+  /**
+   * Called when a TLS handshake has completed, before the connection is {@link #connected connected}.
+   *
+   * @param resumed {@code true} when a previous session was resumed, {@code false} for a full handshake, {@code null}
+   *                when the SSL engine does not tell whether the session was resumed, which is the case of the JDK engine
+   */
+  default void tlsHandshakeCompleted(Boolean resumed) {
+  }
+
+  /**
+   * Called when the TLS context of a server name indicated by a client is found in the SNI context cache.
+   */
+  default void sniContextCacheHit() {
+  }
+
+  /**
+   * Called when the TLS context of a server name indicated by a client is not found in the SNI context cache, the
+   * context is then built during the handshake.
+   *
+   * @param buildTime the time spent building the context in nanoseconds
+   */
+  default void sniContextCacheMiss(long buildTime) {
+  }
+
+  /**
+   * Called when the TLS contexts of a set of server names have been built in the background, when the SSL options
+   * are updated or when server names are preloaded.
+   *
+   * @param count the number of contexts built
+   * @param buildTime the time spent building the contexts in nanoseconds
+   */
+  default void sniContextsRebuilt(int count, long buildTime) {
+  }
 }
@@ -58,6 +58,8 @@ public class DefaultSslContextFactory implements SslContextFactory {
   private ClientAuth clientAuth;
   private KeyManagerFactory kmf;
   private TrustManagerFactory tmf;
+  private long sessionCacheSize = -1L;
+  private long sessionTimeout = -1L;
 
   @Override
   public SslContextFactory useAlpn(boolean useAlpn) {
@@ -98,6 +100,18 @@ public class DefaultSslContextFactory implements SslContextFactory {
     return this;
   }
 
+  @Override
+  public SslContextFactory sessionCacheSize(long sessionCacheSize) {
+    this.sessionCacheSize = sessionCacheSize;
+    return this;
+  }
+
+  @Override
+  public SslContextFactory sessionTimeout(long sessionTimeout) {
+    this.sessionTimeout = sessionTimeout;
+    return this;
+  }
+
   @Override
   public SslContext create() throws SSLException {
     if (forClient == forServer) {
@@ -190,6 +204,12 @@ public class DefaultSslContextFactory implements SslContextFactory {
     if (enabledProtocols != null) {
       builder.protocols(enabledProtocols);
     }
+    if (sessionCacheSize >= 0L) {
+      builder.sessionCacheSize(sessionCacheSize);
+    }
+    if (sessionTimeout >= 0L) {
+      builder.sessionTimeout(sessionTimeout);
+    }
     SslContext ctx = builder.build();
     if (ctx instanceof OpenSslServerContext){
       SSLSessionContext sslSessionContext = ctx.sessionContext();
@@ -96,6 +96,24 @@ public interface SslContextFactory {
     return this;
   }
 
+  /**
+   * Set the size of the SSL session cache.
+   * @param sessionCacheSize the cache size, {@code 0} means no limit
+   * @return a reference to this, so the API can be used fluently
+   */
+  default SslContextFactory sessionCacheSize(long sessionCacheSize) {
+    return this;
+  }
+
+  /**
+   * Set the timeout of the cached SSL sessions.
+   * @param sessionTimeout the timeout in seconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  default SslContextFactory sessionTimeout(long sessionTimeout) {
+    return this;
+  }
+
   /**
    * @return a configured {@link SslContext}
    */
@@ -12,9 +12,11 @@
 package io.vertx.core.spi.transport;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.*;
 import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.DatagramPacket;
 import io.netty.channel.socket.InternetProtocolFamily;
 import io.vertx.core.datagram.DatagramSocketOptions;
 import io.vertx.core.impl.transports.NioTransport;
@@ -143,6 +145,19 @@ public interface Transport {
     }
   }
 
+  /**
+   * Create a datagram packet sent with UDP generic segmentation offload: its {@code content} is split in datagrams
+   * of {@code segmentSize} bytes by the kernel or the network interface.
+   *
+   * @param content the content of the datagrams
+   * @param segmentSize the size of a datagram, the last datagram can be smaller
+   * @param recipient the recipient of the datagrams
+   * @return the packet or {@code null} when the transport does not support segmentation offload
+   */
+  default DatagramPacket segmentedDatagramPacket(ByteBuf content, int segmentSize, InetSocketAddress recipient) {
+    return null;
+  }
+
   default void configure(TcpConfig config, boolean domainSocket, Bootstrap bootstrap) {
     if (!domainSocket) {
       NioTransport.configOption(bootstrap, config, TcpOption.NODELAY, ChannelOption.TCP_NODELAY);
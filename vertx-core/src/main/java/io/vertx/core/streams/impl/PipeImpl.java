@@ -10,11 +10,15 @@
  */
 package io.vertx.core.streams.impl;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCountUtil;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.VertxException;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.net.StreamChannelInternal;
 import io.vertx.core.streams.Pipe;
 import io.vertx.core.streams.ReadStream;
 import io.vertx.core.streams.WriteStream;
@@ -74,16 +78,39 @@ public class PipeImpl<T> implements Pipe<T> {
       dst = ws;
     }
     Handler<Void> drainHandler = v -> src.resume();
-    src.handler(item -> {
+    Handler<T> handler = item -> {
       ws.write(item).onComplete(this::handleWriteResult);
       if (ws.writeQueueFull()) {
         src.pause();
         ws.drainHandler(drainHandler);
       }
-    });
+    };
+    boolean forwardMessages = src instanceof StreamChannelInternal && ws instanceof StreamChannelInternal;
+    if (forwardMessages) {
+      // Channel to channel, forward the inbound byte buffers as is instead of copying them to heap buffers
+      StreamChannelInternal channel = (StreamChannelInternal) ws;
+      ((StreamChannelInternal) src).messageHandler(msg -> {
+        if (msg instanceof ByteBuf) {
+          channel.writeMessage(msg).onComplete(this::handleWriteResult);
+          if (channel.writeQueueFull()) {
+            src.pause();
+            channel.drainHandler(drainHandler);
+          }
+        } else if (msg instanceof Buffer) {
+          handler.handle((T) msg);
+        } else {
+          ReferenceCountUtil.release(msg);
+        }
+      });
+    } else {
+      src.handler(handler);
+    }
     src.resume();
     result.future().onComplete(ar -> {
       try {
+        if (forwardMessages) {
+          ((StreamChannelInternal) src).messageHandler(null);
+        }
         src.handler(null);
       } catch (Exception ignore) {
       }
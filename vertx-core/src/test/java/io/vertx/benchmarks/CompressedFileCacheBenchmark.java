@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.CompressionOptions;
+import io.netty.handler.codec.compression.GzipOptions;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.util.ResourceLeakDetector;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.impl.CompressedFileCache;
+import io.vertx.core.internal.ContextInternal;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares compressing a file on each response with serving its cached compressed variant, the bytes/s served
+ * is the throughput multiplied by {@link #fileSize}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class CompressedFileCacheBenchmark {
+
+  static {
+    ResourceLeakDetector.setLevel(ResourceLeakDetector.Level.DISABLED);
+  }
+
+  @Param({"4096", "204800"})
+  private int fileSize;
+
+  private Vertx vertx;
+  private ContextInternal context;
+  private File file;
+  private GzipOptions gzip;
+  private CompressedFileCache cache;
+
+  @Setup
+  public void setup() throws Exception {
+    file = File.createTempFile("vertx-bench-", ".js");
+    StringBuilder sb = new StringBuilder();
+    while (sb.length() < fileSize) {
+      sb.append("function f").append(sb.length()).append("(a, b) { return a + b; }\n");
+    }
+    Files.write(file.toPath(), sb.substring(0, fileSize).getBytes());
+    vertx = Vertx.vertx();
+    context = (ContextInternal) vertx.getOrCreateContext();
+    gzip = StandardCompressionOptions.gzip();
+    cache = new CompressedFileCache(new CompressionOptions[] { gzip }, 0, 16, Long.MAX_VALUE);
+    while (cached() == null) {
+      Thread.sleep(1);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    vertx.close().await();
+    Files.deleteIfExists(file.toPath());
+  }
+
+  @Benchmark
+  public Buffer cached() {
+    return cache.get(context, file, file.lastModified(), file.length(), "gzip");
+  }
+
+  @Benchmark
+  public int onTheFly() throws IOException {
+    EmbeddedChannel channel = new EmbeddedChannel(ZlibCodecFactory.newZlibEncoder(ZlibWrapper.GZIP, gzip.compressionLevel(), gzip.windowBits(), gzip.memLevel()));
+    channel.writeOutbound(Unpooled.wrappedBuffer(Files.readAllBytes(file.toPath())));
+    channel.finish();
+    int size = 0;
+    ByteBuf chunk;
+    while ((chunk = channel.readOutbound()) != null) {
+      size += chunk.readableBytes();
+      chunk.release();
+    }
+    return size;
+  }
+}
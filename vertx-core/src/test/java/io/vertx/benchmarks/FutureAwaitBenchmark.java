@@ -11,11 +11,14 @@
 
 package io.vertx.benchmarks;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import org.openjdk.jmh.annotations.*;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 @Warmup(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
 @Measurement(iterations = 10, time = 2, timeUnit = TimeUnit.SECONDS)
@@ -26,6 +29,9 @@ import java.util.concurrent.TimeUnit;
 @State(Scope.Benchmark)
 public class FutureAwaitBenchmark {
 
+  private static final Function<String, String> IDENTITY = s -> s;
+  private static final Handler<AsyncResult<String>> LISTENER = ar -> {};
+
   private final Future<String> succeededFuture = Future.succeededFuture("foo");
   private final Future<String> failedFuture = Future.failedFuture("foo");
   private final Future<String> ofCompletedPromise;
@@ -56,6 +62,27 @@ public class FutureAwaitBenchmark {
     }
   }
 
+  @Benchmark
+  public String mapChain() {
+    Promise<String> promise = Promise.promise();
+    Future<String> future = promise.future();
+    for (int i = 0; i < 16; i++) {
+      future = future.map(IDENTITY);
+    }
+    promise.complete("foo");
+    return future.await();
+  }
+
+  @Benchmark
+  public String twoListeners() {
+    Promise<String> promise = Promise.promise();
+    Future<String> future = promise.future();
+    future.onComplete(LISTENER);
+    Future<String> mapped = future.map(IDENTITY);
+    promise.complete("foo");
+    return mapped.await();
+  }
+
   @Benchmark
   public String completedPromise() {
     return ofCompletedPromise.await();
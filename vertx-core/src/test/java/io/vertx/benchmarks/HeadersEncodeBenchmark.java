@@ -17,7 +17,9 @@ import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.EmptyHttpHeaders;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpResponseEncoder;
+import io.vertx.core.MultiMap;
 import io.vertx.core.http.impl.headers.Http1xHeaders;
+import io.vertx.core.http.impl.headers.PrecomputedHeadersImpl;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.CompilerControl;
 import org.openjdk.jmh.annotations.Param;
@@ -57,6 +59,8 @@ public class HeadersEncodeBenchmark extends BenchmarkBase {
   private HttpHeaders emptyHeaders;
   private HttpHeaders nettySmallHeaders;
   private HttpHeaders vertxSmallHeaders;
+  private MultiMap staticHeaders;
+  private PrecomputedHeadersImpl precomputedHeaders;
 
   @Setup
   public void setup() {
@@ -67,6 +71,14 @@ public class HeadersEncodeBenchmark extends BenchmarkBase {
     vertxSmallHeaders = Http1xHeaders.httpHeaders();
     setBaseHeaders(nettySmallHeaders, asciiNames, asciiValues);
     setBaseHeaders(vertxSmallHeaders, asciiNames, asciiValues);
+    staticHeaders = MultiMap.caseInsensitiveMultiMap()
+      .add("server", "vert.x")
+      .add("access-control-allow-origin", "*")
+      .add("strict-transport-security", "max-age=31536000; includeSubDomains")
+      .add("x-content-type-options", "nosniff")
+      .add("x-frame-options", "DENY")
+      .add("referrer-policy", "no-referrer");
+    precomputedHeaders = new PrecomputedHeadersImpl(staticHeaders);
   }
 
   @Benchmark
@@ -89,4 +101,24 @@ public class HeadersEncodeBenchmark extends BenchmarkBase {
     encoder.encodeHeaders(vertxSmallHeaders, byteBuf);
     consume(byteBuf);
   }
+
+  @Benchmark
+  public void vertxStatic() throws Exception {
+    Http1xHeaders headers = Http1xHeaders.httpHeaders();
+    headers.add(io.vertx.core.http.HttpHeaders.CONTENT_LENGTH, "20");
+    headers.addAll(staticHeaders);
+    byteBuf.resetWriterIndex();
+    headers.encode(byteBuf, false);
+    consume(byteBuf);
+  }
+
+  @Benchmark
+  public void vertxPrecomputed() throws Exception {
+    Http1xHeaders headers = Http1xHeaders.httpHeaders();
+    headers.add(io.vertx.core.http.HttpHeaders.CONTENT_LENGTH, "20");
+    precomputedHeaders.appendTo(headers);
+    byteBuf.resetWriterIndex();
+    headers.encode(byteBuf, false);
+    consume(byteBuf);
+  }
 }
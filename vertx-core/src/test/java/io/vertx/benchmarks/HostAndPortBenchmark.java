@@ -11,6 +11,7 @@
 
 package io.vertx.benchmarks;
 
+import io.vertx.core.net.impl.AuthorityCache;
 import io.vertx.core.net.impl.UriParser;
 import io.vertx.core.net.impl.HostAndPortImpl;
 import org.openjdk.jmh.annotations.*;
@@ -28,8 +29,15 @@ public class HostAndPortBenchmark {
    @Param("192.168.0.1:8080")
    private String host;
 
+   private String sameHost;
+   private AuthorityCache authorityCache;
+
    @Setup
    public void setup() {
+      // Equal but not identical, like the header value of each request of a connection
+      sameHost = new String(host);
+      authorityCache = new AuthorityCache();
+      authorityCache.parse(host);
    }
 
 
@@ -50,6 +58,16 @@ public class HostAndPortBenchmark {
       return HostAndPortImpl.parseAuthority(host, -1);
    }
 
+   @Benchmark
+   public HostAndPortImpl parseAuthorityThreadCache() {
+      return AuthorityCache.parseAuthority(sameHost);
+   }
+
+   @Benchmark
+   public HostAndPortImpl parseAuthorityConnectionCache() {
+      return authorityCache.parse(sameHost);
+   }
+
    @Benchmark
    public boolean isValidAuthority() {
       return HostAndPortImpl.isValidAuthority(host);
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.benchmarks;
+
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.net.endpoint.InteractionMetrics;
+import io.vertx.core.net.endpoint.LoadBalancer;
+import io.vertx.core.net.endpoint.ServerEndpoint;
+import io.vertx.core.net.endpoint.ServerInteraction;
+import io.vertx.core.net.endpoint.ServerSelector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulates requests to a set of servers among which one is much slower than the others, each request spins for the
+ * latency of the selected server: the better the load balancer avoids the slow server, the higher the throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 2, timeUnit = TimeUnit.SECONDS)
+@Threads(4)
+@Fork(1)
+public class LoadBalancerBenchmark {
+
+  @Param({"ROUND_ROBIN", "LEAST_REQUESTS", "POWER_OF_TWO_CHOICES", "PEAK_EWMA"})
+  private String loadBalancer;
+
+  @Param({"8"})
+  private int numberOfServers;
+
+  @Param({"20"})
+  private int latencyMicros;
+
+  @Param({"20"})
+  private int slowdown;
+
+  private List<SimulatedServer> servers;
+  private ServerSelector selector;
+
+  private static class SimulatedServer implements ServerEndpoint {
+
+    private final InteractionMetrics<?> metrics;
+    private final long latencyNanos;
+
+    SimulatedServer(LoadBalancer loadBalancer, long latencyNanos) {
+      this.metrics = loadBalancer.newMetrics();
+      this.latencyNanos = latencyNanos;
+    }
+
+    @Override
+    public String key() {
+      return "";
+    }
+
+    @Override
+    public SocketAddress address() {
+      return null;
+    }
+
+    @Override
+    public String protocolId() {
+      return null;
+    }
+
+    @Override
+    public ServerInteraction newInteraction() {
+      return null;
+    }
+
+    @Override
+    public InteractionMetrics<?> metrics() {
+      return metrics;
+    }
+
+    @Override
+    public Object unwrap() {
+      return null;
+    }
+
+    void interact() {
+      interact(metrics);
+    }
+
+    private <M> void interact(InteractionMetrics<M> metrics) {
+      M metric = metrics.initiateRequest();
+      metrics.reportRequestBegin(metric);
+      metrics.reportRequestEnd(metric);
+      long deadline = System.nanoTime() + latencyNanos;
+      while (System.nanoTime() < deadline) {
+        Thread.onSpinWait();
+      }
+      metrics.reportResponseBegin(metric);
+      metrics.reportResponseEnd(metric);
+    }
+  }
+
+  @Setup
+  public void setup() throws Exception {
+    LoadBalancer lb = (LoadBalancer) LoadBalancer.class.getField(loadBalancer).get(null);
+    servers = new ArrayList<>();
+    for (int i = 0;i < numberOfServers;i++) {
+      long latency = TimeUnit.MICROSECONDS.toNanos(i == 0 ? (long) latencyMicros * slowdown : latencyMicros);
+      servers.add(new SimulatedServer(lb, latency));
+    }
+    selector = lb.selector(servers);
+  }
+
+  @Benchmark
+  public int request() {
+    int idx = selector.select();
+    servers.get(idx).interact();
+    return idx;
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.benchmarks;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.QueryParamDecoderConfig;
+import io.vertx.core.internal.http.QueryParamDecoder;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the eager and the lazy decoding of the query parameters of a request looking up a single parameter.
+ */
+@State(Scope.Thread)
+public class QueryParamsBenchmark extends BenchmarkBase {
+
+  @Param({"1", "10", "100"})
+  public int params;
+
+  private QueryParamDecoder decoder;
+  private String uri;
+  private String name;
+
+  @Setup
+  public void setup() {
+    decoder = new QueryParamDecoder(new QueryParamDecoderConfig());
+    StringBuilder sb = new StringBuilder("/some/path?");
+    for (int i = 0;i < params;i++) {
+      if (i > 0) {
+        sb.append('&');
+      }
+      sb.append("param").append(i).append("=value%20").append(i);
+    }
+    uri = sb.toString();
+    name = "param" + (params / 2);
+  }
+
+  @Benchmark
+  public String eagerGetParam() {
+    return decoder.decode(uri).get(name);
+  }
+
+  @Benchmark
+  public String lazyGetParam() {
+    return decoder.decodeLazily(uri).get(name);
+  }
+
+  @Benchmark
+  public MultiMap eagerParams() {
+    return decoder.decode(uri);
+  }
+
+  @Benchmark
+  public int lazyParams() {
+    return decoder.decodeLazily(uri).size();
+  }
+}
@@ -29,6 +29,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -101,6 +102,114 @@ public class ResolvingHttpClientTest extends VertxTestBase {
     Assert.assertEquals(new HashSet<>(Arrays.asList("server-0", "server-1")), responses);
   }
 
+  private HttpClientInternal hedgingClient(double hedgeBudget) {
+    return hedgingClient(builder -> builder.with(new HttpClientConfig().setHedgeBudget(hedgeBudget)));
+  }
+
+  private HttpClientInternal hedgingClient(Consumer<HttpClientBuilder> configurer) {
+    FakeAddressResolver resolver = new FakeAddressResolver();
+    resolver.registerAddress("example.com", Arrays.asList(SocketAddress.inetSocketAddress(HttpTestBase.DEFAULT_HTTP_PORT, "localhost"), SocketAddress.inetSocketAddress(HttpTestBase.DEFAULT_HTTP_PORT + 1, "localhost")));
+    HttpClientBuilder builder = vertx.httpClientBuilder().withAddressResolver(resolver);
+    configurer.accept(builder);
+    return (HttpClientInternal) builder.build();
+  }
+
+  @Test
+  public void testHedgeRequest() throws Exception {
+    waitFor(2);
+    startServers(2);
+    requestHandler = (idx, req) -> {
+      if (idx == 0) {
+        // Never respond, the request is reset when the hedged request wins
+        req.connection().closeHandler(v -> complete());
+      } else {
+        req.response().end("server-" + idx);
+      }
+    };
+    HttpClientInternal client = hedgingClient(1D);
+    client.send(new RequestOptions().setServer(new FakeAddress("example.com")).setHedgeDelay(50))
+      .compose(HttpClientResponse::body)
+      .onComplete(onSuccess(body -> {
+        assertEquals("server-1", body.toString());
+        assertEquals(1L, ((HttpClientImpl) client.unwrap()).hedgedRequests());
+        complete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testHedgeRequestBudget() throws Exception {
+    startServers(2);
+    requestHandler = (idx, req) -> vertx.setTimer(200, id -> req.response().end("server-" + idx));
+    HttpClientInternal client = hedgingClient(0D);
+    client.send(new RequestOptions().setServer(new FakeAddress("example.com")).setHedgeDelay(20))
+      .compose(HttpClientResponse::body)
+      .onComplete(onSuccess(body -> {
+        assertEquals("server-0", body.toString());
+        assertEquals(0L, ((HttpClientImpl) client.unwrap()).hedgedRequests());
+        testComplete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testHedgeRequestRoutingKey() throws Exception {
+    startServers(2);
+    AtomicInteger primary = new AtomicInteger(-1);
+    requestHandler = (idx, req) -> {
+      // Never respond to the primary request
+      if (!primary.compareAndSet(-1, idx)) {
+        req.response().end("server-" + idx);
+      }
+    };
+    // The load balancer always selects the same server for the routing key
+    HttpClientInternal client = hedgingClient(builder -> builder
+      .with(new HttpClientConfig().setHedgeBudget(1D))
+      .withLoadBalancer(LoadBalancer.CONSISTENT_HASHING));
+    client.send(new RequestOptions().setServer(new FakeAddress("example.com")).setRoutingKey("the-key").setHedgeDelay(50))
+      .compose(HttpClientResponse::body)
+      .onComplete(onSuccess(body -> {
+        assertEquals("server-" + (1 - primary.get()), body.toString());
+        assertEquals(1L, ((HttpClientImpl) client.unwrap()).hedgedRequests());
+        testComplete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testHedgeBudgetFromOptions() throws Exception {
+    startServers(2);
+    requestHandler = (idx, req) -> vertx.setTimer(200, id -> req.response().end("server-" + idx));
+    HttpClientInternal client = hedgingClient(builder -> builder.with(new HttpClientOptions().setHedgeBudget(0D)));
+    client.send(new RequestOptions().setServer(new FakeAddress("example.com")).setHedgeDelay(20))
+      .compose(HttpClientResponse::body)
+      .onComplete(onSuccess(body -> {
+        assertEquals("server-0", body.toString());
+        assertEquals(0L, ((HttpClientImpl) client.unwrap()).hedgedRequests());
+        testComplete();
+      }));
+    await();
+  }
+
+  @Test
+  public void testDoNotHedgeUnsafeMethod() throws Exception {
+    AtomicInteger requests = new AtomicInteger();
+    startServers(2);
+    requestHandler = (idx, req) -> {
+      requests.incrementAndGet();
+      vertx.setTimer(200, id -> req.response().end("server-" + idx));
+    };
+    HttpClientInternal client = hedgingClient(1D);
+    client.send(new RequestOptions().setMethod(HttpMethod.POST).setServer(new FakeAddress("example.com")).setHedgeDelay(20))
+      .compose(HttpClientResponse::body)
+      .onComplete(onSuccess(body -> {
+        assertEquals("server-0", body.toString());
+        assertEquals(1, requests.get());
+        testComplete();
+      }));
+    await();
+  }
+
   @Ignore
   @Test
   public void testShutdownServers() throws Exception {
@@ -94,6 +94,52 @@ public class BufferTest {
     assertNullPointerException(() -> b.appendBuffer(null));
   }
 
+  @Test
+  public void testCompositeAppendBuff() throws Exception {
+    Buffer b = Buffer.composite();
+    b.appendBuffer(Buffer.buffer().appendInt(1).appendShort((short) 2));
+    b.appendBuffer(PADDED_BUFFER_FACTORY.apply(new byte[] { 0, 3 }));
+    b.appendBuffer(Buffer.buffer().appendLong(4L));
+    assertEquals(16, b.length());
+    assertEquals(1, b.getInt(0));
+    // Reads across component boundaries
+    assertEquals((2 << 16) | 3, b.getInt(4));
+    assertEquals(3, b.getShort(6));
+    assertEquals(4L, b.getLong(8));
+    assertEquals(Buffer.buffer().appendInt(1).appendShort((short) 2).appendShort((short) 3).appendLong(4L), b);
+    assertNullPointerException(() -> b.appendBuffer(null));
+  }
+
+  @Test
+  public void testCompositeAppendDoesNotCopy() throws Exception {
+    Buffer fragment = Buffer.buffer("Hello");
+    Buffer b = Buffer.composite().appendBuffer(fragment).appendBuffer(fragment, 1, 3);
+    assertEquals("Helloell", b.toString());
+    fragment.setByte(1, (byte) 'a');
+    assertEquals("Halloall", b.toString());
+  }
+
+  @Test
+  public void testCompositeMixedAppends() throws Exception {
+    Buffer b = Buffer.composite();
+    b.appendString("HTTP/1.1 200 OK\r\n");
+    b.appendBuffer(Buffer.buffer("Content-Length: 5\r\n\r\n"));
+    b.appendString("Hello");
+    b.appendBuffer(Buffer.buffer("\r\n"));
+    b.setByte(b.length(), (byte) '!');
+    assertEquals("HTTP/1.1 200 OK\r\nContent-Length: 5\r\n\r\nHello\r\n!", b.toString());
+    assertEquals("Hello", b.getString(38, 43));
+    assertEquals(b.toString(), b.copy().toString());
+  }
+
+  @Test
+  public void testCompositeAppendPooled() throws Exception {
+    Buffer pooled = Buffer.pooled(5).appendString("Hello");
+    Buffer b = Buffer.composite().appendBuffer(pooled);
+    assertTrue(pooled.release());
+    assertEquals("Hello", b.toString());
+  }
+
   @Test
   public void testAppendBytes() throws Exception {
 
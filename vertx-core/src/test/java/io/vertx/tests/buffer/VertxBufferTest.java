@@ -12,6 +12,7 @@
 package io.vertx.tests.buffer;
 
 import io.netty.buffer.*;
+import io.netty.util.ResourceLeakDetector;
 import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.buffer.impl.VertxHeapByteBuf;
 import io.vertx.core.buffer.impl.VertxUnsafeHeapByteBuf;
@@ -19,6 +20,8 @@ import io.vertx.core.impl.buffer.VertxByteBufAllocator;
 import io.vertx.core.internal.buffer.BufferInternal;
 import org.junit.Test;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.Assert.*;
 
 public class VertxBufferTest {
@@ -63,6 +66,76 @@ public class VertxBufferTest {
     assertEquals(0, byteBuf.readerIndex());
   }
 
+  @Test
+  public void testPooledBuffer() {
+    BufferInternal buffer = BufferInternal.pooled(16);
+    buffer.appendString("Hello World");
+    ByteBuf byteBuf = buffer.unwrap();
+    assertTrue(byteBuf.isDirect());
+    assertEquals(1, buffer.refCnt());
+    ByteBuf retained = buffer.retainedByteBuf();
+    assertEquals(2, buffer.refCnt());
+    assertEquals("Hello World", retained.toString(StandardCharsets.UTF_8));
+    assertFalse(retained.release());
+    assertEquals(1, buffer.refCnt());
+    ByteBuf copy = buffer.getByteBuf();
+    assertFalse(copy.isDirect());
+    assertEquals("Hello World", copy.toString(StandardCharsets.UTF_8));
+    assertFalse(buffer.copy().unwrap().isDirect());
+    assertEquals(BufferInternal.buffer("Hello World"), buffer);
+    assertEquals(2, buffer.retain().refCnt());
+    assertFalse(buffer.release());
+    assertTrue(buffer.release());
+    assertEquals(0, byteBuf.refCnt());
+  }
+
+  @Test
+  public void testPooledBufferSlice() {
+    BufferInternal buffer = BufferInternal.pooled(16);
+    buffer.appendString("Hello World");
+    BufferInternal slice = (BufferInternal) buffer.slice(6, 11);
+    assertEquals("World", slice.toString());
+    assertEquals(1, slice.refCnt());
+    ByteBuf retained = slice.retainedByteBuf();
+    assertEquals(2, buffer.refCnt());
+    assertFalse(buffer.release());
+    assertEquals("World", retained.toString(StandardCharsets.UTF_8));
+    assertTrue(retained.release());
+    assertEquals(0, slice.refCnt());
+  }
+
+  @Test
+  public void testPooledBufferNoLeak() {
+    ResourceLeakDetector.Level level = ResourceLeakDetector.getLevel();
+    ResourceLeakDetector.setLevel(ResourceLeakDetector.Level.PARANOID);
+    try {
+      for (int i = 0;i < 16;i++) {
+        BufferInternal buffer = BufferInternal.pooled(16);
+        buffer.appendString("Hello World");
+        ByteBuf byteBuf = buffer.unwrap();
+        // Transport path: the channel releases the retained slice once written
+        ByteBuf retained = buffer.retainedByteBuf();
+        ByteBuf copy = buffer.copy().getByteBuf();
+        assertFalse(retained.release());
+        assertTrue(buffer.release());
+        assertEquals(0, byteBuf.refCnt());
+        // Heap copies outlive the pooled memory
+        assertEquals("Hello World", copy.toString(StandardCharsets.UTF_8));
+      }
+    } finally {
+      ResourceLeakDetector.setLevel(level);
+    }
+  }
+
+  @Test
+  public void testNonPooledBufferRefCnt() {
+    BufferInternal buffer = BufferInternal.buffer("Hello World");
+    assertEquals(1, buffer.refCnt());
+    assertSame(buffer, buffer.retain());
+    assertFalse(buffer.release());
+    assertEquals(1, buffer.refCnt());
+  }
+
   @Test
   public void testSafeBuffer() {
     assertCopyAndRelease(AdaptiveByteBufAllocator.DEFAULT.heapBuffer().writeByte('A'));
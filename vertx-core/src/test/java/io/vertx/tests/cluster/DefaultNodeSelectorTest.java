@@ -16,6 +16,7 @@ import io.vertx.core.spi.cluster.NodeInfo;
 import io.vertx.core.spi.cluster.RegistrationInfo;
 import io.vertx.core.spi.cluster.RegistrationUpdateEvent;
 import io.vertx.core.eventbus.impl.clustered.DefaultNodeSelector;
+import io.vertx.core.spi.metrics.EventBusMetrics;
 import org.junit.Test;
 
 import java.util.*;
@@ -284,4 +285,79 @@ public class DefaultNodeSelectorTest {
     ClusterView.GetRegistrationsOp get = view.assertGetRegistration();
     get.succeed("node1");
   }
+
+  @Test
+  public void testUnchangedRegistrationsUpdate() {
+    DefaultNodeSelector ns = new DefaultNodeSelector();
+    ClusterView view = new ClusterView();
+    ns.init(view);
+    List<String> selected = new ArrayList<>();
+    ns.selectForSend("the-address", (result, failure) -> selected.add(result));
+    view.assertGetRegistration().succeed("node1", "node2");
+    ns.registrationsUpdated(new RegistrationUpdateEvent("the-address", registrations("node2", "node1")));
+    // The selector is kept and continues its round
+    ns.selectForSend("the-address", (result, failure) -> selected.add(result));
+    assertEquals(2, selected.size());
+    assertNotEquals(selected.get(0), selected.get(1));
+    view.assertEmpty();
+  }
+
+  @Test
+  public void testCacheEviction() {
+    DefaultNodeSelector ns = new DefaultNodeSelector(2);
+    ClusterView view = new ClusterView();
+    ns.init(view);
+    AtomicInteger count = new AtomicInteger();
+    for (String address : List.of("address-1", "address-2", "address-3")) {
+      ns.selectForSend(address, (result, failure) -> count.incrementAndGet());
+      ClusterView.GetRegistrationsOp get = view.assertGetRegistration();
+      assertEquals(address, get.address);
+      get.succeed("node1");
+    }
+    assertEquals(3, count.get());
+    assertEquals(3, ns.cacheMisses());
+    assertEquals(0, ns.cacheHits());
+    assertEquals(1, ns.cacheEvictions());
+    assertEquals(2, ns.cacheSize());
+    assertFalse(ns.wantsUpdatesFor("address-1"));
+    ns.selectForSend("address-3", (result, failure) -> count.incrementAndGet());
+    assertEquals(4, count.get());
+    assertEquals(1, ns.cacheHits());
+    view.assertEmpty();
+    ns.selectForSend("address-1", (result, failure) -> count.incrementAndGet());
+    ClusterView.GetRegistrationsOp get = view.assertGetRegistration();
+    assertEquals("address-1", get.address);
+  }
+
+  @Test
+  public void testCacheMetrics() {
+    DefaultNodeSelector ns = new DefaultNodeSelector(1);
+    AtomicInteger hits = new AtomicInteger();
+    AtomicInteger misses = new AtomicInteger();
+    AtomicInteger evictions = new AtomicInteger();
+    ns.metrics(new EventBusMetrics<Void>() {
+      @Override
+      public void nodeSelectorCacheHit() {
+        hits.incrementAndGet();
+      }
+      @Override
+      public void nodeSelectorCacheMiss() {
+        misses.incrementAndGet();
+      }
+      @Override
+      public void nodeSelectorCacheEviction() {
+        evictions.incrementAndGet();
+      }
+    });
+    ClusterView view = new ClusterView();
+    ns.init(view);
+    for (String address : List.of("address-1", "address-2")) {
+      ns.selectForSend(address, (result, failure) -> {});
+      view.assertGetRegistration().succeed("node1");
+    }
+    ns.selectForSend("address-2", (result, failure) -> {});
+    assertEquals(2, misses.get());
+    assertEquals(1, hits.get());
+    assertEquals(1, evictions.get());
+  }
 }
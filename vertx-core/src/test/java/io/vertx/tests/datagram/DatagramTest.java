@@ -29,6 +29,8 @@ import org.junit.Test;
 
 import java.net.InetAddress;
 import java.net.NetworkInterface;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -146,6 +148,43 @@ public class DatagramTest extends VertxTestBase {
 
 
 
+  @Test
+  public void testSendBatch() {
+    testSendBatch(new DatagramSocketOptions(), 100, 100, 100, 100);
+  }
+
+  @Test
+  public void testSendBatchSegmented() {
+    testSendBatch(new DatagramSocketOptions().setUdpGso(true), 100, 100, 100, 42);
+  }
+
+  @Test
+  public void testSendBatchNotSegmentable() {
+    testSendBatch(new DatagramSocketOptions().setUdpGso(true), 100, 200, 100);
+  }
+
+  private void testSendBatch(DatagramSocketOptions options, int... sizes) {
+    List<Buffer> buffers = new ArrayList<>();
+    for (int size : sizes) {
+      buffers.add(TestUtils.randomBuffer(size));
+    }
+    peer1 = vertx.createDatagramSocket(options);
+    peer2 = vertx.createDatagramSocket(new DatagramSocketOptions().setReceiveBatchSize(16));
+    peer2.exceptionHandler(t -> fail(t.getMessage()));
+    peer2.listen(1234, "127.0.0.1").onComplete(onSuccess(v -> {
+      List<Buffer> received = new ArrayList<>();
+      peer2.handler(packet -> {
+        received.add(packet.data());
+        if (received.size() == buffers.size()) {
+          assertEquals(buffers, received);
+          testComplete();
+        }
+      });
+      peer1.send(buffers, 1234, "127.0.0.1").onComplete(onSuccess(ar -> {}));
+    }));
+    await();
+  }
+
   @Test
   public void testSender() {
     peer1 = vertx.createDatagramSocket(new DatagramSocketOptions());
@@ -425,6 +464,24 @@ public class DatagramTest extends VertxTestBase {
     assertEquals(options, options.setIpV6(true));
     assertTrue(options.isIpV6());
 
+    assertEquals(DatagramSocketOptions.DEFAULT_RECEIVE_BATCH_SIZE, options.getReceiveBatchSize());
+    assertEquals(options, options.setReceiveBatchSize(64));
+    assertEquals(64, options.getReceiveBatchSize());
+    assertIllegalArgumentException(() -> options.setReceiveBatchSize(0));
+
+    assertEquals(DatagramSocketOptions.DEFAULT_MAX_DATAGRAM_PAYLOAD_SIZE, options.getMaxDatagramPayloadSize());
+    assertEquals(options, options.setMaxDatagramPayloadSize(1472));
+    assertEquals(1472, options.getMaxDatagramPayloadSize());
+    assertIllegalArgumentException(() -> options.setMaxDatagramPayloadSize(-1));
+
+    assertFalse(options.isUdpGro());
+    assertEquals(options, options.setUdpGro(true));
+    assertTrue(options.isUdpGro());
+
+    assertFalse(options.isUdpGso());
+    assertEquals(options, options.setUdpGso(true));
+    assertTrue(options.isUdpGso());
+
     testComplete();
   }
 
@@ -150,4 +150,81 @@ public class LoadBalancingTest {
       bitset |= 1 << res;
     }
   }
+
+  private static void interact(ServerEndpoint endpoint, long latencyMillis) throws Exception {
+    InteractionMetrics<Object> metrics = (InteractionMetrics<Object>) endpoint.metrics();
+    Object metric = metrics.initiateRequest();
+    metrics.reportRequestBegin(metric);
+    metrics.reportRequestEnd(metric);
+    Thread.sleep(latencyMillis);
+    metrics.reportResponseBegin(metric);
+    metrics.reportResponseEnd(metric);
+  }
+
+  @Test
+  public void testPeakEwma() throws Exception {
+    ServerEndpoint e1 = endpointOf(PEAK_EWMA);
+    ServerEndpoint e2 = endpointOf(PEAK_EWMA);
+    interact(e1, 50);
+    interact(e2, 0);
+    ServerSelector selector = PEAK_EWMA.selector(Arrays.asList(e1, e2));
+    for (int i = 0;i < 100;i++) {
+      assertEquals(1, selector.select());
+    }
+  }
+
+  @Test
+  public void testPeakEwmaInflightRequests() throws Exception {
+    ServerEndpoint e1 = endpointOf(PEAK_EWMA);
+    ServerEndpoint e2 = endpointOf(PEAK_EWMA);
+    interact(e1, 1);
+    interact(e2, 1);
+    for (int i = 0;i < 100;i++) {
+      e2.metrics().initiateRequest();
+    }
+    ServerSelector selector = PEAK_EWMA.selector(Arrays.asList(e1, e2));
+    assertEquals(0, selector.select());
+  }
+
+  @Test
+  public void testPeakEwmaWarmUp() throws Exception {
+    ServerEndpoint e1 = endpointOf(PEAK_EWMA);
+    ServerEndpoint e2 = endpointOf(PEAK_EWMA);
+    interact(e1, 1);
+    e1.metrics().initiateRequest();
+    // Unmeasured server is scored with the latency of the other one
+    ServerSelector selector = PEAK_EWMA.selector(Arrays.asList(e1, e2));
+    assertEquals(1, selector.select());
+    e2.metrics().initiateRequest();
+    e2.metrics().initiateRequest();
+    assertEquals(0, selector.select());
+  }
+
+  @Test
+  public void testPeakEwmaHungServer() throws Exception {
+    LoadBalancer loadBalancer = LoadBalancer.peakEwma(50);
+    ServerEndpoint e1 = endpointOf(loadBalancer);
+    ServerEndpoint e2 = endpointOf(loadBalancer);
+    interact(e1, 20);
+    interact(e2, 1);
+    // e2 stops responding, its latency must grow with the age of the request instead of decaying
+    e2.metrics().initiateRequest();
+    Thread.sleep(200);
+    ServerSelector selector = loadBalancer.selector(Arrays.asList(e1, e2));
+    for (int i = 0;i < 100;i++) {
+      assertEquals(0, selector.select());
+    }
+  }
+
+  @Test
+  public void testPeakEwmaFailure() throws Exception {
+    ServerEndpoint e1 = endpointOf(PEAK_EWMA);
+    ServerEndpoint e2 = endpointOf(PEAK_EWMA);
+    interact(e1, 10);
+    interact(e2, 10);
+    InteractionMetrics<Object> metrics = (InteractionMetrics<Object>) e2.metrics();
+    metrics.reportFailure(metrics.initiateRequest(), new Exception());
+    ServerSelector selector = PEAK_EWMA.selector(Arrays.asList(e1, e2));
+    assertEquals(0, selector.select());
+  }
 }
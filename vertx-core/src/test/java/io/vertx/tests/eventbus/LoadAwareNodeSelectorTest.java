@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+
+package io.vertx.tests.eventbus;
+
+import io.vertx.core.*;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.eventbus.impl.clustered.LoadAwareNodeSelector;
+import io.vertx.core.eventbus.impl.clustered.NodeStats;
+import io.vertx.core.impl.VertxBootstrapImpl;
+import io.vertx.core.internal.VertxBootstrap;
+import io.vertx.core.internal.VertxInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.spi.cluster.NodeInfo;
+import io.vertx.test.core.VertxTestBase;
+import io.vertx.test.fakecluster.FakeClusterManager;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.*;
+
+public class LoadAwareNodeSelectorTest extends VertxTestBase {
+
+  private List<Vertx> vertices;
+  private List<LoadAwareNodeSelector> selectors;
+
+  private void startNodes(String zoneKey, String... zones) throws Exception {
+    startNodes(FakeClusterManager::new, zoneKey, zones);
+  }
+
+  private void startNodes(Supplier<FakeClusterManager> clusterManagerFactory, String zoneKey, String... zones) throws Exception {
+    selectors = new ArrayList<>();
+    CompositeFuture startFuture = IntStream.range(0, zones.length)
+      .mapToObj(i -> {
+        VertxOptions options = getOptions();
+        options.getEventBusOptions().setClusterNodeMetadata(new JsonObject().put("zone", zones[i]));
+        LoadAwareNodeSelector selector = new LoadAwareNodeSelector(zoneKey);
+        selectors.add(selector);
+        return ((VertxBootstrapImpl)VertxBootstrap.create().options(options).init())
+          .clusterManager(clusterManagerFactory.get())
+          .clusterNodeSelector(selector)
+          .clusteredVertx();
+      })
+      .collect(collectingAndThen(toList(), Future::all));
+    CountDownLatch startLatch = new CountDownLatch(1);
+    startFuture.onComplete(onSuccess(cf -> startLatch.countDown()));
+    awaitLatch(startLatch);
+    vertices = startFuture.list();
+  }
+
+  private AtomicInteger[] registerConsumers(int from) throws Exception {
+    AtomicInteger[] counts = new AtomicInteger[vertices.size()];
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0;i < vertices.size();i++) {
+      AtomicInteger count = counts[i] = new AtomicInteger();
+      if (i >= from) {
+        MessageConsumer<String> consumer = vertices.get(i).eventBus().consumer("test", msg -> {
+          count.incrementAndGet();
+          msg.reply("pong");
+        });
+        futures.add(consumer.completion());
+      }
+    }
+    CountDownLatch latch = new CountDownLatch(1);
+    Future.all(futures).onComplete(onSuccess(v -> latch.countDown()));
+    awaitLatch(latch);
+    return counts;
+  }
+
+  private void sendMessages(int num) throws Exception {
+    CountDownLatch latch = new CountDownLatch(num);
+    for (int i = 0;i < num;i++) {
+      vertices.get(0).eventBus().request("test", "ping").onComplete(onSuccess(reply -> latch.countDown()));
+    }
+    awaitLatch(latch);
+  }
+
+  @Test
+  public void testSpreadLoad() throws Exception {
+    startNodes(null, "a", "a", "a");
+    AtomicInteger[] counts = registerConsumers(1);
+    sendMessages(200);
+    assertEquals(0, counts[0].get());
+    assertTrue(counts[1].get() > 0);
+    assertTrue(counts[2].get() > 0);
+    assertEquals(200, counts[1].get() + counts[2].get());
+    String nodeId = ((VertxInternal) vertices.get(1)).clusterManager().getNodeId();
+    NodeStats stats = selectors.get(0).stats(nodeId);
+    assertEquals(0, stats.inFlight());
+    assertEquals(0, stats.consecutiveFailures());
+    assertNotNull(stats.nodeInfo());
+  }
+
+  @Test
+  public void testPublishStatsPerNode() throws Exception {
+    startNodes(null, "a", "a", "a");
+    AtomicInteger[] counts = registerConsumers(1);
+    int num = 100;
+    for (int i = 0;i < num;i++) {
+      vertices.get(0).eventBus().publish("test", "ping");
+    }
+    assertWaitUntil(() -> counts[1].get() == num && counts[2].get() == num);
+    for (int i = 1;i < 3;i++) {
+      String nodeId = ((VertxInternal) vertices.get(i)).clusterManager().getNodeId();
+      NodeStats stats = selectors.get(0).stats(nodeId);
+      assertWaitUntil(() -> stats.inFlight() == 0);
+      assertEquals(0, stats.consecutiveFailures());
+      assertTrue(stats.writeLatency() > 0);
+    }
+  }
+
+  @Test
+  public void testZoneAffinity() throws Exception {
+    startNodes("zone", "a", "a", "b");
+    AtomicInteger[] counts = registerConsumers(1);
+    sendMessages(100);
+    assertEquals(100, counts[1].get());
+    assertEquals(0, counts[2].get());
+  }
+
+  @Test
+  public void testZoneAffinityAsyncNodeInfo() throws Exception {
+    // The node info of the remote nodes is not known when the first messages are sent
+    startNodes(() -> new FakeClusterManager() {
+      @Override
+      public void getNodeInfo(String nodeId, Completable<NodeInfo> promise) {
+        CompletableFuture.delayedExecutor(20, TimeUnit.MILLISECONDS).execute(() -> super.getNodeInfo(nodeId, promise));
+      }
+    }, "zone", "a", "a", "b");
+    AtomicInteger[] counts = registerConsumers(1);
+    sendMessages(100);
+    assertEquals(100, counts[1].get());
+    assertEquals(0, counts[2].get());
+  }
+
+  @Test
+  public void testZoneAffinityFallback() throws Exception {
+    startNodes("zone", "a", "b", "b");
+    AtomicInteger[] counts = registerConsumers(1);
+    sendMessages(100);
+    assertEquals(100, counts[1].get() + counts[2].get());
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    try {
+      if (vertices != null) {
+        close(vertices);
+      }
+    } finally {
+      super.tearDown();
+    }
+  }
+}
@@ -586,6 +586,95 @@ public class CompositeFutureTest extends FutureTestBase {
     assertTrue(cf.isComplete());
   }
 
+  @Test
+  public void testAllOf() {
+    Promise<String> p1 = Promise.promise();
+    Promise<String> p2 = Promise.promise();
+    Future<List<String>> all = Future.allOf(Arrays.asList(p1.future(), Future.succeededFuture("b"), p2.future()));
+    p2.complete("c");
+    assertFalse(all.isComplete());
+    p1.complete("a");
+    assertEquals(Arrays.asList("a", "b", "c"), all.result());
+  }
+
+  @Test
+  public void testAllOfEmpty() {
+    Future<List<Object>> all = Future.allOf(Collections.emptyList());
+    assertEquals(Collections.emptyList(), all.result());
+  }
+
+  @Test
+  public void testAllOfFailure() {
+    MonitoringFuture f = new MonitoringFuture();
+    Future<List<Object>> all = Future.allOf(Arrays.asList(f, Future.failedFuture("the-failure")));
+    assertEquals("the-failure", all.cause().getMessage());
+    assertEquals(Collections.emptySet(), f.listeners);
+  }
+
+  @Test
+  public void testAllOfCustomFuture() {
+    Promise<Void> p1 = Promise.promise();
+    Promise<Void> p2 = Promise.promise();
+    Future<List<Void>> all = Future.allOf(Arrays.asList(p1.future(), new MyFuture(p2)));
+    p1.complete(null);
+    p2.complete(null);
+    assertTrue(all.succeeded());
+  }
+
+  @Test
+  public void testAllBounded() {
+    List<Promise<Integer>> promises = new ArrayList<>();
+    List<Supplier<Future<Integer>>> tasks = new ArrayList<>();
+    for (int i = 0;i < 10;i++) {
+      tasks.add(() -> {
+        Promise<Integer> promise = Promise.promise();
+        promises.add(promise);
+        return promise.future();
+      });
+    }
+    Future<List<Integer>> all = Future.allBounded(tasks, 3);
+    int completed = 0;
+    while (completed < 10) {
+      assertEquals(Math.min(completed + 3, 10), promises.size());
+      promises.get(completed).complete(completed);
+      completed++;
+    }
+    assertEquals(IntStream.range(0, 10).boxed().collect(Collectors.toList()), all.result());
+  }
+
+  @Test
+  public void testAllBoundedSynchronousCompletion() {
+    int num = 100_000;
+    List<Supplier<Future<Integer>>> tasks = new ArrayList<>();
+    for (int i = 0;i < num;i++) {
+      int val = i;
+      tasks.add(() -> Future.succeededFuture(val));
+    }
+    Future<List<Integer>> all = Future.allBounded(tasks, 1);
+    assertEquals(num, all.result().size());
+    assertEquals(num - 1, (int) all.result().get(num - 1));
+  }
+
+  @Test
+  public void testAllBoundedFailure() {
+    AtomicInteger started = new AtomicInteger();
+    List<Supplier<Future<Integer>>> tasks = new ArrayList<>();
+    tasks.add(() -> {
+      started.incrementAndGet();
+      throw new RuntimeException("the-failure");
+    });
+    for (int i = 0;i < 10;i++) {
+      tasks.add(() -> {
+        started.incrementAndGet();
+        return Future.succeededFuture(0);
+      });
+    }
+    Future<List<Integer>> all = Future.allBounded(tasks, 1);
+    assertEquals("the-failure", all.cause().getMessage());
+    assertEquals(1, started.get());
+    assertThatThrownBy(() -> Future.allBounded(tasks, 0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
   private static class MyFuture implements Future<Void> {
 
     private final Future<Void> delegate;
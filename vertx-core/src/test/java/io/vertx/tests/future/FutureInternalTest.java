@@ -16,7 +16,12 @@ import io.vertx.core.Promise;
 import io.vertx.core.impl.future.FutureImpl;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * @author <a href="mailto:julien@julienviet.com">Julien Viet</a>
@@ -47,6 +52,41 @@ public class FutureInternalTest extends FutureTestBase {
     testRemoveListener(fut);
   }
 
+  @Test
+  public void testRemoveListener3() {
+    FutureImpl<Void> fut = (FutureImpl<Void>) Promise.promise();
+    fut.onComplete(ar -> {});
+    fut.onComplete(ar -> {});
+    testRemoveListener(fut);
+  }
+
+  @Test
+  public void testListenersOrder() {
+    for (int num = 1; num <= 4; num++) {
+      FutureImpl<Void> future = (FutureImpl<Void>) Promise.promise();
+      List<Integer> order = new ArrayList<>();
+      for (int i = 0; i < num; i++) {
+        int val = i;
+        future.addListener((value, err) -> order.add(val));
+      }
+      future.tryComplete(null);
+      assertEquals(IntStream.range(0, num).boxed().collect(Collectors.toList()), order);
+    }
+  }
+
+  @Test
+  public void testRemoveFirstOfTwoListeners() {
+    FutureImpl<Void> future = (FutureImpl<Void>) Promise.promise();
+    List<String> order = new ArrayList<>();
+    Completable<Void> first = (value, err) -> order.add("first");
+    future.addListener(first);
+    future.addListener((value, err) -> order.add("second"));
+    future.removeListener(first);
+    future.addListener((value, err) -> order.add("third"));
+    future.tryComplete(null);
+    assertEquals(Arrays.asList("second", "third"), order);
+  }
+
   private void testRemoveListener(FutureImpl<Void> future) {
     AtomicInteger count = new AtomicInteger();
     Completable<Void> listener = (value, err) -> count.incrementAndGet();
@@ -13,8 +13,10 @@ package io.vertx.tests.http;
 
 import io.netty.channel.*;
 import io.netty.channel.Channel;
+import io.netty.handler.codec.DateFormatter;
 import io.netty.handler.codec.TooLongFrameException;
 import io.netty.handler.codec.http.*;
+import io.netty.util.ResourceLeakDetector;
 import io.vertx.core.Future;
 import io.vertx.core.*;
 import io.vertx.core.buffer.Buffer;
@@ -199,6 +201,16 @@ public class Http1xTest extends HttpTest {
     assertIllegalArgumentException(() -> options.setPipeliningLimit(0));
     assertIllegalArgumentException(() -> options.setPipeliningLimit(-1));
 
+    assertEquals(HttpClientOptions.DEFAULT_ADAPTIVE_PIPELINING, options.isAdaptivePipelining());
+    assertEquals(options, options.setAdaptivePipelining(true));
+    assertTrue(options.isAdaptivePipelining());
+
+    assertEquals(HttpClientOptions.DEFAULT_PIPELINING_LATENCY_THRESHOLD, options.getPipeliningLatencyThreshold());
+    rand = TestUtils.randomPositiveInt();
+    assertEquals(options, options.setPipeliningLatencyThreshold(rand));
+    assertEquals(rand, options.getPipeliningLatencyThreshold());
+    assertIllegalArgumentException(() -> options.setPipeliningLatencyThreshold(0));
+
     assertEquals(HttpClientOptions.DEFAULT_HTTP2_MULTIPLEXING_LIMIT, options.getHttp2MultiplexingLimit());
     rand = TestUtils.randomPositiveInt();
     assertEquals(options, options.setHttp2MultiplexingLimit(rand));
@@ -442,6 +454,10 @@ public class Http1xTest extends HttpTest {
     assertEquals(256, options.getDecoderInitialBufferSize());
     assertIllegalArgumentException(() -> options.setDecoderInitialBufferSize(-1));
 
+    assertEquals(HttpServerOptions.DEFAULT_CACHED_RESPONSE_HEAD, options.isCachedResponseHead());
+    assertEquals(options, options.setCachedResponseHead(true));
+    assertTrue(options.isCachedResponseHead());
+
   }
 
   @Test
@@ -563,6 +579,8 @@ public class Http1xTest extends HttpTest {
     assertEquals(def.isKeepAlive(), json.isKeepAlive());
     assertEquals(def.isPipelining(), json.isPipelining());
     assertEquals(def.getPipeliningLimit(), json.getPipeliningLimit());
+    assertEquals(def.isAdaptivePipelining(), json.isAdaptivePipelining());
+    assertEquals(def.getPipeliningLatencyThreshold(), json.getPipeliningLatencyThreshold());
     assertEquals(def.getHttp2MultiplexingLimit(), json.getHttp2MultiplexingLimit());
     assertEquals(def.getHttp2ConnectionWindowSize(), json.getHttp2ConnectionWindowSize());
     assertEquals(def.getHttp2UpgradeMaxContentLength(), json.getHttp2UpgradeMaxContentLength());
@@ -1155,6 +1173,72 @@ public class Http1xTest extends HttpTest {
     }
   }
 
+  @Test
+  public void testAdaptivePipeliningIncreasesDepth() throws Exception {
+    int limit = 10;
+    int requests = 200;
+    AtomicInteger maxOutstanding = testAdaptivePipelining(limit, requests, 10_000, 5);
+    assertTrue(maxOutstanding.get() > 1);
+    assertTrue(maxOutstanding.get() <= limit);
+  }
+
+  @Test
+  public void testAdaptivePipeliningSlowResponses() throws Exception {
+    AtomicInteger maxOutstanding = testAdaptivePipelining(10, 10, 20, 100);
+    assertEquals(1, maxOutstanding.get());
+  }
+
+  private AtomicInteger testAdaptivePipelining(int limit, int requests, int latencyThreshold, long responseDelay) throws Exception {
+    client = vertx.createHttpClient(new HttpClientOptions()
+        .setKeepAlive(true)
+        .setPipelining(true)
+        .setPipeliningLimit(limit)
+        .setAdaptivePipelining(true)
+        .setPipeliningLatencyThreshold(latencyThreshold), new PoolOptions().setHttp1MaxSize(1));
+    AtomicInteger maxOutstanding = new AtomicInteger();
+    String data = "GET /somepath HTTP/1.1\r\n" +
+        "host: " + config.host() + ":" + config.port() + "\r\n" +
+        "\r\n";
+    NetServer server = vertx.createNetServer(new NetServerOptions().setPort(config.port()).setHost(config.host()));
+    server.connectHandler(so -> {
+      StringBuilder total = new StringBuilder();
+      int[] outstanding = new int[1];
+      so.handler(buff -> {
+        total.append(buff);
+        int received = 0;
+        while (total.indexOf(data) == 0) {
+          total.delete(0, data.length());
+          received++;
+        }
+        if (received > 0) {
+          outstanding[0] += received;
+          maxOutstanding.accumulateAndGet(outstanding[0], Math::max);
+          int n = received;
+          vertx.setTimer(responseDelay, timerID -> {
+            outstanding[0] -= n;
+            for (int i = 0;i < n;i++) {
+              so.write("HTTP/1.1 200 OK\r\nContent-Length : 0\r\n\r\n");
+            }
+          });
+        }
+      });
+    });
+
+    server
+      .listen(testAddress)
+      .await(20, TimeUnit.SECONDS);
+
+    CountDownLatch latch = new CountDownLatch(requests);
+    for (int i = 0;i < requests;i++) {
+      client.request(new RequestOptions(requestOptions).setURI("/somepath"))
+        .compose(HttpClientRequest::send)
+        .expecting(HttpResponseExpectation.SC_OK)
+        .onComplete(TestUtils.onSuccess(resp -> latch.countDown()));
+    }
+    TestUtils.awaitLatch(latch);
+    return maxOutstanding;
+  }
+
   @Test
   @Repeat(times = 10)
   public void testCloseServerConnectionWithPendingMessages(Checkpoint checkpoint) throws Exception {
@@ -2514,6 +2598,61 @@ public class Http1xTest extends HttpTest {
     testServerMaxHeaderSize(10000);
   }
 
+  @Test
+  public void testCachedResponseHead() throws Exception {
+    server = vertx.createHttpServer(new HttpServerOptions().setCachedResponseHead(true))
+      .requestHandler(req -> {
+        HttpServerResponse resp = req.response();
+        switch (req.path()) {
+          case "/custom-date":
+            resp.putHeader(HttpHeaders.DATE, "Tue, 15 Nov 1994 08:12:31 GMT");
+            break;
+          case "/custom-message":
+            resp.setStatusCode(404).setStatusMessage("Gone fishing");
+            break;
+          case "/non-standard":
+            resp.setStatusCode(299);
+            break;
+        }
+        resp.end();
+      });
+    startServer(testAddress);
+    HttpClientResponse resp = client.request(new RequestOptions(requestOptions).setURI("/"))
+      .compose(req -> req.send().compose(r -> r.end().map(r)))
+      .await();
+    assertEquals(200, resp.statusCode());
+    assertEquals("OK", resp.statusMessage());
+    String date = resp.getHeader(HttpHeaders.DATE);
+    assertNotNull(date);
+    assertNotNull(DateFormatter.parseHttpDate(date));
+    assertEquals(1, resp.headers().getAll(HttpHeaders.DATE).size());
+    resp = client.request(new RequestOptions(requestOptions).setURI("/custom-date"))
+      .compose(req -> req.send().compose(r -> r.end().map(r)))
+      .await();
+    assertEquals(Collections.singletonList("Tue, 15 Nov 1994 08:12:31 GMT"), resp.headers().getAll(HttpHeaders.DATE));
+    resp = client.request(new RequestOptions(requestOptions).setURI("/custom-message"))
+      .compose(req -> req.send().compose(r -> r.end().map(r)))
+      .await();
+    assertEquals(404, resp.statusCode());
+    assertEquals("Gone fishing", resp.statusMessage());
+    resp = client.request(new RequestOptions(requestOptions).setURI("/non-standard"))
+      .compose(req -> req.send().compose(r -> r.end().map(r)))
+      .await();
+    assertEquals(299, resp.statusCode());
+    assertNotNull(resp.getHeader(HttpHeaders.DATE));
+  }
+
+  @Test
+  public void testNoDateHeaderByDefault() throws Exception {
+    server.requestHandler(req -> req.response().end());
+    startServer(testAddress);
+    HttpClientResponse resp = client.request(requestOptions)
+      .compose(req -> req.send().compose(r -> r.end().map(r)))
+      .await();
+    assertEquals(200, resp.statusCode());
+    assertNull(resp.getHeader(HttpHeaders.DATE));
+  }
+
   private void testServerMaxHeaderSize(int maxHeaderSize) throws Exception {
 
     String longHeader = TestUtils.randomAlphaString(9000);
@@ -5616,6 +5755,59 @@ public class Http1xTest extends HttpTest {
       ).await();
   }
 
+  @Test
+  public void testPooledBufferWriteNoLeak() throws Exception {
+    ResourceLeakDetector.Level level = ResourceLeakDetector.getLevel();
+    ResourceLeakDetector.setLevel(ResourceLeakDetector.Level.PARANOID);
+    try {
+      List<Buffer> buffers = new CopyOnWriteArrayList<>();
+      server = vertx.createHttpServer(new HttpServerOptions().setStrictThreadMode(true));
+      server.requestHandler(request -> {
+        HttpServerResponse response = request.response().setChunked(true);
+        Buffer chunk = Buffer.pooled(16).appendString("Hello");
+        response.write(chunk);
+        chunk.release();
+        buffers.add(chunk);
+        Context ctx = vertx.getOrCreateContext();
+        new Thread(() -> {
+          // Rejected by the strict thread mode check
+          Buffer rejected = Buffer.pooled(16).appendString(" World");
+          try {
+            response.write(rejected);
+            fail();
+          } catch (IllegalStateException expected) {
+          }
+          rejected.release();
+          buffers.add(rejected);
+          ctx.runOnContext(v -> {
+            response.end();
+            // Rejected because the response has already been written
+            Buffer late = Buffer.pooled(16).appendString("!");
+            try {
+              response.write(late);
+              fail();
+            } catch (IllegalStateException expected) {
+            }
+            late.release();
+            buffers.add(late);
+          });
+        }).start();
+      });
+      startServer(testAddress);
+
+      Buffer body = client.request(requestOptions)
+        .compose(request -> request
+          .send()
+          .expecting(HttpResponseExpectation.SC_OK)
+          .compose(HttpClientResponse::body)
+        ).await();
+      assertEquals("Hello", body.toString());
+      assertWaitUntil(() -> buffers.size() == 3 && buffers.stream().allMatch(buffer -> buffer.refCnt() == 0));
+    } finally {
+      ResourceLeakDetector.setLevel(level);
+    }
+  }
+
   @Test
   public void testRequestHeadersConstant() throws Exception {
     System.setProperty(SysProps.INTERN_COMMON_HTTP_REQUEST_HEADERS_TO_LOWER_CASE.name, "true");
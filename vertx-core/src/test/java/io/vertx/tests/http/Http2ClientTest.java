@@ -2115,6 +2115,40 @@ public class Http2ClientTest extends Http2TestBase {
     await();
   }
 
+  @Test
+  public void testWindowAutoTuning() throws Exception {
+    testWindowAutoTuning(true);
+  }
+
+  @Test
+  public void testWindowAutoTuningClearTextUpgrade() throws Exception {
+    testWindowAutoTuning(false);
+  }
+
+  private void testWindowAutoTuning(boolean ssl) throws Exception {
+    Buffer body = TestUtils.randomBuffer(8 * 1024 * 1024);
+    if (!ssl) {
+      server.close();
+      server = vertx.createHttpServer(serverOptions.setUseAlpn(false).setSsl(false).setHttp2ClearTextEnabled(true));
+      clientOptions.setUseAlpn(false).setSsl(false).setHttp2ClearTextUpgrade(true);
+    }
+    server.requestHandler(req -> req.response().end(body));
+    startServer();
+    HttpClientConfig config = new HttpClientConfig(clientOptions);
+    config.getHttp2Config().setWindowAutoTuning(true);
+    client.close();
+    client = vertx.httpClientBuilder()
+      .with(config)
+      .with(clientOptions.getSslOptions())
+      .with(clientOptions.getSslEngineOptions())
+      .build();
+    HttpClientResponse resp = client.request(requestOptions).compose(HttpClientRequest::send).await();
+    Assert.assertEquals(HttpVersion.HTTP_2, resp.version());
+    Assert.assertEquals(body.length(), resp.body().await().length());
+    HttpConnection conn = resp.request().connection();
+    Assert.assertTrue("Expected the window to grow: " + conn.getWindowSize(), conn.getWindowSize() > 65535);
+  }
+
 /*
   @Test
   public void testFillsSingleConnection() throws Exception {
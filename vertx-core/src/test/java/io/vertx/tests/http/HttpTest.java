@@ -1043,6 +1043,92 @@ public abstract class HttpTest extends SimpleHttpTest2 {
     }
   }
 
+  @Test
+  public void testResponsePrecomputedHeaders() throws Exception {
+    PrecomputedHeaders precomputed = PrecomputedHeaders.create(MultiMap.caseInsensitiveMultiMap()
+      .add("Server", "vert.x")
+      .add("x-frame-options", "DENY")
+      .add("x-multi", "a")
+      .add("x-multi", "b"));
+    server.requestHandler(req -> {
+      req.response()
+        .putHeader("x-custom", "foo")
+        .putHeaders(precomputed)
+        .end("hello");
+    });
+    startServer(testAddress);
+    for (int i = 0;i < 2;i++) {
+      MultiMap respHeaders = client.request(requestOptions)
+        .compose(req -> req
+          .send()
+          .compose(resp -> resp.end().map(resp.headers())))
+        .await();
+      assertEquals("foo", respHeaders.get("x-custom"));
+      assertEquals("vert.x", respHeaders.get("server"));
+      assertEquals("DENY", respHeaders.get("x-frame-options"));
+      assertEquals(Arrays.asList("a", "b"), respHeaders.getAll("x-multi"));
+      assertEquals("5", respHeaders.get("content-length"));
+    }
+  }
+
+  @Test
+  public void testResponsePrecomputedHeadersClearedAndConflicts() throws Exception {
+    PrecomputedHeaders precomputed = PrecomputedHeaders.create(MultiMap.caseInsensitiveMultiMap()
+      .add("x-frame-options", "DENY"));
+    server.requestHandler(req -> {
+      HttpServerResponse resp = req.response();
+      resp.putHeader("x-frame-options", "SAMEORIGIN");
+      assertIllegalArgumentException(() -> resp.putHeaders(precomputed));
+      resp.headers().clear();
+      resp.putHeaders(precomputed);
+      resp.headers().clear();
+      resp.end();
+    });
+    startServer(testAddress);
+    MultiMap respHeaders = client.request(requestOptions)
+      .compose(req -> req
+        .send()
+        .compose(resp -> resp.end().map(resp.headers())))
+      .await();
+    assertNull(respHeaders.get("x-frame-options"));
+  }
+
+  @Test
+  public void testResponsePrecomputedHeadersPutTwice() throws Exception {
+    PrecomputedHeaders precomputed = PrecomputedHeaders.create(MultiMap.caseInsensitiveMultiMap()
+      .add("x-frame-options", "DENY"));
+    PrecomputedHeaders overlapping = PrecomputedHeaders.create(MultiMap.caseInsensitiveMultiMap()
+      .add("x-other", "value")
+      .add("x-frame-options", "SAMEORIGIN"));
+    server.requestHandler(req -> {
+      HttpServerResponse resp = req.response();
+      resp.putHeaders(precomputed);
+      assertFalse(resp.headers().contains("x-frame-options"));
+      assertIllegalArgumentException(() -> resp.putHeaders(precomputed));
+      assertIllegalArgumentException(() -> resp.putHeaders(overlapping));
+      resp.end();
+    });
+    startServer(testAddress);
+    MultiMap respHeaders = client.request(requestOptions)
+      .compose(req -> req
+        .send()
+        .compose(resp -> resp.end().map(resp.headers())))
+      .await();
+    assertEquals(Collections.singletonList("DENY"), respHeaders.getAll("x-frame-options"));
+    assertNull(respHeaders.get("x-other"));
+  }
+
+  @Test
+  public void testPrecomputedHeadersValidation() {
+    assertIllegalArgumentException(() -> PrecomputedHeaders.create(MultiMap.caseInsensitiveMultiMap().add("Content-Length", "5")));
+    assertIllegalArgumentException(() -> PrecomputedHeaders.create(MultiMap.caseInsensitiveMultiMap().add("transfer-encoding", "chunked")));
+    assertIllegalArgumentException(() -> PrecomputedHeaders.create(MultiMap.caseInsensitiveMultiMap().add("Date", "Tue, 15 Nov 1994 08:12:31 GMT")));
+    assertIllegalArgumentException(() -> PrecomputedHeaders.create(MultiMap.caseInsensitiveMultiMap().add("x-foo", "bar\r\nx-injected: true")));
+    PrecomputedHeaders precomputed = PrecomputedHeaders.create(MultiMap.caseInsensitiveMultiMap().add("X-Foo", "bar"));
+    assertEquals("bar", precomputed.headers().get("x-foo"));
+    assertFalse(precomputed.headers().isMutable());
+  }
+
   @Test
   public void testResponseHeadersWithCharSequence() throws Exception {
     HashMap<CharSequence, String> headers = new HashMap<>();
@@ -40,6 +40,7 @@ public class RequestOptionsTest {
     assertEquals(RequestOptions.DEFAULT_TIMEOUT, options.getTimeout());
     assertEquals(RequestOptions.DEFAULT_CONNECT_TIMEOUT, options.getConnectTimeout());
     assertEquals(RequestOptions.DEFAULT_IDLE_TIMEOUT, options.getIdleTimeout());
+    assertEquals(RequestOptions.DEFAULT_HEDGE_DELAY, options.getHedgeDelay());
   }
 
   @Test
@@ -49,13 +50,15 @@ public class RequestOptionsTest {
       .setPort(8443)
       .setSsl(true)
       .setFollowRedirects(true)
-      .setRoutingKey("user-123");
+      .setRoutingKey("user-123")
+      .setHedgeDelay(50);
     RequestOptions copy = new RequestOptions(options);
     assertEquals(options.getMethod(), copy.getMethod());
     assertEquals(options.getPort(), copy.getPort());
     assertEquals(options.isSsl(), copy.isSsl());
     assertEquals(options.getFollowRedirects(), copy.getFollowRedirects());
     assertEquals(options.getRoutingKey(), copy.getRoutingKey());
+    assertEquals(options.getHedgeDelay(), copy.getHedgeDelay());
   }
 
   @Test
@@ -71,6 +74,7 @@ public class RequestOptionsTest {
       .put("timeout", RequestOptions.DEFAULT_TIMEOUT)
       .put("connectTimeout", RequestOptions.DEFAULT_CONNECT_TIMEOUT)
       .put("idleTimeout", RequestOptions.DEFAULT_IDLE_TIMEOUT)
+      .put("hedgeDelay", RequestOptions.DEFAULT_HEDGE_DELAY)
       .put("uri", RequestOptions.DEFAULT_URI)
       .put("method", "PUT")
       .put("port", 8443)
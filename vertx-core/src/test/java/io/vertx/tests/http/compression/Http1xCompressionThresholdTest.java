@@ -26,7 +26,15 @@ import io.vertx.test.http.HttpConfigurator;
 import io.vertx.test.http.HttpServerConfigurator;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
 public class Http1xCompressionThresholdTest extends HttpCompressionTestBase {
 
@@ -93,6 +101,121 @@ public class Http1xCompressionThresholdTest extends HttpCompressionTestBase {
     }));
   }
 
+  @Test
+  public void testServerCompressionPolicySkip() throws Exception {
+    HttpServerConfigurator config = this.config.forServer();
+    config.setCompression(new io.vertx.core.http.CompressionConfig()
+      .addCompressor(io.vertx.tests.http.compression.CompressionConfig.gzip(6).compressor)
+      .setCompressionPolicy((encoding, contentType, contentLength, pendingTasks) -> CompressionPolicy.SKIP)
+    );
+
+    doTest(config, onSuccess(resp -> {
+      assertNull(resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+      resp.body().onComplete(onSuccess(responseBuffer -> {
+        assertEquals(COMPRESS_TEST_STRING, responseBuffer.toString(CharsetUtil.UTF_8));
+        testComplete();
+      }));
+    }));
+  }
+
+  @Test
+  public void testServerCompressionPolicyLevel() throws Exception {
+    List<String> decisions = Collections.synchronizedList(new ArrayList<>());
+    HttpServerConfigurator config = this.config.forServer();
+    config.setCompression(new io.vertx.core.http.CompressionConfig()
+      .addCompressor(io.vertx.tests.http.compression.CompressionConfig.gzip(6).compressor)
+      .setCompressionPolicy((encoding, contentType, contentLength, pendingTasks) -> {
+        assertTrue(pendingTasks >= 0);
+        decisions.add(encoding + ":" + contentLength);
+        return 1;
+      })
+    );
+
+    doTest(config, onSuccess(resp -> {
+      assertEquals(encoding(), resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+      resp.body().onComplete(onSuccess(responseBuffer -> {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(responseBuffer.getBytes()))) {
+          assertEquals(COMPRESS_TEST_STRING, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (Exception e) {
+          fail(e);
+          return;
+        }
+        assertEquals(Collections.singletonList("gzip:" + COMPRESS_TEST_STRING.length()), decisions);
+        testComplete();
+      }));
+    }));
+  }
+
+  @Test
+  public void testServerCompressionPolicyLevelOutOfRange() throws Exception {
+    HttpServerConfigurator config = this.config.forServer();
+    config.setCompression(new io.vertx.core.http.CompressionConfig()
+      .addCompressor(io.vertx.tests.http.compression.CompressionConfig.gzip(6).compressor)
+      .setCompressionPolicy((encoding, contentType, contentLength, pendingTasks) -> 42)
+    );
+
+    doTest(config, onSuccess(resp -> {
+      assertEquals(encoding(), resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+      resp.body().onComplete(onSuccess(responseBuffer -> {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(responseBuffer.getBytes()))) {
+          assertEquals(COMPRESS_TEST_STRING, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (Exception e) {
+          fail(e);
+          return;
+        }
+        testComplete();
+      }));
+    }));
+  }
+
+  @Test
+  public void testServerCompressedFileCache() throws Exception {
+    File f = File.createTempFile("vertx", ".txt");
+    f.deleteOnExit();
+    Files.write(f.toPath(), COMPRESS_TEST_STRING.getBytes(StandardCharsets.UTF_8));
+    HttpServerConfigurator config = this.config.forServer();
+    config.setCompression(new io.vertx.core.http.CompressionConfig()
+      .addCompressor(io.vertx.tests.http.compression.CompressionConfig.gzip(6).compressor)
+      .setFileCacheMaxEntries(16)
+    );
+    HttpServer server = config.create(vertx);
+    try {
+      server.requestHandler(req -> req.response().sendFile(f.getAbsolutePath()));
+      server.listen().await();
+      assertEquals(COMPRESS_TEST_STRING, awaitCachedFile());
+      // A modified file is never served from the stale entry
+      String modified = COMPRESS_TEST_STRING + COMPRESS_TEST_STRING;
+      Files.write(f.toPath(), modified.getBytes(StandardCharsets.UTF_8));
+      assertEquals(modified, awaitCachedFile());
+    } finally {
+      server.close().await();
+    }
+  }
+
+  /**
+   * Send requests until the file is served from the cache, until then it is compressed on the fly.
+   */
+  private String awaitCachedFile() throws Exception {
+    long now = System.currentTimeMillis();
+    while (true) {
+      assertTrue(System.currentTimeMillis() - now < 10_000);
+      HttpClientRequest req = client.request(new RequestOptions()).await();
+      req.putHeader(HttpHeaders.ACCEPT_ENCODING, encoding());
+      HttpClientResponse resp = req.send().await();
+      Buffer body = resp.body().await();
+      assertEquals(encoding(), resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+      String content;
+      try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body.getBytes()))) {
+        content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+      }
+      if (resp.getHeader(HttpHeaders.VARY) != null) {
+        assertEquals(String.valueOf(body.length()), resp.getHeader(HttpHeaders.CONTENT_LENGTH));
+        return content;
+      }
+      Thread.sleep(10);
+    }
+  }
+
   private void doTest(HttpServerConfigurator config, Handler<AsyncResult<HttpClientResponse>> handler) throws Exception {
     HttpServer server = config.create(vertx);
     try {
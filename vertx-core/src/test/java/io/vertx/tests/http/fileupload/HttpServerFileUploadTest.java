@@ -32,6 +32,7 @@ import java.net.URLEncoder;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
@@ -643,6 +644,95 @@ public abstract class HttpServerFileUploadTest extends SimpleHttpTest {
     await();
   }
 
+  @Test
+  public void testFormUploadSplitDelimiter() throws Exception {
+    String boundary = "dLV9Wyq26L_-JQxk6ferf-RT153LhOO";
+    // Content resembling the delimiter
+    String content = "abc\r\n--dLV9Wyq26L\r\n\r\n--" + boundary.substring(0, boundary.length() - 1) + "def\r";
+    server.requestHandler(req -> {
+      req.setExpectMultipart(true);
+      Buffer data = Buffer.buffer();
+      req.uploadHandler(upload -> {
+        Assert.assertEquals("file", upload.name());
+        Assert.assertEquals("tmp-0.txt", upload.filename());
+        Assert.assertEquals("text/plain", upload.contentType());
+        upload.handler(data::appendBuffer);
+      });
+      req.endHandler(v -> {
+        Assert.assertEquals(content, data.toString());
+        Assert.assertEquals("the-value", req.getFormAttribute("attr"));
+        req.response().end();
+      });
+    });
+    startServer(testAddress);
+
+    String body = "preamble\r\n" +
+      "--" + boundary + "\r\n" +
+      "Content-Disposition: form-data; name=\"attr\"\r\n" +
+      "\r\n" +
+      "the-value\r\n" +
+      "--" + boundary + "\r\n" +
+      "Content-Disposition: form-data; name=\"file\"; filename=\"tmp-0.txt\"\r\n" +
+      "Content-Type: text/plain\r\n" +
+      "\r\n" +
+      content + "\r\n" +
+      "--" + boundary + "--\r\n" +
+      "epilogue";
+    HttpClientRequest request = client.request(new RequestOptions(requestOptions)
+      .setMethod(HttpMethod.POST)
+      .setURI("/form")).await();
+    request.setChunked(true);
+    request.headers().set(HttpHeaders.CONTENT_TYPE, "multipart/form-data; boundary=" + boundary);
+    Future<HttpClientResponse> response = request.response();
+    // Send the body in small chunks so delimiters span several chunks
+    for (int i = 0;i < body.length();i += 3) {
+      request.write(body.substring(i, Math.min(body.length(), i + 3)));
+    }
+    request.end();
+    Assert.assertEquals(200, response.await().statusCode());
+  }
+
+  @Test
+  public void testPausedUploadPausesRequest() throws Exception {
+    String boundary = "dLV9Wyq26L_-JQxk6ferf-RT153LhOO";
+    String content = TestUtils.randomAlphaString(4 * 1024 * 1024);
+    AtomicBoolean ended = new AtomicBoolean();
+    server.requestHandler(req -> {
+      req.setExpectMultipart(true);
+      Buffer data = Buffer.buffer();
+      req.uploadHandler(upload -> {
+        upload.handler(data::appendBuffer);
+        upload.pause();
+        vertx.setTimer(500, id -> {
+          // The paused upload holds back the request, it cannot have ended
+          Assert.assertFalse(ended.get());
+          upload.resume();
+        });
+      });
+      req.endHandler(v -> {
+        ended.set(true);
+        Assert.assertEquals(content, data.toString());
+        req.response().end();
+      });
+    });
+    startServer(testAddress);
+
+    String body = "--" + boundary + "\r\n" +
+      "Content-Disposition: form-data; name=\"file\"; filename=\"tmp-0.txt\"\r\n" +
+      "Content-Type: text/plain\r\n" +
+      "\r\n" +
+      content + "\r\n" +
+      "--" + boundary + "--\r\n";
+    HttpClientResponse response = client.request(new RequestOptions(requestOptions)
+      .setMethod(HttpMethod.POST)
+      .setURI("/form")
+      .putHeader(HttpHeaders.CONTENT_TYPE, "multipart/form-data; boundary=" + boundary))
+      .compose(req -> req.send(body))
+      .await();
+    Assert.assertEquals(200, response.statusCode());
+    Assert.assertTrue(ended.get());
+  }
+
   @Test
   public void testMaxFormFieldsDefaultPass() throws Exception {
     testMaxFormFields(256, true);
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.http.impl;
+
+import io.vertx.core.http.impl.http2.BdpEstimator;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class BdpEstimatorTest {
+
+  @Test
+  public void testPingOncePerMeasure() {
+    BdpEstimator estimator = new BdpEstimator(1024 * 1024);
+    assertTrue(estimator.onData(40000));
+    assertFalse(estimator.onData(40000));
+    assertFalse(estimator.onData(40000));
+    assertEquals(240000, estimator.onPingAck(65535));
+    assertTrue(estimator.onData(1000));
+  }
+
+  @Test
+  public void testStopPingingAtMaxWindowSize() throws Exception {
+    BdpEstimator estimator = new BdpEstimator(100_000);
+    assertTrue(estimator.onData(16384));
+    for (int i = 0;i < 10;i++) {
+      estimator.onData(16384);
+    }
+    Thread.sleep(1);
+    assertEquals(100_000, estimator.onPingAck(65535));
+    for (int i = 0;i < 10;i++) {
+      assertFalse(estimator.onData(16384));
+    }
+  }
+
+  @Test
+  public void testBackoffWhenWindowDoesNotGrow() throws Exception {
+    BdpEstimator estimator = new BdpEstimator(1024 * 1024);
+    assertTrue(estimator.onData(1024));
+    Thread.sleep(20);
+    assertEquals(-1, estimator.onPingAck(65535));
+    // The next measure is delayed by at least one round trip
+    assertFalse(estimator.onData(1024));
+    Thread.sleep(40);
+    assertTrue(estimator.onData(1024));
+  }
+
+  @Test
+  public void testGrowWindow() throws Exception {
+    BdpEstimator estimator = new BdpEstimator(1024 * 1024);
+    estimator.onData(16384);
+    for (int i = 0;i < 3;i++) {
+      estimator.onData(16384);
+    }
+    Thread.sleep(1);
+    assertEquals(4 * 16384 * 2, estimator.onPingAck(65535));
+  }
+
+  @Test
+  public void testDoNotShrinkWindow() {
+    BdpEstimator estimator = new BdpEstimator(1024 * 1024);
+    estimator.onData(1024);
+    assertEquals(-1, estimator.onPingAck(65535));
+  }
+
+  @Test
+  public void testMaxWindowSize() throws Exception {
+    BdpEstimator estimator = new BdpEstimator(100_000);
+    estimator.onData(16384);
+    for (int i = 0;i < 10;i++) {
+      estimator.onData(16384);
+    }
+    Thread.sleep(1);
+    assertEquals(100_000, estimator.onPingAck(65535));
+  }
+
+  @Test
+  public void testUnsolicitedAck() {
+    BdpEstimator estimator = new BdpEstimator(1024 * 1024);
+    assertEquals(-1, estimator.onPingAck(65535));
+  }
+}
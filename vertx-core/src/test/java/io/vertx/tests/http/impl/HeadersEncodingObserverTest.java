@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.DefaultHttp2FrameWriter;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.Http2Headers;
+import io.vertx.core.http.impl.http2.HeadersEncodingObserver;
+import io.vertx.core.spi.metrics.HttpServerMetrics;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class HeadersEncodingObserverTest {
+
+  private static final String TOKEN = "0123456789abcdef0123456789abcdef";
+
+  private final List<long[]> reports = new ArrayList<>();
+  private final HttpServerMetrics<?, ?> metrics = new HttpServerMetrics<>() {
+    @Override
+    public void headersEncoded(long rawBytes, long encodedBytes) {
+      reports.add(new long[] { rawBytes, encodedBytes });
+    }
+  };
+
+  @Test
+  public void testReportHeadersSize() {
+    writeHeaders(new HeadersEncodingObserver(Collections.emptyList(), metrics), TOKEN, 2);
+    assertEquals(2, reports.size());
+    long raw = ":status".length() + "200".length() + "x-token".length() + TOKEN.length();
+    assertEquals(raw, reports.get(0)[0]);
+    assertTrue(reports.get(0)[1] > 0);
+    assertEquals(raw, reports.get(1)[0]);
+    // The second block reuses the dynamic table entries
+    assertTrue(reports.get(1)[1] < reports.get(0)[1]);
+  }
+
+  @Test
+  public void testNeverIndexedHeader() {
+    HeadersEncodingObserver observer = new HeadersEncodingObserver(Collections.singletonList("X-Token"), null);
+    assertTrue(observer.isSensitive("x-token", "value"));
+    assertFalse(observer.isSensitive("x-other", "value"));
+    writeHeaders(new HeadersEncodingObserver(Collections.singletonList("X-Token"), metrics), TOKEN, 2);
+    assertEquals(2, reports.size());
+    assertEquals(reports.get(0)[1], reports.get(1)[1]);
+  }
+
+  @Test
+  public void testContinuationFrames() {
+    StringBuilder value = new StringBuilder();
+    Random random = new Random(0);
+    while (value.length() < 40_000) {
+      value.append(Long.toString(random.nextLong(), 36));
+    }
+    writeHeaders(new HeadersEncodingObserver(Collections.emptyList(), metrics), value.toString(), 1);
+    assertEquals(1, reports.size());
+    assertTrue(reports.get(0)[1] > 16384);
+  }
+
+  private void writeHeaders(HeadersEncodingObserver observer, String token, int times) {
+    ChannelDuplexHandler writerHandler = new ChannelDuplexHandler();
+    EmbeddedChannel channel = new EmbeddedChannel(observer, writerHandler);
+    ChannelHandlerContext ctx = channel.pipeline().context(writerHandler);
+    DefaultHttp2FrameWriter writer = new DefaultHttp2FrameWriter(observer);
+    // Interleave data frames to check the observer follows the frame boundaries
+    for (int i = 0;i < times;i++) {
+      Http2Headers headers = new DefaultHttp2Headers().status("200").add("x-token", token);
+      writer.writeHeaders(ctx, 1 + 2 * i, headers, 0, false, ctx.newPromise());
+      writer.writeData(ctx, 1 + 2 * i, Unpooled.wrappedBuffer(new byte[100]), 0, true, ctx.newPromise());
+    }
+    channel.flush();
+    ByteBuf buf;
+    while ((buf = channel.readOutbound()) != null) {
+      buf.release();
+    }
+  }
+}
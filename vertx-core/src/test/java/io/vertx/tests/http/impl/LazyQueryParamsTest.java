@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.http.impl;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.QueryParamDecoderConfig;
+import io.vertx.core.internal.http.QueryParamDecoder;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class LazyQueryParamsTest {
+
+  private static final QueryParamDecoder DECODER = new QueryParamDecoder(new QueryParamDecoderConfig());
+
+  private static void assertSameLookups(QueryParamDecoder decoder, String uri, String... names) {
+    MultiMap expected = decoder.decode(uri);
+    MultiMap lazy = decoder.decodeLazily(uri);
+    for (String name : names) {
+      assertEquals(expected.get(name), lazy.get(name));
+      assertEquals(expected.getAll(name), lazy.getAll(name));
+      assertEquals(expected.contains(name), lazy.contains(name));
+    }
+    assertEquals(expected.toString(), lazy.toString());
+  }
+
+  @Test
+  public void testLookup() {
+    assertSameLookups(DECODER, "/path?a=1&b=2&a=3", "a", "b", "c", "A");
+    assertSameLookups(DECODER, "/path", "a");
+    assertSameLookups(DECODER, "/path?", "a");
+    assertSameLookups(DECODER, "/path?a", "a");
+    assertSameLookups(DECODER, "/path?a=&b", "a", "b");
+    assertSameLookups(DECODER, "/path?=a&&b=c=d&", "a", "b", "");
+    assertSameLookups(DECODER, "/path?a=1#b=2", "a", "b");
+    assertSameLookups(DECODER, "/path#?a=1", "a");
+    assertSameLookups(DECODER, "/path?a=1?b=2", "a", "b", "1?b");
+  }
+
+  @Test
+  public void testPercentDecoding() {
+    assertSameLookups(DECODER, "/path?a%20b=c+d&e=%C3%A9", "a b", "e");
+    assertSameLookups(DECODER, "/path?%61=1&a=2", "a");
+  }
+
+  @Test
+  public void testCaseInsensitiveOrdering() {
+    MultiMap lazy = DECODER.decodeLazily("/path?a=1&A=2&a=3");
+    assertEquals("1", lazy.get("A"));
+    // Values are grouped by exact name as with the eager decoder
+    assertEquals(Arrays.asList("1", "3", "2"), lazy.getAll("a"));
+    assertSameLookups(DECODER, "/path?a=1&A=2&a=3", "a", "A");
+  }
+
+  @Test
+  public void testSemicolon() {
+    assertSameLookups(DECODER, "/path?a=1;b=2", "a", "b");
+    QueryParamDecoder decoder = new QueryParamDecoder(new QueryParamDecoderConfig().setUseSemicolonAsDelimiter(false));
+    assertSameLookups(decoder, "/path?a=1;b=2", "a", "b");
+  }
+
+  @Test
+  public void testMaxParams() {
+    QueryParamDecoder decoder = new QueryParamDecoder(new QueryParamDecoderConfig().setMaxSize(2));
+    assertSameLookups(decoder, "/path?a=1&b=2&c=3", "a", "b", "c");
+    assertSameLookups(decoder, "/path?a=1&&b=2&c=3", "a", "b", "c");
+  }
+
+  @Test
+  public void testMutation() {
+    MultiMap lazy = DECODER.decodeLazily("/path?a=1&b=2");
+    assertEquals("1", lazy.get("a"));
+    lazy.add("a", "3");
+    lazy.remove("b");
+    assertEquals(Arrays.asList("1", "3"), lazy.getAll("a"));
+    assertFalse(lazy.contains("b"));
+    assertEquals(2, lazy.size());
+  }
+
+  @Test
+  public void testGetAllMutable() {
+    MultiMap lazy = DECODER.decodeLazily("/path?a=1&a=2&b=3");
+    List<String> values = lazy.getAll("a");
+    values.add("4");
+    assertEquals(Arrays.asList("1", "2", "4"), values);
+    assertEquals(Arrays.asList("1", "2"), lazy.getAll("a"));
+    List<String> single = lazy.getAll("b");
+    single.add("5");
+    assertEquals(Arrays.asList("3"), lazy.getAll("b"));
+    List<String> none = lazy.getAll("c");
+    none.add("6");
+    assertEquals(Collections.emptyList(), lazy.getAll("c"));
+  }
+
+  @Test
+  public void testEmpty() {
+    MultiMap lazy = DECODER.decodeLazily("/path");
+    assertNull(lazy.get("a"));
+    assertEquals(Collections.emptyList(), lazy.getAll("a"));
+    assertTrue(lazy.isEmpty());
+  }
+
+  @Test
+  public void testMalformed() {
+    MultiMap lazy = DECODER.decodeLazily("/path?a=%ZZ&b=2");
+    assertEquals("2", lazy.get("b"));
+    try {
+      lazy.get("a");
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+}
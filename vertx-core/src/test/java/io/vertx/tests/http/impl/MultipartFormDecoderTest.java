@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.http.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.impl.MultipartFormDecoder;
+import io.vertx.core.http.impl.NettyFileUploadDataFactory;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.test.core.VertxTestBase;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class MultipartFormDecoderTest extends VertxTestBase {
+
+  private static final String BOUNDARY = "AaB03x";
+
+  // Content resembling the outer and the nested delimiters
+  private static final String CONTENT = "a\r\n--AaB03\r\n-\r\n--AaB0\r\n--BbC04\r";
+
+  private static final byte[] FORM = ("preamble\r\n" +
+    "--AaB03x\r\n" +
+    "Content-Disposition: form-data; name=\"field\"\r\n" +
+    "\r\n" +
+    CONTENT + "\r\n" +
+    "--AaB03x\r\n" +
+    "Content-Disposition: form-data; name=\"file\"; filename=\"a.txt\"\r\n" +
+    "Content-Type: text/plain\r\n" +
+    "\r\n" +
+    CONTENT + "\r\n" +
+    "--AaB03x\r\n" +
+    "Content-Disposition: form-data; name=\"files\"\r\n" +
+    "Content-Type: multipart/mixed; boundary=BbC04y\r\n" +
+    "\r\n" +
+    "--BbC04y\r\n" +
+    "Content-Disposition: file; filename=\"b.txt\"\r\n" +
+    "Content-Type: text/plain\r\n" +
+    "\r\n" +
+    CONTENT + "b\r\n" +
+    "--BbC04y\r\n" +
+    "Content-Disposition: file; filename=\"c.txt\"\r\n" +
+    "\r\n" +
+    "c" + CONTENT + "\r\n" +
+    "--BbC04y--\r\n" +
+    "--AaB03x--\r\n" +
+    "epilogue").getBytes(StandardCharsets.UTF_8);
+
+  @Test
+  public void testSplitHeapBuffer() {
+    testSplit(false);
+  }
+
+  @Test
+  public void testSplitDirectBuffer() {
+    testSplit(true);
+  }
+
+  private void testSplit(boolean direct) {
+    ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+    context.runOnContext(v -> {
+      for (int i = 0;i <= FORM.length;i++) {
+        decode(context, chunk(direct, 0, i), chunk(direct, i, FORM.length));
+      }
+      testComplete();
+    });
+    await();
+  }
+
+  @Test
+  public void testByteByByte() {
+    ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+    context.runOnContext(v -> {
+      ByteBuf[] chunks = new ByteBuf[FORM.length];
+      for (int i = 0;i < FORM.length;i++) {
+        chunks[i] = chunk(i % 2 == 0, i, i + 1);
+      }
+      decode(context, chunks);
+      testComplete();
+    });
+    await();
+  }
+
+  private static ByteBuf chunk(boolean direct, int from, int to) {
+    if (direct) {
+      return Unpooled.directBuffer(to - from).writeBytes(FORM, from, to - from);
+    } else {
+      // Wrapping a region of the array exercises a non zero array offset
+      return Unpooled.wrappedBuffer(FORM, from, to - from);
+    }
+  }
+
+  private void decode(ContextInternal context, ByteBuf... chunks) {
+    List<String> attributes = new ArrayList<>();
+    List<String> uploads = new ArrayList<>();
+    NettyFileUploadDataFactory factory = new NettyFileUploadDataFactory(context, null, () -> upload -> {
+      Buffer content = Buffer.buffer();
+      upload.handler(content::appendBuffer);
+      upload.endHandler(v -> uploads.add(upload.name() + "/" + upload.filename() + "=" + content));
+    });
+    MultipartFormDecoder decoder = new MultipartFormDecoder(factory, (name, value) -> attributes.add(name + "=" + value),
+      BOUNDARY, StandardCharsets.UTF_8, -1, -1, -1);
+    try {
+      for (ByteBuf chunk : chunks) {
+        decoder.offer(chunk);
+      }
+      decoder.end();
+    } finally {
+      for (ByteBuf chunk : chunks) {
+        chunk.release();
+      }
+    }
+    assertEquals(Arrays.asList("field=" + CONTENT), attributes);
+    assertEquals(Arrays.asList(
+      "file/a.txt=" + CONTENT,
+      "files/b.txt=" + CONTENT + "b",
+      "files/c.txt=c" + CONTENT), uploads);
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.http.impl;
+
+import io.vertx.core.http.impl.OpenFileCache;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class OpenFileCacheTest {
+
+  private static final long LONG = TimeUnit.HOURS.toNanos(1);
+
+  @Rule
+  public TemporaryFolder testFolder = new TemporaryFolder();
+
+  private File createFile(String name, String content) throws Exception {
+    File file = new File(testFolder.getRoot(), name);
+    Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  @Test
+  public void testHit() throws Exception {
+    File file = createFile("file.txt", "hello");
+    OpenFileCache cache = new OpenFileCache(16, LONG, LONG, null);
+    OpenFileCache.OpenFile first = cache.acquire(file);
+    OpenFileCache.OpenFile second = cache.acquire(file);
+    assertSame(first.channel(), second.channel());
+    assertEquals(5, second.size());
+    assertEquals(1, cache.misses());
+    assertEquals(1, cache.hits());
+    assertEquals(1, cache.size());
+    first.close();
+    second.close();
+    // The cache keeps the file open
+    assertTrue(second.channel().isOpen());
+  }
+
+  @Test
+  public void testRevalidate() throws Exception {
+    File file = createFile("file.txt", "hello");
+    OpenFileCache cache = new OpenFileCache(16, LONG, 0L, null);
+    OpenFileCache.OpenFile first = cache.acquire(file);
+    OpenFileCache.OpenFile second = cache.acquire(file);
+    assertSame(first.channel(), second.channel());
+    assertEquals(1, cache.revalidations());
+    assertEquals(1, cache.hits());
+    Files.write(file.toPath(), "hello world".getBytes(StandardCharsets.UTF_8));
+    OpenFileCache.OpenFile third = cache.acquire(file);
+    assertNotSame(first.channel(), third.channel());
+    assertEquals(11, third.size());
+    assertEquals(2, cache.revalidations());
+    assertEquals(2, cache.misses());
+    // The replaced entry is closed when its last reference is released
+    assertTrue(first.channel().isOpen());
+    first.close();
+    assertTrue(first.channel().isOpen());
+    second.close();
+    assertFalse(first.channel().isOpen());
+    third.close();
+  }
+
+  @Test
+  public void testEviction() throws Exception {
+    File file1 = createFile("file1.txt", "1");
+    File file2 = createFile("file2.txt", "2");
+    File file3 = createFile("file3.txt", "3");
+    OpenFileCache cache = new OpenFileCache(2, LONG, LONG, null);
+    OpenFileCache.OpenFile openFile1 = cache.acquire(file1);
+    openFile1.close();
+    cache.acquire(file2).close();
+    cache.acquire(file3).close();
+    assertEquals(2, cache.size());
+    assertFalse(openFile1.channel().isOpen());
+  }
+
+  @Test
+  public void testInactiveTimeout() throws Exception {
+    File file1 = createFile("file1.txt", "1");
+    File file2 = createFile("file2.txt", "2");
+    OpenFileCache cache = new OpenFileCache(16, TimeUnit.MILLISECONDS.toNanos(10), LONG, null);
+    OpenFileCache.OpenFile openFile1 = cache.acquire(file1);
+    openFile1.close();
+    Thread.sleep(50);
+    cache.acquire(file2).close();
+    assertEquals(1, cache.size());
+    assertFalse(openFile1.channel().isOpen());
+  }
+
+  @Test
+  public void testClose() throws Exception {
+    File file = createFile("file.txt", "hello");
+    OpenFileCache cache = new OpenFileCache(16, LONG, LONG, null);
+    OpenFileCache.OpenFile openFile = cache.acquire(file);
+    cache.close();
+    assertEquals(0, cache.size());
+    assertTrue(openFile.channel().isOpen());
+    openFile.close();
+    assertFalse(openFile.channel().isOpen());
+    // Files are not cached anymore
+    openFile = cache.acquire(file);
+    assertEquals(0, cache.size());
+    openFile.close();
+    assertFalse(openFile.channel().isOpen());
+  }
+
+  @Test
+  public void testFileNotFound() throws Exception {
+    OpenFileCache cache = new OpenFileCache(16, LONG, LONG, null);
+    try {
+      cache.acquire(new File(testFolder.getRoot(), "missing.txt"));
+      fail();
+    } catch (FileNotFoundException expected) {
+    }
+    assertEquals(0, cache.size());
+  }
+}
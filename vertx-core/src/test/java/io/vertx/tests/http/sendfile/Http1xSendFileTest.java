@@ -10,14 +10,28 @@
  */
 package io.vertx.tests.http.sendfile;
 
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpResponseExpectation;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerConfig;
 import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.OpenFileCacheConfig;
 import io.vertx.core.http.PoolOptions;
+import io.vertx.core.http.RequestOptions;
 import io.vertx.core.impl.Utils;
+import io.vertx.core.metrics.MetricsOptions;
 import io.vertx.core.net.NetClient;
 import io.vertx.core.net.NetClientOptions;
 import io.vertx.core.net.NetSocket;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.HttpServerMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
 import io.vertx.test.core.Checkpoint;
 import io.vertx.test.core.TestUtils;
 import org.junit.Assume;
@@ -25,11 +39,19 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.assertj.core.api.Assertions.*;
 
 public class Http1xSendFileTest extends HttpSendFileTest {
@@ -95,6 +117,127 @@ public class Http1xSendFileTest extends HttpSendFileTest {
     }
   }
 
+  @Test
+  public void testSendFileOpenFileCache() throws Exception {
+    String content = TestUtils.randomAlphaString(64 * 1024);
+    File file = setupFile("test-send-file.html", content);
+    OpenFileCacheMetrics metrics = new OpenFileCacheMetrics();
+    Vertx vertx = openFileCacheVertx(metrics);
+    try {
+      HttpServer server = openFileCacheServer(vertx, req -> {
+        if (req.getParam("offset") != null) {
+          req.response().sendFile(file.getAbsolutePath(), Long.parseLong(req.getParam("offset")), Long.parseLong(req.getParam("length")));
+        } else {
+          req.response().sendFile(file.getAbsolutePath());
+        }
+      });
+      for (int i = 0;i < 3;i++) {
+        Buffer body = client.request(requestOptions)
+          .compose(req -> req.send().expecting(HttpResponseExpectation.SC_OK).compose(HttpClientResponse::body))
+          .await();
+        assertEquals(content, body.toString());
+      }
+      Buffer range = client.request(new RequestOptions(requestOptions).setURI("/?offset=1000&length=2000"))
+        .compose(req -> req.send().expecting(HttpResponseExpectation.SC_OK).compose(HttpClientResponse::body))
+        .await();
+      assertEquals(content.substring(1000, 3000), range.toString());
+      assertEquals(1, metrics.misses.get());
+      assertEquals(3, metrics.hits.get());
+      // The cache keeps the file open for the next responses
+      assertEquals(1, openDescriptors(file));
+      server.close().await();
+      assertEquals(0, openDescriptors(file));
+    } finally {
+      vertx.close().await();
+    }
+  }
+
+  @Test
+  public void testSendFileOpenFileCacheReleasedOnFailure() throws Exception {
+    File file = setupFile("file.pdf", TestUtils.randomAlphaString(10 * 1024 * 1024));
+    OpenFileCacheMetrics metrics = new OpenFileCacheMetrics();
+    Vertx vertx = openFileCacheVertx(metrics);
+    try {
+      CompletableFuture<Throwable> failure = new CompletableFuture<>();
+      HttpServer server = openFileCacheServer(vertx, req -> req.response()
+        .sendFile(file.getAbsolutePath())
+        .onComplete(ar -> failure.complete(ar.cause())));
+      NetClient client = this.vertx.createNetClient(new NetClientOptions()
+        .setSsl(createBaseClientOptions().isSsl())
+        .setHostnameVerificationAlgorithm("")
+        .setTrustAll(true)
+      );
+      try {
+        NetSocket socket = client.connect(testAddress).await();
+        CountDownLatch received = new CountDownLatch(1);
+        socket.handler(buff -> received.countDown());
+        socket.write("GET / HTTP/1.1\r\n\r\n");
+        received.await(10, TimeUnit.SECONDS);
+        socket.close();
+      } finally {
+        client.close();
+      }
+      assertNotNull(failure.get(10, TimeUnit.SECONDS));
+      assertEquals(1, metrics.misses.get());
+      // The failed response has released its reference, only the cache keeps the file open
+      server.close().await();
+      assertEquals(0, openDescriptors(file));
+    } finally {
+      vertx.close().await();
+    }
+  }
+
+  private static class OpenFileCacheMetrics implements HttpServerMetrics<Void, Void> {
+    final AtomicInteger hits = new AtomicInteger();
+    final AtomicInteger misses = new AtomicInteger();
+    @Override
+    public void openFileCacheHit() {
+      hits.incrementAndGet();
+    }
+    @Override
+    public void openFileCacheMiss() {
+      misses.incrementAndGet();
+    }
+  }
+
+  private static Vertx openFileCacheVertx(OpenFileCacheMetrics metrics) {
+    return Vertx.builder()
+      .with(new VertxOptions().setMetricsOptions(new MetricsOptions().setEnabled(true)))
+      .withMetrics(options -> new VertxMetrics() {
+        @Override
+        public HttpServerMetrics<?, ?> createHttpServerMetrics(HttpServerConfig config, SocketAddress tcpLocalAddress, SocketAddress udpLocalAddress) {
+          return metrics;
+        }
+      })
+      .build();
+  }
+
+  private HttpServer openFileCacheServer(Vertx vertx, Handler<HttpServerRequest> handler) {
+    HttpServerOptions options = createBaseServerOptions();
+    HttpServerConfig config = new HttpServerConfig(options).setOpenFileCacheConfig(new OpenFileCacheConfig().setValidity(Duration.ofMinutes(1)));
+    HttpServer server = vertx.createHttpServer(config, options.isSsl() ? options.getSslOptions().copy() : null);
+    server.requestHandler(handler).listen(testAddress).await();
+    return server;
+  }
+
+  /**
+   * @return the number of descriptors of this process open on {@code file}
+   */
+  private static long openDescriptors(File file) throws Exception {
+    Path fds = Paths.get("/proc/self/fd");
+    Assume.assumeTrue(Files.isDirectory(fds));
+    Path target = file.toPath().toRealPath();
+    try (Stream<Path> stream = Files.list(fds)) {
+      return stream.filter(fd -> {
+        try {
+          return Files.readSymbolicLink(fd).equals(target);
+        } catch (Exception e) {
+          return false;
+        }
+      }).count();
+    }
+  }
+
   @Test
   public void testHttpServerWithIdleTimeoutSendChunkedFile() throws Exception {
     // Does not pass reliably in CI (timeout)
@@ -1,5 +1,6 @@
 package io.vertx.tests.net;
 
+import io.vertx.core.net.impl.AuthorityCache;
 import io.vertx.core.net.impl.UriParser;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.HostAndPort;
@@ -244,4 +245,22 @@ public class HostAndPortTest {
     assertEquals(new JsonObject().put("host", "the-host").put("port", 4), HostAndPort.create("the-host", 4).toJson());
     assertEquals(new JsonObject().put("host", "the-host"), HostAndPort.create("the-host", -1).toJson());
   }
+
+  @Test
+  public void testAuthorityCache() {
+    AuthorityCache cache = new AuthorityCache();
+    HostAndPort first = cache.parse("example.com:8080");
+    assertEquals("example.com", first.host());
+    assertEquals(8080, first.port());
+    assertSame(first, cache.parse(new String("example.com:8080")));
+    HostAndPort other = cache.parse("example.com");
+    assertEquals("example.com", other.host());
+    assertEquals(-1, other.port());
+    assertNull(cache.parse("example.com:"));
+    assertNull(cache.parse("[::"));
+    assertSame(other, cache.parse("example.com"));
+    // Interned per thread, shared by instances
+    assertSame(first, new AuthorityCache().parse("example.com:8080"));
+    assertSame(first, AuthorityCache.parseAuthority("example.com:8080"));
+  }
 }
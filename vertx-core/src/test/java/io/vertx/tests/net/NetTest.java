@@ -23,6 +23,7 @@ import io.netty.handler.ssl.JdkSslContext;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.util.NetUtil;
 import io.netty.util.ReferenceCountUtil;
+import io.netty.util.ResourceLeakDetector;
 import io.vertx.core.*;
 import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
@@ -35,6 +36,7 @@ import io.vertx.core.internal.VertxInternal;
 import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.core.internal.net.NetClientInternal;
 import io.vertx.core.internal.net.NetSocketInternal;
+import io.vertx.core.internal.tls.SniContextCache;
 import io.vertx.core.internal.tls.SslContextProvider;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -61,9 +63,13 @@ import javax.net.ssl.*;
 import java.io.*;
 import java.net.Inet4Address;
 import java.net.InetSocketAddress;
+import java.net.Socket;
 import java.nio.charset.StandardCharsets;
 import java.security.KeyStore;
+import java.security.Principal;
+import java.security.PrivateKey;
 import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -443,6 +449,24 @@ public class NetTest {
     assertEquals(randomProxyTimeout, options.getProxyProtocolTimeout());
     assertIllegalArgumentException(() -> options.setProxyProtocolTimeout(-123));
 
+    assertEquals(NetServerOptions.DEFAULT_SSL_HANDSHAKE_POOL_SIZE, options.getSslHandshakePoolSize());
+    rand = TestUtils.randomPositiveInt();
+    assertEquals(options, options.setSslHandshakePoolSize(rand));
+    assertEquals(rand, options.getSslHandshakePoolSize());
+    assertIllegalArgumentException(() -> options.setSslHandshakePoolSize(-1));
+
+    assertEquals(NetServerOptions.DEFAULT_MAX_CONCURRENT_SSL_HANDSHAKES, options.getMaxConcurrentSslHandshakes());
+    rand = TestUtils.randomPositiveInt();
+    assertEquals(options, options.setMaxConcurrentSslHandshakes(rand));
+    assertEquals(rand, options.getMaxConcurrentSslHandshakes());
+    assertIllegalArgumentException(() -> options.setMaxConcurrentSslHandshakes(-1));
+
+    assertEquals(NetServerOptions.DEFAULT_MAX_PENDING_SSL_HANDSHAKES, options.getMaxPendingSslHandshakes());
+    rand = TestUtils.randomPositiveInt();
+    assertEquals(options, options.setMaxPendingSslHandshakes(rand));
+    assertEquals(rand, options.getMaxPendingSslHandshakes());
+    assertIllegalArgumentException(() -> options.setMaxPendingSslHandshakes(-1));
+
     assertEquals(NetServerOptions.DEFAULT_TCP_KEEAPLIVE_IDLE_SECONDS, options.getTcpKeepAliveIdleSeconds());
     rand = TestUtils.randomPositiveInt();
     assertEquals(options, options.setTcpKeepAliveIdleSeconds(rand));
@@ -769,6 +793,9 @@ public class NetTest {
     assertEquals(def.isUseProxyProtocol(), json.isUseProxyProtocol());
     assertEquals(def.getProxyProtocolTimeout(), json.getProxyProtocolTimeout());
     assertEquals(def.getProxyProtocolTimeoutUnit(), json.getProxyProtocolTimeoutUnit());
+    assertEquals(def.getSslHandshakePoolSize(), json.getSslHandshakePoolSize());
+    assertEquals(def.getMaxConcurrentSslHandshakes(), json.getMaxConcurrentSslHandshakes());
+    assertEquals(def.getMaxPendingSslHandshakes(), json.getMaxPendingSslHandshakes());
   }
 
   @Test
@@ -945,6 +972,36 @@ public class NetTest {
     testEcho(checkpoint, sock -> sock.write(sent), buff -> assertEquals(sent, buff), sent.length());
   }
 
+  @Test
+  public void testEchoPooledBytes(Checkpoint checkpoint) {
+    Buffer expected = TestUtils.randomBuffer(100);
+    Buffer sent = Buffer.pooled(expected.length()).appendBuffer(expected);
+    testEcho(checkpoint, sock -> {
+      Future<Void> fut = sock.write(sent);
+      // The transport holds its own reference until the bytes are written
+      sent.release();
+      fut.onComplete(TestUtils.onSuccess(v -> assertEquals(0, sent.refCnt())));
+    }, buff -> assertEquals(expected, buff), expected.length());
+  }
+
+  @Test
+  public void testEchoPooledSlice(Checkpoint checkpoint) {
+    ResourceLeakDetector.Level level = ResourceLeakDetector.getLevel();
+    ResourceLeakDetector.setLevel(ResourceLeakDetector.Level.PARANOID);
+    try {
+      Buffer expected = TestUtils.randomBuffer(100);
+      Buffer pooled = Buffer.pooled(expected.length() + 20).appendBuffer(TestUtils.randomBuffer(10)).appendBuffer(expected).appendBuffer(TestUtils.randomBuffer(10));
+      testEcho(checkpoint, sock -> {
+        Future<Void> fut = sock.write(pooled.slice(10, 10 + expected.length()));
+        // The slice shares the parent reference count, the transport retains it until the bytes are written
+        pooled.release();
+        fut.onComplete(TestUtils.onSuccess(v -> assertEquals(0, pooled.refCnt())));
+      }, buff -> assertEquals(expected, buff), expected.length());
+    } finally {
+      ResourceLeakDetector.setLevel(level);
+    }
+  }
+
   @Test
   public void testEchoString(Checkpoint checkpoint) {
     String sent = TestUtils.randomUnicodeString(100);
@@ -1631,6 +1688,80 @@ public class NetTest {
     }
   }
 
+  @Test
+  public void testConfiguredSniCacheSize() throws Exception {
+    NetServerOptions options = new NetServerOptions()
+      .setSni(true)
+      .setSsl(true)
+      .setKeyCertOptions(Cert.SNI_JKS.get());
+    options.getSslOptions().setSniCacheSize(200);
+    server = vertx.createNetServer(options).connectHandler(so -> {
+    });
+    startServer();
+    client = vertx.createNetClient(new NetClientOptions().setSsl(true).setHostnameVerificationAlgorithm("").setTrustAll(true));
+    int num = 100;
+    for (int i = 0;i < num;i++) {
+      client.connect(testAddress, i + ".host3.com").await().close().await();
+    }
+    for (int i = 0;i < num;i++) {
+      client.connect(testAddress, i + ".host3.com").await().close().await();
+    }
+    SniContextCache cache = ((NetServerInternal) server).sslContextProvider().sniContexts();
+    assertEquals(num, cache.size());
+    assertEquals(num, cache.misses());
+    assertEquals(num, cache.hits());
+  }
+
+  @Test
+  public void testSniPreload() throws Exception {
+    NetServerOptions options = new NetServerOptions()
+      .setSni(true)
+      .setSsl(true)
+      .setKeyCertOptions(Cert.SNI_JKS.get());
+    options.getSslOptions().setSniPreloadServerNames(Arrays.asList("host1", "host2.com", "unknown"));
+    server = vertx.createNetServer(options).connectHandler(so -> {
+    });
+    startServer();
+    NetServerInternal serverInternal = (NetServerInternal) server;
+    // unknown uses the default context
+    assertEquals(2, serverInternal.sniEntrySize());
+    client = vertx.createNetClient(new NetClientOptions().setSsl(true).setHostnameVerificationAlgorithm("").setTrustAll(true));
+    NetSocket so = client.connect(testAddress, "1.host3.com").await();
+    so.close().await();
+    SniContextCache cache = serverInternal.sslContextProvider().sniContexts();
+    assertEquals(1, cache.misses());
+    assertEquals(3, cache.size());
+    // Rotate the certificates, the cached contexts are built before the update is applied
+    ServerSSLOptions update = options.getSslOptions().copy().setSniPreloadServerNames(null);
+    assertTrue(server.updateSSLOptions(update, true).await());
+    SniContextCache rebuilt = serverInternal.sslContextProvider().sniContexts();
+    assertNotSame(cache, rebuilt);
+    assertEquals(3, rebuilt.size());
+    so = client.connect(testAddress, "host2.com").await();
+    assertEquals("host2.com", cnOf(so.peerCertificates().get(0)));
+    so.close().await();
+    assertEquals(0, rebuilt.misses());
+    assertEquals(1, rebuilt.hits());
+  }
+
+  @Test
+  public void testSniPreloadCappedByCacheSize() throws Exception {
+    NetServerOptions options = new NetServerOptions()
+      .setSni(true)
+      .setSsl(true)
+      .setKeyCertOptions(Cert.SNI_JKS.get());
+    options.getSslOptions()
+      .setSniCacheSize(1)
+      .setSniPreloadServerNames(Arrays.asList("host1", "host2.com"));
+    server = vertx.createNetServer(options).connectHandler(so -> {
+    });
+    startServer();
+    SniContextCache cache = ((NetServerInternal) server).sslContextProvider().sniContexts();
+    assertEquals(1, cache.size());
+    assertTrue(cache.contains("host1"));
+    assertFalse(cache.contains("host2.com"));
+  }
+
   @Test
   // SNI present an unknown server
   public void testSniWithUnknownServer1(Checkpoint checkpoint) throws Exception {
@@ -2491,6 +2622,31 @@ public class NetTest {
     }
   }
 
+  @Test
+  public void testPipeSocketToSocket(Checkpoint checkpoint) {
+    NetServer backend = vertx.createNetServer();
+    backend.connectHandler(so -> so.handler(so::write)).listen(1235, "localhost").await();
+    server.connectHandler(so -> {
+      so.pause();
+      client.connect(1235, "localhost").onComplete(TestUtils.onSuccess(upstream -> {
+        so.pipeTo(upstream);
+        upstream.pipeTo(so);
+      }));
+    });
+    startServer();
+    NetSocket so = client.connect(testAddress).await();
+    Buffer expected = TestUtils.randomBuffer(256 * 1024);
+    Buffer received = Buffer.buffer();
+    so.handler(buff -> {
+      received.appendBuffer(buff);
+      if (received.length() == expected.length()) {
+        assertEquals(expected, received);
+        checkpoint.succeed();
+      }
+    });
+    so.write(expected);
+  }
+
   @Test
   public void testServerOptionsCopiedBeforeUse(Checkpoint checkpoint) {
     NetServerOptions options = new NetServerOptions().setPort(1234);
@@ -2979,6 +3135,124 @@ public class NetTest {
     client.connect(1234, "localhost").await();
   }
 
+  @Test
+  public void testSslHandshakeAdmissionControl() throws Exception {
+    int num = 16;
+    int maxConcurrent = 1;
+    AtomicInteger active = new AtomicInteger();
+    AtomicInteger maxActive = new AtomicInteger();
+    NetServerOptions options = new NetServerOptions()
+      .setPort(1234)
+      .setHost("localhost")
+      .setSsl(true)
+      .setKeyCertOptions(handshakeCountingKeyCertOptions(active, maxActive))
+      .setSslHandshakePoolSize(2)
+      .setMaxConcurrentSslHandshakes(maxConcurrent)
+      .setMaxPendingSslHandshakes(2);
+    AtomicInteger accepted = new AtomicInteger();
+    server = vertx.createNetServer(options).connectHandler(so -> {
+      active.decrementAndGet();
+      accepted.incrementAndGet();
+      so.handler(so::write);
+    });
+    server.listen().await();
+    client = vertx.createNetClient(new NetClientOptions().setSsl(true).setTrustAll(true));
+    List<Future<Buffer>> futures = new ArrayList<>();
+    for (int i = 0;i < num;i++) {
+      Buffer expected = Buffer.buffer("msg-" + i);
+      futures.add(client.connect(1234, "localhost").compose(so -> {
+        Promise<Buffer> promise = Promise.promise();
+        so.handler(promise::tryComplete);
+        return so.write(expected).compose(v -> promise.future());
+      }));
+    }
+    Future.join(futures).recover(err -> Future.succeededFuture()).await();
+    int succeeded = 0;
+    for (int i = 0;i < num;i++) {
+      Future<Buffer> future = futures.get(i);
+      if (future.succeeded()) {
+        assertEquals("msg-" + i, future.result().toString());
+        succeeded++;
+      }
+    }
+    // The connections accepted while the handshake queue is full are closed before their handshake
+    assertTrue(succeeded > 0);
+    assertEquals(succeeded, accepted.get());
+    assertTrue("Concurrent handshakes: " + maxActive.get(), maxActive.get() <= maxConcurrent);
+  }
+
+  @Test
+  public void testSslHandshakeAdmissionControlSaturation() throws Exception {
+    NetServerOptions options = new NetServerOptions()
+      .setPort(1234)
+      .setHost("localhost")
+      .setSsl(true)
+      .setKeyCertOptions(Cert.SERVER_JKS.get())
+      .setMaxConcurrentSslHandshakes(1)
+      .setMaxPendingSslHandshakes(2);
+    server = vertx.createNetServer(options).connectHandler(so -> so.handler(so::write));
+    server.listen().await();
+    // Plain connections never sending a client hello hold the handshake slot and fill the queue
+    NetClient plainClient = vertx.createNetClient();
+    List<NetSocket> stalled = new ArrayList<>();
+    for (int i = 0;i < 3;i++) {
+      stalled.add(plainClient.connect(1234, "localhost").await());
+    }
+    Thread.sleep(200);
+    client = vertx.createNetClient(new NetClientOptions().setSsl(true).setTrustAll(true));
+    Future<NetSocket> connect = client.connect(1234, "localhost");
+    Thread.sleep(500);
+    // Beyond the queue, the connection is either held in the accept backlog or closed
+    assertFalse(connect.succeeded());
+    for (NetSocket so : stalled) {
+      so.close().await();
+    }
+    connect.recover(err -> client.connect(1234, "localhost")).await();
+  }
+
+  private KeyCertOptions handshakeCountingKeyCertOptions(AtomicInteger active, AtomicInteger maxActive) throws Exception {
+    X509ExtendedKeyManager delegate = (X509ExtendedKeyManager) Cert.SERVER_JKS.get().getKeyManagerFactory(vertx).getKeyManagers()[0];
+    Set<SSLEngine> engines = ConcurrentHashMap.newKeySet();
+    return KeyCertOptions.wrap(new X509ExtendedKeyManager() {
+      @Override
+      public String chooseEngineServerAlias(String keyType, Principal[] issuers, SSLEngine engine) {
+        if (engines.add(engine)) {
+          maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+          try {
+            // Make the handshakes last long enough to overlap
+            Thread.sleep(20);
+          } catch (InterruptedException ignore) {
+          }
+        }
+        return delegate.chooseEngineServerAlias(keyType, issuers, engine);
+      }
+      @Override
+      public String[] getClientAliases(String keyType, Principal[] issuers) {
+        return delegate.getClientAliases(keyType, issuers);
+      }
+      @Override
+      public String chooseClientAlias(String[] keyType, Principal[] issuers, Socket socket) {
+        return delegate.chooseClientAlias(keyType, issuers, socket);
+      }
+      @Override
+      public String[] getServerAliases(String keyType, Principal[] issuers) {
+        return delegate.getServerAliases(keyType, issuers);
+      }
+      @Override
+      public String chooseServerAlias(String keyType, Principal[] issuers, Socket socket) {
+        return delegate.chooseServerAlias(keyType, issuers, socket);
+      }
+      @Override
+      public X509Certificate[] getCertificateChain(String alias) {
+        return delegate.getCertificateChain(alias);
+      }
+      @Override
+      public PrivateKey getPrivateKey(String alias) {
+        return delegate.getPrivateKey(alias);
+      }
+    });
+  }
+
   @Test
   public void testClientMissingHostnameVerificationAlgorithm1() {
     testClientMissingHostnameVerificationAlgorithm(client -> client.connect(1234, "localhost"));
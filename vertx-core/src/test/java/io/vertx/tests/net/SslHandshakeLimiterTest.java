@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.net;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.core.net.impl.tcp.SslHandshakeLimiter;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SslHandshakeLimiterTest {
+
+  private final List<Boolean> saturations = new ArrayList<>();
+
+  @Test
+  public void testAcquireRelease() {
+    SslHandshakeLimiter limiter = new SslHandshakeLimiter(1, 0, saturations::add);
+    EmbeddedChannel ch1 = new EmbeddedChannel();
+    EmbeddedChannel ch2 = new EmbeddedChannel();
+    List<Runnable> started = new ArrayList<>();
+    limiter.acquire(ch1, started::add);
+    assertEquals(1, started.size());
+    assertEquals(1, limiter.inflight());
+    limiter.acquire(ch2, started::add);
+    assertEquals(1, started.size());
+    assertEquals(1, limiter.pending());
+    assertFalse(ch2.config().isAutoRead());
+    started.get(0).run();
+    assertEquals(2, started.size());
+    assertEquals(1, limiter.inflight());
+    assertEquals(0, limiter.pending());
+    assertTrue(ch2.config().isAutoRead());
+    // Releasing twice has no effect
+    started.get(0).run();
+    assertEquals(1, limiter.inflight());
+    started.get(1).run();
+    assertEquals(0, limiter.inflight());
+    assertEquals(Collections.emptyList(), saturations);
+  }
+
+  @Test
+  public void testQueueOverflow() {
+    SslHandshakeLimiter limiter = new SslHandshakeLimiter(1, 2, saturations::add);
+    List<Runnable> started = new ArrayList<>();
+    EmbeddedChannel ch1 = new EmbeddedChannel();
+    EmbeddedChannel ch2 = new EmbeddedChannel();
+    EmbeddedChannel ch3 = new EmbeddedChannel();
+    EmbeddedChannel ch4 = new EmbeddedChannel();
+    limiter.acquire(ch1, started::add);
+    limiter.acquire(ch2, started::add);
+    assertEquals(Collections.emptyList(), saturations);
+    limiter.acquire(ch3, started::add);
+    assertEquals(Collections.singletonList(true), saturations);
+    limiter.acquire(ch4, started::add);
+    assertFalse(ch4.isOpen());
+    assertEquals(1, started.size());
+    assertEquals(2, limiter.pending());
+    started.get(0).run();
+    assertEquals(2, started.size());
+    assertEquals(1, limiter.pending());
+    assertEquals(Arrays.asList(true, false), saturations);
+    assertTrue(ch2.isOpen());
+    assertTrue(ch3.isOpen());
+  }
+
+  @Test
+  public void testPendingChannelClosed() {
+    SslHandshakeLimiter limiter = new SslHandshakeLimiter(1, 1, saturations::add);
+    List<Runnable> started = new ArrayList<>();
+    EmbeddedChannel ch1 = new EmbeddedChannel();
+    EmbeddedChannel ch2 = new EmbeddedChannel();
+    limiter.acquire(ch1, started::add);
+    limiter.acquire(ch2, started::add);
+    assertEquals(Collections.singletonList(true), saturations);
+    ch2.close();
+    assertEquals(0, limiter.pending());
+    assertEquals(Arrays.asList(true, false), saturations);
+    started.get(0).run();
+    assertEquals(1, started.size());
+    assertEquals(0, limiter.inflight());
+  }
+}
@@ -11,6 +11,8 @@
 
 package io.vertx.tests.parsetools;
 
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.DecodeException;
@@ -599,6 +601,64 @@ public class JsonParserTest {
     assertEquals(Arrays.asList(new TheObject("the-value-1"), new TheObject("the-value-2")), values);
   }
 
+  @Test
+  public void testObjectBinding() {
+    JsonParser parser = JsonParser.newParser();
+    List<Object> values = new ArrayList<>();
+    List<JsonEventType> types = new ArrayList<>();
+    parser.objectValueMode(TheObject.class);
+    parser.pause();
+    parser.handler(event -> {
+      types.add(event.type());
+      if (event.type() == JsonEventType.VALUE) {
+        assertSame(event.value(), event.mapTo(TheObject.class));
+        values.add(event.value());
+      }
+    });
+    parser.handle(Buffer.buffer("[{\"f\":\"the-value-1\"},{\"f\":\"the-value-2\"}]"));
+    assertEquals(Collections.emptyList(), values);
+    parser.fetch(2);
+    assertEquals(Collections.singletonList(new TheObject("the-value-1")), values);
+    parser.fetch(2);
+    assertEquals(Arrays.asList(new TheObject("the-value-1"), new TheObject("the-value-2")), values);
+    assertEquals(Arrays.asList(JsonEventType.START_ARRAY, JsonEventType.VALUE, JsonEventType.VALUE, JsonEventType.END_ARRAY), types);
+  }
+
+  @Test
+  public void testObjectBindingToJsonObject() {
+    JsonParser parser = JsonParser.newParser();
+    List<Object> values = new ArrayList<>();
+    parser.objectValueMode(JsonObject.class);
+    parser.handler(event -> values.add(event.value()));
+    parser.handle(Buffer.buffer("{\"f\":\"the-value\",\"nested\":{\"n\":4}}"));
+    assertEquals(Collections.singletonList(new JsonObject().put("f", "the-value").put("nested", new JsonObject().put("n", 4L))), values);
+  }
+
+  @Test
+  public void testObjectBindingPolymorphic() {
+    List<Object> values = new ArrayList<>();
+    // The type id is not the first property, Databind buffers the preceding tokens before resolving the subtype
+    JsonParser.newParser()
+      .objectValueMode(TheShape.class)
+      .handler(event -> values.add(event.value()))
+      .write(Buffer.buffer("{\"label\":\"the-circle\",\"radius\":2.5,\"type\":\"circle\"}"))
+      .end();
+    assertEquals(1, values.size());
+    TheCircle circle = (TheCircle) values.get(0);
+    assertEquals("the-circle", circle.label);
+    assertEquals(2.5D, circle.radius, 0D);
+  }
+
+  @Test
+  public void testObjectBindingError() {
+    List<Object> values = new ArrayList<>();
+    List<Throwable> errors = new ArrayList<>();
+    JsonParser.newParser().objectValueMode(TheObject.class).handler(event -> values.add(event.value())).exceptionHandler(errors::add).write(Buffer.buffer("{\"destination\":\"unknown\"}")).end();
+    assertEquals(Collections.emptyList(), values);
+    assertEquals(1, errors.size());
+    assertTrue(errors.get(0) instanceof DecodeException);
+  }
+
   @Test
   public void testObjectMappingError() {
     List<Object> values = new ArrayList<>();
@@ -668,6 +728,16 @@ public class JsonParserTest {
     }
   }
 
+  @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+  @JsonSubTypes(@JsonSubTypes.Type(value = TheCircle.class, name = "circle"))
+  public static class TheShape {
+    public String label;
+  }
+
+  public static class TheCircle extends TheShape {
+    public double radius;
+  }
+
   @Test
   public void testParseConcatedJSONStream() {
     JsonParser parser = JsonParser.newParser();
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.tls;
+
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.core.net.*;
+import io.vertx.core.spi.metrics.TransportMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
+import io.vertx.test.core.VertxTestBase;
+import io.vertx.test.tls.Cert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class SessionResumptionTest extends VertxTestBase {
+
+  private static final String TLS_V13 = "TLSv1.3";
+
+  private final List<Boolean> handshakes = new CopyOnWriteArrayList<>();
+
+  @Override
+  protected VertxOptions getOptions() {
+    VertxOptions options = super.getOptions();
+    options.setMetricsOptions(new MetricsOptions().setEnabled(true));
+    return options;
+  }
+
+  @Override
+  protected Vertx createVertx(VertxOptions options) {
+    return Vertx.builder().with(options)
+      .withMetrics(o -> new VertxMetrics() {
+        @Override
+        public TransportMetrics<?> createTcpServerMetrics(TcpServerConfig config, String protocol, SocketAddress localAddress) {
+          return new TransportMetrics<Void>() {
+            @Override
+            public void tlsHandshakeCompleted(Boolean resumed) {
+              handshakes.add(resumed);
+            }
+          };
+        }
+      })
+      .build();
+  }
+
+  @Test
+  public void testResumedHandshakeMetrics() throws Exception {
+    Assume.assumeTrue(OpenSSLEngineOptions.isAvailable());
+    startServer(new OpenSSLEngineOptions(), null);
+    NetClient client = createClient(new OpenSSLEngineOptions());
+    connect(client);
+    connect(client);
+    assertEquals(Arrays.asList(false, true), handshakes);
+  }
+
+  @Test
+  public void testJdkEngineResumptionUnknown() throws Exception {
+    startServer(new JdkSSLEngineOptions(), null);
+    NetClient client = createClient(new JdkSSLEngineOptions());
+    connect(client);
+    connect(client);
+    assertEquals(Arrays.asList(null, null), handshakes);
+  }
+
+  @Test
+  public void testTicketKeyRotation() throws Exception {
+    Assume.assumeTrue(OpenSSLEngineOptions.isAvailable());
+    startServer(new OpenSSLEngineOptions(), Duration.ofSeconds(1));
+    NetClient client = createClient(new OpenSSLEngineOptions());
+    connect(client);
+    // One rotation, the ticket is decrypted with the previous key
+    Thread.sleep(1200);
+    connect(client);
+    // Two rotations, the key of the ticket has been discarded
+    Thread.sleep(2500);
+    connect(client);
+    assertEquals(Arrays.asList(false, true, false), handshakes);
+  }
+
+  private void startServer(SSLEngineOptions engine, Duration ticketKeyRotation) {
+    NetServerOptions options = new NetServerOptions()
+      .setPort(4043)
+      .setHost("localhost")
+      .setSsl(true)
+      .setKeyCertOptions(Cert.SERVER_JKS.get())
+      .setSslEngineOptions(engine)
+      .setEnabledSecureTransportProtocols(Collections.singleton(TLS_V13));
+    options.getSslOptions().setSessionTicketKeyRotation(ticketKeyRotation);
+    vertx.createNetServer(options)
+      .connectHandler(so -> so.handler(so::write))
+      .listen()
+      .await();
+  }
+
+  private NetClient createClient(SSLEngineOptions engine) {
+    return vertx.createNetClient(new NetClientOptions()
+      .setSsl(true)
+      .setTrustAll(true)
+      .setHostnameVerificationAlgorithm("")
+      .setSslEngineOptions(engine)
+      .setEnabledSecureTransportProtocols(Collections.singleton(TLS_V13)));
+  }
+
+  private void connect(NetClient client) {
+    NetSocket so = client.connect(4043, "localhost").await();
+    // Round trip so the client has received the session ticket sent after the handshake
+    Promise<Buffer> echo = Promise.promise();
+    so.handler(echo::tryComplete);
+    so.write("ping");
+    echo.future().await();
+    so.close().await();
+  }
+}
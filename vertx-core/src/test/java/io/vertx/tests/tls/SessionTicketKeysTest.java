@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2011-2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ */
+package io.vertx.tests.tls;
+
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
+import io.vertx.core.internal.tls.SessionTicketKeys;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class SessionTicketKeysTest {
+
+  private static final long PERIOD = TimeUnit.MILLISECONDS.toNanos(200);
+
+  @Test
+  public void testNoRotationBeforePeriod() {
+    SessionTicketKeys keys = new SessionTicketKeys(PERIOD);
+    OpenSslSessionTicketKey[] initial = keys.keys();
+    assertEquals(1, initial.length);
+    keys.rotateIfNeeded();
+    OpenSslSessionTicketKey[] after = keys.keys();
+    assertEquals(1, after.length);
+    assertArrayEquals(initial[0].name(), after[0].name());
+  }
+
+  @Test
+  public void testRotationRetainsPreviousKey() throws Exception {
+    SessionTicketKeys keys = new SessionTicketKeys(PERIOD);
+    OpenSslSessionTicketKey initial = keys.keys()[0];
+    Thread.sleep(250);
+    keys.rotateIfNeeded();
+    OpenSslSessionTicketKey[] rotated = keys.keys();
+    assertEquals(2, rotated.length);
+    assertFalse(Arrays.equals(initial.name(), rotated[0].name()));
+    assertArrayEquals(initial.name(), rotated[1].name());
+    Thread.sleep(250);
+    keys.rotateIfNeeded();
+    OpenSslSessionTicketKey[] rotatedTwice = keys.keys();
+    assertEquals(2, rotatedTwice.length);
+    assertArrayEquals(rotated[0].name(), rotatedTwice[1].name());
+  }
+
+  @Test
+  public void testRotationAfterSeveralPeriodsDiscardsPreviousKey() throws Exception {
+    SessionTicketKeys keys = new SessionTicketKeys(PERIOD);
+    OpenSslSessionTicketKey initial = keys.keys()[0];
+    Thread.sleep(500);
+    keys.rotateIfNeeded();
+    OpenSslSessionTicketKey[] rotated = keys.keys();
+    assertEquals(1, rotated.length);
+    assertFalse(Arrays.equals(initial.name(), rotated[0].name()));
+  }
+}
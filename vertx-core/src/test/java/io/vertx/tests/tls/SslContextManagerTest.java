@@ -15,6 +15,7 @@ import io.netty.buffer.ByteBufAllocator;
 import io.netty.handler.ssl.*;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.tls.ClientSslContextManager;
 import io.vertx.core.internal.tls.ServerSslContextManager;
 import io.vertx.core.internal.tls.ServerSslContextProvider;
 import io.vertx.core.internal.tls.SslContextManager;
@@ -29,6 +30,7 @@ import org.junit.Test;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLSessionContext;
+import java.time.Duration;
 import java.util.*;
 import java.util.function.Consumer;
 
@@ -113,6 +115,56 @@ public class SslContextManagerTest extends VertxTestBase {
     await();
   }
 
+  @Test
+  public void testServerSessionCache() throws Exception {
+    ServerSslContextManager helper = new ServerSslContextManager(new JdkSSLEngineOptions());
+    ServerSSLOptions options = new ServerSSLOptions()
+      .setKeyCertOptions(Cert.SERVER_JKS.get())
+      .setSessionCacheSize(128)
+      .setSessionTimeout(Duration.ofMinutes(5));
+    helper.resolveSslContextProvider(options, false, (ContextInternal) vertx.getOrCreateContext()).onComplete(onSuccess(provider -> {
+      SSLSessionContext sessionContext = provider.createServerContext(null).sessionContext();
+      assertEquals(128, sessionContext.getSessionCacheSize());
+      assertEquals(300, sessionContext.getSessionTimeout());
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testClientSessionCache() throws Exception {
+    ClientSslContextManager helper = new ClientSslContextManager(new JdkSSLEngineOptions());
+    ClientSSLOptions options = new ClientSSLOptions()
+      .setHostnameVerificationAlgorithm("")
+      .setTrustOptions(Trust.SERVER_JKS.get())
+      .setSessionCacheSize(16)
+      .setSessionTimeout(Duration.ofSeconds(30));
+    helper.resolveSslContextProvider(options, (ContextInternal) vertx.getOrCreateContext()).onComplete(onSuccess(provider -> {
+      SSLSessionContext sessionContext = provider.createClientContext(null).sessionContext();
+      assertEquals(16, sessionContext.getSessionCacheSize());
+      assertEquals(30, sessionContext.getSessionTimeout());
+      testComplete();
+    }));
+    await();
+  }
+
+  @Test
+  public void testSessionOptionsJson() {
+    ServerSSLOptions options = new ServerSSLOptions()
+      .setSessionCacheSize(128)
+      .setSessionTimeout(Duration.ofMinutes(5))
+      .setSessionTicketKeyRotation(Duration.ofHours(1));
+    ServerSSLOptions copy = new ServerSSLOptions(options.toJson());
+    assertEquals(128, copy.getSessionCacheSize());
+    assertEquals(Duration.ofMinutes(5), copy.getSessionTimeout());
+    assertEquals(Duration.ofHours(1), copy.getSessionTicketKeyRotation());
+    assertEquals(options, copy);
+    copy = new ServerSSLOptions(new JsonObject());
+    assertEquals(SSLOptions.DEFAULT_SESSION_CACHE_SIZE, copy.getSessionCacheSize());
+    assertNull(copy.getSessionTimeout());
+    assertNull(copy.getSessionTicketKeyRotation());
+  }
+
   @Test
   public void testPreserveEnabledCipherSuitesOrder() throws Exception {
     SSLContext context = SSLContext.getInstance("TLS");